@@ -6,6 +6,7 @@ import org.gradle.api.tasks.*
 import org.h2.mvstore.MVMap
 import org.h2.mvstore.MVStore
 import org.jabref.logic.journals.JournalAbbreviationLoader
+import org.jabref.logic.journals.JournalAbbreviationRepository
 
 import java.util.stream.Collectors
 
@@ -24,6 +25,9 @@ abstract class JournalAbbreviationConverter extends DefaultTask {
         MVStore.open(targetFile.toString()).withCloseable { store ->
             MVMap<String, String> fullToAbbreviation = store.openMap("FullToAbbreviation")
             MVMap<String, String> abbreviationToFull = store.openMap("AbbreviationToFull")
+            // Case-insensitive indexes: case-folded name -> name as used in the maps above
+            MVMap<String, String> caseFoldedToFull = store.openMap("CaseFoldedToFull")
+            MVMap<String, String> caseFoldedToAbbreviation = store.openMap("CaseFoldedToAbbreviation")
 
             inputDir.getAsFileTree().filter({ File f -> f.name.endsWith(".csv") }).getFiles().each { file ->
                 def abbreviations = JournalAbbreviationLoader.readJournalListFromFile(file.toPath())
@@ -38,6 +42,13 @@ abstract class JournalAbbreviationConverter extends DefaultTask {
                             abbreviationToFull.putIfAbsent(abbreviation.getAbbreviation(), abbreviation.getName())
                         })
             }
+
+            fullToAbbreviation.keySet().each { fullName ->
+                caseFoldedToFull.putIfAbsent(JournalAbbreviationRepository.caseFold(fullName), fullName)
+            }
+            abbreviationToFull.keySet().each { abbreviation ->
+                caseFoldedToAbbreviation.putIfAbsent(JournalAbbreviationRepository.caseFold(abbreviation), abbreviation)
+            }
         }
     }
 }
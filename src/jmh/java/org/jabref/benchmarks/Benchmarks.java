@@ -11,6 +11,7 @@ import org.jabref.gui.Globals;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.layout.format.HTMLChars;
@@ -133,6 +134,26 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public ImportFormatPreferences getImportFormatPreferences() {
+        return Globals.prefs.getImportFormatPreferences();
+    }
+
+    @Benchmark
+    public SavePreferences getSavePreferences() {
+        return Globals.prefs.getSavePreferences();
+    }
+
+    /**
+     * Writes a key the import preferences depend on before each call, so that they have to be read from the preference
+     * store again. Compare with {@link #getImportFormatPreferences()}.
+     */
+    @Benchmark
+    public ImportFormatPreferences getImportFormatPreferencesAfterChange() {
+        Globals.prefs.put(JabRefPreferences.KEYWORD_SEPARATOR, Globals.prefs.get(JabRefPreferences.KEYWORD_SEPARATOR));
+        return Globals.prefs.getImportFormatPreferences();
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
@@ -0,0 +1,111 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures background tasks reading the entries of a library while another thread inserts and removes entries.
+ * The number of readers is set by {@link GroupThreads} and can be changed on the command line with {@code -tg}.
+ */
+@State(Scope.Group)
+public class DatabaseContentionBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 10_000;
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntry changingEntry = new BibEntry(StandardEntryType.Article);
+
+    @Setup
+    public void init() {
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setCitationKey("key" + i);
+            entry.setField(StandardField.TITLE, "Title " + i);
+            database.insertEntry(entry);
+        }
+        changingEntry.setCitationKey("changing");
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(4)
+    public long readSnapshot() {
+        long withTitle = 0;
+        for (BibEntry entry : database.getEntriesSnapshot()) {
+            if (entry.hasField(StandardField.TITLE)) {
+                withTitle++;
+            }
+        }
+        return withTitle;
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public void writeWhileReadingSnapshot() {
+        changeEntries();
+    }
+
+    /**
+     * Reads the live list of entries, locking it for the whole iteration as required for a synchronized list
+     */
+    @Benchmark
+    @Group("live")
+    @GroupThreads(4)
+    public long readLiveList() {
+        long withTitle = 0;
+        List<BibEntry> entries = database.getEntries();
+        synchronized (entries) {
+            for (BibEntry entry : entries) {
+                if (entry.hasField(StandardField.TITLE)) {
+                    withTitle++;
+                }
+            }
+        }
+        return withTitle;
+    }
+
+    @Benchmark
+    @Group("live")
+    @GroupThreads(1)
+    public void writeWhileReadingLiveList() {
+        changeEntries();
+    }
+
+    @Benchmark
+    @Group("lookup")
+    @GroupThreads(4)
+    public boolean lookUpCitationKey() {
+        return database.getEntryByCitationKey("key" + (NUMBER_OF_ENTRIES / 2)).isPresent();
+    }
+
+    @Benchmark
+    @Group("lookup")
+    @GroupThreads(1)
+    public void writeWhileLookingUp() {
+        changeEntries();
+    }
+
+    private void changeEntries() {
+        database.insertEntry(changingEntry);
+        database.removeEntry(changingEntry);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
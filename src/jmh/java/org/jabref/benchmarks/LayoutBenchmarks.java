@@ -0,0 +1,95 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.exporter.TemplateExporter;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.FileLinkPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures template based exports, which reuse the compiled layouts of the exporter.
+ */
+@State(Scope.Thread)
+public class LayoutBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 10_000;
+
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+    private TemplateExporter htmlExporter;
+    private TemplateExporter docBookExporter;
+    private Path exportFile;
+
+    @Setup
+    public void init() throws IOException {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(i % 2 == 0 ? StandardEntryType.Article : StandardEntryType.Book);
+            entry.setCitationKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.PUBLISHER, "Publisher " + (i % 100));
+            entry.setField(StandardField.PAGES, "1--" + i);
+            entry.setField(StandardField.YEAR, "1" + i);
+            database.insertEntry(entry);
+        }
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        entries = database.getEntries();
+
+        LayoutFormatterPreferences layoutPreferences = new LayoutFormatterPreferences(
+                mock(NameFormatterPreferences.class),
+                mock(FileLinkPreferences.class),
+                mock(JournalAbbreviationRepository.class));
+        SavePreferences savePreferences = mock(SavePreferences.class);
+        htmlExporter = new TemplateExporter("HTML", "html", "html", null, StandardFileType.HTML, layoutPreferences, savePreferences);
+        docBookExporter = new TemplateExporter("DocBook 5.1", "docbook5", "docbook5", null, StandardFileType.XML, layoutPreferences, savePreferences);
+
+        exportFile = Files.createTempFile("jabref-benchmark", ".export");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+    }
+
+    @Benchmark
+    public long htmlExport() throws Exception {
+        htmlExporter.export(databaseContext, exportFile, StandardCharsets.UTF_8, entries);
+        return Files.size(exportFile);
+    }
+
+    @Benchmark
+    public long docBookExport() throws Exception {
+        docBookExporter.export(databaseContext, exportFile, StandardCharsets.UTF_8, entries);
+        return Files.size(exportFile);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,156 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.MedlineImporter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the heap used while importing a large Medline/PubMed document, whose articles are read one after another.
+ * <p>
+ * The document is generated while it is read, so it never exists as a whole. Each article carries a history of
+ * {@value #HISTORY_DATES} publication dates in its {@code PubmedData}. The dates are bound by the Medline schema, but
+ * the importer does not use them, as the articles have no revision date. Thus, an importer which unmarshals the whole
+ * article set keeps all of them in memory (about 2 GB of objects for 100,000 articles), while the benchmark runs with a
+ * heap of 512 MB. The import only completes if the articles are unmarshalled and converted one after another.
+ * <p>
+ * The counters report per import the characters of the document ({@code documentCharacters}), the heap retained by the
+ * imported entries ({@code retainedBytes}), and the peak heap usage during the import ({@code peakBytes}, the sum of
+ * the peaks of the heap pools). The peak includes garbage which was not collected yet, so it is bounded by the heap
+ * size rather than by the document size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MedlineImportBenchmarks {
+
+    private static final int HISTORY_DATES = 100;
+
+    private static final String PUBMED_DATA = "<PubmedData><History>"
+            + "<PubMedPubDate PubStatus=\"received\"><Year>2020</Year><Month>1</Month><Day>1</Day></PubMedPubDate>".repeat(HISTORY_DATES)
+            + "</History><PublicationStatus>ppublish</PublicationStatus>"
+            + "<ArticleIdList><ArticleId IdType=\"doi\">10.1000/synthetic</ArticleId></ArticleIdList></PubmedData>";
+
+    @Param({"1000", "100000"})
+    public int numberOfArticles;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+        public long documentCharacters;
+        public long retainedBytes;
+        public long peakBytes;
+    }
+
+    @Benchmark
+    public ParserResult importLargeArticleSet(HeapUsage heapUsage) throws IOException {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                                                            .filter(pool -> pool.getType() == MemoryType.HEAP)
+                                                            .collect(Collectors.toList());
+        long before = usedHeap();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        GeneratedArticleSetReader document = new GeneratedArticleSetReader(numberOfArticles);
+        ParserResult result = new MedlineImporter().importDatabase(new BufferedReader(document));
+
+        heapUsage.peakBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - before;
+        heapUsage.retainedBytes = usedHeap() - before;
+        heapUsage.documentCharacters = document.getCharactersRead();
+        if (result.getDatabase().getEntryCount() != numberOfArticles) {
+            throw new IllegalStateException("Imported " + result.getDatabase().getEntryCount() + " of " + numberOfArticles + " articles");
+        }
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Generates an article set while it is read, counting the characters of the document
+     */
+    private static class GeneratedArticleSetReader extends Reader {
+        private final int numberOfArticles;
+        private int nextArticle;
+        private boolean endWritten;
+        private String chunk = "<PubmedArticleSet>";
+        private int position;
+        private long charactersRead;
+
+        GeneratedArticleSetReader(int numberOfArticles) {
+            this.numberOfArticles = numberOfArticles;
+        }
+
+        long getCharactersRead() {
+            return charactersRead;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if ((position == chunk.length()) && !nextChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, chunk.length() - position);
+            chunk.getChars(position, position + count, buffer, offset);
+            position += count;
+            charactersRead += count;
+            return count;
+        }
+
+        private boolean nextChunk() {
+            if (nextArticle < numberOfArticles) {
+                chunk = "<PubmedArticle><MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">"
+                        + "<PMID Version=\"1\">" + nextArticle + "</PMID>"
+                        + "<Article PubModel=\"Print\"><Journal><JournalIssue CitedMedium=\"Print\"><PubDate><Year>2020</Year></PubDate></JournalIssue>"
+                        + "<Title>Synthetic journal</Title></Journal>"
+                        + "<ArticleTitle>Article " + nextArticle + "</ArticleTitle></Article>"
+                        + "<MedlineJournalInfo><NlmUniqueID>1</NlmUniqueID></MedlineJournalInfo>"
+                        + "</MedlineCitation>"
+                        + PUBMED_DATA
+                        + "</PubmedArticle>";
+                nextArticle++;
+            } else if (!endWritten) {
+                chunk = "</PubmedArticleSet>";
+                endWritten = true;
+            } else {
+                return false;
+            }
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures sorting entries by author, year and title, as done by the main table and when saving a library.
+ */
+@State(Scope.Thread)
+public class SortBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+
+    private final FieldComparatorStack<BibEntry> comparator = new FieldComparatorStack<>(List.of(
+            new FieldComparator(StandardField.AUTHOR),
+            new FieldComparator(StandardField.YEAR),
+            new FieldComparator(StandardField.TITLE)));
+
+    private List<BibEntry> entries;
+    private int modification;
+
+    @Setup
+    public void init() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setField(StandardField.AUTHOR, "M{\\\"u}ller, Firstname" + random.nextInt(1000) + " and Lastname" + random.nextInt(100) + ", FirstnameA");
+            entry.setField(StandardField.YEAR, Integer.toString(1950 + random.nextInt(70)));
+            entry.setField(StandardField.TITLE, "A {T}itle about \\emph{topic} " + random.nextInt(NUMBER_OF_ENTRIES));
+            entries.add(entry);
+        }
+    }
+
+    @Benchmark
+    public List<BibEntry> sortWithCachedKeys() {
+        List<BibEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    /**
+     * Changes all entries before sorting, which drops their cached sort keys
+     */
+    @Benchmark
+    public List<BibEntry> sortChangedEntries() {
+        modification++;
+        for (BibEntry entry : entries) {
+            entry.setField(StandardField.NOTE, Integer.toString(modification));
+        }
+        List<BibEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,119 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import org.jabref.model.strings.StringDeduplicator;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures deduplicating field values as done when parsing a library, compared to {@link String#intern()} and to
+ * keeping all values.
+ * <p>
+ * The values are created like a parser creates them: each occurrence of a value is a new String instance. The
+ * throughput benchmarks measure the time per library. The {@code retained*} benchmarks report the heap retained by the
+ * values of one library as the counter {@code retainedBytes}.
+ */
+@State(Scope.Thread)
+public class StringDeduplicationBenchmarks {
+
+    private static final int NUMBER_OF_VALUES = 200_000;
+
+    /**
+     * Typical for journal names, publishers, years and keywords
+     */
+    private static final int NUMBER_OF_DISTINCT_VALUES = 2_000;
+
+    private char[][] distinctValues;
+    private int[] occurrences;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void init() {
+        Random random = new Random(42);
+        distinctValues = new char[NUMBER_OF_DISTINCT_VALUES][];
+        for (int i = 0; i < NUMBER_OF_DISTINCT_VALUES; i++) {
+            distinctValues[i] = ("Journal of Synthetic Field Values " + i).toCharArray();
+        }
+        occurrences = new int[NUMBER_OF_VALUES];
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            occurrences[i] = random.nextInt(NUMBER_OF_DISTINCT_VALUES);
+        }
+    }
+
+    @Benchmark
+    public String[] deduplicate() {
+        return createValues(StringDeduplicator::deduplicate);
+    }
+
+    @Benchmark
+    public String[] intern() {
+        return createValues(String::intern);
+    }
+
+    @Benchmark
+    public String[] keepDuplicates() {
+        return createValues(UnaryOperator.identity());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public String[] retainedWithDeduplication(RetainedHeap heap) {
+        return measureRetained(StringDeduplicator::deduplicate, heap);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public String[] retainedWithIntern(RetainedHeap heap) {
+        return measureRetained(String::intern, heap);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public String[] retainedWithDuplicates(RetainedHeap heap) {
+        return measureRetained(UnaryOperator.identity(), heap);
+    }
+
+    private String[] createValues(UnaryOperator<String> store) {
+        String[] values = new String[NUMBER_OF_VALUES];
+        for (int i = 0; i < NUMBER_OF_VALUES; i++) {
+            // A new instance with its own characters, like a parsed value
+            values[i] = store.apply(String.valueOf(distinctValues[occurrences[i]]));
+        }
+        return values;
+    }
+
+    private String[] measureRetained(UnaryOperator<String> store, RetainedHeap heap) {
+        long before = usedHeap();
+        String[] values = createValues(store);
+        heap.retainedBytes = usedHeap() - before;
+        return values;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
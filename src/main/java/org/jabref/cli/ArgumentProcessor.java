@@ -27,6 +27,7 @@ import org.jabref.logic.exporter.TemplateExporter;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatReader;
+import org.jabref.logic.importer.ImportPipeline;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.OutputPrinter;
 import org.jabref.logic.importer.ParseException;
@@ -97,62 +98,92 @@ public class ArgumentProcessor {
     }
 
     private static Optional<ParserResult> importFile(String argument) {
-        String[] data = argument.split(",");
+        List<ParserResult> results = importFiles(Collections.singletonList(argument));
+        return results.stream().findFirst();
+    }
 
-        String address = data[0];
-        Path file;
+    /**
+     * Imports the given files. The files are parsed in parallel, the messages and results are in the order of the
+     * arguments. A file which cannot be imported is reported and skipped.
+     *
+     * @param arguments the files to import, each as "file[,importFormat]"
+     */
+    private static List<ParserResult> importFiles(List<String> arguments) {
+        List<FileToImport> filesToImport = new ArrayList<>();
+        for (String argument : arguments) {
+            String[] data = argument.split(",");
+            String importFormat;
+            if (data.length > 1) {
+                importFormat = data[1];
+            } else {
+                importFormat = "*";
+            }
+            getFileToImport(data[0]).ifPresent(file -> filesToImport.add(new FileToImport(file, importFormat)));
+        }
+
+        // The importers keep state while importing a file, thus each thread uses its own importers
+        ThreadLocal<ImportFormatReader> importFormatReaders = ThreadLocal.withInitial(() -> {
+            ImportFormatReader importFormatReader = new ImportFormatReader();
+            importFormatReader.resetImportFormats(Globals.prefs.getImportFormatPreferences(), Globals.prefs.getXmpPreferences(), new DummyFileUpdateMonitor());
+            return importFormatReader;
+        });
+
+        List<ParserResult> results = new ArrayList<>();
+        OutputPrinter printer = new SystemOutputPrinter();
+        try {
+            new ImportPipeline().importFiles(filesToImport, fileToImport -> importFile(fileToImport, importFormatReaders.get()), parsedFile -> {
+                FileToImport fileToImport = parsedFile.getFile();
+                if ("*".equals(fileToImport.importFormat)) {
+                    System.out.println(Localization.lang("Importing in unknown format") + ": " + fileToImport.file);
+                } else {
+                    System.out.println(Localization.lang("Importing") + ": " + fileToImport.file);
+                }
+
+                parsedFile.getError().ifPresent(exception -> System.err.println(Localization.lang("Error opening file") + " '" + fileToImport.file + "': " + exception.getLocalizedMessage()));
+                parsedFile.getResult().ifPresent(importResult -> {
+                    if ("*".equals(fileToImport.importFormat)) {
+                        System.out.println(Localization.lang("Format used") + ": " + importResult.format);
+                    }
+                    if (importResult.parserResult.hasWarnings()) {
+                        printer.showMessage(importResult.parserResult.getErrorMessage());
+                    }
+                    results.add(importResult.parserResult);
+                });
+            }, () -> false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    private static Optional<Path> getFileToImport(String address) {
         if (address.startsWith("http://") || address.startsWith("https://") || address.startsWith("ftp://")) {
             // Download web resource to temporary file
             try {
-                file = new URLDownload(address).toTemporaryFile();
+                return Optional.of(new URLDownload(address).toTemporaryFile());
             } catch (IOException e) {
                 System.err.println(Localization.lang("Problem downloading from %1", address) + e.getLocalizedMessage());
                 return Optional.empty();
             }
         } else {
             if (OS.WINDOWS) {
-                file = Path.of(address);
+                return Optional.of(Path.of(address));
             } else {
-                file = Path.of(address.replace("~", System.getProperty("user.home")));
+                return Optional.of(Path.of(address.replace("~", System.getProperty("user.home"))));
             }
         }
-
-        String importFormat;
-        if (data.length > 1) {
-            importFormat = data[1];
-        } else {
-            importFormat = "*";
-        }
-
-        Optional<ParserResult> importResult = importFile(file, importFormat);
-        importResult.ifPresent(result -> {
-            OutputPrinter printer = new SystemOutputPrinter();
-            if (result.hasWarnings()) {
-                printer.showMessage(result.getErrorMessage());
-            }
-        });
-        return importResult;
     }
 
-    private static Optional<ParserResult> importFile(Path file, String importFormat) {
-        try {
-            if (!"*".equals(importFormat)) {
-                System.out.println(Localization.lang("Importing") + ": " + file);
-                ParserResult result = Globals.IMPORT_FORMAT_READER.importFromFile(importFormat, file);
-                return Optional.of(result);
-            } else {
-                // * means "guess the format":
-                System.out.println(Localization.lang("Importing in unknown format") + ": " + file);
-
-                ImportFormatReader.UnknownFormatImport importResult = Globals.IMPORT_FORMAT_READER.importUnknownFormat(file, Globals.prefs.getTimestampPreferences(), new DummyFileUpdateMonitor());
-
-                System.out.println(Localization.lang("Format used") + ": " + importResult.format);
-                return Optional.of(importResult.parserResult);
-            }
-        } catch (ImportException ex) {
-            System.err
-                    .println(Localization.lang("Error opening file") + " '" + file + "': " + ex.getLocalizedMessage());
-            return Optional.empty();
+    /**
+     * Imports the file. Called concurrently for several files, thus does not print anything.
+     */
+    private static ImportFormatReader.UnknownFormatImport importFile(FileToImport fileToImport, ImportFormatReader importFormatReader) throws ImportException {
+        if (!"*".equals(fileToImport.importFormat)) {
+            ParserResult result = importFormatReader.importFromFile(fileToImport.importFormat, fileToImport.file);
+            return new ImportFormatReader.UnknownFormatImport(fileToImport.importFormat, result);
+        } else {
+            // * means "guess the format":
+            return importFormatReader.importUnknownFormat(fileToImport.file, Globals.prefs.getTimestampPreferences(), new DummyFileUpdateMonitor());
         }
     }
 
@@ -346,9 +377,7 @@ public class ArgumentProcessor {
             toImport.add(cli.getFileImport());
         }
 
-        for (String filenameString : toImport) {
-            importFile(filenameString).ifPresent(loaded::add);
-        }
+        loaded.addAll(importFiles(toImport));
 
         if (!cli.isBlank() && cli.isImportToOpenBase()) {
             importToOpenBase(cli.getImportToOpenBase()).ifPresent(loaded::add);
@@ -576,4 +605,17 @@ public class ArgumentProcessor {
     public enum Mode {
         INITIAL_START, REMOTE_START
     }
+
+    /**
+     * A file given on the command line together with the format to import it with, "*" meaning to guess the format
+     */
+    private static class FileToImport {
+        private final Path file;
+        private final String importFormat;
+
+        FileToImport(Path file, String importFormat) {
+            this.file = file;
+            this.importFormat = importFormat;
+        }
+    }
 }
@@ -144,6 +144,7 @@ public class Globals {
         TASK_EXECUTOR.shutdown();
         fileUpdateMonitor.shutdown();
         JabRefExecutorService.INSTANCE.shutdownEverything();
+        undoManager.shutdown();
     }
 
     public static void stopBackgroundTasks() {
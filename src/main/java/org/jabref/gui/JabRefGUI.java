@@ -270,7 +270,7 @@ public class JabRefGUI {
             }
 
             if (BackupManager.backupFileDiffers(dbFile.toPath())) {
-                BackupUIManager.showRestoreBackupDialog(mainFrame.getDialogService(), dbFile.toPath());
+                BackupUIManager.showRestoreBackupDialog(mainFrame.getDialogService(), dbFile.toPath(), Globals.prefs, Globals.entryTypesManager);
             }
 
             ParserResult parsedDatabase = OpenDatabase.loadDatabase(fileName,
@@ -1,6 +1,7 @@
 package org.jabref.gui;
 
 import java.net.Authenticator;
+import java.util.Optional;
 
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -8,16 +9,20 @@ import javafx.stage.Stage;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.cli.JabRefCLI;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.remote.JabRefMessageHandler;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
+import org.jabref.logic.texparser.LatexProjectIndex;
 import org.jabref.logic.util.OS;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.database.BibDatabaseMode;
@@ -128,6 +133,13 @@ public class JabRefMain extends Application {
         // Initialize protected terms loader
         Globals.protectedTermsLoader = new ProtectedTermsLoader(preferences.getProtectedTermsPreferences());
 
+        // Cache the responses of web requests, e.g., when the same entries are looked up again
+        URLDownload.setResponseCache(Optional.of(new HttpResponseCache(
+                JabRefDesktop.getNativeDesktop().getHttpCacheDirectory(), HttpResponseCache.DEFAULT_MAXIMUM_SIZE)));
+
+        // Keep the citations of LaTeX projects, so that only changed files are parsed after a restart
+        LatexProjectIndex.setStorageDirectory(JabRefDesktop.getNativeDesktop().getLatexIndexDirectory());
+
         // Override used newline character with the one stored in the preferences
         // The preferences return the system newline character sequence as default
         OS.NEWLINE = preferences.getNewLineSeparator().toString();
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
@@ -25,6 +26,7 @@ import org.jabref.gui.autocompleter.PersonNameSuggestionProvider;
 import org.jabref.gui.autocompleter.SuggestionProviders;
 import org.jabref.gui.collab.DatabaseChangeMonitor;
 import org.jabref.gui.collab.DatabaseChangePane;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.dialogs.AutosaveUiManager;
 import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
@@ -43,8 +45,12 @@ import org.jabref.logic.autosaveandbackup.AutosaveManager;
 import org.jabref.logic.autosaveandbackup.BackupManager;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
+import org.jabref.logic.pdf.search.PdfIndexer;
+import org.jabref.logic.preview.PreviewCache;
+import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.UpdateField;
@@ -54,6 +60,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
@@ -71,6 +78,12 @@ import org.slf4j.LoggerFactory;
 public class LibraryTab extends Tab {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
+
+    /**
+     * The number of entries above and below the selected entry whose previews are rendered in advance
+     */
+    private static final int PREFETCHED_PREVIEWS = 2;
+
     private final JabRefFrame frame;
     private final CountingUndoManager undoManager;
     private final SidePaneManager sidePaneManager;
@@ -83,6 +96,7 @@ public class LibraryTab extends Tab {
     private MainTableDataModel tableModel;
     private CitationStyleCache citationStyleCache;
     private FileAnnotationCache annotationCache;
+    private Optional<IntegrityCheck> integrityCheck = Optional.empty();
     private EntryEditor entryEditor;
     private MainTable mainTable;
     private BasePanelMode mode = BasePanelMode.SHOWING_NOTHING;
@@ -92,6 +106,7 @@ public class LibraryTab extends Tab {
     private PersonNameSuggestionProvider searchAutoCompleter;
     // Used to track whether the base has changed since last save.
     private BibEntry showing;
+    private final AtomicLong latestPreviewPrefetch = new AtomicLong();
     private SuggestionProviders suggestionProviders;
     @SuppressWarnings({"FieldCanBeLocal"})
     private Subscription dividerPositionSubscription;
@@ -132,7 +147,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(this.getDatabase(), preferencesService));
 
         this.entryEditor = new EntryEditor(this, externalFileTypes);
 
@@ -229,7 +244,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        this.getDatabase().registerListener(new UpdateTimestampListener(this.getDatabase(), preferencesService));
 
         this.entryEditor = new EntryEditor(this, externalFileTypes);
 
@@ -245,6 +260,7 @@ public class LibraryTab extends Tab {
         }
 
         BackupManager.start(this.bibDatabaseContext, Globals.entryTypesManager, Globals.prefs);
+        PdfIndexer.start(this.bibDatabaseContext, JabRefDesktop.getNativeDesktop().getFulltextIndexBaseDirectory(), preferencesService.getFilePreferences());
     }
 
     private boolean isDatabaseReadyForAutoSave(BibDatabaseContext context) {
@@ -480,9 +496,39 @@ public class LibraryTab extends Tab {
                                                          .stream()
                                                          .findFirst()
                                                          .ifPresent(entryEditor::setEntry));
+
+        // Render the previews of the entries next to the selected entry in advance, as they are likely to be selected next
+        mainTable.addSelectionListener(event -> prefetchPreviews());
+    }
+
+    private void prefetchPreviews() {
+        if (mode != BasePanelMode.SHOWING_EDITOR) {
+            // No preview is shown
+            return;
+        }
+
+        PreviewLayout layout = preferencesService.getPreviewPreferences().getCurrentPreviewStyle();
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        List<BibEntry> entries = mainTable.getEntriesNextToSelection(PREFETCHED_PREVIEWS);
+        long request = latestPreviewPrefetch.incrementAndGet();
+        BackgroundTask
+                .wrap(() -> {
+                    for (BibEntry entry : entries) {
+                        if (request != latestPreviewPrefetch.get()) {
+                            // The selection moved on, the entries next to the new selection are prefetched instead
+                            return;
+                        }
+                        PreviewCache.getPreview(layout, entry, database);
+                    }
+                })
+                .onFailure(exception -> LOGGER.debug("Could not prefetch previews", exception))
+                .executeWith(Globals.TASK_EXECUTOR);
     }
 
     public void setupMainPanel() {
+        // the integrity check depends on the preferences, which may have changed
+        resetIntegrityCheck();
+
         splitPane = new SplitPane();
         splitPane.setOrientation(Orientation.VERTICAL);
 
@@ -674,6 +720,8 @@ public class LibraryTab extends Tab {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext);
+        PdfIndexer.shutdown(bibDatabaseContext);
+        resetIntegrityCheck();
     }
 
     /**
@@ -736,6 +784,25 @@ public class LibraryTab extends Tab {
         return annotationCache;
     }
 
+    /**
+     * Returns the integrity check of this library. It keeps the results of unchanged entries between runs.
+     */
+    public IntegrityCheck getIntegrityCheck() {
+        if (integrityCheck.isEmpty()) {
+            integrityCheck = Optional.of(new IntegrityCheck(bibDatabaseContext,
+                    preferencesService.getFilePreferences(),
+                    preferencesService.getCitationKeyPatternPreferences(),
+                    Globals.journalAbbreviationRepository,
+                    preferencesService.getGeneralPreferences().shouldAllowIntegerEditionBibtex()));
+        }
+        return integrityCheck.get();
+    }
+
+    private void resetIntegrityCheck() {
+        integrityCheck.ifPresent(IntegrityCheck::close);
+        integrityCheck = Optional.empty();
+    }
+
     public void resetChangeMonitorAndChangePane() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         changeMonitor = Optional.of(new DatabaseChangeMonitor(bibDatabaseContext, Globals.getFileUpdateMonitor(), Globals.TASK_EXECUTOR, preferencesService));
@@ -840,6 +907,11 @@ public class LibraryTab extends Tab {
             DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
         }
 
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
+        }
+
         @Subscribe
         public void listen(EntriesRemovedEvent removedEntriesEvent) {
             // IMO only used to update the status (found X entries)
@@ -1,5 +1,8 @@
 package org.jabref.gui;
 
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
@@ -10,9 +13,11 @@ import com.google.common.eventbus.Subscribe;
  * Updates the timestamp of changed entries if the feature is enabled
  */
 class UpdateTimestampListener {
+    private final BibDatabase database;
     private final PreferencesService preferencesService;
 
-    UpdateTimestampListener(PreferencesService preferencesService) {
+    UpdateTimestampListener(BibDatabase database, PreferencesService preferencesService) {
+        this.database = database;
         this.preferencesService = preferencesService;
     }
 
@@ -23,4 +28,20 @@ class UpdateTimestampListener {
                     preferencesService.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (preferencesService.getTimestampPreferences().shouldAddModificationDate()) {
+            String now = preferencesService.getTimestampPreferences().now();
+            // The timestamps of all entries of the batch are updated in one batch, too
+            database.runInBatch(() -> {
+                for (FieldChange change : event.getFieldChanges()) {
+                    // Otherwise, the batch updating the timestamps would trigger itself
+                    if (change.getField() != StandardField.MODIFICATIONDATE) {
+                        change.getEntry().setField(StandardField.MODIFICATIONDATE, now);
+                    }
+                }
+            });
+        }
+    }
 }
@@ -43,6 +43,6 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> {
 
     @Override
     public Stream<BibEntry> getSource() {
-        return database.getEntries().parallelStream();
+        return database.getEntriesSnapshot().parallelStream();
     }
 }
@@ -21,6 +21,6 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider {
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries().parallelStream().flatMap(entry -> entry.getField(field).stream());
+        return database.getEntriesSnapshot().parallelStream().flatMap(entry -> entry.getField(field).stream());
     }
 }
@@ -63,7 +63,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     @Override
     public Stream<Author> getSource() {
-        return database.getEntries()
+        return database.getEntriesSnapshot()
                        .parallelStream()
                        .flatMap(this::getAuthors);
     }
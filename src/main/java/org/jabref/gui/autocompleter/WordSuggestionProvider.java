@@ -21,7 +21,7 @@ public class WordSuggestionProvider extends StringSuggestionProvider {
 
     @Override
     public Stream<String> getSource() {
-        return database.getEntries()
+        return database.getEntriesSnapshot()
                        .parallelStream()
                        .flatMap(entry -> entry.getFieldAsWords(field).stream());
     }
@@ -1,5 +1,6 @@
 package org.jabref.gui.cleanup;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,23 +88,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreset preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository));
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -126,17 +110,24 @@ public class CleanupAction extends SimpleCommand {
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreset cleanupPreset) {
         preferences.setCleanupPreset(cleanupPreset);
 
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        // Linked files of all entries are moved and renamed together
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getCleanupPreferences(Globals.journalAbbreviationRepository));
+        List<BibEntry> entries = new ArrayList<>(stateManager.getSelectedEntries());
 
-            doCleanup(databaseContext, cleanupPreset, entry, ce);
+        // The listeners of the library are notified once about all changes
+        List<FieldChange> changes = databaseContext.getDatabase().runInBatch(() -> cleaner.cleanup(cleanupPreset, entries));
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                frame.getUndoManager().addEdit(ce);
-            }
+        // The whole cleanup is undone at once
+        NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entries"));
+        for (FieldChange change : changes) {
+            ce.addEdit(new UndoableFieldChange(change));
+        }
+        ce.end();
+        if (ce.hasEdits()) {
+            modifiedEntriesCount = (int) changes.stream().map(change -> change.getEntry().getId()).distinct().count();
+            frame.getUndoManager().addEdit(ce);
         }
     }
 }
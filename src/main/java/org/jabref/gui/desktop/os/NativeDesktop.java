@@ -36,4 +36,31 @@ public interface NativeDesktop {
     default Path getUserDirectory() {
         return Path.of(System.getProperty("user.home"));
     }
+
+    /**
+     * Returns the directory where the full-text indexes of the libraries are stored.
+     *
+     * @return the path to the full-text index directory
+     */
+    default Path getFulltextIndexBaseDirectory() {
+        return getUserDirectory().resolve(".jabref").resolve("lucene");
+    }
+
+    /**
+     * Returns the directory where the responses of web requests are cached.
+     *
+     * @return the path to the HTTP cache directory
+     */
+    default Path getHttpCacheDirectory() {
+        return getUserDirectory().resolve(".jabref").resolve("http-cache");
+    }
+
+    /**
+     * Returns the directory where the citation indexes of LaTeX projects are stored.
+     *
+     * @return the path to the LaTeX index directory
+     */
+    default Path getLatexIndexDirectory() {
+        return getUserDirectory().resolve(".jabref").resolve("latex-index");
+    }
 }
@@ -1,21 +1,26 @@
 package org.jabref.gui.dialogs;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.autosaveandbackup.BackupManager;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.preferences.PreferencesService;
 
 /**
  * Stores all user dialogs related to {@link BackupManager}.
  */
 public class BackupUIManager {
 
+    private static final int MAXIMUM_UNRESTORED_CHANGES_SHOWN = 20;
+
     private BackupUIManager() {
     }
 
-    public static void showRestoreBackupDialog(DialogService dialogService, Path originalPath) {
+    public static void showRestoreBackupDialog(DialogService dialogService, Path originalPath, PreferencesService preferences, BibEntryTypesManager entryTypesManager) {
         String content = new StringBuilder()
                 .append(Localization.lang("A backup file for '%0' was found.", originalPath.getFileName().toString()))
                 .append("\n")
@@ -30,7 +35,25 @@ public class BackupUIManager {
                 Localization.lang("Ignore backup")));
 
         if (restoreClicked) {
-            BackupManager.restoreBackup(originalPath);
+            List<String> unrestoredChanges = BackupManager.restoreBackup(originalPath, preferences, entryTypesManager);
+            if (!unrestoredChanges.isEmpty()) {
+                showUnrestoredChangesDialog(dialogService, originalPath, unrestoredChanges);
+            }
         }
     }
+
+    private static void showUnrestoredChangesDialog(DialogService dialogService, Path originalPath, List<String> unrestoredChanges) {
+        StringBuilder content = new StringBuilder()
+                .append(Localization.lang("The changes of the following entries could not be restored, because the entries were not found in '%0':", originalPath.getFileName().toString()))
+                .append("\n");
+        unrestoredChanges.stream()
+                         .limit(MAXIMUM_UNRESTORED_CHANGES_SHOWN)
+                         .forEach(changes -> content.append("\n").append(changes));
+        if (unrestoredChanges.size() > MAXIMUM_UNRESTORED_CHANGES_SHOWN) {
+            content.append("\n").append(Localization.lang("and %0 more entries", String.valueOf(unrestoredChanges.size() - MAXIMUM_UNRESTORED_CHANGES_SHOWN)));
+        }
+
+        DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.showWarningDialogAndWait(
+                Localization.lang("Backup partially restored"), content.toString()));
+    }
 }
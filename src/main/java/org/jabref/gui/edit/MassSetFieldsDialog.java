@@ -222,23 +222,22 @@ public class MassSetFieldsDialog extends BaseDialog<Void> {
     }
 
     private void performEdits() {
-        String toSet = setTextField.getText();
-        if (toSet.isEmpty()) {
-            toSet = null;
-        }
-
+        String toSet = setTextField.getText().isEmpty() ? null : setTextField.getText();
         Field field = FieldFactory.parseField(fieldComboBox.getValue());
 
         NamedCompound compoundEdit = new NamedCompound(Localization.lang("Set field"));
-        if (renameRadioButton.isSelected()) {
-            compoundEdit.addEdit(massRenameField(entries, field, FieldFactory.parseField(renameTextField.getText()), overwriteCheckBox.isSelected()));
-        } else if (appendRadioButton.isSelected()) {
-            compoundEdit.addEdit(massAppendField(entries, field, appendTextField.getText()));
-        } else {
-            compoundEdit.addEdit(massSetField(entries, field,
-                    setRadioButton.isSelected() ? toSet : null,
-                    overwriteCheckBox.isSelected()));
-        }
+        // The listeners of the library are notified once about all changes
+        database.getDatabase().runInBatch(() -> {
+            if (renameRadioButton.isSelected()) {
+                compoundEdit.addEdit(massRenameField(entries, field, FieldFactory.parseField(renameTextField.getText()), overwriteCheckBox.isSelected()));
+            } else if (appendRadioButton.isSelected()) {
+                compoundEdit.addEdit(massAppendField(entries, field, appendTextField.getText()));
+            } else {
+                compoundEdit.addEdit(massSetField(entries, field,
+                        setRadioButton.isSelected() ? toSet : null,
+                        overwriteCheckBox.isSelected()));
+            }
+        });
         compoundEdit.end();
         undoManager.addEdit(compoundEdit);
     }
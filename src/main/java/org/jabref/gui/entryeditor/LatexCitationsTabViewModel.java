@@ -1,16 +1,10 @@
 package org.jabref.gui.entryeditor;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
@@ -26,16 +20,13 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexProjectIndex;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.texparser.Citation;
-import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 public class LatexCitationsTabViewModel extends AbstractViewModel {
 
     enum Status {
@@ -45,26 +36,25 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         ERROR
     }
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationsTabViewModel.class);
-    private static final String TEX_EXT = ".tex";
     private final BibDatabaseContext databaseContext;
     private final PreferencesService preferencesService;
     private final TaskExecutor taskExecutor;
     private final DialogService dialogService;
+    private final FileUpdateMonitor fileMonitor;
     private final ObjectProperty<Path> directory;
     private final ObservableList<Citation> citationList;
     private final ObjectProperty<Status> status;
     private final StringProperty searchError;
     private Future<?> searchTask;
-    private LatexParserResult latexParserResult;
     private BibEntry currentEntry;
 
     public LatexCitationsTabViewModel(BibDatabaseContext databaseContext, PreferencesService preferencesService,
-                                      TaskExecutor taskExecutor, DialogService dialogService) {
+                                      TaskExecutor taskExecutor, DialogService dialogService, FileUpdateMonitor fileMonitor) {
         this.databaseContext = databaseContext;
         this.preferencesService = preferencesService;
         this.taskExecutor = taskExecutor;
         this.dialogService = dialogService;
+        this.fileMonitor = fileMonitor;
         this.directory = new SimpleObjectProperty<>(databaseContext.getMetaData().getLatexFileDirectory(preferencesService.getUser())
                                                                    .orElseGet(preferencesService::getWorkingDir));
         this.citationList = FXCollections.observableArrayList();
@@ -128,39 +118,10 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
     private Collection<Citation> searchAndParse(String citeKey) throws IOException {
         Path newDirectory = databaseContext.getMetaData().getLatexFileDirectory(preferencesService.getUser())
                                            .orElseGet(preferencesService::getWorkingDir);
+        directory.set(newDirectory);
 
-        if (latexParserResult == null || !newDirectory.equals(directory.get())) {
-            directory.set(newDirectory);
-
-            if (!newDirectory.toFile().exists()) {
-                throw new IOException(String.format("Current search directory does not exist: %s", newDirectory));
-            }
-
-            List<Path> texFiles = searchDirectory(newDirectory, new ArrayList<>());
-            latexParserResult = new DefaultLatexParser().parse(texFiles);
-        }
-
-        return latexParserResult.getCitationsByKey(citeKey);
-    }
-
-    private List<Path> searchDirectory(Path directory, List<Path> texFiles) {
-        Map<Boolean, List<Path>> fileListPartition;
-        try (Stream<Path> filesStream = Files.list(directory)) {
-            fileListPartition = filesStream.collect(Collectors.partitioningBy(path -> path.toFile().isDirectory()));
-        } catch (IOException e) {
-            LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
-            return texFiles;
-        }
-
-        List<Path> subDirectories = fileListPartition.get(true);
-        List<Path> files = fileListPartition.get(false)
-                                            .stream()
-                                            .filter(path -> path.toString().endsWith(TEX_EXT))
-                                            .collect(Collectors.toList());
-        texFiles.addAll(files);
-        subDirectories.forEach(subDirectory -> searchDirectory(subDirectory, texFiles));
-
-        return texFiles;
+        // The index only parses the files changed since the last search
+        return LatexProjectIndex.forDirectory(newDirectory, fileMonitor).getCitations(citeKey);
     }
 
     public void setLatexDirectory() {
@@ -197,6 +197,7 @@ public class SaveDatabaseAction {
             if (success) {
                 libraryTab.getUndoManager().markUnchanged();
                 libraryTab.resetChangedProperties();
+                BackupManager.notifySaved(libraryTab.getBibDatabaseContext());
             }
             return success;
         } catch (SaveException ex) {
@@ -1,9 +1,11 @@
 package org.jabref.gui.exporter;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,7 +29,7 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.logic.xmp.XmpBatchWriter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -47,6 +49,7 @@ public class WriteXMPAction extends SimpleCommand {
     private int skipped;
     private int entriesChanged;
     private int errors;
+    private double filesPerSecond;
 
     public WriteXMPAction(StateManager stateManager, DialogService dialogService) {
         this.stateManager = stateManager;
@@ -93,6 +96,7 @@ public class WriteXMPAction extends SimpleCommand {
         }
 
         errors = entriesChanged = skipped = 0;
+        filesPerSecond = 0;
 
         if (optionsDialog == null) {
             optionsDialog = new OptionsDialog();
@@ -107,6 +111,8 @@ public class WriteXMPAction extends SimpleCommand {
             return;
         }
 
+        List<BibEntry> entriesWithFiles = new ArrayList<>();
+        Map<BibEntry, List<Path>> filesOfEntries = new IdentityHashMap<>();
         for (BibEntry entry : entries) {
             // Make a list of all PDFs linked from this entry:
             List<Path> files = entry.getFiles().stream()
@@ -116,51 +122,32 @@ public class WriteXMPAction extends SimpleCommand {
                                     .map(Optional::get)
                                     .collect(Collectors.toList());
 
-            Platform.runLater(() -> optionsDialog.getProgressArea()
-                                                 .appendText(entry.getCitationKey().orElse(Localization.lang("undefined")) + "\n"));
-
             if (files.isEmpty()) {
                 skipped++;
                 Platform.runLater(() -> optionsDialog.getProgressArea()
-                                                     .appendText("  " + Localization.lang("Skipped - No PDF linked") + ".\n"));
+                                                     .appendText(entry.getCitationKey().orElse(Localization.lang("undefined")) + "\n"
+                                                             + "  " + Localization.lang("Skipped - No PDF linked") + ".\n"));
             } else {
-                for (Path file : files) {
-                    if (Files.exists(file)) {
-                        try {
-                            XmpUtilWriter.writeXmp(file, entry, database, Globals.prefs.getXmpPreferences());
-                            Platform.runLater(
-                                    () -> optionsDialog.getProgressArea().appendText("  " + Localization.lang("OK") + ".\n"));
-                            entriesChanged++;
-                        } catch (Exception e) {
-                            Platform.runLater(() -> {
-                                optionsDialog.getProgressArea().appendText("  " + Localization.lang("Error while writing") + " '"
-                                        + file.toString() + "':\n");
-                                optionsDialog.getProgressArea().appendText("    " + e.getLocalizedMessage() + "\n");
-                            });
-                            errors++;
-                        }
-                    } else {
-                        skipped++;
-                        Platform.runLater(() -> {
-                            optionsDialog.getProgressArea()
-                                         .appendText("  " + Localization.lang("Skipped - PDF does not exist") + ":\n");
-                            optionsDialog.getProgressArea().appendText("    " + file.toString() + "\n");
-                        });
-                    }
-                }
+                entriesWithFiles.add(entry);
+                filesOfEntries.put(entry, files);
             }
+        }
 
-            if (optionsDialog.isCanceled()) {
-                Platform.runLater(
-                        () -> optionsDialog.getProgressArea().appendText("\n" + Localization.lang("Operation canceled.") + "\n"));
-                break;
-            }
+        // Files are written in parallel, files with unchanged metadata are skipped
+        new XmpBatchWriter(Globals.prefs.getXmpPreferences())
+                .write(entriesWithFiles, filesOfEntries::get, database, optionsDialog::isCanceled, this::fileProcessed);
+
+        if (optionsDialog.isCanceled()) {
+            Platform.runLater(
+                    () -> optionsDialog.getProgressArea().appendText("\n" + Localization.lang("Operation canceled.") + "\n"));
         }
+        String throughput = Localization.lang("%0 files per second", String.format("%.1f", filesPerSecond));
         Platform.runLater(() -> {
             optionsDialog.getProgressArea()
                          .appendText("\n"
                                  + Localization.lang("Finished writing XMP for %0 file (%1 skipped, %2 errors).", String
-                                 .valueOf(entriesChanged), String.valueOf(skipped), String.valueOf(errors)));
+                                 .valueOf(entriesChanged), String.valueOf(skipped), String.valueOf(errors))
+                                 + "\n" + throughput);
             optionsDialog.done();
         });
 
@@ -172,6 +159,34 @@ public class WriteXMPAction extends SimpleCommand {
                 String.valueOf(entriesChanged), String.valueOf(skipped), String.valueOf(errors)));
     }
 
+    private void fileProcessed(XmpBatchWriter.FileResult result, int processedFiles, int totalFiles, double filesPerSecond) {
+        this.filesPerSecond = filesPerSecond;
+        StringBuilder message = new StringBuilder();
+        message.append('[').append(processedFiles).append('/').append(totalFiles).append("] ")
+               .append(result.getEntry().getCitationKey().orElse(Localization.lang("undefined"))).append('\n');
+        switch (result.getOutcome()) {
+            case WRITTEN:
+                entriesChanged++;
+                message.append("  ").append(Localization.lang("OK")).append(".\n");
+                break;
+            case UNCHANGED:
+                skipped++;
+                message.append("  ").append(Localization.lang("Skipped - XMP metadata unchanged")).append(".\n");
+                break;
+            case MISSING:
+                skipped++;
+                message.append("  ").append(Localization.lang("Skipped - PDF does not exist")).append(":\n")
+                       .append("    ").append(result.getFile()).append('\n');
+                break;
+            default:
+                errors++;
+                message.append("  ").append(Localization.lang("Error while writing")).append(" '").append(result.getFile()).append("':\n")
+                       .append("    ").append(result.getError().map(Exception::getLocalizedMessage).orElse("")).append('\n');
+                break;
+        }
+        Platform.runLater(() -> optionsDialog.getProgressArea().appendText(message.toString()));
+    }
+
     class OptionsDialog extends FXDialog {
 
         private final Button okButton = new Button(Localization.lang("OK"));
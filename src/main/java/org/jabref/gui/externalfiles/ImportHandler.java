@@ -18,6 +18,7 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.externalfiles.ExternalFilesContentImporter;
 import org.jabref.logic.importer.ImportCleanup;
+import org.jabref.logic.importer.ImportPipeline;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
@@ -36,6 +37,12 @@ import org.slf4j.LoggerFactory;
 public class ImportHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportHandler.class);
+
+    /**
+     * Inserting many entries at once keeps the user interface responsive, as each insertion updates the main table
+     */
+    private static final int INSERTION_BATCH_SIZE = 100;
+
     private final BibDatabaseContext bibdatabase;
     private final PreferencesService preferencesService;
     private final FileUpdateMonitor fileUpdateMonitor;
@@ -65,94 +72,121 @@ public class ImportHandler {
         return linker;
     }
 
+    /**
+     * Imports the given files into the library. The files are parsed in parallel (see {@link ImportPipeline}) and their
+     * entries are inserted in batches as soon as they are ready.
+     */
     public BackgroundTask<List<ImportFilesResultItemViewModel>> importFilesInBackground(List<Path> files) {
         return new BackgroundTask<>() {
-            private int counter;
-            private List<BibEntry> entriesToAdd;
             private final List<ImportFilesResultItemViewModel> results = new ArrayList<>();
+            private final List<BibEntry> pendingEntries = new ArrayList<>();
+            private final CompoundEdit compoundEdit = new CompoundEdit();
 
             @Override
             protected List<ImportFilesResultItemViewModel> call() {
-                counter = 1;
-                CompoundEdit ce = new CompoundEdit();
-                for (Path file: files) {
-                    entriesToAdd = Collections.emptyList();
-
-                    if (isCanceled()) {
-                        break;
+                try {
+                    new ImportPipeline().importFiles(files, ImportHandler.this::parseFile, this::merge, this::isCanceled);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    insertPendingEntries();
+                    compoundEdit.end();
+                    if (compoundEdit.canUndo()) {
+                        undoManager.addEdit(compoundEdit);
                     }
+                }
+                return results;
+            }
 
-                    DefaultTaskExecutor.runInJavaFXThread(() -> {
-                        updateMessage(Localization.lang("Processing file %0", file.getFileName()));
-                        updateProgress(counter, files.size() - 1);
-                    });
-
-                    try {
-                        if (FileUtil.isPDFFile(file)) {
-
-                            var xmpParserResult = contentImporter.importXMPContent(file);
-                            List<BibEntry> xmpEntriesInFile = xmpParserResult.getDatabase().getEntries();
-
-                            if (xmpParserResult.hasWarnings()) {
-                                addResultToList(file, false, Localization.lang("Error reading XMP content: %0", xmpParserResult.getErrorMessage()));
-                            }
-
-                            // First try xmp import, if empty try pdf import, otherwise create empty entry
-                            if (!xmpEntriesInFile.isEmpty()) {
-                                entriesToAdd = xmpEntriesInFile;
-                                addResultToList(file, true, Localization.lang("Importing using XMP data..."));
-                            } else {
-                                var pdfImporterResult = contentImporter.importPDFContent(file);
-                                List<BibEntry> pdfEntriesInFile = pdfImporterResult.getDatabase().getEntries();
-
-                                if (pdfImporterResult.hasWarnings()) {
-                                    addResultToList(file, false, Localization.lang("Error reading PDF content: %0", pdfImporterResult.getErrorMessage()));
-                                }
-
-                                if (!pdfEntriesInFile.isEmpty()) {
-                                    entriesToAdd = pdfEntriesInFile;
-                                    addResultToList(file, true, Localization.lang("Importing using extracted PDF data"));
-                                } else {
-                                    entriesToAdd = Collections.singletonList(createEmptyEntryWithLink(file));
-                                    addResultToList(file, false, Localization.lang("No metadata found. Creating empty entry with file link"));
-                                }
-                            }
-                        } else if (FileUtil.isBibFile(file)) {
-                            var bibtexParserResult = contentImporter.importFromBibFile(file, fileUpdateMonitor);
-                            if (bibtexParserResult.hasWarnings()) {
-                                addResultToList(file, false, bibtexParserResult.getErrorMessage());
-                            }
-
-                            entriesToAdd = bibtexParserResult.getDatabaseContext().getEntries();
-                            addResultToList(file, false, Localization.lang("Importing bib entry"));
-                        } else {
-                            entriesToAdd = Collections.singletonList(createEmptyEntryWithLink(file));
-                            addResultToList(file, false, Localization.lang("No BibTeX data found. Creating empty entry with file link"));
-                        }
-                    } catch (IOException ex) {
-                        LOGGER.error("Error importing", ex);
-                        addResultToList(file, false, Localization.lang("Error from import: %0", ex.getLocalizedMessage()));
-
-                        DefaultTaskExecutor.runInJavaFXThread(() -> updateMessage(Localization.lang("Error")));
-                    }
+            private void merge(ImportPipeline.ParsedFile<Path, FileImport> parsedFile) {
+                Path file = parsedFile.getFile();
+                int counter = parsedFile.getIndex() + 1;
+                DefaultTaskExecutor.runInJavaFXThread(() -> {
+                    updateMessage(Localization.lang("Processing file %0", file.getFileName()));
+                    updateProgress(counter, files.size());
+                });
+
+                parsedFile.getError().ifPresent(exception -> {
+                    LOGGER.error("Error importing", exception);
+                    results.add(new ImportFilesResultItemViewModel(file, false, Localization.lang("Error from import: %0", exception.getLocalizedMessage())));
+                    DefaultTaskExecutor.runInJavaFXThread(() -> updateMessage(Localization.lang("Error")));
+                });
+                parsedFile.getResult().ifPresent(result -> {
+                    results.addAll(result.results);
+                    pendingEntries.addAll(result.entries);
+                });
+
+                if (pendingEntries.size() >= INSERTION_BATCH_SIZE) {
+                    insertPendingEntries();
+                }
+            }
 
-                    // We need to run the actual import on the FX Thread, otherwise we will get some deadlocks with the UIThreadList
-                    DefaultTaskExecutor.runInJavaFXThread(() -> importEntries(entriesToAdd));
+            private void insertPendingEntries() {
+                if (pendingEntries.isEmpty()) {
+                    return;
+                }
+                List<BibEntry> entries = new ArrayList<>(pendingEntries);
+                pendingEntries.clear();
 
-                    ce.addEdit(new UndoableInsertEntries(bibdatabase.getDatabase(), entriesToAdd));
-                    ce.end();
-                    undoManager.addEdit(ce);
+                // We need to run the actual import on the FX Thread, otherwise we will get some deadlocks with the UIThreadList
+                // Waiting for the insertion keeps the parsing from running too far ahead
+                DefaultTaskExecutor.runAndWaitInJavaFXThread(() -> insertCleanedEntries(entries));
+                compoundEdit.addEdit(new UndoableInsertEntries(bibdatabase.getDatabase(), entries));
+            }
+        };
+    }
 
-                    counter++;
-                }
-                return results;
+    /**
+     * Parses the given file and cleans up its entries. Called concurrently for several files, thus does not change the
+     * library.
+     */
+    private FileImport parseFile(Path file) throws IOException {
+        FileImport fileImport = new FileImport();
+        if (FileUtil.isPDFFile(file)) {
+            var xmpParserResult = contentImporter.importXMPContent(file);
+            List<BibEntry> xmpEntriesInFile = xmpParserResult.getDatabase().getEntries();
+
+            if (xmpParserResult.hasWarnings()) {
+                fileImport.addResult(file, false, Localization.lang("Error reading XMP content: %0", xmpParserResult.getErrorMessage()));
             }
 
-            private void addResultToList(Path newFile, boolean success, String logMessage) {
-                var result = new ImportFilesResultItemViewModel(newFile, success, logMessage);
-                results.add(result);
+            // First try xmp import, if empty try pdf import, otherwise create empty entry
+            if (!xmpEntriesInFile.isEmpty()) {
+                fileImport.entries = xmpEntriesInFile;
+                fileImport.addResult(file, true, Localization.lang("Importing using XMP data..."));
+            } else {
+                var pdfImporterResult = contentImporter.importPDFContent(file);
+                List<BibEntry> pdfEntriesInFile = pdfImporterResult.getDatabase().getEntries();
+
+                if (pdfImporterResult.hasWarnings()) {
+                    fileImport.addResult(file, false, Localization.lang("Error reading PDF content: %0", pdfImporterResult.getErrorMessage()));
+                }
+
+                if (!pdfEntriesInFile.isEmpty()) {
+                    fileImport.entries = pdfEntriesInFile;
+                    fileImport.addResult(file, true, Localization.lang("Importing using extracted PDF data"));
+                } else {
+                    fileImport.entries = Collections.singletonList(createEmptyEntryWithLink(file));
+                    fileImport.addResult(file, false, Localization.lang("No metadata found. Creating empty entry with file link"));
+                }
             }
-        };
+        } else if (FileUtil.isBibFile(file)) {
+            var bibtexParserResult = contentImporter.importFromBibFile(file, fileUpdateMonitor);
+            if (bibtexParserResult.hasWarnings()) {
+                fileImport.addResult(file, false, bibtexParserResult.getErrorMessage());
+            }
+
+            fileImport.entries = bibtexParserResult.getDatabaseContext().getEntries();
+            fileImport.addResult(file, false, Localization.lang("Importing bib entry"));
+        } else {
+            fileImport.entries = Collections.singletonList(createEmptyEntryWithLink(file));
+            fileImport.addResult(file, false, Localization.lang("No BibTeX data found. Creating empty entry with file link"));
+        }
+
+        // The entries are taken out of the database they were parsed into
+        fileImport.entries = new ArrayList<>(fileImport.entries);
+        new ImportCleanup(bibdatabase.getMode()).doPostCleanup(fileImport.entries);
+        return fileImport;
     }
 
     private BibEntry createEmptyEntryWithLink(Path file) {
@@ -165,6 +199,10 @@ public class ImportHandler {
     public void importEntries(List<BibEntry> entries) {
         ImportCleanup cleanup = new ImportCleanup(bibdatabase.getMode());
         cleanup.doPostCleanup(entries);
+        insertCleanedEntries(entries);
+    }
+
+    private void insertCleanedEntries(List<BibEntry> entries) {
         bibdatabase.getDatabase().insertEntries(entries);
 
         // Set owner/timestamp
@@ -193,6 +231,18 @@ public class ImportHandler {
         }
     }
 
+    /**
+     * The entries parsed from a file and the messages about parsing it
+     */
+    private static class FileImport {
+        private List<BibEntry> entries = Collections.emptyList();
+        private final List<ImportFilesResultItemViewModel> results = new ArrayList<>();
+
+        void addResult(Path file, boolean success, String logMessage) {
+            results.add(new ImportFilesResultItemViewModel(file, success, logMessage));
+        }
+    }
+
     /**
      * Generate keys for given entries.
      *
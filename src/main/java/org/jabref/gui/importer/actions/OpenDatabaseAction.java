@@ -180,7 +180,7 @@ public class OpenDatabaseAction extends SimpleCommand {
         Globals.prefs.setWorkingDirectory(fileToLoad.getParent());
 
         if (BackupManager.backupFileDiffers(fileToLoad)) {
-            BackupUIManager.showRestoreBackupDialog(dialogService, fileToLoad);
+            BackupUIManager.showRestoreBackupDialog(dialogService, fileToLoad, preferencesService, Globals.entryTypesManager);
         }
 
         ParserResult result = OpenDatabase.loadDatabase(fileToLoad.toString(),
@@ -1,6 +1,9 @@
 package org.jabref.gui.importer.fetcher;
 
+import java.util.List;
 import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
@@ -18,11 +21,17 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fetcher.CompositeSearchBasedFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.apache.lucene.queryparser.flexible.standard.parser.StandardSyntaxParser;
+
+import static org.jabref.logic.importer.fetcher.transformators.AbstractQueryTransformer.NO_EXPLICIT_FIELD;
 
 public class WebSearchPaneViewModel {
 
@@ -90,12 +99,48 @@ public class WebSearchPaneViewModel {
         SearchBasedFetcher activeFetcher = getSelectedFetcher();
 
         BackgroundTask<ParserResult> task;
-        task = BackgroundTask.wrap(() -> new ParserResult(activeFetcher.performSearch(getQuery().trim())))
-                             .withInitialMessage(Localization.lang("Processing %0", getQuery().trim()));
+        if (activeFetcher instanceof CompositeSearchBasedFetcher) {
+            task = createCompositeSearchTask((CompositeSearchBasedFetcher) activeFetcher, getQuery().trim());
+        } else {
+            task = BackgroundTask.wrap(() -> new ParserResult(activeFetcher.performSearch(getQuery().trim())));
+        }
+        task.withInitialMessage(Localization.lang("Processing %0", getQuery().trim()));
         task.onFailure(dialogService::showErrorDialogAndWait);
 
         ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task);
         dialog.setTitle(activeFetcher.getName());
         dialogService.showCustomDialogAndWait(dialog);
     }
+
+    /**
+     * Reports the progress of each catalogue as soon as it answered, instead of waiting silently for the slowest one.
+     */
+    private BackgroundTask<ParserResult> createCompositeSearchTask(CompositeSearchBasedFetcher fetcher, String query) {
+        return new BackgroundTask<>() {
+            @Override
+            protected ParserResult call() throws Exception {
+                if (query.isBlank()) {
+                    return new ParserResult();
+                }
+                QueryNode luceneQuery = new StandardSyntaxParser().parse(query, NO_EXPLICIT_FIELD);
+                AtomicInteger finishedFetchers = new AtomicInteger();
+                AtomicInteger foundEntries = new AtomicInteger();
+                int numberOfFetchers = fetcher.getNumberOfFetchers();
+
+                CompletableFuture<List<BibEntry>> search = fetcher.performSearchAsync(luceneQuery, (finishedFetcher, entries) -> {
+                    int finished = finishedFetchers.incrementAndGet();
+                    int found = foundEntries.addAndGet(entries.size());
+                    updateProgress(finished, numberOfFetchers);
+                    updateMessage(Localization.lang("%0 of %1 catalogues searched, %2 entries found", finished, numberOfFetchers, found));
+                });
+                try {
+                    return new ParserResult(search.get());
+                } catch (InterruptedException e) {
+                    // The user cancelled the search
+                    search.cancel(true);
+                    throw e;
+                }
+            }
+        };
+    }
 }
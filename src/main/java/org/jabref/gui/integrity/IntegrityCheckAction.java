@@ -1,13 +1,10 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
-import org.jabref.gui.Globals;
 import org.jabref.gui.JabRefFrame;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
@@ -15,8 +12,6 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -38,31 +33,13 @@ public class IntegrityCheckAction extends SimpleCommand {
 
     @Override
     public void execute() {
-        BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                Globals.prefs.getFilePreferences(),
-                Globals.prefs.getCitationKeyPatternPreferences(),
-                Globals.journalAbbreviationRepository,
-                Globals.prefs.getGeneralPreferences().shouldAllowIntegerEditionBibtex());
+        // The check of the library tab keeps the results of the entries not modified since the last run
+        IntegrityCheck check = frame.getCurrentLibraryTab().getIntegrityCheck();
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                List<IntegrityMessage> result = new ArrayList<>();
-
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                result.addAll(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                return check.check(this::isCancelled, this::updateProgress);
             }
         };
         task.setOnSucceeded(value -> {
@@ -1,15 +1,9 @@
 package org.jabref.gui.journals;
 
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
-import org.jabref.gui.JabRefExecutorService;
 import org.jabref.gui.JabRefFrame;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.ActionHelper;
@@ -90,24 +84,7 @@ public class AbbreviateAction extends SimpleCommand {
 
         NamedCompound ce = new NamedCompound(Localization.lang("Abbreviate journal names"));
 
-        // Collect all callables to execute in one collection.
-        Set<Callable<Boolean>> tasks = entries.stream().<Callable<Boolean>>map(entry -> () ->
-                FieldFactory.getJournalNameFields().stream().anyMatch(journalField ->
-                        undoableAbbreviator.abbreviate(databaseContext.getDatabase(), entry, journalField, ce)))
-                .collect(Collectors.toSet());
-
-        // Execute the callables and wait for the results.
-        List<Future<Boolean>> futures = JabRefExecutorService.INSTANCE.executeAll(tasks);
-
-        // Evaluate the results of the callables.
-        long count = futures.stream().filter(future -> {
-            try {
-                return future.get();
-            } catch (InterruptedException | ExecutionException exception) {
-                LOGGER.error("Unable to retrieve value.", exception);
-                return false;
-            }
-        }).count();
+        int count = undoableAbbreviator.abbreviate(databaseContext.getDatabase(), entries, ce);
 
         if (count > 0) {
             ce.end();
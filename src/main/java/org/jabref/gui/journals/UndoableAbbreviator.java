@@ -1,13 +1,20 @@
 package org.jabref.gui.journals;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import javax.swing.undo.CompoundEdit;
 
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 
 public class UndoableAbbreviator {
 
@@ -29,8 +36,37 @@ public class UndoableAbbreviator {
      * @return true if the entry was changed, false otherwise.
      */
     public boolean abbreviate(BibDatabase database, BibEntry entry, Field fieldName, CompoundEdit ce) {
+        Optional<FieldChange> change = getAbbreviation(database, entry, fieldName);
+        change.ifPresent(fieldChange -> {
+            entry.setField(fieldName, fieldChange.getNewValue());
+            ce.addEdit(new UndoableFieldChange(fieldChange));
+        });
+        return change.isPresent();
+    }
+
+    /**
+     * Abbreviates the journal names of all given entries, e.g., of a whole library. The abbreviations are looked up in
+     * parallel. Then, the entries are changed at once, so that listeners of the database are notified only once.
+     *
+     * @param database The database the entries belong to
+     * @param ce       An edit is added to this compound for each changed field
+     * @return the number of changed fields
+     */
+    public int abbreviate(BibDatabase database, Collection<BibEntry> entries, CompoundEdit ce) {
+        List<FieldChange> changes = entries.parallelStream()
+                                           .flatMap(entry -> FieldFactory.getJournalNameFields().stream()
+                                                                         .map(field -> getAbbreviation(database, entry, field))
+                                                                         .flatMap(Optional::stream))
+                                           .collect(Collectors.toList());
+
+        database.runInBatch(() -> changes.forEach(change -> change.getEntry().setField(change.getField(), change.getNewValue())));
+        changes.forEach(change -> ce.addEdit(new UndoableFieldChange(change)));
+        return changes.size();
+    }
+
+    private Optional<FieldChange> getAbbreviation(BibDatabase database, BibEntry entry, Field fieldName) {
         if (!entry.hasField(fieldName)) {
-            return false;
+            return Optional.empty();
         }
 
         String text = entry.getField(fieldName).get();
@@ -39,19 +75,17 @@ public class UndoableAbbreviator {
             text = database.resolveForStrings(text);
         }
 
-        if (!journalAbbreviationRepository.isKnownName(text)) {
-            return false; // Unknown, cannot abbreviate anything.
+        Optional<Abbreviation> abbreviation = journalAbbreviationRepository.get(text);
+        if (abbreviation.isEmpty()) {
+            return Optional.empty(); // Unknown, cannot abbreviate anything.
         }
 
-        String newText = getAbbreviatedName(journalAbbreviationRepository.get(text).get());
+        String newText = getAbbreviatedName(abbreviation.get());
 
         if (newText.equals(origText)) {
-            return false;
+            return Optional.empty();
         }
-
-        entry.setField(fieldName, newText);
-        ce.addEdit(new UndoableFieldChange(entry, fieldName, origText, newText));
-        return true;
+        return Optional.of(new FieldChange(entry, fieldName, origText, newText));
     }
 
     private String getAbbreviatedName(Abbreviation text) {
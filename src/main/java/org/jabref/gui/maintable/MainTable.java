@@ -3,6 +3,8 @@ package org.jabref.gui.maintable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -35,11 +37,14 @@ import org.jabref.gui.externalfiles.ImportHandler;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.keyboard.KeyBindingRepository;
+import org.jabref.gui.maintable.columns.FieldColumn;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.gui.util.ControlHelper;
 import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.ViewModelTableRowFactory;
+import org.jabref.logic.bibtex.comparator.FieldComparator;
+import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.importer.ImportCleanup;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.OS;
@@ -47,6 +52,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.OrFields;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
@@ -154,7 +160,12 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
         this.setItems(model.getEntriesFilteredAndSorted());
 
         // Enable sorting
-        model.getEntriesFilteredAndSorted().comparatorProperty().bind(this.comparatorProperty());
+        // Field columns are sorted by the cached sort keys of the entries, which are shared with the save order
+        this.setSortPolicy(table -> {
+            model.getEntriesFilteredAndSorted().setComparator(createComparator());
+            return true;
+        });
+        this.sort();
 
         this.getStylesheets().add(MainTable.class.getResource("MainTable.css").toExternalForm());
 
@@ -238,6 +249,29 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
         libraryTab.delete(true);
     }
 
+    private Comparator<BibEntryTableViewModel> createComparator() {
+        List<Comparator<BibEntryTableViewModel>> comparators = new ArrayList<>();
+        for (TableColumn<BibEntryTableViewModel, ?> column : getSortOrder()) {
+            comparators.add(createComparator(column));
+        }
+        return comparators.isEmpty() ? null : new FieldComparatorStack<>(comparators);
+    }
+
+    private static <T> Comparator<BibEntryTableViewModel> createComparator(TableColumn<BibEntryTableViewModel, T> column) {
+        boolean descending = column.getSortType() == TableColumn.SortType.DESCENDING;
+        if (column instanceof FieldColumn) {
+            Optional<OrFields> sortFields = ((FieldColumn) column).getSortFields();
+            if (sortFields.isPresent()) {
+                FieldComparator fieldComparator = new FieldComparator(sortFields.get(), descending);
+                return (first, second) -> fieldComparator.compare(first.getEntry(), second.getEntry());
+            }
+        }
+
+        Comparator<T> valueComparator = column.getComparator();
+        Comparator<BibEntryTableViewModel> comparator = (first, second) -> valueComparator.compare(column.getCellData(first), column.getCellData(second));
+        return descending ? comparator.reversed() : comparator;
+    }
+
     private void setupKeyBindings(KeyBindingRepository keyBindings) {
         this.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.ENTER) {
@@ -402,6 +436,29 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the entries shown next to the selected entry in the current order of the table, the closest first
+     *
+     * @param distance the number of entries above and below the selected entry to return
+     */
+    public List<BibEntry> getEntriesNextToSelection(int distance) {
+        int selectedIndex = getSelectionModel().getSelectedIndex();
+        if (selectedIndex < 0) {
+            return List.of();
+        }
+
+        List<BibEntry> entries = new ArrayList<>(2 * distance);
+        for (int offset = 1; offset <= distance; offset++) {
+            if ((selectedIndex + offset) < getItems().size()) {
+                entries.add(getItems().get(selectedIndex + offset).getEntry());
+            }
+            if ((selectedIndex - offset) >= 0) {
+                entries.add(getItems().get(selectedIndex - offset).getEntry());
+            }
+        }
+        return entries;
+    }
+
     private Optional<BibEntryTableViewModel> findEntry(BibEntry entry) {
         return model.getEntriesFilteredAndSorted()
                     .stream()
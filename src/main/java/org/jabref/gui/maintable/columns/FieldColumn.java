@@ -1,5 +1,7 @@
 package org.jabref.gui.maintable.columns;
 
+import java.util.Optional;
+
 import javafx.beans.value.ObservableValue;
 
 import org.jabref.gui.maintable.BibEntryTableViewModel;
@@ -19,6 +21,7 @@ import com.google.common.collect.Iterables;
 public class FieldColumn extends MainTableColumn<String> {
 
     private final OrFields fields;
+    private final boolean sortedNumerically;
 
     public FieldColumn(MainTableColumnModel model) {
         super(model);
@@ -31,14 +34,17 @@ public class FieldColumn extends MainTableColumn<String> {
                 .withText(text -> text)
                 .install(this);
 
+        boolean numeric = false;
         if (fields.size() == 1) {
             // comparator can't parse more than one value
             Field field = Iterables.getOnlyElement(fields);
 
             if (field instanceof UnknownField || field.isNumeric()) {
                 this.setComparator(new NumericFieldComparator());
+                numeric = true;
             }
         }
+        this.sortedNumerically = numeric;
 
         this.setSortable(true);
     }
@@ -53,6 +59,17 @@ public class FieldColumn extends MainTableColumn<String> {
         return fields.getDisplayName();
     }
 
+    /**
+     * Returns the fields the entries are sorted by (see {@link org.jabref.logic.bibtex.comparator.FieldComparator}),
+     * unless the displayed values are compared as numbers.
+     */
+    public Optional<OrFields> getSortFields() {
+        if (fields.isEmpty() || sortedNumerically) {
+            return Optional.empty();
+        }
+        return Optional.of(fields);
+    }
+
     private ObservableValue<String> getFieldValue(BibEntryTableViewModel entry) {
         if (fields.isEmpty()) {
             return null;
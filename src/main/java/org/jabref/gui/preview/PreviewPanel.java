@@ -17,12 +17,18 @@ import javafx.scene.input.TransferMode;
 import javafx.scene.layout.VBox;
 
 import org.jabref.gui.DialogService;
+import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.externalfiles.ExternalFilesEntryLinker;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.keyboard.KeyBindingRepository;
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.citationstyle.CitationStylePreviewLayout;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
@@ -120,6 +126,22 @@ public class PreviewPanel extends VBox {
         if (!init) {
             dialogService.notify(Localization.lang("Preview style changed to: %0", currentPreviewStyle.getDisplayName()));
         }
+        warmUpCitationStyles(previewPreferences);
+    }
+
+    /**
+     * Prepares the citation style engines of the preview cycle in the background, so that cycling through the styles
+     * does not need to wait for the engines to be created.
+     */
+    private void warmUpCitationStyles(PreviewPreferences previewPreferences) {
+        List<CitationStyle> citationStyles = previewPreferences.getPreviewCycle().stream()
+                                                               .filter(CitationStylePreviewLayout.class::isInstance)
+                                                               .map(layout -> ((CitationStylePreviewLayout) layout).getCitationStyle())
+                                                               .collect(Collectors.toList());
+        if (!citationStyles.isEmpty()) {
+            BackgroundTask.wrap(() -> CitationStyleGenerator.warmUp(citationStyles, CitationStyleOutputFormat.HTML))
+                          .executeWith(Globals.TASK_EXECUTOR);
+        }
     }
 
     private void updateLayoutByPreferences(PreferencesService preferences) {
@@ -2,6 +2,7 @@ package org.jabref.gui.preview;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import javafx.beans.InvalidationListener;
@@ -18,10 +19,12 @@ import org.jabref.gui.DialogService;
 import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.gui.util.Theme;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preview.PreviewCache;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
@@ -108,6 +111,11 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
     private final BibDatabaseContext database;
     private boolean registered;
 
+    /**
+     * Numbers the renders of previews. Only the preview of the latest render is shown.
+     */
+    private final AtomicLong latestRequest = new AtomicLong();
+
     private final ChangeListener<Optional<SearchQuery>> listener = (queryObservable, queryOldValue, queryNewValue) -> {
         searchHighlightPattern = queryNewValue.flatMap(SearchQuery::getJavaScriptPatternForWords);
         highlightSearchPattern();
@@ -198,17 +206,44 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
 
         ExporterFactory.entryNumber = 1; // Set entry number in case that is included in the preview layout.
 
+        BibEntry entryToRender = entry.get();
+        PreviewLayout layoutToRender = layout;
+        long request = latestRequest.incrementAndGet();
+
+        Optional<String> cachedPreview = PreviewCache.getCachedPreview(layoutToRender, entryToRender, database.getDatabase());
+        if (cachedPreview.isPresent()) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> {
+                if (isLatestRequest(request)) {
+                    setPreviewText(cachedPreview.get());
+                }
+            });
+            return;
+        }
+
+        // Renders queued for entries which are not shown anymore (e.g., when scrolling through the table) are skipped
         BackgroundTask
-                .wrap(() -> layout.generatePreview(entry.get(), database.getDatabase()))
-                .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layout.getDisplayName() + " ..." + "</i>"))
-                .onSuccess(this::setPreviewText)
+                .wrap(() -> isLatestRequest(request)
+                        ? Optional.of(PreviewCache.getPreview(layoutToRender, entryToRender, database.getDatabase()))
+                        : Optional.<String>empty())
+                .onRunning(() -> {
+                    if (isLatestRequest(request)) {
+                        setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layoutToRender.getDisplayName() + " ..." + "</i>");
+                    }
+                })
+                .onSuccess(preview -> preview.filter(text -> isLatestRequest(request)).ifPresent(this::setPreviewText))
                 .onFailure(exception -> {
                     LOGGER.error("Error while generating citation style", exception);
-                    setPreviewText(Localization.lang("Error while generating citation style"));
+                    if (isLatestRequest(request)) {
+                        setPreviewText(Localization.lang("Error while generating citation style"));
+                    }
                 })
                 .executeWith(taskExecutor);
     }
 
+    private boolean isLatestRequest(long request) {
+        return request == latestRequest.get();
+    }
+
     private void setPreviewText(String text) {
         String myText = "<html>" + JS_HIGHLIGHT_FUNCTION + "<body id=\"previewBody\"><div id=\"content\">" + text + "</div></body></html>";
         previewView.getEngine().setJavaScriptEnabled(true);
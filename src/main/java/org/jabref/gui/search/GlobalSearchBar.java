@@ -49,8 +49,10 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.IconValidationDecorator;
 import org.jabref.gui.util.TooltipTextUtil;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.search.PdfIndexer;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.entry.Author;
+import org.jabref.model.search.rules.FullTextSearcher;
 import org.jabref.preferences.PreferencesService;
 import org.jabref.preferences.SearchPreferences;
 
@@ -254,7 +256,11 @@ public class GlobalSearchBar extends HBox {
             return;
         }
 
-        SearchQuery searchQuery = new SearchQuery(this.searchField.getText(), searchPreferences.isCaseSensitive(), searchPreferences.isRegularExpression());
+        // content=... searches the full-text index of the PDFs linked in the active library
+        Optional<FullTextSearcher> fullTextSearcher = stateManager.getActiveDatabase()
+                                                                  .flatMap(PdfIndexer::getIndexer)
+                                                                  .map(PdfIndexer::getSearcher);
+        SearchQuery searchQuery = new SearchQuery(this.searchField.getText(), searchPreferences.isCaseSensitive(), searchPreferences.isRegularExpression(), fullTextSearcher);
         if (!searchQuery.isValid()) {
             informUserAboutInvalidSearchQuery();
             return;
@@ -6,6 +6,13 @@ import org.jabref.logic.l10n.Localization;
 
 public class AbstractUndoableJabRefEdit extends AbstractUndoableEdit {
 
+    /**
+     * Estimates the memory in bytes retained by this edit, see {@link CountingUndoManager#getMemoryFootprint()}
+     */
+    public long getMemoryFootprint() {
+        return UndoFootprint.UNKNOWN_EDIT;
+    }
+
     @Override
     public String getUndoPresentationName() {
         return "<html>" + Localization.lang("Undo") + ": " + getPresentationName() + "</html>";
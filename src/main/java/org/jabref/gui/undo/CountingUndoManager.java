@@ -9,18 +9,53 @@ import org.jabref.logic.undo.AddUndoableActionEvent;
 import org.jabref.logic.undo.UndoRedoEvent;
 
 import com.google.common.eventbus.EventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Undo manager counting the edits, so that it can tell whether the library was changed since it was saved.
+ * <p>
+ * The history is kept within a memory budget: If the edits occupy more memory, the oldest edits are moved to a
+ * temporary on-disk store (see {@link UndoSpillStore}) and loaded again when they are undone. Edits which cannot be
+ * stored are discarded, starting with the oldest one. The edit to be undone next is always kept in memory.
+ */
 public class CountingUndoManager extends UndoManager {
 
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * Maximum number of edits. As old edits are stored on disk, this is larger than the default of the undo manager.
+     */
+    private static final int EDIT_LIMIT = 1000;
+
+    /**
+     * Smaller edits are not worth a file of their own and stay in memory
+     */
+    private static final long MIN_SPILL_FOOTPRINT = 4 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CountingUndoManager.class);
+
     private int unchangedPoint;
     private int current;
+    private long memoryBudget;
 
     private final EventBus eventBus = new EventBus();
+    private final UndoSpillStore spillStore = new UndoSpillStore();
+
+    public CountingUndoManager() {
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    public CountingUndoManager(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        setLimit(EDIT_LIMIT);
+    }
 
     @Override
     public synchronized boolean addEdit(UndoableEdit edit) {
         current++;
-        boolean returnvalue = super.addEdit(edit);
+        boolean returnvalue = super.addEdit(new SpillableEdit(edit, spillStore));
+        enforceMemoryBudget();
         postAddUndoEvent();
         return returnvalue;
     }
@@ -29,6 +64,7 @@ public class CountingUndoManager extends UndoManager {
     public synchronized void undo() throws CannotUndoException {
         super.undo();
         current--;
+        enforceMemoryBudget();
         postUndoRedoEvent();
     }
 
@@ -36,9 +72,71 @@ public class CountingUndoManager extends UndoManager {
     public synchronized void redo() throws CannotUndoException {
         super.redo();
         current++;
+        enforceMemoryBudget();
         postUndoRedoEvent();
     }
 
+    public synchronized long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public synchronized void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        enforceMemoryBudget();
+    }
+
+    /**
+     * Returns an estimate of the memory in bytes occupied by the undo history
+     */
+    public synchronized long getMemoryFootprint() {
+        long footprint = 0;
+        for (UndoableEdit edit : edits) {
+            footprint += UndoFootprint.of(edit);
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns the number of bytes occupied by the edits moved to the temporary on-disk store
+     */
+    public long getSpilledSize() {
+        return spillStore.getSize();
+    }
+
+    /**
+     * Discards the undo history and deletes the edits moved to the temporary on-disk store
+     */
+    public synchronized void shutdown() {
+        discardAllEdits();
+        spillStore.close();
+    }
+
+    private void enforceMemoryBudget() {
+        long footprint = getMemoryFootprint();
+        if (footprint <= memoryBudget) {
+            return;
+        }
+
+        // Edits which have been undone cannot be stored, as they are stored in the done state
+        int undoableEdits = edits.indexOf(editToBeUndone());
+        for (int i = 0; (i < undoableEdits) && (footprint > memoryBudget); i++) {
+            SpillableEdit edit = (SpillableEdit) edits.get(i);
+            if (edit.getMemoryFootprint() >= MIN_SPILL_FOOTPRINT) {
+                footprint -= edit.spill();
+            }
+        }
+
+        int discardedEdits = 0;
+        while ((discardedEdits < undoableEdits) && (footprint > memoryBudget)) {
+            footprint -= UndoFootprint.of(edits.get(discardedEdits));
+            discardedEdits++;
+        }
+        if (discardedEdits > 0) {
+            LOGGER.debug("Discarding the {} oldest edits to keep the undo history within its memory budget", discardedEdits);
+            trimEdits(0, discardedEdits - 1);
+        }
+    }
+
     public synchronized void markUnchanged() {
         unchangedPoint = current;
     }
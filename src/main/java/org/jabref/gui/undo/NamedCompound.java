@@ -1,5 +1,7 @@
 package org.jabref.gui.undo;
 
+import java.util.List;
+
 import javax.swing.undo.CompoundEdit;
 import javax.swing.undo.UndoableEdit;
 
@@ -25,6 +27,25 @@ public class NamedCompound extends CompoundEdit {
         return hasEdits;
     }
 
+    String getName() {
+        return name;
+    }
+
+    List<UndoableEdit> getEdits() {
+        return edits;
+    }
+
+    /**
+     * Estimates the memory in bytes retained by this edit and its children
+     */
+    public long getMemoryFootprint() {
+        long footprint = UndoFootprint.OBJECT + UndoFootprint.of(name) + edits.size() * UndoFootprint.REFERENCE;
+        for (UndoableEdit edit : edits) {
+            footprint += UndoFootprint.of(edit);
+        }
+        return footprint;
+    }
+
     @Override
     public String getUndoPresentationName() {
         return "<html>" + Localization.lang("Undo") + ": " + name + "<ul>" + getPresentationName() + "</ul></html>";
@@ -0,0 +1,183 @@
+package org.jabref.gui.undo;
+
+import java.io.IOException;
+
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.CompoundEdit;
+import javax.swing.undo.UndoableEdit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps the edits of the {@link CountingUndoManager}, so that they can be moved to the {@link UndoSpillStore} and
+ * back. A stored edit is loaded again as soon as it is needed, e.g., for undoing it or for showing its name.
+ */
+class SpillableEdit implements UndoableEdit {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillableEdit.class);
+
+    private final UndoSpillStore store;
+    private final boolean significant;
+
+    /**
+     * The wrapped edit, or null if it is stored in {@link #spilled}
+     */
+    private UndoableEdit edit;
+    private UndoSpillStore.SpilledEdit spilled;
+    private long footprint = -1;
+    private boolean alive = true;
+
+    SpillableEdit(UndoableEdit edit, UndoSpillStore store) {
+        this.edit = edit;
+        this.store = store;
+        this.significant = edit.isSignificant();
+    }
+
+    boolean isSpilled() {
+        return spilled != null;
+    }
+
+    /**
+     * Estimates the memory in bytes retained by the wrapped edit. A stored edit does not occupy memory.
+     */
+    long getMemoryFootprint() {
+        if (edit == null) {
+            return 0;
+        }
+        if (footprint >= 0) {
+            return footprint;
+        }
+        long estimate = UndoFootprint.of(edit);
+        // The size of a compound edit may still change
+        if (!((edit instanceof CompoundEdit) && ((CompoundEdit) edit).isInProgress())) {
+            footprint = estimate;
+        }
+        return estimate;
+    }
+
+    /**
+     * Moves the wrapped edit to the store, if it can be stored and has not been undone.
+     *
+     * @return the number of bytes freed
+     */
+    long spill() {
+        if ((edit == null) || !edit.canUndo() || !UndoSpillStore.isSpillable(edit)) {
+            return 0;
+        }
+        long freed = getMemoryFootprint();
+        try {
+            spilled = store.spill(edit);
+        } catch (IOException e) {
+            LOGGER.warn("Could not move edit to the temporary undo store", e);
+            return 0;
+        }
+        edit = null;
+        return freed;
+    }
+
+    private boolean load() {
+        if (edit != null) {
+            return true;
+        }
+        try {
+            edit = store.load(spilled);
+            spilled = null;
+            footprint = -1;
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not load edit from the temporary undo store", e);
+            return false;
+        }
+    }
+
+    @Override
+    public void undo() throws CannotUndoException {
+        if (!load()) {
+            throw new CannotUndoException();
+        }
+        edit.undo();
+    }
+
+    @Override
+    public boolean canUndo() {
+        // Only edits which have not been undone are stored
+        return (edit == null) ? alive : edit.canUndo();
+    }
+
+    @Override
+    public void redo() throws CannotRedoException {
+        if (!load()) {
+            throw new CannotRedoException();
+        }
+        edit.redo();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return (edit != null) && edit.canRedo();
+    }
+
+    @Override
+    public void die() {
+        alive = false;
+        if (edit != null) {
+            edit.die();
+        } else {
+            try {
+                store.delete(spilled);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete edit from the temporary undo store", e);
+            }
+        }
+    }
+
+    @Override
+    public boolean addEdit(UndoableEdit anEdit) {
+        if ((edit == null) || !edit.addEdit(unwrap(anEdit))) {
+            return false;
+        }
+        footprint = -1;
+        return true;
+    }
+
+    @Override
+    public boolean replaceEdit(UndoableEdit anEdit) {
+        if ((edit == null) || !edit.replaceEdit(unwrap(anEdit))) {
+            return false;
+        }
+        footprint = -1;
+        return true;
+    }
+
+    /**
+     * Edits absorbing other edits get the wrapped edit, as only the outermost edits are wrapped
+     */
+    private static UndoableEdit unwrap(UndoableEdit anEdit) {
+        if ((anEdit instanceof SpillableEdit) && (((SpillableEdit) anEdit).edit != null)) {
+            return ((SpillableEdit) anEdit).edit;
+        }
+        return anEdit;
+    }
+
+    @Override
+    public boolean isSignificant() {
+        return significant;
+    }
+
+    @Override
+    public String getPresentationName() {
+        return load() ? edit.getPresentationName() : "";
+    }
+
+    @Override
+    public String getUndoPresentationName() {
+        return load() ? edit.getUndoPresentationName() : "";
+    }
+
+    @Override
+    public String getRedoPresentationName() {
+        return load() ? edit.getRedoPresentationName() : "";
+    }
+}
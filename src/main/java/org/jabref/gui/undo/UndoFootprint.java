@@ -0,0 +1,67 @@
+package org.jabref.gui.undo;
+
+import java.util.Collection;
+
+import javax.swing.undo.UndoableEdit;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.strings.StringDeduplicator;
+
+/**
+ * Rough estimates of the memory retained by undoable edits. They are used to keep the undo history within its memory
+ * budget and do not need to be exact.
+ */
+final class UndoFootprint {
+
+    static final long OBJECT = 16;
+    static final long REFERENCE = 8;
+
+    /**
+     * Memory used by edits which do not estimate their footprint themselves
+     */
+    static final long UNKNOWN_EDIT = 256;
+
+    private static final long STRING = 40;
+    private static final long ENTRY = 200;
+    private static final long FIELD = 48;
+
+    private UndoFootprint() {
+    }
+
+    static long of(UndoableEdit edit) {
+        if (edit instanceof AbstractUndoableJabRefEdit) {
+            return ((AbstractUndoableJabRefEdit) edit).getMemoryFootprint();
+        } else if (edit instanceof NamedCompound) {
+            return ((NamedCompound) edit).getMemoryFootprint();
+        } else if (edit instanceof SpillableEdit) {
+            return ((SpillableEdit) edit).getMemoryFootprint();
+        }
+        return UNKNOWN_EDIT;
+    }
+
+    static long of(String value) {
+        // Most field values are stored using one byte per character
+        return value == null ? 0 : STRING + value.length();
+    }
+
+    /**
+     * Estimates the memory of a value which is not shared with the entries, i.e., which is not deduplicated
+     */
+    static long ofUnshared(String value) {
+        return ((value == null) || (value.length() <= StringDeduplicator.MAX_LENGTH)) ? 0 : of(value);
+    }
+
+    /**
+     * Estimates the memory of the given entries including their fields
+     */
+    static long ofEntries(Collection<BibEntry> entries) {
+        long footprint = OBJECT + entries.size() * REFERENCE;
+        for (BibEntry entry : entries) {
+            footprint += ENTRY;
+            for (String value : entry.getFieldValues()) {
+                footprint += FIELD + ofUnshared(value);
+            }
+        }
+        return footprint;
+    }
+}
@@ -0,0 +1,427 @@
+package org.jabref.gui.undo;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import javax.swing.undo.UndoableEdit;
+
+import org.jabref.gui.FallbackExceptionHandler;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Temporary on-disk store for old edits of the undo history, so that they do not occupy memory until they are undone.
+ * Each edit is written to a file of its own, which is deleted as soon as the edit is loaded again or discarded. The
+ * files are written by a background thread, so that storing an edit does not block the caller (usually the JavaFX
+ * thread). Until its file is written, an edit is kept in memory in its compact stored form.
+ * <p>
+ * Only edits consisting of changes to entries (see {@link #isSpillable(UndoableEdit)}) can be stored. Entries are
+ * referred to by their id. As edits are undone in order, an entry changed by a stored edit is part of the library (or
+ * of an edit in memory) again when the stored edit is undone. Entries which were removed from the library are stored
+ * completely and are recreated if they are not in use anymore.
+ */
+class UndoSpillStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UndoSpillStore.class);
+
+    private static final byte COMPOUND = 1;
+    private static final byte FIELD_CHANGE = 2;
+    private static final byte KEY_CHANGE = 3;
+    private static final byte CHANGE_TYPE = 4;
+    private static final byte INSERT_ENTRIES = 5;
+    private static final byte REMOVE_ENTRIES = 6;
+
+    /**
+     * The libraries referred to by stored edits, by their number in the stored edits. They are only weakly referenced,
+     * so that closed libraries are freed. Numbers are not reused, so that an edit of a freed library cannot be applied
+     * to another library.
+     */
+    private final List<WeakReference<BibDatabase>> databases = new ArrayList<>();
+
+    /**
+     * The entries referred to by stored edits. They are only weakly referenced, so that entries which are not in use
+     * anymore are freed.
+     */
+    private final Map<String, BibEntry> entriesById = new MapMaker().weakValues().makeMap();
+
+    private final ExecutorService fileWriter = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r);
+        thread.setName("JabRef UndoSpillStore");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+        return thread;
+    });
+
+    private Path directory;
+    private long size;
+    private boolean closed;
+
+    /**
+     * A stored edit
+     */
+    static class SpilledEdit {
+        private final long size;
+
+        /**
+         * The stored form of the edit until it is written to {@link #file}
+         */
+        private byte[] content;
+        private Path file;
+        private boolean deleted;
+
+        private SpilledEdit(byte[] content) {
+            this.content = content;
+            this.size = content.length;
+        }
+    }
+
+    static boolean isSpillable(UndoableEdit edit) {
+        if (edit instanceof NamedCompound) {
+            NamedCompound compound = (NamedCompound) edit;
+            return !compound.isInProgress() && compound.getEdits().stream().allMatch(UndoSpillStore::isSpillable);
+        }
+        return (edit instanceof UndoableFieldChange)
+                || (edit instanceof UndoableKeyChange)
+                || (edit instanceof UndoableChangeType)
+                || (edit instanceof UndoableInsertEntries)
+                || (edit instanceof UndoableRemoveEntries);
+    }
+
+    /**
+     * Stores the edit. The edit has to be spillable and in the done state. Its file is written in the background.
+     */
+    SpilledEdit spill(UndoableEdit edit) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IOException("The undo store is closed");
+                }
+                write(out, edit);
+            }
+        }
+
+        SpilledEdit spilled = new SpilledEdit(buffer.toByteArray());
+        synchronized (this) {
+            size += spilled.size;
+        }
+        fileWriter.execute(() -> writeFile(spilled));
+        return spilled;
+    }
+
+    /**
+     * Reads the stored edit and deletes its file
+     */
+    synchronized UndoableEdit load(SpilledEdit spilled) throws IOException {
+        UndoableEdit edit;
+        InputStream stored = (spilled.content != null) ? new ByteArrayInputStream(spilled.content) : Files.newInputStream(spilled.file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(stored))) {
+            edit = read(in);
+        }
+        delete(spilled);
+        return edit;
+    }
+
+    /**
+     * Deletes the stored edit, e.g., because it was discarded from the undo history
+     */
+    synchronized void delete(SpilledEdit spilled) throws IOException {
+        if (spilled.deleted) {
+            return;
+        }
+        spilled.deleted = true;
+        spilled.content = null;
+        size -= spilled.size;
+        if (spilled.file != null) {
+            Files.deleteIfExists(spilled.file);
+        }
+    }
+
+    /**
+     * Stops writing edits and deletes the files of all stored edits. Stored edits cannot be loaded anymore.
+     */
+    void close() {
+        fileWriter.shutdownNow();
+        synchronized (this) {
+            closed = true;
+            if (directory == null) {
+                return;
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete the temporary undo store {}", directory, e);
+            }
+        }
+    }
+
+    private void writeFile(SpilledEdit spilled) {
+        byte[] content;
+        Path file;
+        synchronized (this) {
+            if (spilled.deleted || closed) {
+                return;
+            }
+            content = spilled.content;
+            try {
+                file = Files.createTempFile(getDirectory(), "edit", ".bin");
+            } catch (IOException e) {
+                LOGGER.warn("Could not move edit to the temporary undo store, keeping it in memory", e);
+                return;
+            }
+        }
+
+        try {
+            Files.write(file, content);
+        } catch (IOException e) {
+            LOGGER.warn("Could not move edit to the temporary undo store, keeping it in memory", e);
+            deleteQuietly(file);
+            return;
+        }
+
+        synchronized (this) {
+            if (spilled.deleted || closed) {
+                // Undone or discarded while it was written
+                deleteQuietly(file);
+                return;
+            }
+            spilled.file = file;
+            spilled.content = null;
+        }
+    }
+
+    private Path getDirectory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("jabref-undo");
+        }
+        return directory;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete {}", file, e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes occupied by the stored edits, including the ones whose files are not written yet
+     */
+    synchronized long getSize() {
+        return size;
+    }
+
+    private void write(DataOutputStream out, UndoableEdit edit) throws IOException {
+        if (edit instanceof NamedCompound) {
+            NamedCompound compound = (NamedCompound) edit;
+            out.writeByte(COMPOUND);
+            writeString(out, compound.getName());
+            out.writeInt(compound.getEdits().size());
+            for (UndoableEdit child : compound.getEdits()) {
+                write(out, child);
+            }
+        } else if (edit instanceof UndoableFieldChange) {
+            UndoableFieldChange change = (UndoableFieldChange) edit;
+            out.writeByte(FIELD_CHANGE);
+            writeEntryReference(out, change.getEntry());
+            writeString(out, change.getField().getName());
+            writeNullableString(out, change.getOldValue());
+            writeNullableString(out, change.getNewValue());
+        } else if (edit instanceof UndoableKeyChange) {
+            UndoableKeyChange change = (UndoableKeyChange) edit;
+            out.writeByte(KEY_CHANGE);
+            writeEntryReference(out, change.getEntry());
+            writeNullableString(out, change.getOldValue());
+            writeNullableString(out, change.getNewValue());
+        } else if (edit instanceof UndoableChangeType) {
+            UndoableChangeType change = (UndoableChangeType) edit;
+            out.writeByte(CHANGE_TYPE);
+            writeEntryReference(out, change.getEntry());
+            writeString(out, change.getOldType().getName());
+            writeString(out, change.getNewType().getName());
+        } else if (edit instanceof UndoableInsertEntries) {
+            UndoableInsertEntries insertion = (UndoableInsertEntries) edit;
+            out.writeByte(INSERT_ENTRIES);
+            writeEntries(out, insertion.getDatabase(), insertion.getEntries(), insertion.isPaste());
+        } else if (edit instanceof UndoableRemoveEntries) {
+            UndoableRemoveEntries removal = (UndoableRemoveEntries) edit;
+            out.writeByte(REMOVE_ENTRIES);
+            writeEntries(out, removal.getDatabase(), removal.getEntries(), removal.isCut());
+        } else {
+            throw new IOException("Edit cannot be stored: " + edit.getClass().getName());
+        }
+    }
+
+    private UndoableEdit read(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case COMPOUND -> {
+                NamedCompound compound = new NamedCompound(readString(in));
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    compound.addEdit(read(in));
+                }
+                compound.end();
+                return compound;
+            }
+            case FIELD_CHANGE -> {
+                BibEntry entry = readEntryReference(in);
+                Field field = FieldFactory.parseField(readString(in));
+                return new UndoableFieldChange(entry, field, readNullableString(in), readNullableString(in));
+            }
+            case KEY_CHANGE -> {
+                BibEntry entry = readEntryReference(in);
+                return new UndoableKeyChange(entry, readNullableString(in), readNullableString(in));
+            }
+            case CHANGE_TYPE -> {
+                BibEntry entry = readEntryReference(in);
+                return new UndoableChangeType(entry, EntryTypeFactory.parse(readString(in)), EntryTypeFactory.parse(readString(in)));
+            }
+            case INSERT_ENTRIES -> {
+                BibDatabase database = readDatabaseReference(in);
+                boolean paste = in.readBoolean();
+                return new UndoableInsertEntries(database, readEntries(in), paste);
+            }
+            case REMOVE_ENTRIES -> {
+                BibDatabase database = readDatabaseReference(in);
+                boolean cut = in.readBoolean();
+                return new UndoableRemoveEntries(database, readEntries(in), cut);
+            }
+            default -> throw new IOException("Unknown edit type " + type);
+        }
+    }
+
+    private void writeEntryReference(DataOutputStream out, BibEntry entry) throws IOException {
+        entriesById.put(entry.getId(), entry);
+        writeString(out, entry.getId());
+    }
+
+    private BibEntry readEntryReference(DataInputStream in) throws IOException {
+        String id = readString(in);
+        BibEntry entry = entriesById.get(id);
+        if (entry == null) {
+            throw new IOException("Entry " + id + " changed by the edit is not available anymore");
+        }
+        return entry;
+    }
+
+    private void writeEntries(DataOutputStream out, BibDatabase database, List<BibEntry> entries, boolean flag) throws IOException {
+        int databaseIndex = indexOf(database);
+        if (databaseIndex == -1) {
+            databaseIndex = databases.size();
+            databases.add(new WeakReference<>(database));
+        }
+        out.writeInt(databaseIndex);
+        out.writeBoolean(flag);
+        out.writeInt(entries.size());
+        for (BibEntry entry : entries) {
+            entriesById.put(entry.getId(), entry);
+            writeString(out, entry.getId());
+            writeString(out, entry.getType().getName());
+            writeString(out, entry.getUserComments());
+            Map<Field, String> fields = entry.getFieldMap();
+            out.writeInt(fields.size());
+            for (Map.Entry<Field, String> field : fields.entrySet()) {
+                writeString(out, field.getKey().getName());
+                writeString(out, field.getValue());
+            }
+        }
+    }
+
+    private BibDatabase readDatabaseReference(DataInputStream in) throws IOException {
+        int databaseIndex = in.readInt();
+        BibDatabase database = databases.get(databaseIndex).get();
+        if (database == null) {
+            throw new IOException("Library " + databaseIndex + " changed by the edit is not available anymore");
+        }
+        return database;
+    }
+
+    private List<BibEntry> readEntries(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<BibEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = readString(in);
+            String type = readString(in);
+            String comments = readString(in);
+            int fieldCount = in.readInt();
+            BibEntry entry = entriesById.get(id);
+            boolean recreate = entry == null;
+            if (recreate) {
+                entry = new BibEntry(EntryTypeFactory.parse(type));
+                entry.setId(id);
+                entry.setCommentsBeforeEntry(comments);
+            }
+            for (int j = 0; j < fieldCount; j++) {
+                Field field = FieldFactory.parseField(readString(in));
+                String value = readString(in);
+                if (recreate) {
+                    entry.setField(field, value);
+                }
+            }
+            if (recreate) {
+                entriesById.put(id, entry);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private int indexOf(BibDatabase database) {
+        for (int i = 0; i < databases.size(); i++) {
+            if (databases.get(i).get() == database) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -25,6 +25,23 @@ public class UndoableChangeType extends AbstractUndoableJabRefEdit {
         this.entry = entry;
     }
 
+    BibEntry getEntry() {
+        return entry;
+    }
+
+    EntryType getOldType() {
+        return oldType;
+    }
+
+    EntryType getNewType() {
+        return newType;
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        return UndoFootprint.OBJECT + 3 * UndoFootprint.REFERENCE;
+    }
+
     @Override
     public String getPresentationName() {
         return Localization.lang("change type of entry %0 from %1 to %2",
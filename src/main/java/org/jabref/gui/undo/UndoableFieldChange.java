@@ -4,6 +4,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringDeduplicator;
 import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
@@ -13,31 +14,109 @@ import org.slf4j.LoggerFactory;
  * This class represents a change in any field value. The relevant
  * information is the BibEntry, the field name, the old and the
  * new value. Old/new values can be null.
+ * <p>
+ * Short values are deduplicated, so that they share the instance used by the entries. Long values (e.g., abstracts)
+ * mostly differ in a small part only (e.g., after a cleanup). Thus, the old value is stored as the part differing from
+ * the new value if this is considerably shorter.
  */
 public class UndoableFieldChange extends AbstractUndoableJabRefEdit {
     private static final Logger LOGGER = LoggerFactory.getLogger(UndoableFieldChange.class);
 
+    /**
+     * Values shorter than this are stored completely
+     */
+    private static final int MIN_DIFF_LENGTH = 64;
+
     private final BibEntry entry;
     private final Field field;
-    private final String oldValue;
     private final String newValue;
 
+    /**
+     * The old value, or the part of it replaced by {@link #newValue} if {@link #diffed} is set
+     */
+    private final String oldValuePart;
+    private final int commonPrefixLength;
+    private final int commonSuffixLength;
+    private final boolean diffed;
+
     public UndoableFieldChange(BibEntry entry, Field field, String oldValue, String newValue) {
         this.entry = entry;
         this.field = field;
-        this.oldValue = oldValue;
-        this.newValue = newValue;
+        this.newValue = newValue == null ? null : StringDeduplicator.deduplicate(newValue);
+
+        if ((oldValue == null) || (newValue == null) || (oldValue.length() < MIN_DIFF_LENGTH) || (newValue.length() < MIN_DIFF_LENGTH)) {
+            this.oldValuePart = oldValue == null ? null : StringDeduplicator.deduplicate(oldValue);
+            this.commonPrefixLength = 0;
+            this.commonSuffixLength = 0;
+            this.diffed = false;
+            return;
+        }
+
+        int maxCommonLength = Math.min(oldValue.length(), newValue.length());
+        int prefixLength = 0;
+        while ((prefixLength < maxCommonLength) && (oldValue.charAt(prefixLength) == newValue.charAt(prefixLength))) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while ((suffixLength < (maxCommonLength - prefixLength))
+                && (oldValue.charAt(oldValue.length() - 1 - suffixLength) == newValue.charAt(newValue.length() - 1 - suffixLength))) {
+            suffixLength++;
+        }
+
+        int differingLength = oldValue.length() - prefixLength - suffixLength;
+        this.diffed = differingLength < (oldValue.length() / 2);
+        if (diffed) {
+            this.oldValuePart = oldValue.substring(prefixLength, prefixLength + differingLength);
+            this.commonPrefixLength = prefixLength;
+            this.commonSuffixLength = suffixLength;
+        } else {
+            this.oldValuePart = oldValue;
+            this.commonPrefixLength = 0;
+            this.commonSuffixLength = 0;
+        }
     }
 
     public UndoableFieldChange(FieldChange change) {
         this(change.getEntry(), change.getField(), change.getOldValue(), change.getNewValue());
     }
 
+    BibEntry getEntry() {
+        return entry;
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    String getOldValue() {
+        if (!diffed) {
+            return oldValuePart;
+        }
+        return newValue.substring(0, commonPrefixLength) + oldValuePart + newValue.substring(newValue.length() - commonSuffixLength);
+    }
+
+    String getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        long footprint = UndoFootprint.OBJECT + 4 * UndoFootprint.REFERENCE + 2 * Integer.BYTES;
+        // Deduplicated values are shared with the entries and are not counted
+        if (diffed) {
+            footprint += UndoFootprint.of(oldValuePart);
+        } else {
+            footprint += UndoFootprint.ofUnshared(oldValuePart);
+        }
+        footprint += UndoFootprint.ofUnshared(newValue);
+        return footprint;
+    }
+
     @Override
     public String getPresentationName() {
         return Localization.lang("change field %0 of entry %1 from %2 to %3", StringUtil.boldHTML(field.getDisplayName()),
                 StringUtil.boldHTML(entry.getCitationKey().orElse(Localization.lang("undefined"))),
-                StringUtil.boldHTML(oldValue, Localization.lang("undefined")),
+                StringUtil.boldHTML(getOldValue(), Localization.lang("undefined")),
                 StringUtil.boldHTML(newValue, Localization.lang("undefined")));
     }
 
@@ -47,6 +126,7 @@ public class UndoableFieldChange extends AbstractUndoableJabRefEdit {
 
         // Revert the change.
         try {
+            String oldValue = getOldValue();
             if (oldValue == null) {
                 entry.clearField(field);
             } else {
@@ -37,6 +37,24 @@ public class UndoableInsertEntries extends AbstractUndoableJabRefEdit {
         this.paste = paste;
     }
 
+    BibDatabase getDatabase() {
+        return database;
+    }
+
+    List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    boolean isPaste() {
+        return paste;
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        // The inserted entries are part of the library
+        return UndoFootprint.OBJECT + entries.size() * UndoFootprint.REFERENCE;
+    }
+
     @Override
     public String getPresentationName() {
         if (paste) {
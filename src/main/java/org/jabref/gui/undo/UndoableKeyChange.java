@@ -26,6 +26,23 @@ public class UndoableKeyChange extends AbstractUndoableJabRefEdit {
         this.newValue = newValue;
     }
 
+    BibEntry getEntry() {
+        return entry;
+    }
+
+    String getOldValue() {
+        return oldValue;
+    }
+
+    String getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        return UndoFootprint.OBJECT + 3 * UndoFootprint.REFERENCE;
+    }
+
     @Override
     public String getPresentationName() {
         return Localization.lang("change key from %0 to %1",
@@ -40,6 +40,23 @@ public class UndoableRemoveEntries extends AbstractUndoableJabRefEdit {
         this.cut = cut;
     }
 
+    BibDatabase getDatabase() {
+        return base;
+    }
+
+    List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    boolean isCut() {
+        return cut;
+    }
+
+    @Override
+    public long getMemoryFootprint() {
+        return UndoFootprint.OBJECT + UndoFootprint.ofEntries(entries);
+    }
+
     @Override
     public String getPresentationName() {
         if (cut) {
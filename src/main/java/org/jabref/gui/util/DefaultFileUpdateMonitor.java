@@ -32,6 +32,7 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
     private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    private final Multimap<Path, FileUpdateListener> directoryListeners = ArrayListMultimap.create();
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private Optional<JabRefException> filesystemMonitorFailure;
@@ -62,6 +63,12 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
                         Path path = ((Path) key.watchable()).resolve(ev.context());
                         notifyAboutChange(path);
+                        notifyAboutChangeInDirectory(path);
+                    } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                        @SuppressWarnings("unchecked")
+                        WatchEvent<Path> ev = (WatchEvent<Path>) event;
+                        // Listeners for files are only interested in their content
+                        notifyAboutChangeInDirectory(((Path) key.watchable()).resolve(ev.context()));
                     }
                     key.reset();
                 }
@@ -83,19 +90,38 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         listeners.get(path).forEach(FileUpdateListener::fileUpdated);
     }
 
+    private void notifyAboutChangeInDirectory(Path path) {
+        directoryListeners.get(path.getParent()).forEach(FileUpdateListener::fileUpdated);
+    }
+
     @Override
     public void addListenerForFile(Path file, FileUpdateListener listener) throws IOException {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            register(directory);
             listeners.put(file, listener);
         }
     }
 
+    @Override
+    public void addListenerForDirectory(Path directory, FileUpdateListener listener) throws IOException {
+        if (isActive()) {
+            Path absoluteDirectory = directory.toAbsolutePath();
+            register(absoluteDirectory);
+            directoryListeners.put(absoluteDirectory, listener);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        // Registering a directory again replaces its events, so all directories are registered for the same events
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
         listeners.remove(path, listener);
+        directoryListeners.remove(path.toAbsolutePath(), listener);
     }
 
     @Override
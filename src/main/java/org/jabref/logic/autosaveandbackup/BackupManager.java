@@ -1,26 +1,49 @@
 package org.jabref.logic.autosaveandbackup;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
@@ -32,6 +55,11 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * The changes of entries are appended to a {@link ChangeJournal} next to the library file. Changes which cannot be
+ * journaled (e.g., of groups or strings) and long journals lead to a checkpoint: the complete library is written to
+ * the .sav file and a new journal relative to that file is started. Restoring the backup replays the journal over the
+ * library file or the checkpoint.
  */
 public class BackupManager {
 
@@ -39,6 +67,10 @@ public class BackupManager {
 
     // This differs from org.jabref.logic.exporter.AtomicFileOutputStream.BACKUP_EXTENSION, which is used for copying the .bib away before overwriting on save.
     private static final String AUTOSAVE_FILE_EXTENSION = ".sav";
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    // A checkpoint is written as soon as the journal is larger than the file it is based on, but not before it reaches this size
+    private static final long MINIMUM_CHECKPOINT_SIZE = 1024 * 1024;
 
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
@@ -48,12 +80,30 @@ public class BackupManager {
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
 
+    // Serializes the writes to the journal and checkpoint files
+    private final Object writeLock = new Object();
+
+    // The entries of the base file which were not changed yet, by their id
+    private final Map<String, ChangeJournal.EntryOrigin> baseEntries = new HashMap<>();
+    // The numbers of the changed entries in the journal, by their id
+    private final Map<String, Integer> journaledEntries = new HashMap<>();
+    // The records which are not written yet. Subsequent changes of the same field replace each other.
+    private final Map<String, ChangeJournal.Record> pendingRecords = new LinkedHashMap<>();
+    private int nextJournalId;
+    private int nextRecordKey;
+    private long stringsAndPreambleFingerprint;
+    private long journalSize;
+    private long checkpointSize;
+    private boolean journalRestartRequested;
+    private boolean checkpointRequested;
+
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
         this.preferences = preferences;
-        this.throttler = new DelayTaskThrottler(15000);
+        this.throttler = new DelayTaskThrottler(1000);
 
+        restartJournal();
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
     }
@@ -62,6 +112,10 @@ public class BackupManager {
         return FileUtil.addExtension(originalPath, AUTOSAVE_FILE_EXTENSION);
     }
 
+    static Path getJournalPath(Path originalPath) {
+        return FileUtil.addExtension(originalPath, JOURNAL_FILE_EXTENSION);
+    }
+
     /**
      * Starts the BackupManager which is associated with the given {@link BibDatabaseContext}. As long as no database
      * file is present in {@link BibDatabaseContext}, the {@link BackupManager} will do nothing.
@@ -69,6 +123,12 @@ public class BackupManager {
      * @param bibDatabaseContext Associated {@link BibDatabaseContext}
      */
     public static BackupManager start(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, PreferencesService preferences) {
+        // Two managers of the same library would write to the same journal
+        Optional<BackupManager> runningInstance = getRunningInstance(bibDatabaseContext);
+        if (runningInstance.isPresent()) {
+            return runningInstance.get();
+        }
+
         BackupManager backupManager = new BackupManager(bibDatabaseContext, entryTypesManager, preferences);
         backupManager.startBackupTask();
         runningInstances.add(backupManager);
@@ -86,6 +146,24 @@ public class BackupManager {
         runningInstances.removeIf(instance -> instance.bibDatabaseContext == bibDatabaseContext);
     }
 
+    /**
+     * Has to be called after the given library was saved. The changes journaled so far are discarded and a new journal
+     * relative to the saved file is started. The journal file is replaced before this method returns, as replaying the
+     * old journal over the saved file would apply its changes twice (e.g., duplicate added entries).
+     *
+     * @param bibDatabaseContext Associated {@link BibDatabaseContext}
+     */
+    public static void notifySaved(BibDatabaseContext bibDatabaseContext) {
+        getRunningInstance(bibDatabaseContext).ifPresent(instance -> {
+            instance.restartJournal();
+            instance.flush();
+        });
+    }
+
+    private static Optional<BackupManager> getRunningInstance(BibDatabaseContext bibDatabaseContext) {
+        return runningInstances.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).findFirst();
+    }
+
     /**
      * Checks whether a backup file exists for the given database file. If it exists, it is checked whether it is
      * different from the original.
@@ -96,6 +174,22 @@ public class BackupManager {
      * the user checks the output.
      */
     public static boolean backupFileDiffers(Path originalPath) {
+        Path journalPath = getJournalPath(originalPath);
+        if (Files.exists(journalPath)) {
+            try {
+                if (ChangeJournal.hasRecords(journalPath)) {
+                    return true;
+                }
+                if (ChangeJournal.readBase(journalPath) == ChangeJournal.Base.LIBRARY) {
+                    return false;
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Could not read the change journal.", e);
+                // User has to investigate in this case
+                return true;
+            }
+        }
+
         Path backupPath = getBackupPath(originalPath);
         if (!Files.exists(backupPath) || Files.isDirectory(backupPath)) {
             return false;
@@ -111,16 +205,41 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup by replaying the change journal and overwriting the original file. Backups of older JabRef
+     * versions, which do not have a journal, are copied over the original file.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
+     * @return a description of the changes of each entry which could not be restored, because the entry was not found
+     * in the file the journal is based on (e.g., because the file was changed by another program)
      */
-    public static void restoreBackup(Path originalPath) {
+    public static List<String> restoreBackup(Path originalPath, PreferencesService preferences, BibEntryTypesManager entryTypesManager) {
         Path backupPath = getBackupPath(originalPath);
+        Path journalPath = getJournalPath(originalPath);
         try {
-            Files.copy(backupPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (!Files.exists(journalPath)) {
+                Files.copy(backupPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
+                return List.of();
+            }
+
+            Path basePath = ChangeJournal.readBase(journalPath) == ChangeJournal.Base.CHECKPOINT ? backupPath : originalPath;
+            ParserResult parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                    .importDatabase(basePath, preferences.getDefaultEncoding());
+            List<String> unrestoredChanges = ChangeJournal.replay(journalPath, parserResult.getDatabase());
+            if (!unrestoredChanges.isEmpty()) {
+                LOGGER.warn("The changes of {} entries could not be restored, because the entries were not found in {}", unrestoredChanges.size(), basePath);
+            }
+
+            Charset charset = parserResult.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
+            SavePreferences savePreferences = preferences.getSavePreferences()
+                                                         .withEncoding(charset);
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(originalPath, charset, true)) {
+                new BibtexDatabaseWriter(fileWriter, savePreferences, entryTypesManager)
+                        .saveDatabase(new BibDatabaseContext(parserResult.getDatabase(), parserResult.getMetaData()));
+            }
+            return unrestoredChanges;
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
+            return List.of();
         }
     }
 
@@ -128,16 +247,141 @@ public class BackupManager {
         return bibDatabaseContext.getDatabasePath().map(BackupManager::getBackupPath);
     }
 
+    /**
+     * Forgets all changes and uses the current entries as the base of the journal. The journal file is reset with the
+     * next backup or {@link #flush()}.
+     */
+    private void restartJournal() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        // Lock the database first, as it is locked before this manager is notified of added or removed entries
+        synchronized (database) {
+            synchronized (this) {
+                List<BibEntry> entries = database.getEntriesSnapshot();
+                rebase(entries, entries);
+                stringsAndPreambleFingerprint = ChangeJournal.fingerprintStringsAndPreamble(database);
+                checkpointSize = bibDatabaseContext.getDatabasePath().map(path -> {
+                    try {
+                        return Files.size(path);
+                    } catch (IOException e) {
+                        return 0L;
+                    }
+                }).orElse(0L);
+                journalRestartRequested = true;
+                checkpointRequested = false;
+            }
+        }
+    }
+
+    /**
+     * @param entries    the current entries
+     * @param baseCopies the entries as they are written to the base file, in the same order as the current entries
+     */
+    private void rebase(List<BibEntry> entries, List<BibEntry> baseCopies) {
+        List<ChangeJournal.EntryOrigin> origins = ChangeJournal.locateEntries(baseCopies);
+        baseEntries.clear();
+        for (int i = 0; i < entries.size(); i++) {
+            baseEntries.put(entries.get(i).getId(), origins.get(i));
+        }
+        journaledEntries.clear();
+        pendingRecords.clear();
+        nextJournalId = 0;
+        journalSize = ChangeJournal.HEADER_SIZE;
+    }
+
     private void performBackup(Path backupPath) {
-        try {
-            Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
-            SavePreferences savePreferences = preferences.getSavePreferences()
-                                                         .withEncoding(charset)
-                                                         .withMakeBackup(false);
-            new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager)
-                    .saveDatabase(bibDatabaseContext);
-        } catch (IOException e) {
-            logIfCritical(backupPath, e);
+        synchronized (writeLock) {
+            Path journalPath = getJournalPath(bibDatabaseContext.getDatabasePath().orElseThrow());
+            BibDatabaseContext checkpoint = null;
+            boolean restart;
+            List<ChangeJournal.Record> records;
+            BibDatabase database = bibDatabaseContext.getDatabase();
+            synchronized (database) {
+                synchronized (this) {
+                    if ((journalSize > Math.max(MINIMUM_CHECKPOINT_SIZE, checkpointSize))
+                            || (ChangeJournal.fingerprintStringsAndPreamble(database) != stringsAndPreambleFingerprint)) {
+                        checkpointRequested = true;
+                    }
+                    if (checkpointRequested) {
+                        checkpoint = prepareCheckpoint();
+                    }
+                    restart = journalRestartRequested;
+                    journalRestartRequested = false;
+                    records = new ArrayList<>(pendingRecords.values());
+                    pendingRecords.clear();
+                }
+            }
+
+            try {
+                if (checkpoint != null) {
+                    writeCheckpoint(backupPath, checkpoint);
+                    startJournalFile(journalPath, ChangeJournal.Base.CHECKPOINT);
+                } else if (restart) {
+                    Files.deleteIfExists(backupPath);
+                    startJournalFile(journalPath, ChangeJournal.Base.LIBRARY);
+                }
+                appendToJournalFile(journalPath, records);
+            } catch (IOException e) {
+                logIfCritical(backupPath, e);
+                // The journal does not match the state of this manager anymore. It is restarted by the next checkpoint.
+                deleteBackupFile(journalPath);
+                synchronized (this) {
+                    checkpointRequested = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the library and uses the copy as new base of the journal. The copy is written afterwards without blocking
+     * the changes of the library.
+     */
+    private BibDatabaseContext prepareCheckpoint() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        List<BibEntry> entries = database.getEntriesSnapshot();
+        List<BibEntry> copies = entries.stream().map(entry -> (BibEntry) entry.clone()).collect(Collectors.toList());
+        BibDatabase checkpoint = new BibDatabase(copies);
+        database.getStringValues().forEach(string -> checkpoint.addString((BibtexString) string.clone()));
+        database.getPreamble().ifPresent(checkpoint::setPreamble);
+
+        rebase(entries, copies);
+        stringsAndPreambleFingerprint = ChangeJournal.fingerprintStringsAndPreamble(checkpoint);
+        checkpointRequested = false;
+        return new BibDatabaseContext(checkpoint, bibDatabaseContext.getMetaData());
+    }
+
+    private void writeCheckpoint(Path backupPath, BibDatabaseContext checkpoint) throws IOException {
+        Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
+        SavePreferences savePreferences = preferences.getSavePreferences()
+                                                     .withEncoding(charset)
+                                                     .withMakeBackup(false)
+                                                     .withSaveInOriginalOrder(true);
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(backupPath, charset)) {
+            new BibtexDatabaseWriter(fileWriter, savePreferences, entryTypesManager).saveDatabase(checkpoint);
+        }
+        synchronized (this) {
+            checkpointSize = Files.size(backupPath);
+        }
+    }
+
+    private void startJournalFile(Path journalPath, ChangeJournal.Base base) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(journalPath))) {
+            ChangeJournal.writeHeader(out, base);
+        }
+    }
+
+    private void appendToJournalFile(Path journalPath, List<ChangeJournal.Record> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try (OutputStream file = Files.newOutputStream(journalPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            for (ChangeJournal.Record record : records) {
+                record.writeTo(out);
+            }
+            out.flush();
+            synchronized (this) {
+                journalSize += out.size();
+            }
         }
     }
 
@@ -155,16 +399,104 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        if (!event.isFilteredOut()) {
-            startBackupTask();
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (bibDatabaseContext.getDatabasePath().isEmpty()) {
+            return;
         }
+
+        if (event instanceof FieldChangedEvent) {
+            FieldChangedEvent fieldChange = (FieldChangedEvent) event;
+            journalFieldChange(fieldChange.getBibEntry(), fieldChange.getField(), fieldChange.getNewValue());
+        } else if (event instanceof EntriesChangedEvent) {
+            for (FieldChange fieldChange : ((EntriesChangedEvent) event).getFieldChanges()) {
+                journalFieldChange(fieldChange.getEntry(), fieldChange.getField(), fieldChange.getNewValue());
+            }
+        } else if (event instanceof EntriesAddedEvent) {
+            ((EntriesAddedEvent) event).getBibEntries().forEach(this::journalAddedEntry);
+        } else if (event instanceof EntriesRemovedEvent) {
+            ((EntriesRemovedEvent) event).getBibEntries().forEach(this::journalRemovedEntry);
+        } else {
+            // Changes of the meta data or the groups
+            checkpointRequested = true;
+        }
+
+        startBackupTask();
+    }
+
+    private void journalFieldChange(BibEntry entry, Field field, String newValue) {
+        if (field == InternalField.INTERNAL_ID_FIELD) {
+            return;
+        }
+        Optional<Integer> id = getJournalId(entry);
+        if (id.isEmpty()) {
+            return;
+        }
+
+        String key = id.get() + "\u0000" + field.getName();
+        // Keep the order of the records, as they may depend on each other
+        pendingRecords.remove(key);
+        if (field == InternalField.TYPE_HEADER) {
+            pendingRecords.put(key, ChangeJournal.setType(id.get(), newValue));
+        } else if (newValue == null) {
+            pendingRecords.put(key, ChangeJournal.clearField(id.get(), field));
+        } else {
+            pendingRecords.put(key, ChangeJournal.setField(id.get(), field, newValue));
+        }
+    }
+
+    private void journalAddedEntry(BibEntry entry) {
+        // The entry may be contained in a checkpoint taken while it was added
+        if (baseEntries.containsKey(entry.getId()) || journaledEntries.containsKey(entry.getId())) {
+            return;
+        }
+        int id = nextJournalId++;
+        journaledEntries.put(entry.getId(), id);
+        addPendingRecord(ChangeJournal.addEntry(id, entry));
+    }
+
+    private void journalRemovedEntry(BibEntry entry) {
+        getJournalId(entry).ifPresent(id -> {
+            journaledEntries.remove(entry.getId());
+            addPendingRecord(ChangeJournal.removeEntry(id));
+        });
+    }
+
+    /**
+     * Returns the number of the entry in the journal. If an entry of the base file is referenced for the first time, it
+     * is bound to a new number.
+     *
+     * @return the number, or empty if the entry is not part of the library
+     */
+    private Optional<Integer> getJournalId(BibEntry entry) {
+        Integer id = journaledEntries.get(entry.getId());
+        if (id != null) {
+            return Optional.of(id);
+        }
+        ChangeJournal.EntryOrigin origin = baseEntries.remove(entry.getId());
+        if (origin == null) {
+            return Optional.empty();
+        }
+        int newId = nextJournalId++;
+        journaledEntries.put(entry.getId(), newId);
+        addPendingRecord(ChangeJournal.bindEntry(newId, origin));
+        return Optional.of(newId);
+    }
+
+    private void addPendingRecord(ChangeJournal.Record record) {
+        pendingRecords.put(Integer.toString(nextRecordKey++), record);
     }
 
     private void startBackupTask() {
         throttler.schedule(() -> determineBackupPath().ifPresent(this::performBackup));
     }
 
+    /**
+     * Writes the pending changes immediately
+     */
+    void flush() {
+        determineBackupPath().ifPresent(this::performBackup);
+    }
+
     /**
      * Unregisters the BackupManager from the eventBus of {@link BibDatabaseContext} and deletes the backup file. This
      * method should only be used when closing a database/JabRef legally.
@@ -174,6 +506,7 @@ public class BackupManager {
         changeFilter.shutdown();
         throttler.shutdown();
         determineBackupPath().ifPresent(this::deleteBackupFile);
+        bibDatabaseContext.getDatabasePath().map(BackupManager::getJournalPath).ifPresent(this::deleteBackupFile);
     }
 
     private void deleteBackupFile(Path backupPath) {
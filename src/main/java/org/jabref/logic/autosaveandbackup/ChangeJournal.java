@@ -0,0 +1,354 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes the change journal of a library. The journal is an append-only file holding the changes made to a
+ * library since it was last saved (or since the last checkpoint, see {@link Base}). Thus, writing a backup only costs
+ * as much as the changes and not as much as the whole library.
+ * <p>
+ * Entries of the saved library are not stored in the journal. They are identified by a fingerprint of their content
+ * (and the number of entries with the same fingerprint before them). Before the first change of such an entry, a
+ * record binding the fingerprint to a number is written. Later records refer to the entry by this number only.
+ * <p>
+ * The file starts with a header, followed by the records. A record which was not written completely (e.g., because
+ * JabRef crashed) is ignored when the journal is replayed.
+ */
+class ChangeJournal {
+
+    /**
+     * The file the journal is applied to
+     */
+    enum Base {
+        /**
+         * The library file itself
+         */
+        LIBRARY,
+        /**
+         * The checkpoint file next to the library, holding the complete library at the time the journal was started
+         */
+        CHECKPOINT
+    }
+
+    static final int HEADER_SIZE = Integer.BYTES + 2;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeJournal.class);
+
+    private static final int MAGIC = 0x4A524A4C;
+    private static final byte VERSION = 1;
+
+    private static final byte BIND_ENTRY = 1;
+    private static final byte ADD_ENTRY = 2;
+    private static final byte REMOVE_ENTRY = 3;
+    private static final byte SET_FIELD = 4;
+    private static final byte CLEAR_FIELD = 5;
+    private static final byte SET_TYPE = 6;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ChangeJournal() {
+    }
+
+    /**
+     * A change which is appended to the journal
+     */
+    @FunctionalInterface
+    interface Record {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Locates an entry of the base file
+     */
+    static class EntryOrigin {
+        private final long fingerprint;
+        private final int ordinal;
+
+        EntryOrigin(long fingerprint, int ordinal) {
+            this.fingerprint = fingerprint;
+            this.ordinal = ordinal;
+        }
+    }
+
+    static void writeHeader(DataOutputStream out, Base base) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(base.ordinal());
+    }
+
+    static Record bindEntry(int id, EntryOrigin origin) {
+        return out -> {
+            out.writeByte(BIND_ENTRY);
+            out.writeInt(id);
+            out.writeLong(origin.fingerprint);
+            out.writeInt(origin.ordinal);
+        };
+    }
+
+    static Record addEntry(int id, BibEntry entry) {
+        String type = entry.getType().getName();
+        Map<Field, String> fields = new HashMap<>(entry.getFieldMap());
+        return out -> {
+            out.writeByte(ADD_ENTRY);
+            out.writeInt(id);
+            writeString(out, type);
+            out.writeInt(fields.size());
+            for (Map.Entry<Field, String> field : fields.entrySet()) {
+                writeString(out, field.getKey().getName());
+                writeString(out, field.getValue());
+            }
+        };
+    }
+
+    static Record removeEntry(int id) {
+        return out -> {
+            out.writeByte(REMOVE_ENTRY);
+            out.writeInt(id);
+        };
+    }
+
+    static Record setField(int id, Field field, String value) {
+        return out -> {
+            out.writeByte(SET_FIELD);
+            out.writeInt(id);
+            writeString(out, field.getName());
+            writeString(out, value);
+        };
+    }
+
+    static Record clearField(int id, Field field) {
+        return out -> {
+            out.writeByte(CLEAR_FIELD);
+            out.writeInt(id);
+            writeString(out, field.getName());
+        };
+    }
+
+    static Record setType(int id, String typeName) {
+        return out -> {
+            out.writeByte(SET_TYPE);
+            out.writeInt(id);
+            writeString(out, typeName);
+        };
+    }
+
+    /**
+     * Determines the origins of the given entries, which have to be in the order they are written to the base file.
+     * The origins are listed in the same order as the entries.
+     */
+    static List<EntryOrigin> locateEntries(List<BibEntry> entries) {
+        Map<Long, Integer> occurrences = new HashMap<>();
+        List<EntryOrigin> origins = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            long fingerprint = fingerprint(entry);
+            int ordinal = occurrences.merge(fingerprint, 1, Integer::sum) - 1;
+            origins.add(new EntryOrigin(fingerprint, ordinal));
+        }
+        return origins;
+    }
+
+    /**
+     * Computes a fingerprint of the strings and the preamble of the given database. These are not journaled, so a
+     * change of them requires a new checkpoint.
+     */
+    static long fingerprintStringsAndPreamble(BibDatabase database) {
+        long hash = FNV_OFFSET_BASIS;
+        List<BibtexString> strings = new ArrayList<>(database.getStringValues());
+        strings.sort(Comparator.comparing(BibtexString::getName));
+        for (BibtexString string : strings) {
+            hash = hash(hash, string.getName());
+            hash = hash(hash, string.getContent());
+        }
+        return hash(hash, database.getPreamble().orElse(""));
+    }
+
+    /**
+     * Computes a fingerprint of the type and the fields of the entry. Differences in whitespace and in the order of the
+     * fields are ignored, as these may change when the entry is written and parsed again.
+     */
+    private static long fingerprint(BibEntry entry) {
+        long hash = hash(FNV_OFFSET_BASIS, entry.getType().getName().toLowerCase(Locale.ROOT));
+        List<Map.Entry<Field, String>> fields = new ArrayList<>(entry.getFieldMap().entrySet());
+        fields.sort(Comparator.comparing(field -> field.getKey().getName().toLowerCase(Locale.ROOT)));
+        for (Map.Entry<Field, String> field : fields) {
+            if (field.getValue().isBlank()) {
+                continue;
+            }
+            hash = hash(hash, field.getKey().getName().toLowerCase(Locale.ROOT));
+            hash = hash(hash, field.getValue());
+        }
+        return hash;
+    }
+
+    /**
+     * FNV-1a hash of the text with all whitespace sequences collapsed, followed by a separator
+     */
+    private static long hash(long hash, String text) {
+        boolean pendingSpace = false;
+        boolean started = false;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (Character.isWhitespace(character)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = (hash ^ ' ') * FNV_PRIME;
+                pendingSpace = false;
+            }
+            started = true;
+            hash = (hash ^ character) * FNV_PRIME;
+        }
+        return (hash ^ 0xFFFF) * FNV_PRIME;
+    }
+
+    /**
+     * Reads the header of the journal.
+     *
+     * @throws IOException if the file could not be read or is no change journal
+     */
+    static Base readBase(Path journal) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journal))) {
+            return readHeader(in);
+        } catch (EOFException e) {
+            throw new IOException("Incomplete change journal " + journal, e);
+        }
+    }
+
+    static boolean hasRecords(Path journal) throws IOException {
+        return Files.size(journal) > HEADER_SIZE;
+    }
+
+    /**
+     * Applies the changes recorded in the journal to the given database, which has to be parsed from the base file.
+     *
+     * @return a description of the changes of each entry which could not be restored, because the entry was not found
+     * in the database
+     */
+    static List<String> replay(Path journal, BibDatabase database) throws IOException {
+        Map<Long, List<BibEntry>> entriesByFingerprint = new HashMap<>();
+        for (BibEntry entry : database.getEntriesSnapshot()) {
+            entriesByFingerprint.computeIfAbsent(fingerprint(entry), unused -> new ArrayList<>()).add(entry);
+        }
+
+        Map<Integer, BibEntry> entries = new HashMap<>();
+        // The changes of the entries not found, in the order of their first change
+        Map<Integer, List<String>> unrestoredChanges = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journal)))) {
+            readHeader(in);
+            while (true) {
+                int type = in.read();
+                if (type == -1) {
+                    break;
+                }
+                int id = in.readInt();
+                Optional<BibEntry> entry = Optional.ofNullable(entries.get(id));
+                Optional<List<String>> unrestored = Optional.ofNullable(unrestoredChanges.get(id));
+                switch (type) {
+                    case BIND_ENTRY -> {
+                        long fingerprint = in.readLong();
+                        int ordinal = in.readInt();
+                        List<BibEntry> candidates = entriesByFingerprint.getOrDefault(fingerprint, List.of());
+                        if (ordinal < candidates.size()) {
+                            entries.put(id, candidates.get(ordinal));
+                        } else {
+                            unrestoredChanges.put(id, new ArrayList<>());
+                        }
+                    }
+                    case ADD_ENTRY -> {
+                        BibEntry addedEntry = new BibEntry(EntryTypeFactory.parse(readString(in)));
+                        int fieldCount = in.readInt();
+                        for (int i = 0; i < fieldCount; i++) {
+                            addedEntry.setField(FieldFactory.parseField(readString(in)), readString(in));
+                        }
+                        database.insertEntry(addedEntry);
+                        entries.put(id, addedEntry);
+                    }
+                    case REMOVE_ENTRY -> {
+                        entries.remove(id);
+                        entry.ifPresent(database::removeEntry);
+                        unrestored.ifPresent(changes -> changes.add(Localization.lang("Removed entry")));
+                    }
+                    case SET_FIELD -> {
+                        Field field = FieldFactory.parseField(readString(in));
+                        String value = readString(in);
+                        entry.ifPresent(presentEntry -> presentEntry.setField(field, value));
+                        unrestored.ifPresent(changes -> changes.add(Localization.lang("Set '%0' to '%1'", field.getName(), value)));
+                    }
+                    case CLEAR_FIELD -> {
+                        Field field = FieldFactory.parseField(readString(in));
+                        entry.ifPresent(presentEntry -> presentEntry.clearField(field));
+                        unrestored.ifPresent(changes -> changes.add(Localization.lang("Cleared '%0'", field.getName())));
+                    }
+                    case SET_TYPE -> {
+                        String typeName = readString(in);
+                        entry.ifPresent(presentEntry -> presentEntry.setType(EntryTypeFactory.parse(typeName)));
+                        unrestored.ifPresent(changes -> changes.add(Localization.lang("Changed type to '%0'", typeName)));
+                    }
+                    default -> throw new IOException("Unknown record type " + type + " in change journal " + journal);
+                }
+            }
+        } catch (EOFException e) {
+            LOGGER.info("The last change in the journal {} was not written completely and is ignored", journal);
+        }
+        return unrestoredChanges.values().stream()
+                                .filter(changes -> !changes.isEmpty())
+                                .map(changes -> String.join(", ", changes))
+                                .collect(Collectors.toList());
+    }
+
+    private static Base readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a change journal");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported change journal version " + version);
+        }
+        int base = in.readByte();
+        if ((base < 0) || (base >= Base.values().length)) {
+            throw new IOException("Unknown change journal base " + base);
+        }
+        return Base.values()[base];
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.logic.bibtex.comparator;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.Optional;
@@ -23,7 +24,10 @@ import org.jabref.model.strings.StringUtil;
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
-    private static final Collator COLLATOR = getCollator();
+    /**
+     * Collators are synchronized, so each thread computing sort keys uses its own one
+     */
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(FieldComparator::getCollator);
 
     enum FieldType {
         NAME, TYPE, YEAR, MONTH, OTHER
@@ -84,65 +88,55 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+        return getSortKey(e1).compareTo(getSortKey(e2)) * multiplier;
+    }
+
+    /**
+     * Computes the sort keys of the given entries in parallel, so that sorting them afterwards only compares keys
+     */
+    public void computeSortKeys(Collection<BibEntry> entries) {
+        entries.parallelStream().forEach(this::getSortKey);
+    }
+
+    /**
+     * Returns the value compared for the given entry. The key is cached until a field of the entry changes.
+     */
+    FieldSortKey getSortKey(BibEntry entry) {
+        return SortKeyCache.get(entry, fields, this::computeSortKey);
+    }
 
+    private FieldSortKey computeSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
             // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
+            value = entry.getType().getDisplayName();
         } else {
-            // If the field is author or editor, we rearrange names so they are
-            // sorted according to last name.
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = getFieldValue(entry);
         }
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return multiplier;
-        } else if (f2 == null) {
-            return -multiplier;
+        if (value == null) {
+            return FieldSortKey.MISSING;
         }
 
-        // Now we know that both f1 and f2 are != null
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            // If the field is author or editor, we rearrange names so they are
+            // sorted according to last name.
+            value = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return FieldSortKey.ofNumber(StringUtil.intValueOfOptional(value).orElse(0));
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return FieldSortKey.ofNumber(Month.parse(value).map(Month::getNumber).orElse(-1));
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
-                // The first one was parsable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2.isPresent()) {
-                // The second one was parsable, but not the first one.
-                // This means we consider one > two
-                return multiplier;
+            Optional<Integer> number = StringUtil.intValueOfOptional(value);
+            if (number.isPresent()) {
+                // Parsable values are sorted before the others
+                return FieldSortKey.ofNumber(number.get());
             }
-            // Else none of them were parseable, and we can fall back on comparing strings.
+            // Else fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return FieldSortKey.ofText(COLLATOR.get().getCollationKey(value.toLowerCase(Locale.ENGLISH)));
     }
 }
@@ -0,0 +1,49 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.text.CollationKey;
+
+/**
+ * The value of an entry that is compared when sorting by a {@link FieldComparator}. It is computed once per entry and
+ * sort criterion, so that comparisons only compare numbers or collation keys.
+ * <p>
+ * Missing values are sorted last, numbers before texts.
+ */
+final class FieldSortKey implements Comparable<FieldSortKey> {
+
+    static final FieldSortKey MISSING = new FieldSortKey(true, false, 0, null);
+
+    private final boolean missing;
+    private final boolean hasNumber;
+    private final int number;
+    private final CollationKey text;
+
+    private FieldSortKey(boolean missing, boolean hasNumber, int number, CollationKey text) {
+        this.missing = missing;
+        this.hasNumber = hasNumber;
+        this.number = number;
+        this.text = text;
+    }
+
+    static FieldSortKey ofNumber(int number) {
+        return new FieldSortKey(false, true, number, null);
+    }
+
+    static FieldSortKey ofText(CollationKey text) {
+        return new FieldSortKey(false, false, 0, text);
+    }
+
+    @Override
+    public int compareTo(FieldSortKey other) {
+        if (missing || other.missing) {
+            return Boolean.compare(missing, other.missing);
+        }
+        if (hasNumber && other.hasNumber) {
+            return Integer.compare(number, other.number);
+        } else if (hasNumber) {
+            return -1;
+        } else if (other.hasNumber) {
+            return 1;
+        }
+        return text.compareTo(other.text);
+    }
+}
@@ -0,0 +1,51 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.OrFields;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches the sort keys of the entries, so that sorting the main table or a library to be saved computes them once per
+ * entry and sort criterion. The keys of an entry are dropped as soon as one of its fields changes.
+ * <p>
+ * The entries are weakly referenced and compared by identity.
+ */
+final class SortKeyCache {
+
+    private static final SortKeyCache INSTANCE = new SortKeyCache();
+
+    private final Cache<BibEntry, Map<OrFields, FieldSortKey>> keysOfEntries = CacheBuilder.newBuilder().weakKeys().build();
+
+    private SortKeyCache() {
+    }
+
+    static FieldSortKey get(BibEntry entry, OrFields fields, Function<BibEntry, FieldSortKey> keyComputation) {
+        return INSTANCE.getKeys(entry).computeIfAbsent(fields, key -> keyComputation.apply(entry));
+    }
+
+    private Map<OrFields, FieldSortKey> getKeys(BibEntry entry) {
+        try {
+            return keysOfEntries.get(entry, () -> {
+                // Registering again is ignored by the event bus of the entry
+                entry.registerListener(this);
+                return new ConcurrentHashMap<>();
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not create sort keys", e.getCause());
+        }
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        keysOfEntries.invalidate(event.getBibEntry());
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -114,12 +115,24 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(BibEntry entry) {
+        return generateKey(entry, database::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * Generate a citation key for the given {@link BibEntry}, where the occurrences of a key in the library are looked
+     * up using the given function instead of counting them in the library (e.g., when generating keys for all entries).
+     *
+     * @param entry          a {@link BibEntry}
+     * @param keyOccurrences returns the number of entries of the library having the given citation key
+     * @return a citation key based on the user's preferences
+     */
+    public String generateKey(BibEntry entry, ToLongFunction<String> keyOccurrences) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
         String newKey = createCitationKeyFromPattern(entry);
         newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        newKey = appendLettersToKey(newKey, currentKey, keyOccurrences);
 
         return cleanKey(newKey, unwantedCharacters);
     }
@@ -129,10 +142,11 @@ public class CitationKeyGenerator extends BracketedPattern {
      *
      * @param key    the new key
      * @param oldKey the old key
+     * @param keyOccurrences returns the number of entries having the given key
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+    private String appendLettersToKey(String key, String oldKey, ToLongFunction<String> keyOccurrences) {
+        long occurrences = keyOccurrences.applyAsLong(key);
 
         if (Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -153,7 +167,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = keyOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
@@ -9,7 +9,7 @@ public class CitationKeyPatternPreferences {
     }
 
     private final boolean shouldAvoidOverwriteCiteKey;
-    private boolean shouldWarnBeforeOverwriteCiteKey;
+    private final boolean shouldWarnBeforeOverwriteCiteKey;
     private final boolean shouldGenerateCiteKeysBeforeSaving;
     private final KeySuffix keySuffix;
     private final String keyPatternRegex;
@@ -47,9 +47,17 @@ public class CitationKeyPatternPreferences {
         return shouldWarnBeforeOverwriteCiteKey;
     }
 
-    public CitationKeyPatternPreferences withWarnBeforeOverwriteCiteKey(boolean shouldAvoidOverwriteCiteKey) {
-        this.shouldWarnBeforeOverwriteCiteKey = shouldAvoidOverwriteCiteKey;
-        return this;
+    public CitationKeyPatternPreferences withWarnBeforeOverwriteCiteKey(boolean newShouldWarnBeforeOverwriteCiteKey) {
+        return new CitationKeyPatternPreferences(
+                shouldAvoidOverwriteCiteKey,
+                newShouldWarnBeforeOverwriteCiteKey,
+                shouldGenerateCiteKeysBeforeSaving,
+                keySuffix,
+                keyPatternRegex,
+                keyPatternReplacement,
+                unwantedCharacters,
+                keyPattern,
+                keywordDelimiter);
     }
 
     public boolean shouldGenerateCiteKeysBeforeSaving() {
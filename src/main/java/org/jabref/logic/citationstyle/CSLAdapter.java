@@ -3,7 +3,9 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -30,12 +32,11 @@ import org.jbibtex.Key;
  * @apiNote The first call to {@link #makeBibliography} is expensive since the
  * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
  * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
+ * same style. Changing the output format is cheap. Use {@link CSLEnginePool} to keep one adapter per style.
  * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * synchronized calling. The main CSL engine under the hood is not thread-safe. Concurrent calls on the same adapter
+ * will pile up and are processed sequentially. To render different styles concurrently, {@link CSLEnginePool} holds
+ * several adapters.
  */
 public class CSLAdapter {
 
@@ -58,13 +59,13 @@ public class CSLAdapter {
     }
 
     /**
-     * Initialized the static CSL instance if needed.
+     * Initializes the CSL instance if needed.
      *
      * @param newStyle  journal style of the output
      * @param newFormat usually HTML or RTF.
      * @throws IOException An error occurred in the underlying JavaScript framework
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
+    synchronized void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
         if ((cslInstance == null) || !Objects.equals(newStyle, style)) {
             // lang and forceLang are set to the default values of other CSL constructors
             cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
@@ -85,6 +86,7 @@ public class CSLAdapter {
     private static class JabRefItemDataProvider implements ItemDataProvider {
 
         private final List<BibEntry> data = new ArrayList<>();
+        private final Map<String, BibEntry> dataByCitationKey = new HashMap<>();
 
         /**
          * Converts the {@link BibEntry} into {@link CSLItemData}.
@@ -113,14 +115,17 @@ public class CSLAdapter {
         public void setData(List<BibEntry> data) {
             this.data.clear();
             this.data.addAll(data);
+            // The engine retrieves every item by its id, thus a lookup map avoids quadratic runtime for large batches
+            this.dataByCitationKey.clear();
+            for (BibEntry entry : data) {
+                this.dataByCitationKey.putIfAbsent(entry.getCitationKey().orElse(""), entry);
+            }
         }
 
         @Override
         public CSLItemData retrieveItem(String id) {
-            return data.stream()
-                       .filter(entry -> entry.getCitationKey().orElse("").equals(id))
-                       .map(JabRefItemDataProvider::bibEntryToCSLItemData)
-                       .findFirst().orElse(null);
+            BibEntry entry = dataByCitationKey.get(id);
+            return entry == null ? null : bibEntryToCSLItemData(entry);
         }
 
         @Override
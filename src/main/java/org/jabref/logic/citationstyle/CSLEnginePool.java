@@ -0,0 +1,94 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Bounded pool of CSL engines, one per combination of citation style and output format.
+ * <p>
+ * Creating a CSL engine is expensive, since the underlying JavaScript engine has to load and compile the style. A
+ * single {@link CSLAdapter} would be re-instantiated whenever the style changes, e.g., if the preview renders with one
+ * style while an export uses another. The pool keeps one adapter per (style, output format), so engines are reused
+ * and different styles can be rendered concurrently. If the pool is full, the least recently used engine is evicted.
+ *
+ * @implNote Each engine is not thread-safe and thus serializes its callers (see {@link CSLAdapter}). Only the lookup
+ * in the pool is synchronized on the pool itself.
+ */
+public class CSLEnginePool {
+
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    private final Map<EngineKey, CSLAdapter> engines;
+
+    public CSLEnginePool() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    public CSLEnginePool(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The pool has to hold at least one engine");
+        }
+        // access-order, so that the eldest entry is the least recently used engine
+        this.engines = new LinkedHashMap<>(maximumSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EngineKey, CSLAdapter> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Creates the bibliography of all given entries in one invocation of the engine for the given style and format.
+     */
+    public List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) throws IOException, IllegalArgumentException {
+        return getEngine(style, outputFormat).makeBibliography(bibEntries, style, outputFormat);
+    }
+
+    /**
+     * Creates the engine for the given style and format (if not yet present), so that the first rendering with this
+     * style does not need to wait for the engine. Should be called from a background thread.
+     */
+    public void warmUp(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+        getEngine(style, outputFormat).initialize(style, outputFormat);
+    }
+
+    public synchronized int size() {
+        return engines.size();
+    }
+
+    synchronized CSLAdapter getEngine(String style, CitationStyleOutputFormat outputFormat) {
+        return engines.computeIfAbsent(new EngineKey(style, outputFormat), key -> new CSLAdapter());
+    }
+
+    private static class EngineKey {
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+
+        EngineKey(String style, CitationStyleOutputFormat outputFormat) {
+            this.style = Objects.requireNonNull(style);
+            this.outputFormat = Objects.requireNonNull(outputFormat);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            EngineKey other = (EngineKey) o;
+            return (outputFormat == other.outputFormat) && style.equals(other.style);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, outputFormat);
+        }
+    }
+}
@@ -13,12 +13,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses a {@link CSLEnginePool} to create output, so that several styles can be used
+ * concurrently without re-instantiating the engine.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLEnginePool CSL_ENGINE_POOL = new CSLEnginePool();
 
     private CitationStyleGenerator() {
     }
@@ -51,13 +52,15 @@ public class CitationStyleGenerator {
     }
 
     /**
-     * Generates the citation for multiple entries at once.
+     * Generates the citation for multiple entries at once. All entries are rendered in one invocation of the engine, thus
+     * this should be preferred over calling {@link #generateCitation(BibEntry, String, CitationStyleOutputFormat)} for
+     * each entry (e.g., when exporting).
      *
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            return CSL_ENGINE_POOL.makeBibliography(bibEntries, style, outputFormat);
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", ignored);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -74,4 +77,20 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Prepares the engines for the given styles, so that switching to one of these styles does not need to wait for the
+     * engine to be created. Only as many styles as the engine pool can hold are prepared.
+     *
+     * @implNote Creating the engines may take some time, better call it from outside the main thread.
+     */
+    public static void warmUp(List<CitationStyle> styles, CitationStyleOutputFormat outputFormat) {
+        for (CitationStyle style : styles.subList(0, Math.min(styles.size(), CSLEnginePool.DEFAULT_POOL_SIZE))) {
+            try {
+                CSL_ENGINE_POOL.warmUp(style.getSource(), outputFormat);
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("Could not prepare citation style {}", style.getTitle(), e);
+            }
+        }
+    }
 }
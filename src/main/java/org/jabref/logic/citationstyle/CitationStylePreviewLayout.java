@@ -21,6 +21,10 @@ public class CitationStylePreviewLayout implements PreviewLayout {
         return citationStyle.getTitle();
     }
 
+    public CitationStyle getCitationStyle() {
+        return citationStyle;
+    }
+
     public String getSource() {
         return citationStyle.getSource();
     }
@@ -0,0 +1,23 @@
+package org.jabref.logic.cleanup;
+
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * A cleanup job that is more efficient when cleaning up several entries at once, e.g., because it touches the file
+ * system.
+ */
+public interface BatchCleanupJob extends CleanupJob {
+
+    /**
+     * Cleanup the entries. The result is the same as cleaning up one entry after the other.
+     */
+    List<FieldChange> cleanup(List<BibEntry> entries);
+
+    @Override
+    default List<FieldChange> cleanup(BibEntry entry) {
+        return cleanup(List.of(entry));
+    }
+}
@@ -33,6 +33,29 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up the entries one job after the other. Jobs touching the linked files handle all entries at once.
+     */
+    public List<FieldChange> cleanup(CleanupPreset preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (CleanupJob job : jobs) {
+            if (job instanceof BatchCleanupJob) {
+                changes.addAll(((BatchCleanupJob) job).cleanup(entries));
+            } else {
+                for (BibEntry entry : entries) {
+                    changes.addAll(job.cleanup(entry));
+                }
+            }
+        }
+
+        return changes;
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreset preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
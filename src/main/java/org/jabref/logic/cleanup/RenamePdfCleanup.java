@@ -7,18 +7,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jabref.logic.externalfiles.LinkedFileBatchMover;
 import org.jabref.logic.externalfiles.LinkedFileHandler;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.LinkedFile;
-import org.jabref.model.util.OptionalUtil;
 import org.jabref.preferences.FilePreferences;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RenamePdfCleanup implements CleanupJob {
+public class RenamePdfCleanup implements BatchCleanupJob {
     private static final Logger LOGGER = LoggerFactory.getLogger(RenamePdfCleanup.class);
 
     private final BibDatabaseContext databaseContext;
@@ -32,31 +31,16 @@ public class RenamePdfCleanup implements CleanupJob {
     }
 
     @Override
-    public List<FieldChange> cleanup(BibEntry entry) {
-        List<LinkedFile> files = entry.getFiles();
-
-        boolean changed = false;
-        for (LinkedFile file : files) {
-            if (onlyRelativePaths && Path.of(file.getLink()).isAbsolute()) {
-                continue;
-            }
-
-            LinkedFileHandler fileHandler = new LinkedFileHandler(file, entry, databaseContext, filePreferences);
-            try {
-                boolean changedFile = fileHandler.renameToSuggestedName();
-                if (changedFile) {
-                    changed = true;
-                }
-            } catch (IOException exception) {
-                LOGGER.error("Error while renaming file {}", file.getLink(), exception);
-            }
+    public List<FieldChange> cleanup(List<BibEntry> entries) {
+        LinkedFileBatchMover mover = new LinkedFileBatchMover(databaseContext, filePreferences);
+        try {
+            return mover.move(entries,
+                    file -> !onlyRelativePaths || !Path.of(file.getLink()).isAbsolute(),
+                    (entry, file, oldFile) -> Optional.of(oldFile.resolveSibling(
+                            new LinkedFileHandler(file, entry, databaseContext, filePreferences).getSuggestedFileName())));
+        } catch (IOException exception) {
+            LOGGER.error("Error while renaming files, no file has been renamed", exception);
+            return Collections.emptyList();
         }
-
-        if (changed) {
-            Optional<FieldChange> changes = entry.setFiles(files);
-            return OptionalUtil.toList(changes);
-        }
-
-        return Collections.emptyList();
     }
 }
@@ -2,7 +2,6 @@ package org.jabref.logic.crawler;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 
 import org.jabref.logic.crawler.git.GitHandler;
 import org.jabref.logic.exporter.SavePreferences;
@@ -10,7 +9,6 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.study.QueryResult;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -39,14 +37,25 @@ public class Crawler {
         this.studyFetcher = new StudyFetcher(studyDatabaseToFetcherConverter.getActiveFetchers(), studyRepository.getSearchQueryStrings());
     }
 
+    Crawler(StudyRepository studyRepository, StudyFetcher studyFetcher) {
+        this.studyRepository = studyRepository;
+        this.studyFetcher = studyFetcher;
+    }
+
     /**
      * This methods performs the crawling of the active libraries defined in the study definition file.
      * This method also persists the results in the same folder the study definition file is stored in.
+     * <p>
+     * Before searching, the repository is updated from its remote, so that the results are merged into the latest state.
+     * <p>
+     * The result of each query on each library is persisted as soon as it is available. If a previous crawl was
+     * interrupted, the searches it already persisted are not repeated.
      *
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException {
-        List<QueryResult> results = studyFetcher.crawl();
-        studyRepository.persist(results);
+        studyRepository.startCrawl();
+        studyFetcher.crawl((query, fetcher) -> studyRepository.isSearched(query, fetcher.getName()), studyRepository::persistFetchResult);
+        studyRepository.finishCrawl();
     }
 }
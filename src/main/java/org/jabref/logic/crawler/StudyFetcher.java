@@ -1,8 +1,18 @@
 package org.jabref.logic.crawler;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.FetcherException;
@@ -19,17 +29,38 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * The searches of each E-Library are scheduled on a thread pool of their own, which runs at most
+ * {@value #MAX_CONCURRENT_QUERIES_PER_FETCHER} searches at the same time. Thus, a slow E-Library only delays its own
+ * searches and the other E-Libraries are not throttled. A search which does not finish within the search timeout is
+ * abandoned and treated as failed, so that a hanging E-Library does not block the crawl.
  */
 class StudyFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
+    private static final int MAX_CONCURRENT_QUERIES_PER_FETCHER = 2;
+    private static final Duration DEFAULT_SEARCH_TIMEOUT = Duration.ofMinutes(5);
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final Duration searchTimeout;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, DEFAULT_SEARCH_TIMEOUT);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, Duration searchTimeout) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.searchTimeout = searchTimeout;
+    }
+
+    /**
+     * Consumes the result of one query on one E-Library as soon as it is available.
+     */
+    @FunctionalInterface
+    interface FetchResultConsumer {
+        void accept(String searchQuery, FetchResult result) throws IOException;
     }
 
     /**
@@ -38,26 +69,118 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+        Map<String, List<FetchResult>> resultsPerQuery = new LinkedHashMap<>();
+        searchQueries.forEach(query -> resultsPerQuery.put(query, new ArrayList<>()));
+        try {
+            crawl((query, fetcher) -> false, (query, result) -> {
+                synchronized (resultsPerQuery) {
+                    resultsPerQuery.get(query).add(result);
+                }
+            });
+        } catch (IOException e) {
+            // The consumer above does not throw
+            throw new IllegalStateException(e);
+        }
+        return resultsPerQuery.entrySet().stream()
+                              .map(queryResults -> new QueryResult(queryResults.getKey(), sortByFetcher(queryResults.getValue())))
+                              .collect(Collectors.toList());
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    /**
+     * Searches all queries on all E-Libraries and passes each result to the consumer as soon as it is available. The
+     * consumer is never called concurrently.
+     *
+     * @param isCompleted    tells which searches were already done in an earlier crawl and are skipped
+     * @param resultConsumer receives the results of the searches. Searches of unavailable E-Libraries and searches
+     *                       exceeding the search timeout are not passed.
+     * @throws IOException if the consumer failed. The searches which are still running are cancelled.
+     */
+    public void crawl(BiPredicate<String, SearchBasedFetcher> isCompleted, FetchResultConsumer resultConsumer) throws IOException {
+        Map<SearchBasedFetcher, List<String>> queriesPerFetcher = new LinkedHashMap<>();
+        for (SearchBasedFetcher fetcher : activeFetchers) {
+            for (String searchQuery : searchQueries) {
+                if (isCompleted.test(searchQuery, fetcher)) {
+                    LOGGER.debug("Skipping {} on {}, it was searched before", searchQuery, fetcher.getName());
+                } else {
+                    queriesPerFetcher.computeIfAbsent(fetcher, key -> new ArrayList<>()).add(searchQuery);
+                }
+            }
+        }
+        if (queriesPerFetcher.isEmpty()) {
+            return;
+        }
+
+        // Runs the searches themselves, so that the schedulers of the fetchers can abandon searches which do not finish
+        ExecutorService searchExecutor = Executors.newCachedThreadPool(runnable -> newDaemonThread(runnable, "JabRef literature search"));
+        List<ExecutorService> schedulers = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            queriesPerFetcher.forEach((fetcher, queries) -> {
+                ExecutorService scheduler = Executors.newFixedThreadPool(Math.min(queries.size(), MAX_CONCURRENT_QUERIES_PER_FETCHER),
+                        runnable -> newDaemonThread(runnable, "JabRef literature search on " + fetcher.getName()));
+                schedulers.add(scheduler);
+                for (String searchQuery : queries) {
+                    futures.add(scheduler.submit(() -> {
+                        FetchResult result = performSearchWithTimeout(searchQuery, fetcher, searchExecutor);
+                        if (result != null) {
+                            synchronized (resultConsumer) {
+                                try {
+                                    resultConsumer.accept(searchQuery, result);
+                                } catch (IOException e) {
+                                    throw new CrawlFailedException(e);
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            });
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CrawlFailedException) {
+                throw ((CrawlFailedException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException("Literature search failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Literature search was interrupted", e);
+        } finally {
+            schedulers.forEach(ExecutorService::shutdownNow);
+            searchExecutor.shutdownNow();
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
     }
 
     /**
-     * Queries all Databases on the given searchQuery.
+     * Runs the search on the given executor and waits at most for the search timeout.
      *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * @return the result, or null if the search failed or did not finish in time
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    private FetchResult performSearchWithTimeout(String searchQuery, SearchBasedFetcher fetcher, ExecutorService searchExecutor) throws InterruptedException {
+        Future<FetchResult> search = searchExecutor.submit(() -> performSearchOnQueryForFetcher(searchQuery, fetcher));
+        try {
+            return search.get(searchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(String.format("Search of %s failed", fetcher.getName()), e.getCause());
+        } catch (TimeoutException e) {
+            search.cancel(true);
+            LOGGER.warn("{} did not answer the query {} within {} seconds", fetcher.getName(), searchQuery, searchTimeout.toSeconds());
+            return null;
+        }
+    }
+
+    private List<FetchResult> sortByFetcher(List<FetchResult> results) {
+        List<String> fetcherNames = activeFetchers.stream().map(SearchBasedFetcher::getName).collect(Collectors.toList());
+        results.sort((first, second) -> Integer.compare(fetcherNames.indexOf(first.getFetcherName()), fetcherNames.indexOf(second.getFetcherName())));
+        return results;
     }
 
     private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
@@ -77,4 +200,18 @@ class StudyFetcher {
             return null;
         }
     }
+
+    /**
+     * Carries the failure of the result consumer out of the search threads
+     */
+    private static class CrawlFailedException extends RuntimeException {
+        CrawlFailedException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
 }
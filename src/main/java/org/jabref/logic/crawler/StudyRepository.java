@@ -3,10 +3,16 @@ package org.jabref.logic.crawler;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -22,7 +28,10 @@ import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
 import org.jabref.model.study.Study;
@@ -47,6 +56,9 @@ class StudyRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyRepository.class);
     private static final Pattern MATCHCOLON = Pattern.compile(":");
     private static final Pattern MATCHILLEGALCHARACTERS = Pattern.compile("[^A-Za-z0-9_.\\s=-]");
+    // Lists the searches (query and fetcher) of an unfinished crawl, which are already persisted
+    private static final String CHECKPOINT_FILE_NAME = ".crawl-checkpoint";
+    private static final List<Field> IDENTIFIER_FIELDS = List.of(StandardField.DOI, StandardField.ISBN, StandardField.EPRINT);
 
     private final Path repositoryPath;
     private final Path studyDefinitionFile;
@@ -57,6 +69,7 @@ class StudyRepository {
     private final SavePreferences savePreferences;
     private final TimestampPreferences timestampPreferences;
     private final BibEntryTypesManager bibEntryTypesManager;
+    private final Set<String> completedSearches = new HashSet<>();
 
     /**
      * Creates a study repository.
@@ -97,6 +110,10 @@ class StudyRepository {
         }
         study = parseStudyFile();
         this.setUpRepositoryStructure();
+        if (Files.exists(getPathToCheckpointFile())) {
+            completedSearches.addAll(Files.readAllLines(getPathToCheckpointFile(), StandardCharsets.UTF_8));
+            LOGGER.info("Resuming crawl, {} searches were already done", completedSearches.size());
+        }
     }
 
     /**
@@ -161,14 +178,74 @@ class StudyRepository {
     }
 
     public void persist(List<QueryResult> crawlResults) throws IOException, GitAPIException {
+        startCrawl();
+        for (QueryResult result : crawlResults) {
+            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
+                persistFetchResult(result.getQuery(), fetcherResult);
+            }
+        }
+        finishCrawl();
+    }
+
+    /**
+     * Prepares a crawl: pulls the changes of the remote repository, so that the results of the crawl are merged into the
+     * latest state of the result files.
+     */
+    public synchronized void startCrawl() throws IOException {
         try {
             gitHandler.updateLocalRepository();
         } catch (GitAPIException e) {
             LOGGER.error("Updating repository from remote failed");
         }
-        persistResults(crawlResults);
+    }
+
+    /**
+     * Returns whether the given query was already searched on the given fetcher during a crawl that did not finish, e.g.,
+     * because JabRef was closed.
+     */
+    public synchronized boolean isSearched(String query, String fetcherName) {
+        return completedSearches.contains(getCheckpointKey(query, fetcherName));
+    }
+
+    /**
+     * Merges the result of one query on one fetcher into the result files of the fetcher, the query, and the study.
+     * Afterwards, the search is recorded in the checkpoint file, so that a crawl that is interrupted later on does not
+     * repeat it.
+     */
+    public synchronized void persistFetchResult(String query, FetchResult fetcherResult) throws IOException {
+        BibDatabase fetcherEntries = fetcherResult.getFetchResult();
+        BibDatabaseContext existingFetcherResult = getFetcherResultEntries(query, fetcherResult.getFetcherName());
+
+        // Create citation keys for all entries that do not have one
+        generateCiteKeys(existingFetcherResult, fetcherEntries);
+
+        // Merge new entries into fetcher result file
+        mergeEntries(existingFetcherResult.getDatabase(), fetcherEntries);
+        writeResultToFile(getPathToFetcherResultFile(query, fetcherResult.getFetcherName()), existingFetcherResult.getDatabase());
+
+        // Merge new entries into query result file
+        BibDatabase existingQueryEntries = getQueryResultEntries(query).getDatabase();
+        mergeEntries(existingQueryEntries, fetcherEntries);
+        writeResultToFile(getPathToQueryResultFile(query), existingQueryEntries);
+
+        // Merge new entries into study result file
+        BibDatabase existingStudyResultEntries = getStudyResultEntries().getDatabase();
+        mergeEntries(existingStudyResultEntries, fetcherEntries);
+        writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
+
+        String checkpointKey = getCheckpointKey(query, fetcherResult.getFetcherName());
+        completedSearches.add(checkpointKey);
+        Files.writeString(getPathToCheckpointFile(), checkpointKey + "\n", StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Completes the crawl: updates the date of the last search, removes the checkpoint and publishes the results.
+     */
+    public synchronized void finishCrawl() throws IOException {
         study.setLastSearchDate(LocalDate.now());
         persistStudy();
+        Files.deleteIfExists(getPathToCheckpointFile());
+        completedSearches.clear();
         try {
             gitHandler.updateRemoteRepository("Conducted search " + LocalDate.now());
         } catch (GitAPIException e) {
@@ -276,45 +353,34 @@ class StudyRepository {
     }
 
     /**
-     * Persists the crawling results in the local file based repository.
-     *
-     * @param crawlResults The results that shall be persisted.
+     * Merges the new entries into the target, ignoring duplicates. Entries sharing an identifier (DOI, ISBN, or
+     * eprint) with an entry of the target are recognized without the full (quadratic) duplicate check.
      */
-    private void persistResults(List<QueryResult> crawlResults) throws IOException {
-        DatabaseMerger merger = new DatabaseMerger(importFormatPreferences.getKeywordSeparator());
-        BibDatabase newStudyResultEntries = new BibDatabase();
-
-        for (QueryResult result : crawlResults) {
-            BibDatabase queryResultEntries = new BibDatabase();
-            for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
-                BibDatabase fetcherEntries = fetcherResult.getFetchResult();
-                BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
-
-                // Create citation keys for all entries that do not have one
-                generateCiteKeys(existingFetcherResult, fetcherEntries);
-
-                // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
-                // Aggregate each fetcher result into the query result
-                merger.merge(queryResultEntries, fetcherEntries);
-
-                writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult.getDatabase());
+    private void mergeEntries(BibDatabase target, BibDatabase newEntries) {
+        Set<String> knownIdentifiers = new HashSet<>();
+        target.getEntries().forEach(entry -> knownIdentifiers.addAll(getIdentifiers(entry)));
+
+        List<BibEntry> remainingEntries = new ArrayList<>();
+        for (BibEntry entry : newEntries.getEntries()) {
+            Set<String> identifiers = getIdentifiers(entry);
+            if (identifiers.stream().noneMatch(knownIdentifiers::contains)) {
+                knownIdentifiers.addAll(identifiers);
+                remainingEntries.add(entry);
             }
-            BibDatabase existingQueryEntries = getQueryResultEntries(result.getQuery()).getDatabase();
-
-            // Merge new entries into query result file
-            merger.merge(existingQueryEntries, queryResultEntries);
-            // Aggregate all new entries for every query into the study result
-            merger.merge(newStudyResultEntries, queryResultEntries);
-
-            writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
         }
-        BibDatabase existingStudyResultEntries = getStudyResultEntries().getDatabase();
-
-        // Merge new entries into study result file
-        merger.merge(existingStudyResultEntries, newStudyResultEntries);
+        DatabaseMerger merger = new DatabaseMerger(importFormatPreferences.getKeywordSeparator());
+        merger.merge(target, new BibDatabase(remainingEntries));
+        merger.mergeStrings(target, newEntries);
+    }
 
-        writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
+    private static Set<String> getIdentifiers(BibEntry entry) {
+        Set<String> identifiers = new HashSet<>();
+        for (Field field : IDENTIFIER_FIELDS) {
+            entry.getField(field)
+                 .map(value -> field.getName() + ":" + value.trim().toLowerCase(Locale.ROOT))
+                 .ifPresent(identifiers::add);
+        }
+        return identifiers;
     }
 
     private void generateCiteKeys(BibDatabaseContext existingEntries, BibDatabase targetEntries) {
@@ -337,6 +403,14 @@ class StudyRepository {
         return Path.of(repositoryPath.toString(), trimNameAndAddID(query), "result.bib");
     }
 
+    private Path getPathToCheckpointFile() {
+        return Path.of(repositoryPath.toString(), CHECKPOINT_FILE_NAME);
+    }
+
+    private String getCheckpointKey(String query, String fetcherName) {
+        return trimNameAndAddID(query) + "/" + fetcherName;
+    }
+
     private Path getPathToStudyResultFile() {
         return Path.of(repositoryPath.toString(), "studyResult.bib");
     }
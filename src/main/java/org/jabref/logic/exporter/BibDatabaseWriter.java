@@ -127,6 +127,11 @@ public abstract class BibDatabaseWriter {
         List<Comparator<BibEntry>> comparators = getSaveComparators(bibDatabaseContext.getMetaData(), preferences);
         FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
 
+        // The sort keys are cached, so the sort itself does not resolve fields or parse names again
+        comparators.stream()
+                   .filter(comparator -> comparator instanceof FieldComparator)
+                   .forEach(comparator -> ((FieldComparator) comparator).computeSortKeys(entriesToSort));
+
         List<BibEntry> sorted = new ArrayList<>(entriesToSort);
         sorted.sort(comparatorStack);
         return sorted;
@@ -158,7 +163,7 @@ public abstract class BibDatabaseWriter {
      * Saves the complete database.
      */
     public void saveDatabase(BibDatabaseContext bibDatabaseContext) throws IOException {
-        savePartOfDatabase(bibDatabaseContext, bibDatabaseContext.getDatabase().getEntries());
+        savePartOfDatabase(bibDatabaseContext, bibDatabaseContext.getDatabase().getEntriesSnapshot());
     }
 
     /**
@@ -187,8 +192,9 @@ public abstract class BibDatabaseWriter {
 
         // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
-        saveActionsFieldChanges.addAll(saveActionChanges);
+        // The listeners of the library are notified once about all changes made by the save actions
+        bibDatabaseContext.getDatabase().runInBatch(() ->
+                saveActionsFieldChanges.addAll(applySaveActions(sortedEntries, bibDatabaseContext.getMetaData())));
         if (preferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
             saveActionsFieldChanges.addAll(keyChanges);
@@ -14,12 +14,12 @@ public class SavePreferences {
     public static final String ENCODING_PREFIX = "Encoding: ";
 
     private final boolean reformatFile;
-    private boolean saveInOriginalOrder;
-    private SaveOrderConfig saveOrder;
-    private Charset encoding;
-    private boolean makeBackup;
-    private DatabaseSaveType saveType;
-    private boolean takeMetadataSaveOrderInAccount;
+    private final boolean saveInOriginalOrder;
+    private final SaveOrderConfig saveOrder;
+    private final Charset encoding;
+    private final boolean makeBackup;
+    private final DatabaseSaveType saveType;
+    private final boolean takeMetadataSaveOrderInAccount;
     private final FieldWriterPreferences fieldWriterPreferences;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
 
@@ -69,8 +69,16 @@ public class SavePreferences {
     }
 
     public SavePreferences withTakeMetadataSaveOrderInAccount(boolean newTakeMetadataSaveOrderInAccount) {
-        this.takeMetadataSaveOrderInAccount = newTakeMetadataSaveOrderInAccount;
-        return this;
+        return new SavePreferences(
+                saveInOriginalOrder,
+                saveOrder,
+                encoding,
+                makeBackup,
+                saveType,
+                newTakeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public SaveOrderConfig getSaveOrder() {
@@ -78,8 +86,16 @@ public class SavePreferences {
     }
 
     public SavePreferences withSaveOrder(SaveOrderConfig newSaveOrder) {
-        this.saveOrder = newSaveOrder;
-        return this;
+        return new SavePreferences(
+                saveInOriginalOrder,
+                newSaveOrder,
+                encoding,
+                makeBackup,
+                saveType,
+                takeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public boolean shouldSaveInOriginalOrder() {
@@ -87,8 +103,16 @@ public class SavePreferences {
     }
 
     public SavePreferences withSaveInOriginalOrder(Boolean newSaveInOriginalOrder) {
-        this.saveInOriginalOrder = newSaveInOriginalOrder;
-        return this;
+        return new SavePreferences(
+                newSaveInOriginalOrder,
+                saveOrder,
+                encoding,
+                makeBackup,
+                saveType,
+                takeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public boolean shouldMakeBackup() {
@@ -101,8 +125,16 @@ public class SavePreferences {
      * @param newMakeBackup whether a backup (.bak file) should be made
      */
     public SavePreferences withMakeBackup(Boolean newMakeBackup) {
-        this.makeBackup = newMakeBackup;
-        return this;
+        return new SavePreferences(
+                saveInOriginalOrder,
+                saveOrder,
+                encoding,
+                newMakeBackup,
+                saveType,
+                takeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public Charset getEncoding() {
@@ -110,8 +142,16 @@ public class SavePreferences {
     }
 
     public SavePreferences withEncoding(Charset newEncoding) {
-        this.encoding = newEncoding;
-        return this;
+        return new SavePreferences(
+                saveInOriginalOrder,
+                saveOrder,
+                newEncoding,
+                makeBackup,
+                saveType,
+                takeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public DatabaseSaveType getSaveType() {
@@ -119,8 +159,16 @@ public class SavePreferences {
     }
 
     public SavePreferences withSaveType(DatabaseSaveType newSaveType) {
-        this.saveType = newSaveType;
-        return this;
+        return new SavePreferences(
+                saveInOriginalOrder,
+                saveOrder,
+                encoding,
+                makeBackup,
+                newSaveType,
+                takeMetadataSaveOrderInAccount,
+                reformatFile,
+                fieldWriterPreferences,
+                citationKeyPatternPreferences);
     }
 
     public boolean shouldReformatFile() {
@@ -6,6 +6,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
@@ -14,8 +16,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutCache;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.util.FileType;
@@ -42,6 +47,9 @@ public class TemplateExporter extends Exporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // The built-in layout files are part of the JAR and do not change, thus they are read only once (empty if not existing)
+    private static final Map<String, Optional<String>> BUILT_IN_LAYOUT_TEXTS = new ConcurrentHashMap<>();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -204,14 +212,14 @@ public class TemplateExporter extends Exporter {
 
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
-            readFormatterFile();
+            // Layouts using these formatters depend on the formatter file and thus are not cached
+            boolean hasCustomNameFormatters = readFormatterFile();
 
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, hasCustomNameFormatters);
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -232,12 +240,7 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, hasCustomNameFormatters);
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
                 if (!missingFormatters.isEmpty()) {
@@ -255,10 +258,9 @@ public class TemplateExporter extends Exporter {
                 if (layouts.containsKey(type)) {
                     layout = layouts.get(type);
                 } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    try {
                         // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
+                        layout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, hasCustomNameFormatters);
                         layouts.put(type, layout);
                         if (layout != null) {
                             missingFormatters.addAll(layout.getMissingFormatters());
@@ -290,9 +292,8 @@ public class TemplateExporter extends Exporter {
 
             // changed section - begin (arudert)
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, hasCustomNameFormatters);
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
@@ -315,40 +316,87 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Returns the compiled layout stored in the given layout file.
+     * <p>
+     * Unless the layout depends on custom name formatters, the compiled layout is taken from the {@link LayoutCache}, so
+     * that it is reused by subsequent exports.
+     *
+     * @throws IOException if the layout file does not exist or could not be read
+     */
+    private Layout getLayout(String filename, boolean hasCustomNameFormatters) throws IOException {
+        String text = readLayoutText(filename);
+        if (hasCustomNameFormatters) {
+            return new LayoutHelper(new StringReader(text), layoutPreferences).getLayoutFromText();
+        }
+        return LayoutCache.getLayout(text, layoutPreferences);
+    }
+
+    private String readLayoutText(String filename) throws IOException {
+        if (customExport) {
+            // Custom layout files may be changed by the user at any time
+            return readFully(filename);
+        }
+
+        String name = LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+        Optional<String> text = BUILT_IN_LAYOUT_TEXTS.get(name);
+        if (text == null) {
+            try {
+                text = Optional.of(readFully(filename));
+            } catch (IOException ex) {
+                text = Optional.empty();
+            }
+            BUILT_IN_LAYOUT_TEXTS.put(name, text);
+        }
+        return text.orElseThrow(() -> new IOException("Cannot find layout file: '" + name + "'."));
+    }
+
+    private String readFully(String filename) throws IOException {
+        try (Reader reader = getReader(filename)) {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
+     *
+     * @return true if a name formatter file exists
      */
-    private void readFormatterFile() {
+    private boolean readFormatterFile() {
         File formatterFile = new File(lfFileName + FORMATTERS_EXTENSION);
-        if (formatterFile.exists()) {
-            try (Reader in = new FileReader(formatterFile)) {
-                // Ok, we found and opened the file. Read all contents:
-                StringBuilder sb = new StringBuilder();
-                int c;
-                while ((c = in.read()) != -1) {
-                    sb.append((char) c);
+        if (!formatterFile.exists()) {
+            return false;
+        }
+        try (Reader in = new FileReader(formatterFile)) {
+            // Ok, we found and opened the file. Read all contents:
+            StringBuilder sb = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1) {
+                sb.append((char) c);
+            }
+            String[] lines = sb.toString().split("\n");
+            // Go through each line:
+            for (String line1 : lines) {
+                String line = line1.trim();
+                // Do not deal with empty lines:
+                if (line.isEmpty()) {
+                    continue;
                 }
-                String[] lines = sb.toString().split("\n");
-                // Go through each line:
-                for (String line1 : lines) {
-                    String line = line1.trim();
-                    // Do not deal with empty lines:
-                    if (line.isEmpty()) {
-                        continue;
-                    }
-                    int index = line.indexOf(':'); // TODO: any need to accept escaped colons here?
-                    if ((index > 0) && ((index + 1) < line.length())) {
-                        String formatterName = line.substring(0, index);
-                        String contents = line.substring(index + 1);
-                        layoutPreferences.putCustomExportNameFormatter(formatterName, contents);
-                    }
+                int index = line.indexOf(':'); // TODO: any need to accept escaped colons here?
+                if ((index > 0) && ((index + 1) < line.length())) {
+                    String formatterName = line.substring(0, index);
+                    String contents = line.substring(index + 1);
+                    layoutPreferences.putCustomExportNameFormatter(formatterName, contents);
                 }
-            } catch (IOException ex) {
-                // TODO: show error message here?
-                LOGGER.warn("Problem opening formatter file.", ex);
             }
+        } catch (IOException ex) {
+            // TODO: show error message here?
+            LOGGER.warn("Problem opening formatter file.", ex);
         }
+        return true;
     }
 
     public String getLayoutFileName() {
@@ -0,0 +1,237 @@
+package org.jabref.logic.externalfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.OS;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.preferences.FilePreferences;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves or renames the linked files of many entries at once.
+ * <p>
+ * First, the target of each file is determined. Existing files are looked up in a single listing per target directory
+ * instead of probing each target, and files claimed by an earlier move of the batch count as existing. As in
+ * {@link LinkedFileHandler}, no file is overwritten: a file whose target is taken stays where it is. Then the files are
+ * moved on a few threads. If a move fails, the files moved so far are moved back and no link is changed. Otherwise, the
+ * links of all entries are updated.
+ */
+public class LinkedFileBatchMover {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFileBatchMover.class);
+
+    /**
+     * File directories are often located on network shares, which do not benefit from many concurrent requests
+     */
+    private static final int MAX_THREADS = 4;
+
+    @FunctionalInterface
+    public interface TargetResolver {
+        /**
+         * Returns the path the given file should be moved to, or an empty optional if it should stay where it is
+         */
+        Optional<Path> getTarget(BibEntry entry, LinkedFile file, Path currentPath);
+    }
+
+    private static class Move {
+        private final LinkedFile file;
+        private final Path source;
+        private final Path target;
+
+        Move(LinkedFile file, Path source, Path target) {
+            this.file = file;
+            this.source = source;
+            this.target = target;
+        }
+    }
+
+    private final BibDatabaseContext databaseContext;
+    private final FilePreferences filePreferences;
+
+    public LinkedFileBatchMover(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        this.databaseContext = databaseContext;
+        this.filePreferences = filePreferences;
+    }
+
+    /**
+     * Moves the linked files of the given entries to the targets returned by the resolver.
+     *
+     * @param filter selects the linked files to move
+     * @return the changes of the file fields of the entries whose files were moved
+     * @throws IOException if a file could not be moved. The files moved before are moved back in this case.
+     */
+    public List<FieldChange> move(List<BibEntry> entries, Predicate<LinkedFile> filter, TargetResolver resolver) throws IOException {
+        Map<BibEntry, List<LinkedFile>> filesOfEntries = new IdentityHashMap<>();
+        Map<BibEntry, List<Move>> movesOfEntries = new IdentityHashMap<>();
+        Map<Path, Set<String>> takenNames = new HashMap<>();
+        Set<Path> movedFiles = new HashSet<>();
+
+        for (BibEntry entry : entries) {
+            List<LinkedFile> files = entry.getFiles();
+            for (LinkedFile file : files) {
+                if (!filter.test(file)) {
+                    continue;
+                }
+                Optional<Path> source = file.findIn(databaseContext, filePreferences);
+                if (source.isEmpty()) {
+                    // Could not find file
+                    continue;
+                }
+                Optional<Path> target = resolver.getTarget(entry, file, source.get());
+                if (target.isEmpty() || !isFree(source.get(), target.get(), takenNames) || !movedFiles.add(source.get().toAbsolutePath().normalize())) {
+                    continue;
+                }
+
+                takenNames.get(target.get().getParent()).add(normalizeName(target.get().getFileName().toString()));
+                filesOfEntries.put(entry, files);
+                movesOfEntries.computeIfAbsent(entry, key -> new ArrayList<>()).add(new Move(file, source.get(), target.get()));
+            }
+        }
+        if (movesOfEntries.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        executeMoves(movesOfEntries.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+
+        List<Path> fileDirectories = databaseContext.getFileDirectories(filePreferences);
+        List<FieldChange> changes = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            List<Move> moves = movesOfEntries.get(entry);
+            if (moves == null) {
+                continue;
+            }
+            for (Move move : moves) {
+                move.file.setLink(FileUtil.relativize(move.target, fileDirectories).toString());
+            }
+            entry.setFiles(filesOfEntries.get(entry)).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
+    /**
+     * Checks whether the target is neither an existing file nor the target of another move of the batch
+     */
+    private boolean isFree(Path source, Path target, Map<Path, Set<String>> takenNames) {
+        if (source.equals(target)) {
+            return false;
+        }
+
+        Set<String> names = takenNames.computeIfAbsent(target.getParent(), this::listFileNames);
+        String targetName = target.getFileName().toString();
+        boolean pathsDifferOnlyByCase = source.getParent().equals(target.getParent())
+                && source.getFileName().toString().equalsIgnoreCase(targetName);
+        if (names.contains(normalizeName(targetName)) && !pathsDifferOnlyByCase) {
+            LOGGER.debug("The file {} would have been moved to {}. However, there exists already a file with that name so we do nothing.", source, target);
+            return false;
+        }
+        return true;
+    }
+
+    private Set<String> listFileNames(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return new HashSet<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> normalizeName(file.getFileName().toString())).collect(Collectors.toCollection(HashSet::new));
+        } catch (IOException e) {
+            LOGGER.error("Could not get the list of files in target directory", e);
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * File names differing only by case denote the same file on Windows and macOS
+     */
+    private static String normalizeName(String fileName) {
+        return (OS.WINDOWS || OS.OS_X) ? fileName.toLowerCase(Locale.ROOT) : fileName;
+    }
+
+    private void executeMoves(List<Move> moves) throws IOException {
+        List<Move> doneMoves = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(moves.size(), MAX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "JabRef file mover");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = moves.stream().map(move -> executor.submit(() -> {
+                Files.createDirectories(move.target.getParent());
+                // Fails if a file appeared at the target in the meantime
+                Files.move(move.source, move.target);
+                doneMoves.add(move);
+                return null;
+            })).collect(Collectors.toList());
+
+            IOException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = (e.getCause() instanceof IOException)
+                                ? (IOException) e.getCause()
+                                : new IOException("Could not move file", e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                rollback(doneMoves);
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            // Let the running moves finish before moving the files back
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ignored) {
+                // Move back what has been moved so far
+            }
+            rollback(doneMoves);
+            Thread.currentThread().interrupt();
+            throw new IOException("Moving files was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void rollback(List<Move> doneMoves) {
+        List<Move> movesToUndo;
+        synchronized (doneMoves) {
+            movesToUndo = new ArrayList<>(doneMoves);
+        }
+        Collections.reverse(movesToUndo);
+        for (Move move : movesToUndo) {
+            try {
+                Files.move(move.target, move.source);
+            } catch (IOException e) {
+                LOGGER.error("Could not move {} back to {}", move.target, move.source, e);
+            }
+        }
+    }
+}
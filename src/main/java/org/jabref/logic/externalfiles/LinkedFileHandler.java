@@ -40,26 +40,18 @@ public class LinkedFileHandler {
     }
 
     public boolean moveToDefaultDirectory() throws IOException {
-        Optional<Path> targetDirectory = databaseContext.getFirstExistingFileDir(filePreferences);
-        if (targetDirectory.isEmpty()) {
-            return false;
-        }
-
         Optional<Path> oldFile = fileEntry.findIn(databaseContext, filePreferences);
         if (oldFile.isEmpty()) {
             // Could not find file
             return false;
         }
 
-        String targetDirectoryName = "";
-        if (!filePreferences.getFileDirectoryPattern().isEmpty()) {
-            targetDirectoryName = FileUtil.createDirNameFromPattern(
-                    databaseContext.getDatabase(),
-                    entry,
-                    filePreferences.getFileDirectoryPattern());
+        Optional<Path> target = getTargetInDefaultDirectory(oldFile.get());
+        if (target.isEmpty()) {
+            return false;
         }
 
-        Path targetPath = targetDirectory.get().resolve(targetDirectoryName).resolve(oldFile.get().getFileName());
+        Path targetPath = target.get();
         if (Files.exists(targetPath)) {
             // We do not overwrite already existing files
             LOGGER.debug("The file {} would have been moved to {}. However, there exists already a file with that name so we do nothing.", oldFile.get(), targetPath);
@@ -77,6 +69,30 @@ public class LinkedFileHandler {
         return true;
     }
 
+    /**
+     * Returns the path {@link #moveToDefaultDirectory()} moves the given file to. Existing files are not taken into
+     * account.
+     *
+     * @param oldFile the current location of the file
+     * @return an empty optional if there is no file directory to move the file to
+     */
+    public Optional<Path> getTargetInDefaultDirectory(Path oldFile) {
+        Optional<Path> targetDirectory = databaseContext.getFirstExistingFileDir(filePreferences);
+        if (targetDirectory.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String targetDirectoryName = "";
+        if (!filePreferences.getFileDirectoryPattern().isEmpty()) {
+            targetDirectoryName = FileUtil.createDirNameFromPattern(
+                    databaseContext.getDatabase(),
+                    entry,
+                    filePreferences.getFileDirectoryPattern());
+        }
+
+        return Optional.of(targetDirectory.get().resolve(targetDirectoryName).resolve(oldFile.getFileName()));
+    }
+
     public boolean renameToSuggestedName() throws IOException {
         return renameToName(getSuggestedFileName(), false);
     }
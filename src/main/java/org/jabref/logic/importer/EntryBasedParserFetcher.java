@@ -64,7 +64,7 @@ public interface EntryBasedParserFetcher extends EntryBasedFetcher {
             throw new FetcherException("Search URI is malformed", e);
         }
 
-        try (InputStream stream = new BufferedInputStream(UrlForEntry.openStream())) {
+        try (InputStream stream = new BufferedInputStream(getUrlDownload(UrlForEntry).asInputStream())) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
 
             // Post-cleanup
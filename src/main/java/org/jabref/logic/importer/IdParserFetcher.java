@@ -71,7 +71,7 @@ public interface IdParserFetcher<T extends Identifier> extends IdFetcher<T> {
     default Optional<T> findIdentifier(BibEntry entry) throws FetcherException {
         Objects.requireNonNull(entry);
 
-        try (InputStream stream = new BufferedInputStream(getURLForEntry(entry).openStream())) {
+        try (InputStream stream = new BufferedInputStream(getUrlDownload(getURLForEntry(entry)).asInputStream())) {
             List<BibEntry> fetchedEntries = getParser().parseEntries(stream);
 
             if (fetchedEntries.isEmpty()) {
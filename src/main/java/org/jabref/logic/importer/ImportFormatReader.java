@@ -1,12 +1,15 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -38,6 +41,12 @@ public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    /**
+     * Number of characters read from a file to detect its format. The importers recognize their formats by markers near
+     * the beginning of the file, thus there is no need to read large files completely for each importer.
+     */
+    private static final int DETECTION_SAMPLE_LENGTH = 1024 * 1024;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -160,6 +169,9 @@ public class ImportFormatReader {
      * and keeping the import that seems most promising.
      * <p/>
      * This method first attempts to read this file as bibtex.
+     * <p/>
+     * To detect the format, the beginning of the file is read once and checked by all importers in parallel. Only the
+     * most promising importer then imports the complete file.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -177,56 +189,159 @@ public class ImportFormatReader {
             // Ignored
         }
 
-        UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath, importFormatPreferences.getEncoding()), importer -> importer.isRecognizedFormat(filePath, importFormatPreferences.getEncoding()));
+        Charset encoding = importFormatPreferences.getEncoding();
+        Sample sample;
+        try {
+            sample = readSample(filePath, encoding);
+        } catch (IOException e) {
+            throw new ImportException(Localization.lang("Could not find a suitable import format."), e);
+        }
+
+        // The BibTeX importer has already been tried above
+        UnknownFormatImport unknownFormatImport = importUnknownFormat(sample,
+                importer -> !BIBTEX_FORMAT.equals(importer.getName()) && importer.isRecognizedFormat(filePath, encoding, sample.text),
+                importer -> importer.importDatabase(filePath, encoding));
         unknownFormatImport.parserResult.setFile(filePath.toFile());
         return unknownFormatImport;
     }
 
     /**
-     * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Reads the beginning of the given file, which is used by all importers to check whether they recognize the format.
+     * A truncated sample ends with a complete line.
+     */
+    private static Sample readSample(Path filePath, Charset encoding) throws IOException {
+        try (BufferedReader reader = Importer.getReader(filePath, encoding)) {
+            char[] buffer = new char[DETECTION_SAMPLE_LENGTH];
+            int length = 0;
+            int read;
+            while ((length < buffer.length) && ((read = reader.read(buffer, length, buffer.length - length)) != -1)) {
+                length += read;
+            }
+            boolean complete = reader.read() == -1;
+            String text = new String(buffer, 0, length);
+            if (!complete) {
+                int lastLineEnd = text.lastIndexOf('\n');
+                if (lastLineEnd > 0) {
+                    text = text.substring(0, lastLineEnd + 1);
+                }
+            }
+            return new Sample(text, complete);
+        }
+    }
+
+    /**
+     * Tries to import entries by checking all available import filters against the given sample, and keeping the import
+     * that seems the most promising.
+     * <p>
+     * The recognized importers are scored by the number of entries they import from the (in-memory) sample. If the
+     * sample is the complete source, the import of the best importer is returned directly. Otherwise, only the best
+     * importer imports the complete source.
      *
-     * @param importDatabase     the function to import the entries with a formatter
+     * @param sample             the (beginning of the) source to import
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
+     * @param importDatabase     the function to import the complete source with an importer
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+    private UnknownFormatImport importUnknownFormat(Sample sample, CheckedFunction<Importer, Boolean> isRecognizedFormat, CheckedFunction<Importer, ParserResult> importDatabase) throws ImportException {
+        // The checks work on the shared sample, thus they do not need to read the source again and can run in parallel
+        List<Importer> recognizedImporters = getImportFormats().parallelStream()
+                                                               .filter(importer -> isRecognized(importer, isRecognizedFormat))
+                                                               .collect(Collectors.toList());
+
         // stores ref to best result, gets updated at the next loop
+        Importer bestImporter = null;
         List<BibEntry> bestResult = null;
+        boolean bestResultIsComplete = false;
         int bestResultCount = 0;
-        String bestFormatName = null;
 
-        // Cycle through all importers:
-        for (Importer imFo : getImportFormats()) {
+        for (Importer imFo : recognizedImporters) {
+            List<BibEntry> entries;
+            boolean complete;
             try {
-                if (!isRecognizedFormat.apply(imFo)) {
+                entries = getNonEmptyEntries(imFo.importDatabase(sample.text));
+                complete = sample.complete;
+            } catch (UnsupportedOperationException ex) {
+                // Importers of binary formats can only import the source itself
+                Optional<List<BibEntry>> result = importCompletely(imFo, importDatabase);
+                if (result.isEmpty()) {
                     continue;
                 }
+                entries = result.get();
+                complete = true;
+            } catch (IOException ex) {
+                // The import did not succeed. Go on.
+                continue;
+            }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+            if (entries.size() > bestResultCount) {
+                bestImporter = imFo;
+                bestResult = entries;
+                bestResultIsComplete = complete;
+                bestResultCount = entries.size();
+            }
+        }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+        if (bestResult == null) {
+            if (!sample.complete) {
+                // No importer found an entry in the sample. As a last resort, import the complete source with all of them.
+                return importUnknownFormatCompletely(recognizedImporters, importDatabase);
+            }
+            throw new ImportException(Localization.lang("Could not find a suitable import format."));
+        }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
-                }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+        if (!bestResultIsComplete) {
+            Optional<List<BibEntry>> result = importCompletely(bestImporter, importDatabase);
+            if (result.isEmpty()) {
+                throw new ImportException(Localization.lang("Could not find a suitable import format."));
+            }
+            bestResult = result.get();
+        }
+
+        // we found something
+        ParserResult parserResult = new ParserResult(bestResult);
+        return new UnknownFormatImport(bestImporter.getName(), parserResult);
+    }
+
+    private UnknownFormatImport importUnknownFormatCompletely(List<Importer> importers, CheckedFunction<Importer, ParserResult> importDatabase) throws ImportException {
+        Importer bestImporter = null;
+        List<BibEntry> bestResult = null;
+        for (Importer imFo : importers) {
+            Optional<List<BibEntry>> result = importCompletely(imFo, importDatabase);
+            if (result.isPresent() && (result.get().size() > (bestResult == null ? 0 : bestResult.size()))) {
+                bestImporter = imFo;
+                bestResult = result.get();
             }
         }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+        if (bestResult == null) {
+            throw new ImportException(Localization.lang("Could not find a suitable import format."));
+        }
+        return new UnknownFormatImport(bestImporter.getName(), new ParserResult(bestResult));
+    }
+
+    private static boolean isRecognized(Importer importer, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        try {
+            return isRecognizedFormat.apply(importer);
+        } catch (IOException ex) {
+            // The check did not succeed. Go on.
+            return false;
+        }
+    }
+
+    private static Optional<List<BibEntry>> importCompletely(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) {
+        try {
+            return Optional.of(getNonEmptyEntries(importDatabase.apply(importer)));
+        } catch (IOException | UnsupportedOperationException ex) {
+            // The import did not succeed. Go on.
+            return Optional.empty();
         }
+    }
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    private static List<BibEntry> getNonEmptyEntries(ParserResult parserResult) {
+        List<BibEntry> entries = parserResult.getDatabase().getEntries();
+        BibDatabases.purgeEmptyEntries(entries);
+        return entries;
     }
 
     @FunctionalInterface
@@ -246,6 +361,20 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        return importUnknownFormat(new Sample(data, true), importer -> importer.isRecognizedFormat(data), importer -> importer.importDatabase(data));
+    }
+
+    /**
+     * The beginning of a source, which is used to detect its format.
+     */
+    private static class Sample {
+        private final String text;
+        // true if the sample contains the complete source
+        private final boolean complete;
+
+        Sample(String text, boolean complete) {
+            this.text = text;
+            this.complete = complete;
+        }
     }
 }
@@ -0,0 +1,142 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Imports many files by parsing them in parallel and merging the results one after another.
+ * <p>
+ * The files are parsed on a bounded pool of worker threads. The results are passed to the merge stage on the calling
+ * thread in the order of the files, as soon as the result of the next file is ready. Parsing runs at most
+ * {@value #FILES_AHEAD_PER_THREAD} files per thread ahead of the merge stage, so that a slow merge (e.g., inserting
+ * into the open library) does not cause all parsed files to be held in memory. A file which cannot be parsed does not
+ * affect the other files.
+ * <p>
+ * A file to import is described by a value of type {@code F}, e.g., its {@link java.nio.file.Path} or its path together with the
+ * format to import it with.
+ */
+public class ImportPipeline {
+
+    /**
+     * Parsing is mostly bound by the CPU, and sometimes the disk
+     */
+    public static final int DEFAULT_MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final int FILES_AHEAD_PER_THREAD = 2;
+
+    @FunctionalInterface
+    public interface FileParser<F, R> {
+        /**
+         * Parses the file. Called concurrently for different files, so it must not change shared state such as the
+         * open library.
+         */
+        R parse(F file) throws Exception;
+    }
+
+    /**
+     * The result of parsing one file: either the parsed data or the reason why the file could not be parsed
+     */
+    public static class ParsedFile<F, R> {
+        private final F file;
+        private final int index;
+        private final Optional<R> result;
+        private final Optional<Exception> error;
+
+        private ParsedFile(F file, int index, Optional<R> result, Optional<Exception> error) {
+            this.file = file;
+            this.index = index;
+            this.result = result;
+            this.error = error;
+        }
+
+        public F getFile() {
+            return file;
+        }
+
+        /**
+         * Returns the position of the file in the list of imported files
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public Optional<R> getResult() {
+            return result;
+        }
+
+        public Optional<Exception> getError() {
+            return error;
+        }
+    }
+
+    private final int maxThreads;
+
+    public ImportPipeline() {
+        this(DEFAULT_MAX_THREADS);
+    }
+
+    public ImportPipeline(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Parses the given files and passes the parsed files to the merger in the order of the files. The merger is called
+     * on the calling thread and never concurrently.
+     *
+     * @param isCancelled checked before each file is merged. Once it returns true, the remaining files are skipped.
+     * @throws InterruptedException if the calling thread was interrupted while waiting for a file to be parsed
+     */
+    public <F, R> void importFiles(List<F> files, FileParser<F, R> parser, Consumer<ParsedFile<F, R>> merger, BooleanSupplier isCancelled) throws InterruptedException {
+        Objects.requireNonNull(parser);
+        Objects.requireNonNull(merger);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(files.size(), maxThreads), runnable -> {
+            Thread thread = new Thread(runnable, "JabRef import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int maxFilesAhead = maxThreads * FILES_AHEAD_PER_THREAD;
+            Deque<Future<ParsedFile<F, R>>> parsing = new ArrayDeque<>(maxFilesAhead);
+            int nextFile = 0;
+            while ((nextFile < files.size()) || !parsing.isEmpty()) {
+                while ((nextFile < files.size()) && (parsing.size() < maxFilesAhead)) {
+                    parsing.add(executor.submit(parse(files.get(nextFile), nextFile, parser)));
+                    nextFile++;
+                }
+                if (isCancelled.getAsBoolean()) {
+                    return;
+                }
+                merger.accept(parsing.remove().get());
+            }
+        } catch (ExecutionException e) {
+            // parse catches all exceptions of the parser
+            throw new IllegalStateException("Import failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <F, R> Callable<ParsedFile<F, R>> parse(F file, int index, FileParser<F, R> parser) {
+        return () -> {
+            try {
+                return new ParsedFile<>(file, index, Optional.ofNullable(parser.parse(file)), Optional.empty());
+            } catch (Exception e) {
+                return new ParsedFile<>(file, index, Optional.empty(), Optional.of(e));
+            }
+        };
+    }
+}
@@ -44,6 +44,23 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Check whether the file is in the correct format for this importer, given the already read beginning of the file.
+     * <p>
+     * This is used to detect the format of a file of unknown format: all importers check the same prefix, so that the
+     * file is read only once. Importers which need to look at the file itself (e.g., for binary formats) should
+     * override this method.
+     *
+     * @param filePath   the path of the file to check
+     * @param encoding   the encoding of the file
+     * @param filePrefix the beginning of the file, decoded using the given encoding
+     * @return true, if the file is in a recognized format
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public boolean isRecognizedFormat(Path filePath, Charset encoding, String filePrefix) throws IOException {
+        return isRecognizedFormat(filePrefix);
+    }
+
     /**
      * Check whether the source is in the correct format for this importer.
      *
@@ -24,6 +24,8 @@ import org.jabref.logic.importer.IdFetcher;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.fetcher.transformators.ArXivQueryTransformer;
+import org.jabref.logic.net.HostRequestLimiter;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.io.XMLUtil;
 import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.entry.BibEntry;
@@ -207,7 +209,12 @@ public class ArXiv implements FulltextFetcher, PagedSearchBasedFetcher, IdBasedF
             DocumentBuilder builder = factory.newDocumentBuilder();
 
             HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            if (connection.getResponseCode() == 400) {
+            int responseCode;
+            // The arXiv API allows only one request every three seconds
+            try (HostRequestLimiter.Permit permit = URLDownload.getRequestLimiter().acquire(url.getHost())) {
+                responseCode = connection.getResponseCode();
+            }
+            if (responseCode == 400) {
                 // Bad request error from server, try to get more information
                 throw getException(builder.parse(connection.getErrorStream()));
             } else {
@@ -1,10 +1,23 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
@@ -17,15 +30,58 @@ import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Queries several fetchers at once. The fetchers run concurrently on a bounded executor dedicated to web searches, so
+ * that slow catalogues neither block the common fork-join pool nor each other.
+ * <p>
+ * Each fetcher has to answer within a timeout. As soon as the maximum number of results is reached, the requests which
+ * are still running are cancelled.
+ */
 public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
+    public static final Duration DEFAULT_FETCHER_TIMEOUT = Duration.ofSeconds(30);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
 
+    /**
+     * The number of fetchers queried at the same time (by all composite fetchers)
+     */
+    private static final int MAXIMUM_CONCURRENT_REQUESTS = 8;
+
+    private static final ThreadPoolExecutor SEARCH_EXECUTOR = new ThreadPoolExecutor(
+            MAXIMUM_CONCURRENT_REQUESTS, MAXIMUM_CONCURRENT_REQUESTS,
+            1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "JabRef web search");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JabRef web search timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        SEARCH_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     private final Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final Duration fetcherTimeout;
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, maximumNumberOfReturnedResults, DEFAULT_FETCHER_TIMEOUT);
+    }
+
+    /**
+     * @param fetcherTimeout the time each fetcher has to answer, measured from the start of its request
+     */
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, int maximumNumberOfReturnedResults, Duration fetcherTimeout)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
@@ -34,6 +90,7 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
                                            .filter(searchBasedFetcher -> searchBasedFetcher != this)
                                            .collect(Collectors.toSet());
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetcherTimeout = fetcherTimeout;
     }
 
     @Override
@@ -46,21 +103,162 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
         return Optional.empty();
     }
 
+    public int getNumberOfFetchers() {
+        return fetchers.size();
+    }
+
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
-        ImportCleanup cleanup = new ImportCleanup(BibDatabaseMode.BIBTEX);
+        CompletableFuture<List<BibEntry>> search = performSearchAsync(luceneQuery, (fetcher, entries) -> {
+        });
+        try {
+            return search.get();
+        } catch (InterruptedException e) {
+            search.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new FetcherException("The search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new FetcherException("The search failed", e.getCause());
+        }
+    }
+
+    /**
+     * Starts the search on all fetchers and returns immediately.
+     *
+     * @param resultConsumer called once for each fetcher as soon as it is finished, with the entries it contributed to
+     *                       the result (already cleaned up). The list is empty if the fetcher failed, timed out or was
+     *                       cancelled. Called from the search threads.
+     * @return the future result, which is completed when all fetchers are finished or the maximum number of results is
+     * reached. Cancelling it cancels all requests that are still running.
+     */
+    public CompletableFuture<List<BibEntry>> performSearchAsync(QueryNode luceneQuery, BiConsumer<SearchBasedFetcher, List<BibEntry>> resultConsumer) {
+        SearchRun run = new SearchRun(resultConsumer);
+        run.start(luceneQuery);
+        return run.result;
+    }
+
+    /**
+     * The state of one search over all fetchers
+     */
+    private class SearchRun {
         // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn(String.format("%s API request failed", searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .map(cleanup::doPostCleanup)
-                       .collect(Collectors.toList());
+        private final ImportCleanup cleanup = new ImportCleanup(BibDatabaseMode.BIBTEX);
+        private final BiConsumer<SearchBasedFetcher, List<BibEntry>> resultConsumer;
+        private final CompletableFuture<List<BibEntry>> result = new CompletableFuture<>();
+        private final List<BibEntry> entries = new ArrayList<>();
+        private final List<FetcherTask> tasks = new ArrayList<>();
+        private int runningFetchers;
+
+        SearchRun(BiConsumer<SearchBasedFetcher, List<BibEntry>> resultConsumer) {
+            this.resultConsumer = resultConsumer;
+        }
+
+        void start(QueryNode luceneQuery) {
+            synchronized (this) {
+                runningFetchers = fetchers.size();
+                for (SearchBasedFetcher fetcher : fetchers) {
+                    tasks.add(new FetcherTask(fetcher, luceneQuery, this));
+                }
+            }
+            // Whatever completes the result (including a cancellation by the caller) stops the remaining requests
+            result.whenComplete((found, exception) -> cancelRunningTasks());
+
+            if (tasks.isEmpty() || (maximumNumberOfReturnedResults <= 0)) {
+                result.complete(Collections.emptyList());
+                return;
+            }
+            tasks.forEach(SEARCH_EXECUTOR::execute);
+        }
+
+        void finished(FetcherTask task) {
+            List<BibEntry> contributed = Collections.emptyList();
+            Optional<List<BibEntry>> completeResult = Optional.empty();
+            synchronized (this) {
+                if (!result.isDone()) {
+                    contributed = getResults(task).stream()
+                                                  .limit(maximumNumberOfReturnedResults - entries.size())
+                                                  .map(cleanup::doPostCleanup)
+                                                  .collect(Collectors.toList());
+                    entries.addAll(contributed);
+                }
+                runningFetchers--;
+                if ((runningFetchers == 0) || (entries.size() >= maximumNumberOfReturnedResults)) {
+                    completeResult = Optional.of(List.copyOf(entries));
+                }
+            }
+
+            resultConsumer.accept(task.fetcher, contributed);
+            completeResult.ifPresent(result::complete);
+        }
+
+        private List<BibEntry> getResults(FetcherTask task) {
+            if (task.isCancelled()) {
+                if (task.timedOut) {
+                    LOGGER.warn("{} did not answer within {} seconds", task.fetcher.getName(), fetcherTimeout.toSeconds());
+                } else {
+                    LOGGER.debug("{} was cancelled", task.fetcher.getName());
+                }
+                return Collections.emptyList();
+            }
+            try {
+                return task.get();
+            } catch (ExecutionException e) {
+                LOGGER.warn(String.format("%s API request failed", task.fetcher.getName()), e.getCause());
+            } catch (InterruptedException | CancellationException e) {
+                LOGGER.debug("{} was cancelled", task.fetcher.getName(), e);
+            }
+            return Collections.emptyList();
+        }
+
+        private void cancelRunningTasks() {
+            List<FetcherTask> running;
+            synchronized (this) {
+                running = List.copyOf(tasks);
+            }
+            for (FetcherTask task : running) {
+                if (task.cancel(true)) {
+                    SEARCH_EXECUTOR.remove(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * The request to a single fetcher. Its timeout starts when the request is started, not when it is queued.
+     */
+    private class FetcherTask extends FutureTask<List<BibEntry>> {
+        private final SearchBasedFetcher fetcher;
+        private final SearchRun run;
+        private volatile boolean timedOut;
+
+        FetcherTask(SearchBasedFetcher fetcher, QueryNode luceneQuery, SearchRun run) {
+            super(() -> fetcher.performSearch(luceneQuery));
+            this.fetcher = fetcher;
+            this.run = run;
+        }
+
+        @Override
+        public void run() {
+            ScheduledFuture<?> timeout = TIMEOUT_SCHEDULER.schedule(this::timeOut, fetcherTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                super.run();
+            } finally {
+                timeout.cancel(false);
+            }
+        }
+
+        private void timeOut() {
+            // Set before cancelling, as the result is collected while cancelling
+            timedOut = true;
+            if (!cancel(true)) {
+                // Finished or cancelled otherwise (e.g., because the maximum number of results was reached)
+                timedOut = false;
+            }
+        }
+
+        @Override
+        protected void done() {
+            run.finished(this);
+        }
     }
 }
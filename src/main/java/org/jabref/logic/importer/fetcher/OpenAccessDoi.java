@@ -1,5 +1,6 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -7,14 +8,12 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.logic.importer.FulltextFetcher;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 
-import kong.unirest.HttpResponse;
 import kong.unirest.JsonNode;
-import kong.unirest.Unirest;
-import kong.unirest.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,11 +38,7 @@ public class OpenAccessDoi implements FulltextFetcher {
             return Optional.empty();
         }
 
-        try {
-            return findFullText(doi.get());
-        } catch (UnirestException e) {
-            throw new IOException(e);
-        }
+        return findFullText(doi.get());
     }
 
     @Override
@@ -51,14 +46,20 @@ public class OpenAccessDoi implements FulltextFetcher {
         return TrustLevel.META_SEARCH;
     }
 
-    public Optional<URL> findFullText(DOI doi) throws UnirestException {
-        HttpResponse<JsonNode> request = Unirest.get(API_URL + doi.getDOI() + "?email=developers@jabref.org")
-                                                .header("accept", "application/json")
-                                                .asJson();
+    public Optional<URL> findFullText(DOI doi) throws IOException {
+        URLDownload download = new URLDownload(API_URL + doi.getDOI() + "?email=developers@jabref.org");
+        download.addHeader("accept", "application/json");
 
-        return Optional.of(request)
-                       .map(HttpResponse::getBody)
-                       .filter(Objects::nonNull)
+        String response;
+        try {
+            response = download.asString();
+        } catch (FileNotFoundException e) {
+            // The DOI is unknown
+            LOGGER.debug("No fulltext information for {}", doi.getDOI(), e);
+            return Optional.empty();
+        }
+
+        return Optional.of(new JsonNode(response))
                        .map(JsonNode::getObject)
                        .filter(Objects::nonNull)
                        .map(root -> root.optJSONObject("best_oa_location"))
@@ -11,10 +11,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 
-import kong.unirest.HttpResponse;
 import kong.unirest.JsonNode;
-import kong.unirest.Unirest;
-import kong.unirest.UnirestException;
 import kong.unirest.json.JSONArray;
 import kong.unirest.json.JSONException;
 import kong.unirest.json.JSONObject;
@@ -87,7 +84,7 @@ public class ScienceDirect implements FulltextFetcher {
                         return pdfLink;
                     }
                 }
-            } catch (UnirestException e) {
+            } catch (IOException e) {
                 LOGGER.warn("ScienceDirect API request failed", e);
             }
         }
@@ -99,16 +96,13 @@ public class ScienceDirect implements FulltextFetcher {
         return TrustLevel.PUBLISHER;
     }
 
-    private String getUrlByDoi(String doi) throws UnirestException {
+    private String getUrlByDoi(String doi) throws IOException {
         String sciLink = "";
         try {
-            String request = API_URL + doi;
-            HttpResponse<JsonNode> jsonResponse = Unirest.get(request)
-                                                         .header("X-ELS-APIKey", API_KEY)
-                                                         .queryString("httpAccept", "application/json")
-                                                         .asJson();
+            URLDownload download = new URLDownload(API_URL + doi + "?httpAccept=application/json");
+            download.addHeader("X-ELS-APIKey", API_KEY);
 
-            JSONObject json = jsonResponse.getBody().getObject();
+            JSONObject json = new JsonNode(download.asString()).getObject();
             JSONArray links = json.getJSONObject("full-text-retrieval-response").getJSONObject("coredata").getJSONArray("link");
 
             for (int i = 0; i < links.length(); i++) {
@@ -1,21 +1,21 @@
 package org.jabref.logic.importer.fetcher;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.logic.importer.FulltextFetcher;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.DOI;
 
-import kong.unirest.HttpResponse;
 import kong.unirest.JsonNode;
-import kong.unirest.Unirest;
-import kong.unirest.UnirestException;
 import kong.unirest.json.JSONObject;
+import org.apache.http.client.utils.URIBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,12 +43,13 @@ public class SpringerLink implements FulltextFetcher {
         }
         // Available in catalog?
         try {
-            HttpResponse<JsonNode> jsonResponse = Unirest.get(API_URL)
-                                                         .queryString("api_key", API_KEY)
-                                                         .queryString("q", String.format("doi:%s", doi.get().getDOI()))
-                                                         .asJson();
-            if (jsonResponse.getBody() != null) {
-                JSONObject json = jsonResponse.getBody().getObject();
+            URL requestUrl = new URIBuilder(API_URL).addParameter("api_key", API_KEY)
+                                                    .addParameter("q", String.format("doi:%s", doi.get().getDOI()))
+                                                    .build()
+                                                    .toURL();
+            JsonNode jsonResponse = new JsonNode(new URLDownload(requestUrl).asString());
+            if (jsonResponse.getObject() != null) {
+                JSONObject json = jsonResponse.getObject();
                 int results = json.getJSONArray("result").getJSONObject(0).getInt("total");
 
                 if (results > 0) {
@@ -56,7 +57,7 @@ public class SpringerLink implements FulltextFetcher {
                     return Optional.of(new URL("http", CONTENT_HOST, String.format("/content/pdf/%s.pdf", doi.get().getDOI())));
                 }
             }
-        } catch (UnirestException e) {
+        } catch (IOException | URISyntaxException e) {
             LOGGER.warn("SpringerLink API request failed", e);
         }
         return Optional.empty();
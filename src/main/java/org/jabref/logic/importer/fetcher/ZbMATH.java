@@ -1,5 +1,6 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -25,9 +26,7 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
-import kong.unirest.HttpResponse;
 import kong.unirest.JsonNode;
-import kong.unirest.Unirest;
 import kong.unirest.json.JSONArray;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
@@ -82,19 +81,18 @@ public class ZbMATH implements SearchBasedParserFetcher, IdBasedParserFetcher, E
         citation matching API to extract the zbl_id and then use getUrlForIdentifier
         to get the bibtex data.
          */
-        String urlString = uriBuilder.build().toString();
-        HttpResponse<JsonNode> response = Unirest.get(urlString)
-                                                 .asJson();
         String zblid = null;
-        if (response.getStatus() == 200) {
-            JSONArray result = response.getBody()
-                                       .getObject()
-                                       .getJSONArray("results");
+        try {
+            JSONArray result = new JsonNode(new URLDownload(uriBuilder.build().toURL()).asString())
+                    .getObject()
+                    .getJSONArray("results");
             if (result.length() > 0) {
                 zblid = result.getJSONObject(0)
                               .get("zbl_id")
                               .toString();
             }
+        } catch (IOException e) {
+            throw new FetcherException("zbMATH citation matching failed", e);
         }
         if (zblid == null) {
             // citation matching API found no matching entry
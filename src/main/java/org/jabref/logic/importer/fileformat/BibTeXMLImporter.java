@@ -14,16 +14,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.bibtexml.Entry;
-import org.jabref.logic.importer.fileformat.bibtexml.File;
 import org.jabref.logic.importer.fileformat.bibtexml.Inbook;
 import org.jabref.logic.importer.fileformat.bibtexml.Incollection;
 import org.jabref.logic.util.StandardFileType;
@@ -47,6 +45,9 @@ public class BibTeXMLImporter extends Importer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BibTeXMLImporter.class);
 
+    private static final String CONTEXT_PATH = "org.jabref.logic.importer.fileformat.bibtexml";
+    private static final Map<String, Class<? extends Entry>> RECORD_TYPES = Map.of("entry", Entry.class);
+
     private static final Pattern START_PATTERN = Pattern.compile("<(bibtex:)?file .*");
 
     private static final List<String> IGNORED_METHODS = Arrays.asList("getClass", "getAnnotate", "getContents",
@@ -86,14 +87,9 @@ public class BibTeXMLImporter extends Importer {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.bibtexml");
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            File file = (File) unmarshaller.unmarshal(reader);
-
-            List<Entry> entries = file.getEntry();
             Map<Field, String> fields = new HashMap<>();
 
-            for (Entry entry : entries) {
+            XmlRecordReader.forEachRecord(reader, CONTEXT_PATH, RECORD_TYPES, entry -> {
                 BibEntry bibEntry = new BibEntry();
                 if (entry.getArticle() != null) {
                     bibEntry.setType(StandardEntryType.Article);
@@ -148,8 +144,8 @@ public class BibTeXMLImporter extends Importer {
                 }
                 bibEntry.setField(fields);
                 bibItems.add(bibEntry);
-            }
-        } catch (JAXBException e) {
+            });
+        } catch (JAXBException | XMLStreamException e) {
             LOGGER.error("Error with XML parser configuration", e);
             return ParserResult.fromError(e);
         }
@@ -7,6 +7,7 @@ import java.io.InputStreamReader;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
@@ -70,6 +71,10 @@ public class BibtexParser implements Parser {
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
+    /**
+     * The parsed entries. They are inserted into the database at once after parsing.
+     */
+    private List<BibEntry> entries;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
@@ -144,6 +149,7 @@ public class BibtexParser implements Parser {
 
     private void initializeParserResult() {
         database = new BibDatabase();
+        entries = new ArrayList<>();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
@@ -200,6 +206,7 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+        database.insertEntries(entries);
 
         // Instantiate meta data:
         try {
@@ -240,7 +247,7 @@ public class BibtexParser implements Parser {
             // store complete parsed serialization (comments, type definition + type contents)
             entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
 
-            database.insertEntry(entry);
+            entries.add(entry);
         } catch (IOException ex) {
             // Trying to make the parser more robust.
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
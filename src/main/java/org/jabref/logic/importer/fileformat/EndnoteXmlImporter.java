@@ -7,19 +7,17 @@ import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
@@ -46,7 +44,6 @@ import org.jabref.logic.importer.fileformat.endnote.Titles;
 import org.jabref.logic.importer.fileformat.endnote.Url;
 import org.jabref.logic.importer.fileformat.endnote.Urls;
 import org.jabref.logic.importer.fileformat.endnote.Volume;
-import org.jabref.logic.importer.fileformat.endnote.Xml;
 import org.jabref.logic.importer.fileformat.endnote.Year;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
@@ -69,8 +66,10 @@ import org.slf4j.LoggerFactory;
 public class EndnoteXmlImporter extends Importer implements Parser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EndnoteXmlImporter.class);
+    private static final String CONTEXT_PATH = "org.jabref.logic.importer.fileformat.endnote";
+    private static final Map<String, Class<? extends Record>> RECORD_TYPES = Map.of("record", Record.class);
+
     private final ImportFormatPreferences preferences;
-    private Unmarshaller unmarshaller;
 
     public EndnoteXmlImporter(ImportFormatPreferences preferences) {
         this.preferences = preferences;
@@ -114,48 +113,14 @@ public class EndnoteXmlImporter extends Importer implements Parser {
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
 
+        List<BibEntry> bibEntries = new ArrayList<>();
         try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            if (unmarshalledObject instanceof Xml) {
-                // Check whether we have an article set, an article, a book article or a book article set
-                Xml root = (Xml) unmarshalledObject;
-                List<BibEntry> bibEntries = root
-                        .getRecords().getRecord()
-                        .stream()
-                        .map(this::parseRecord)
-                        .collect(Collectors.toList());
-
-                return new ParserResult(bibEntries);
-            } else {
-                return ParserResult.fromErrorMessage("File does not start with xml tag.");
-            }
+            XmlRecordReader.forEachRecord(reader, CONTEXT_PATH, RECORD_TYPES, record -> bibEntries.add(parseRecord(record)));
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
-    }
-
-    private Object unmarshallRoot(BufferedReader reader) throws XMLStreamException, JAXBException {
-        initUnmarshaller();
-
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // Go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
-        }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
-    }
-
-    private void initUnmarshaller() throws JAXBException {
-        if (unmarshaller == null) {
-            // Lazy init because this is expensive
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.endnote");
-            unmarshaller = context.createUnmarshaller();
-        }
+        return new ParserResult(bibEntries);
     }
 
     private static EntryType convertRefNameToType(String refName) {
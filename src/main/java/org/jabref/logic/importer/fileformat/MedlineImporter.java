@@ -15,13 +15,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
@@ -65,9 +61,7 @@ import org.jabref.logic.importer.fileformat.medline.PubDate;
 import org.jabref.logic.importer.fileformat.medline.PublicationType;
 import org.jabref.logic.importer.fileformat.medline.Publisher;
 import org.jabref.logic.importer.fileformat.medline.PubmedArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookArticle;
-import org.jabref.logic.importer.fileformat.medline.PubmedBookArticleSet;
 import org.jabref.logic.importer.fileformat.medline.PubmedBookData;
 import org.jabref.logic.importer.fileformat.medline.QualifierName;
 import org.jabref.logic.importer.fileformat.medline.Section;
@@ -97,8 +91,12 @@ public class MedlineImporter extends Importer implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(MedlineImporter.class);
     private static final String KEYWORD_SEPARATOR = "; ";
 
+    private static final String CONTEXT_PATH = "org.jabref.logic.importer.fileformat.medline";
+    private static final Map<String, Class<?>> RECORD_TYPES = Map.of(
+            "PubmedArticle", PubmedArticle.class,
+            "PubmedBookArticle", PubmedBookArticle.class);
+
     private static final Locale ENGLISH = Locale.ENGLISH;
-    private Unmarshaller unmarshaller;
 
     private static String join(List<String> list, String string) {
         return Joiner.on(string).join(list);
@@ -147,33 +145,14 @@ public class MedlineImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            // check whether we have an article set, an article, a book article or a book article set
-            if (unmarshalledObject instanceof PubmedArticleSet) {
-                PubmedArticleSet articleSet = (PubmedArticleSet) unmarshalledObject;
-                for (Object article : articleSet.getPubmedArticleOrPubmedBookArticle()) {
-                    if (article instanceof PubmedArticle) {
-                        PubmedArticle currentArticle = (PubmedArticle) article;
-                        parseArticle(currentArticle, bibItems);
-                    }
-                    if (article instanceof PubmedBookArticle) {
-                        PubmedBookArticle currentArticle = (PubmedBookArticle) article;
-                        parseBookArticle(currentArticle, bibItems);
-                    }
-                }
-            } else if (unmarshalledObject instanceof PubmedArticle) {
-                PubmedArticle article = (PubmedArticle) unmarshalledObject;
-                parseArticle(article, bibItems);
-            } else if (unmarshalledObject instanceof PubmedBookArticle) {
-                PubmedBookArticle currentArticle = (PubmedBookArticle) unmarshalledObject;
-                parseBookArticle(currentArticle, bibItems);
-            } else {
-                PubmedBookArticleSet bookArticleSet = (PubmedBookArticleSet) unmarshalledObject;
-                for (PubmedBookArticle bookArticle : bookArticleSet.getPubmedBookArticle()) {
-                    parseBookArticle(bookArticle, bibItems);
+            // The articles and book articles are read one after another, no matter whether they are inside an article set or a book article set
+            XmlRecordReader.forEachRecord(reader, CONTEXT_PATH, RECORD_TYPES, article -> {
+                if (article instanceof PubmedArticle) {
+                    parseArticle((PubmedArticle) article, bibItems);
+                } else {
+                    parseBookArticle((PubmedBookArticle) article, bibItems);
                 }
-            }
+            });
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -181,28 +160,6 @@ public class MedlineImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws JAXBException, XMLStreamException {
-        initUmarshaller();
-
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
-        }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
-    }
-
-    private void initUmarshaller() throws JAXBException {
-        if (unmarshaller == null) {
-            // Lazy init because this is expensive
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.medline");
-            unmarshaller = context.createUnmarshaller();
-        }
-    }
-
     private void parseBookArticle(PubmedBookArticle currentArticle, List<BibEntry> bibItems) {
         Map<Field, String> fields = new HashMap<>();
         if (currentArticle.getBookDocument() != null) {
@@ -15,10 +15,9 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
@@ -36,7 +35,6 @@ import org.jabref.logic.importer.fileformat.mods.IssuanceDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageTermDefinition;
 import org.jabref.logic.importer.fileformat.mods.LocationDefinition;
-import org.jabref.logic.importer.fileformat.mods.ModsCollectionDefinition;
 import org.jabref.logic.importer.fileformat.mods.ModsDefinition;
 import org.jabref.logic.importer.fileformat.mods.NameDefinition;
 import org.jabref.logic.importer.fileformat.mods.NamePartDefinition;
@@ -75,11 +73,11 @@ public class ModsImporter extends Importer implements Parser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ModsImporter.class);
     private static final Pattern MODS_PATTERN = Pattern.compile("<mods .*>");
+    private static final String CONTEXT_PATH = "org.jabref.logic.importer.fileformat.mods";
+    private static final Map<String, Class<? extends ModsDefinition>> RECORD_TYPES = Map.of("mods", ModsDefinition.class);
 
     private final String keywordSeparator;
 
-    private JAXBContext context;
-
     public ModsImporter(ImportFormatPreferences importFormatPreferences) {
         keywordSeparator = importFormatPreferences.getKeywordSeparator() + " ";
     }
@@ -96,40 +94,15 @@ public class ModsImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            if (context == null) {
-                context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.mods");
-            }
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-
-            // The unmarshalled object is a jaxbElement.
-            JAXBElement<?> unmarshalledObject = (JAXBElement<?>) unmarshaller.unmarshal(input);
-
-            Optional<ModsCollectionDefinition> collection = getElement(unmarshalledObject.getValue(),
-                    ModsCollectionDefinition.class);
-            Optional<ModsDefinition> mods = getElement(unmarshalledObject.getValue(), ModsDefinition.class);
-
-            if (collection.isPresent()) {
-                List<ModsDefinition> modsDefinitions = collection.get().getMods();
-                parseModsCollection(bibItems, modsDefinitions);
-            } else if (mods.isPresent()) {
-                ModsDefinition modsDefinition = mods.get();
-                parseMods(bibItems, modsDefinition);
-            } else {
-                LOGGER.warn("Not expected root element found");
-            }
-        } catch (JAXBException e) {
+            // The mods elements are read one after another, no matter whether they are inside a collection
+            XmlRecordReader.forEachRecord(input, CONTEXT_PATH, RECORD_TYPES, modsDefinition -> parseMods(bibItems, modsDefinition));
+        } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
         return new ParserResult(bibItems);
     }
 
-    private void parseModsCollection(List<BibEntry> bibItems, List<ModsDefinition> mods) {
-        for (ModsDefinition modsDefinition : mods) {
-            parseMods(bibItems, modsDefinition);
-        }
-    }
-
     private void parseMods(List<BibEntry> bibItems, ModsDefinition modsDefinition) {
         BibEntry entry = new BibEntry();
         Map<Field, String> fields = new HashMap<>();
@@ -2,7 +2,6 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -18,10 +17,10 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fetcher.DoiFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfDocumentCache;
 import org.jabref.logic.util.OS;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
-import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
@@ -31,8 +30,6 @@ import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.base.Strings;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 
 /**
  * PdfContentImporter parses data of the first page of the PDF and creates a BibTeX entry.
@@ -204,8 +201,8 @@ public class PdfContentImporter extends Importer {
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) {
         final ArrayList<BibEntry> result = new ArrayList<>(1);
-        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(filePath)) {
-            String firstPageContents = getFirstPageContents(document);
+        try {
+            String firstPageContents = PdfDocumentCache.get(filePath).getPageText(1);
 
             Optional<DOI> doi = DOI.findInText(firstPageContents);
             if (doi.isPresent()) {
@@ -508,19 +505,6 @@ public class PdfContentImporter extends Importer {
         return Optional.of(entry);
     }
 
-    private String getFirstPageContents(PDDocument document) throws IOException {
-        PDFTextStripper stripper = new PDFTextStripper();
-
-        stripper.setStartPage(1);
-        stripper.setEndPage(1);
-        stripper.setSortByPosition(true);
-        stripper.setParagraphEnd(System.lineSeparator());
-        StringWriter writer = new StringWriter();
-        stripper.writeText(document, writer);
-
-        return writer.toString();
-    }
-
     /**
      * Extract the year out of curString (if it is not yet defined)
      */
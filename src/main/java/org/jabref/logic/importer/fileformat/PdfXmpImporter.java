@@ -77,6 +77,14 @@ public class PdfXmpImporter extends Importer {
         return XmpUtilShared.hasMetadata(filePath, xmpPreferences);
     }
 
+    /**
+     * The XMP metadata can only be read from the file itself, not from its textual prefix.
+     */
+    @Override
+    public boolean isRecognizedFormat(Path filePath, Charset defaultEncoding, String filePrefix) throws IOException {
+        return isRecognizedFormat(filePath, defaultEncoding);
+    }
+
     @Override
     public String getId() {
         return "xmp";
@@ -0,0 +1,73 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.Reader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the records of an XML document (e.g., the articles of a PubMed export) one after another.
+ * <p>
+ * Each record is unmarshalled on its own and passed to the consumer before the next record is read. Thus, only one
+ * record is held in memory at a time, regardless of the size of the document. The elements around the records (e.g.,
+ * {@code PubmedArticleSet}) are skipped.
+ * <p>
+ * The JAXB contexts are expensive to create and are shared by all importers. An {@link Unmarshaller} is created for
+ * each document, as unmarshallers must not be used concurrently.
+ */
+class XmlRecordReader {
+
+    private static final Map<String, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private XmlRecordReader() {
+    }
+
+    /**
+     * Returns the JAXB context of the given package of generated classes, creating it on first use
+     */
+    static JAXBContext getContext(String contextPath) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(contextPath);
+        if (context == null) {
+            // Not created in computeIfAbsent, because creating a context can fail
+            context = JAXBContext.newInstance(contextPath);
+            JAXBContext previous = CONTEXTS.putIfAbsent(contextPath, context);
+            if (previous != null) {
+                context = previous;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Unmarshals each record of the document and passes it to the consumer in document order.
+     *
+     * @param recordTypes the class to unmarshal a record into, by the local name of the record element. Nested
+     *                    elements of a record are never treated as records on their own.
+     */
+    static <T> void forEachRecord(Reader reader, String contextPath, Map<String, Class<? extends T>> recordTypes, Consumer<T> consumer) throws JAXBException, XMLStreamException {
+        Unmarshaller unmarshaller = getContext(contextPath).createUnmarshaller();
+
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+        try {
+            while (xmlStreamReader.hasNext()) {
+                Class<? extends T> recordType = xmlStreamReader.isStartElement() ? recordTypes.get(xmlStreamReader.getLocalName()) : null;
+                if (recordType == null) {
+                    xmlStreamReader.next();
+                } else {
+                    // The unmarshaller leaves the reader at the event after the end of the record, which may be the start of the next record
+                    consumer.accept(unmarshaller.unmarshal(xmlStreamReader, recordType).getValue());
+                }
+            }
+        } finally {
+            xmlStreamReader.close();
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package org.jabref.logic.integrity;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.InternalField;
 
-public class CitationKeyDeviationChecker implements EntryChecker {
+public class CitationKeyDeviationChecker implements EntryChecker, DatabaseChecker {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
@@ -24,17 +28,45 @@ public class CitationKeyDeviationChecker implements EntryChecker {
 
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
-        Optional<String> valuekey = entry.getCitationKey();
-        if (valuekey.isEmpty()) {
+        if (entry.getCitationKey().isEmpty()) {
             return Collections.emptyList();
         }
 
-        String key = valuekey.get();
-
         // generate new key
         String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        return check(entry, generatedKey);
+    }
+
+    /**
+     * Checks all entries of the database. The generated key of an entry depends on the keys of the other entries (a
+     * letter is appended to keys already in use), so the occurrences of the citation keys are counted in a single pass
+     * instead of counting them for every generated key.
+     */
+    @Override
+    public List<IntegrityMessage> check(BibDatabase database) {
+        List<BibEntry> entries = database.getEntriesSnapshot();
+        Map<String, Long> occurrences = new HashMap<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(key -> occurrences.merge(key, 1L, Long::sum));
+        }
+
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
+                bibDatabaseContext.getMetaData().getCiteKeyPattern(citationKeyPatternPreferences.getKeyPattern()),
+                database,
+                citationKeyPatternPreferences);
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            if (entry.getCitationKey().isPresent()) {
+                String generatedKey = keyGenerator.generateKey(entry, key -> occurrences.getOrDefault(key, 0L));
+                result.addAll(check(entry, generatedKey));
+            }
+        }
+        return result;
+    }
 
-        if (!Objects.equals(key, generatedKey)) {
+    private List<IntegrityMessage> check(BibEntry entry, String generatedKey) {
+        Optional<String> key = entry.getCitationKey();
+        if (!Objects.equals(key.orElse(null), generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
                     Localization.lang("Citation key deviates from generated key"), entry, InternalField.KEY_FIELD));
         }
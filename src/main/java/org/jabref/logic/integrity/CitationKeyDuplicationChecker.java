@@ -1,7 +1,10 @@
 package org.jabref.logic.integrity;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -10,7 +13,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
-public class CitationKeyDuplicationChecker implements EntryChecker {
+public class CitationKeyDuplicationChecker implements EntryChecker, DatabaseChecker {
 
     private final BibDatabase database;
 
@@ -32,4 +35,26 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
         }
         return Collections.emptyList();
     }
+
+    /**
+     * Checks all entries of the database. The occurrences of the citation keys are counted in a single pass instead of
+     * counting them for every entry.
+     */
+    @Override
+    public List<IntegrityMessage> check(BibDatabase database) {
+        List<BibEntry> entries = new ArrayList<>(database.getEntries());
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(key -> occurrences.merge(key, 1, Integer::sum));
+        }
+
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            Optional<String> citeKey = entry.getCitationKey();
+            if (citeKey.isPresent() && (occurrences.get(citeKey.get()) > 1)) {
+                result.add(new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
+            }
+        }
+        return result;
+    }
 }
@@ -2,10 +2,12 @@ package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -13,7 +15,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 
-public class EntryLinkChecker implements EntryChecker {
+public class EntryLinkChecker implements EntryChecker, DatabaseChecker {
 
     private final BibDatabase database;
 
@@ -23,18 +25,41 @@ public class EntryLinkChecker implements EntryChecker {
 
     @Override
     public List<IntegrityMessage> check(BibEntry entry) {
+        return check(entry, key -> database.getEntryByCitationKey(key).isPresent());
+    }
+
+    /**
+     * Checks the links of all entries of the database. The citation keys are collected once instead of searching the
+     * database for every link.
+     */
+    @Override
+    public List<IntegrityMessage> check(BibDatabase database) {
+        List<BibEntry> entries = new ArrayList<>(database.getEntries());
+        Set<String> existingKeys = new HashSet<>();
+        for (BibEntry entry : entries) {
+            entry.getCitationKey().ifPresent(existingKeys::add);
+        }
+
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            result.addAll(check(entry, existingKeys::contains));
+        }
+        return result;
+    }
+
+    private List<IntegrityMessage> check(BibEntry entry, Predicate<String> keyExists) {
         List<IntegrityMessage> result = new ArrayList<>();
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
             if (properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                if (database.getEntryByCitationKey(field.getValue()).isEmpty()) {
+                if (!keyExists.test(field.getValue())) {
                     result.add(new IntegrityMessage(Localization.lang("Referenced citation key does not exist"), entry,
                             field.getKey()));
                 }
             } else if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
                 List<String> keys = new ArrayList<>(Arrays.asList(field.getValue().split(",")));
                 for (String key : keys) {
-                    if (database.getEntryByCitationKey(key).isEmpty()) {
+                    if (!keyExists.test(key)) {
                         result.add(new IntegrityMessage(
                                 Localization.lang("Referenced citation key does not exist") + ": " + key, entry,
                                 field.getKey()));
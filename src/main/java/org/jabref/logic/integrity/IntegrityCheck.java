@@ -1,21 +1,64 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Checks the integrity of the entries of a library.
+ * <p>
+ * The checks are split into checks of a single entry and checks depending on other entries of the library (duplicate
+ * citation keys, citation keys deviating from the generated ones, duplicate DOIs, links to other entries). The results
+ * of the former are cached per entry and are invalidated as soon as the entry changes, so that a repeated check only
+ * checks the modified entries. These entries are checked in parallel. Checks depending on the file system (e.g.,
+ * whether linked files exist) are never cached, as files may change outside of JabRef. The checks depending on other
+ * entries are computed in one aggregated pass over the library.
+ * <p>
+ * As long as the check is used, it listens to changes of the library. Call {@link #close()} to stop listening.
+ */
 public class IntegrityCheck {
 
+    /**
+     * The fields whose checks depend on the file system
+     */
+    private static final Set<Field> EXTERNAL_STATE_FIELDS = Set.of(StandardField.FILE);
+
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
+    private final List<FieldChecker> fieldCheckers;
+    private final List<FieldChecker> externalStateFieldCheckers;
     private final List<EntryChecker> entryCheckers;
+    private final EntryLinkChecker entryLinkChecker;
+    private final CitationKeyDuplicationChecker citationKeyDuplicationChecker;
+    private final CitationKeyDeviationChecker citationKeyDeviationChecker;
+    private final DoiDuplicationChecker doiDuplicationChecker;
+
+    /**
+     * The results of the single entry checks indexed by the id of the entry
+     */
+    private final Map<String, List<IntegrityMessage>> cachedResults = new ConcurrentHashMap<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -24,19 +67,22 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        List<FieldChecker> allFieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
-                allowIntegerEdition);
+                allowIntegerEdition).getAll();
+        fieldCheckers = allFieldCheckers.stream()
+                                        .filter(checker -> !EXTERNAL_STATE_FIELDS.contains(checker.field))
+                                        .collect(Collectors.toList());
+        externalStateFieldCheckers = allFieldCheckers.stream()
+                                                     .filter(checker -> EXTERNAL_STATE_FIELDS.contains(checker.field))
+                                                     .collect(Collectors.toList());
 
         entryCheckers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
-                new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())
+                new HTMLCharacterChecker()
         ));
 
         if (bibDatabaseContext.isBiblatexMode()) {
@@ -49,19 +95,49 @@ public class IntegrityCheck {
                     new BibTeXEntryTypeChecker())
             );
         }
+
+        entryLinkChecker = new EntryLinkChecker(bibDatabaseContext.getDatabase());
+        citationKeyDuplicationChecker = new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase());
+        citationKeyDeviationChecker = new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences);
+        doiDuplicationChecker = new DoiDuplicationChecker();
+
+        bibDatabaseContext.getDatabase().registerListener(this);
+        bibDatabaseContext.getMetaData().registerListener(this);
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    /**
+     * Checks all entries of the library. Only entries changed since the last check are checked again.
+     */
+    public List<IntegrityMessage> check() {
+        return check(() -> false, (checkedEntries, totalEntries) -> {
+        });
+    }
 
+    /**
+     * Checks all entries of the library. Only entries changed since the last check are checked again.
+     *
+     * @param isCancelled checked before each entry. Once it returns true, the remaining entries are skipped.
+     * @param progress    called after each checked entry with the number of checked entries and the total number of
+     *                    entries. It is called concurrently, as the entries are checked in parallel.
+     */
+    public List<IntegrityMessage> check(BooleanSupplier isCancelled, BiConsumer<Integer, Integer> progress) {
         BibDatabase database = bibDatabaseContext.getDatabase();
-
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+        List<BibEntry> entries = database.getEntriesSnapshot();
+        AtomicInteger checkedEntries = new AtomicInteger();
+
+        List<IntegrityMessage> result = new ArrayList<>(entries.parallelStream()
+                                                               .filter(entry -> !isCancelled.getAsBoolean())
+                                                               .flatMap(entry -> {
+                                                                   List<IntegrityMessage> messages = checkSingleEntry(entry);
+                                                                   progress.accept(checkedEntries.incrementAndGet(), entries.size());
+                                                                   return messages.stream();
+                                                               })
+                                                               .collect(Collectors.toList()));
+
+        if (!isCancelled.getAsBoolean()) {
+            result.addAll(checkDatabase(database));
         }
 
-        result.addAll(checkDatabase(database));
-
         return result;
     }
 
@@ -71,18 +147,87 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+        result.addAll(checkSingleEntry(entry));
+        result.addAll(entryLinkChecker.check(entry));
+        result.addAll(citationKeyDuplicationChecker.check(entry));
+        result.addAll(citationKeyDeviationChecker.check(entry));
+
+        return result;
+    }
+
+    /**
+     * Runs all checks depending on other entries of the library for all entries in one pass.
+     */
+    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        result.addAll(entryLinkChecker.check(database));
+        result.addAll(citationKeyDuplicationChecker.check(database));
+        result.addAll(citationKeyDeviationChecker.check(database));
+        result.addAll(doiDuplicationChecker.check(database));
+        return result;
+    }
+
+    /**
+     * Runs the checks which only depend on the given entry. The result of the checks not depending on the file system
+     * is cached until the entry changes.
+     */
+    private List<IntegrityMessage> checkSingleEntry(BibEntry entry) {
+        List<IntegrityMessage> cachedResult = getCachedResult(entry);
+        if (externalStateFieldCheckers.isEmpty()) {
+            return cachedResult;
+        }
+
+        List<IntegrityMessage> result = new ArrayList<>(cachedResult);
+        for (FieldChecker fieldChecker : externalStateFieldCheckers) {
             result.addAll(fieldChecker.check(entry));
         }
+        return result;
+    }
+
+    private List<IntegrityMessage> getCachedResult(BibEntry entry) {
+        return cachedResults.computeIfAbsent(entry.getId(), id -> {
+            List<IntegrityMessage> result = new ArrayList<>();
+            for (FieldChecker fieldChecker : fieldCheckers) {
+                result.addAll(fieldChecker.check(entry));
+            }
+            for (EntryChecker entryChecker : entryCheckers) {
+                result.addAll(entryChecker.check(entry));
+            }
+            return Collections.unmodifiableList(result);
+        });
+    }
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+    /**
+     * Stops listening to changes of the library.
+     */
+    public void close() {
+        bibDatabaseContext.getDatabase().unregisterListener(this);
+        bibDatabaseContext.getMetaData().unregisterListener(this);
+        cachedResults.clear();
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        cachedResults.remove(event.getBibEntry().getId());
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        for (FieldChange change : event.getFieldChanges()) {
+            cachedResults.remove(change.getEntry().getId());
         }
+    }
 
-        return result;
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            cachedResults.remove(entry.getId());
+        }
     }
 
-    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+    @Subscribe
+    public void listen(MetaDataChangedEvent event) {
+        // e.g., the mode of the library changed
+        cachedResults.clear();
     }
 }
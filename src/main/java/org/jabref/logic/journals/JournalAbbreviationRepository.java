@@ -3,7 +3,12 @@ package org.jabref.logic.journals;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,20 +19,41 @@ import org.h2.mvstore.MVStore;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * All lookups are case-insensitive. The built-in list is looked up in the MVStore file created at build time, which
+ * contains case-folded indexes besides the maps of the exact names. The custom abbreviations are indexed by all their
+ * forms (full name and abbreviations), so that a lookup does not depend on the size of the custom lists.
  */
 public class JournalAbbreviationRepository {
 
     private final MVMap<String, String> fullToAbbreviation;
     private final MVMap<String, String> abbreviationToFull;
+    private final Optional<MVMap<String, String>> caseFoldedToFull;
+    private final Optional<MVMap<String, String>> caseFoldedToAbbreviation;
     private final List<Abbreviation> customAbbreviations;
 
+    /**
+     * The custom abbreviations by their case-folded forms, in the order of {@link #customAbbreviations}
+     */
+    private final Map<String, List<Abbreviation>> customAbbreviationIndex = new HashMap<>();
+
     public JournalAbbreviationRepository(Path journalList) {
         MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open();
         this.fullToAbbreviation = store.openMap("FullToAbbreviation");
         this.abbreviationToFull = store.openMap("AbbreviationToFull");
+        // Lists converted by older versions do not contain the case-folded indexes
+        this.caseFoldedToFull = store.hasMap("CaseFoldedToFull") ? Optional.of(store.openMap("CaseFoldedToFull")) : Optional.empty();
+        this.caseFoldedToAbbreviation = store.hasMap("CaseFoldedToAbbreviation") ? Optional.of(store.openMap("CaseFoldedToAbbreviation")) : Optional.empty();
         this.customAbbreviations = new ArrayList<>();
     }
 
+    /**
+     * Returns the key used by the case-insensitive indexes.
+     */
+    public static String caseFold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
     private static boolean isMatched(String name, Abbreviation abbreviation) {
         return name.equalsIgnoreCase(abbreviation.getName())
                 || name.equalsIgnoreCase(abbreviation.getAbbreviation())
@@ -50,12 +76,9 @@ public class JournalAbbreviationRepository {
     public boolean isKnownName(String journalName) {
         String journal = journalName.trim();
 
-        boolean isKnown = customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation));
-        if (isKnown) {
-            return true;
-        }
-
-        return fullToAbbreviation.containsKey(journal) || abbreviationToFull.containsKey(journal);
+        return getCustomAbbreviation(journal).isPresent()
+                || getFullName(journal).isPresent()
+                || getAbbreviatedName(journal).isPresent();
     }
 
     /**
@@ -65,8 +88,8 @@ public class JournalAbbreviationRepository {
     public boolean isAbbreviatedName(String journalName) {
         String journal = journalName.trim();
 
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToFull.containsKey(journal);
+        return getCustomAbbreviationCandidates(journal).stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+                || getAbbreviatedName(journal).isPresent();
     }
 
     /**
@@ -77,25 +100,59 @@ public class JournalAbbreviationRepository {
     public Optional<Abbreviation> get(String input) {
         String journal = input.trim();
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findAny();
+        Optional<Abbreviation> customAbbreviation = getCustomAbbreviation(journal);
         if (customAbbreviation.isPresent()) {
             return customAbbreviation;
         }
 
-        return Optional.ofNullable(fullToAbbreviation.get(journal))
-                       .map(abbreviation -> new Abbreviation(journal, abbreviation))
-                       .or(() -> Optional.ofNullable(abbreviationToFull.get(journal)).map(fullName -> new Abbreviation(fullName, journal)));
+        return getFullName(journal)
+                .map(fullName -> new Abbreviation(fullName, fullToAbbreviation.get(fullName)))
+                .or(() -> getAbbreviatedName(journal).map(abbreviation -> new Abbreviation(abbreviationToFull.get(abbreviation), abbreviation)));
+    }
+
+    /**
+     * Returns the full name of the built-in list matching the given name (ignoring case)
+     */
+    private Optional<String> getFullName(String journal) {
+        if (fullToAbbreviation.containsKey(journal)) {
+            return Optional.of(journal);
+        }
+        return caseFoldedToFull.map(index -> index.get(caseFold(journal)));
+    }
+
+    /**
+     * Returns the abbreviation of the built-in list matching the given name (ignoring case)
+     */
+    private Optional<String> getAbbreviatedName(String journal) {
+        if (abbreviationToFull.containsKey(journal)) {
+            return Optional.of(journal);
+        }
+        return caseFoldedToAbbreviation.map(index -> index.get(caseFold(journal)));
+    }
+
+    private synchronized List<Abbreviation> getCustomAbbreviationCandidates(String journal) {
+        return List.copyOf(customAbbreviationIndex.getOrDefault(caseFold(journal), Collections.emptyList()));
     }
 
-    public void addCustomAbbreviation(Abbreviation abbreviation) {
+    private Optional<Abbreviation> getCustomAbbreviation(String journal) {
+        // The index may contain abbreviations whose names only match after case folding, but not ignoring case
+        return getCustomAbbreviationCandidates(journal).stream()
+                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
+                                                       .findFirst();
+    }
+
+    public synchronized void addCustomAbbreviation(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // We do not want to keep duplicates, thus remove the old abbreviation
         // (abbreviation equality is tested on name only, so we cannot use a Set instead)
-        customAbbreviations.remove(abbreviation);
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.remove(abbreviation)) {
+            customAbbreviations.add(abbreviation);
+            rebuildCustomAbbreviationIndex();
+        } else {
+            customAbbreviations.add(abbreviation);
+            index(abbreviation);
+        }
     }
 
     public List<Abbreviation> getCustomAbbreviations() {
@@ -106,6 +163,20 @@ public class JournalAbbreviationRepository {
         abbreviationsToAdd.forEach(this::addCustomAbbreviation);
     }
 
+    private void rebuildCustomAbbreviationIndex() {
+        customAbbreviationIndex.clear();
+        customAbbreviations.forEach(this::index);
+    }
+
+    private void index(Abbreviation abbreviation) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(caseFold(abbreviation.getName()));
+        keys.add(caseFold(abbreviation.getAbbreviation()));
+        keys.add(caseFold(abbreviation.getMedlineAbbreviation()));
+        keys.add(caseFold(abbreviation.getShortestUniqueAbbreviation()));
+        keys.forEach(key -> customAbbreviationIndex.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(abbreviation));
+    }
+
     public Optional<String> getNextAbbreviation(String text) {
         return get(text).map(abbreviation -> abbreviation.getNext(text));
     }
@@ -0,0 +1,83 @@
+package org.jabref.logic.layout;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Caches compiled {@link Layout}s, so that a layout text is only parsed once for the same preferences.
+ * <p>
+ * A compiled layout has all field names resolved and all formatters instantiated. It is shared between all callers
+ * requesting the same layout text with the same {@link LayoutFormatterPreferences} instance (e.g., subsequent exports
+ * using the same exporter or previews using the same preview layout). Thus, layouts obtained from this cache must not be
+ * modified (e.g., by {@link Layout#setPostFormatter(LayoutFormatter)}). Use {@link LayoutHelper} directly to get a
+ * private copy.
+ */
+public class LayoutCache {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Cache<LayoutKey, Layout> LAYOUTS = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private LayoutCache() {
+    }
+
+    /**
+     * Returns the compiled layout for the given layout text.
+     *
+     * @param text  the layout text (as read from a layout file)
+     * @param prefs the preferences used to instantiate the formatters
+     * @throws IOException if the layout could not be parsed
+     */
+    public static Layout getLayout(String text, LayoutFormatterPreferences prefs) throws IOException {
+        Objects.requireNonNull(text);
+        Objects.requireNonNull(prefs);
+
+        try {
+            return LAYOUTS.get(new LayoutKey(text, prefs), () -> new LayoutHelper(new StringReader(text), prefs).getLayoutFromText());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Could not parse layout", e.getCause());
+        } catch (UncheckedExecutionException e) {
+            // Parse errors are reported as runtime exceptions by the LayoutHelper
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * The preferences are compared by identity, as they are mutable and do not implement equals.
+     */
+    private static class LayoutKey {
+        private final String text;
+        private final LayoutFormatterPreferences prefs;
+
+        LayoutKey(String text, LayoutFormatterPreferences prefs) {
+            this.text = text;
+            this.prefs = prefs;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            LayoutKey other = (LayoutKey) o;
+            return (prefs == other.prefs) && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * text.hashCode()) + System.identityHashCode(prefs);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -84,6 +85,7 @@ import org.jabref.logic.openoffice.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -95,8 +97,21 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_FIELDS = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_FIELDS_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_FIELDS_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
     private List<LayoutFormatter> option;
 
+    // Field of a simple command or of a field-based option, resolved once when the layout is parsed
+    private Field parsedField;
+
+    // Alternatives of a field or group start, resolved once when the layout is parsed
+    private List<FieldCondition> fieldConditions;
+
+    // true if all alternatives of a field start have to be present (AND), false if one is enough (OR)
+    private boolean allConditionsRequired;
+
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
 
@@ -119,9 +134,13 @@ class LayoutEntry {
                 break;
             case LayoutHelper.IS_SIMPLE_COMMAND:
                 text = si.s.trim();
+                parsedField = FieldFactory.parseField(text);
                 break;
             case LayoutHelper.IS_OPTION_FIELD:
                 doOptionField(si.s);
+                if (text.startsWith("\\")) {
+                    parsedField = FieldFactory.parseField(text.substring(1));
+                }
                 break;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_FIELD_END:
@@ -183,6 +202,33 @@ class LayoutEntry {
         for (LayoutEntry layoutEntry : layoutEntries) {
             invalidFormatter.addAll(layoutEntry.getInvalidFormatters());
         }
+
+        fieldConditions = parseFieldConditions();
+    }
+
+    /**
+     * Splits the text of a field or group start into its alternatives, so that this does not need to be done for every
+     * entry. Field starts may be combined using &, && or ; (AND) or |, || (OR), each part may be negated using !.
+     */
+    private List<FieldCondition> parseFieldConditions() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return Collections.singletonList(new FieldCondition(FieldFactory.parseField(text), false));
+        }
+
+        String[] parts;
+        if (AND_FIELDS.matcher(text).matches()) {
+            allConditionsRequired = true;
+            parts = AND_FIELDS_SEPARATOR.split(text);
+        } else {
+            parts = OR_FIELDS_SEPARATOR.split(text);
+        }
+
+        List<FieldCondition> conditions = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            boolean negated = part.startsWith("!");
+            conditions.add(new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+        }
+        return conditions;
     }
 
     public void setPostFormatter(LayoutFormatter formatter) {
@@ -194,7 +240,7 @@ class LayoutEntry {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(parsedField, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
@@ -232,8 +278,8 @@ class LayoutEntry {
         } else {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
-            fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+            fieldEntry = parsedField != null ? bibtex
+                    .getResolvedFieldOrAlias(parsedField, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
@@ -253,31 +299,13 @@ class LayoutEntry {
     }
 
     private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
-        Optional<String> field;
+        Optional<String> field = Optional.empty();
         boolean negated = false;
-        if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
-        } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
-                    break;
-                }
+        for (FieldCondition condition : fieldConditions) {
+            negated = condition.negated;
+            field = bibtex.getResolvedFieldOrAlias(condition.field, database);
+            if (allConditionsRequired ? (field.isPresent() == negated) : (field.isPresent() ^ negated)) {
+                break;
             }
         }
 
@@ -613,4 +641,14 @@ class LayoutEntry {
     public String getText() {
         return text;
     }
+
+    private static class FieldCondition {
+        private final Field field;
+        private final boolean negated;
+
+        FieldCondition(Field field, boolean negated) {
+            this.field = field;
+            this.negated = negated;
+        }
+    }
 }
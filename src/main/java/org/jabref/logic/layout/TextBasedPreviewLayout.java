@@ -1,9 +1,9 @@
 package org.jabref.logic.layout;
 
 import java.io.IOException;
-import java.io.StringReader;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preview.PreviewCache;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -32,14 +32,17 @@ public class TextBasedPreviewLayout implements PreviewLayout {
         this.text = layout.getText();
     }
 
-    public void setText(String text) {
+    /**
+     * Changes the layout text. The previews rendered with the previous text are removed from the {@link PreviewCache}.
+     */
+    public synchronized void setText(String text) {
         this.text = text;
-        StringReader sr = new StringReader(text.replace("__NEWLINE__", "\n"));
         try {
-            layout = new LayoutHelper(sr, layoutFormatterPreferences).getLayoutFromText();
+            layout = LayoutCache.getLayout(text.replace("__NEWLINE__", "\n"), layoutFormatterPreferences);
         } catch (IOException e) {
             LOGGER.error("Could not generate layout", e);
         }
+        PreviewCache.invalidate(this);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package org.jabref.logic.msbib;
 
 import java.io.BufferedReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -11,6 +10,10 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -20,9 +23,6 @@ import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 
 /**
  * Microsoft Word bibliography.
@@ -63,39 +63,86 @@ public class MSBibDatabase {
 
     /**
      * Imports entries from an office xml file
+     * <p>
+     * The sources are read one after another. Only the source being converted is held as DOM, so that large files can
+     * be imported with bounded memory.
      *
      * @param reader
      * @return List of {@link BibEntry}
      */
     public List<BibEntry> importEntriesFromXml(BufferedReader reader) {
-        entries = new HashSet<>();
-        Document inputDocument;
+        List<BibEntry> bibitems = new ArrayList<>();
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             factory.setNamespaceAware(true);
-            DocumentBuilder documentBuilder = factory.newDocumentBuilder();
-            inputDocument = documentBuilder.parse(new InputSource(reader));
-        } catch (ParserConfigurationException | SAXException | IOException e) {
+            Document document = factory.newDocumentBuilder().newDocument();
+
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+            try {
+                // Only the sources inside the first Sources element are imported
+                int sourcesDepth = -1;
+                int depth = 0;
+                while (xmlStreamReader.hasNext()) {
+                    int event = xmlStreamReader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if ((sourcesDepth < 0) && "Sources".equals(xmlStreamReader.getLocalName())) {
+                            sourcesDepth = depth;
+                        } else if ((sourcesDepth > 0) && "Source".equals(xmlStreamReader.getLocalName())) {
+                            // readElement consumes the end of the source
+                            depth--;
+                            MSBibEntry entry = new MSBibEntry(readElement(xmlStreamReader, document));
+                            bibitems.add(BibTeXConverter.convert(entry));
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        if (depth == sourcesDepth) {
+                            break;
+                        }
+                        depth--;
+                    }
+                }
+            } finally {
+                xmlStreamReader.close();
+            }
+        } catch (ParserConfigurationException | XMLStreamException e) {
             LOGGER.warn("Could not parse document", e);
             return Collections.emptyList();
         }
-        NodeList rootList = inputDocument.getElementsByTagNameNS("*", "Sources");
-        if (rootList.getLength() == 0) {
-            rootList = inputDocument.getElementsByTagNameNS("*", "Sources");
-        }
-        List<BibEntry> bibitems = new ArrayList<>();
-        if (rootList.getLength() == 0) {
-            return bibitems;
-        }
 
-        NodeList sourceList = ((Element) rootList.item(0)).getElementsByTagNameNS("*", "Source");
-        for (int i = 0; i < sourceList.getLength(); i++) {
-            MSBibEntry entry = new MSBibEntry((Element) sourceList.item(i));
-            entries.add(entry);
-            bibitems.add(BibTeXConverter.convert(entry));
+        return bibitems;
+    }
+
+    /**
+     * Reads the element the reader is positioned at, including its children, into a detached DOM element. Leaves the
+     * reader at the end of the element.
+     */
+    private static Element readElement(XMLStreamReader xmlStreamReader, Document document) throws XMLStreamException {
+        Element element = createElement(xmlStreamReader, document);
+        Node current = element;
+        while (current != null) {
+            switch (xmlStreamReader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    Element child = createElement(xmlStreamReader, document);
+                    current.appendChild(child);
+                    current = child;
+                }
+                case XMLStreamConstants.END_ELEMENT -> current = (current == element) ? null : current.getParentNode();
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> current.appendChild(document.createTextNode(xmlStreamReader.getText()));
+                default -> {
+                    // comments and processing instructions are not needed
+                }
+            }
         }
+        return element;
+    }
 
-        return bibitems;
+    private static Element createElement(XMLStreamReader xmlStreamReader, Document document) {
+        String prefix = xmlStreamReader.getPrefix();
+        String qualifiedName = ((prefix == null) || prefix.isEmpty()) ? xmlStreamReader.getLocalName() : prefix + ":" + xmlStreamReader.getLocalName();
+        String namespace = xmlStreamReader.getNamespaceURI();
+        return document.createElementNS(((namespace == null) || namespace.isEmpty()) ? null : namespace, qualifiedName);
     }
 
     private void addEntriesForExport(List<BibEntry> entriesToAdd) {
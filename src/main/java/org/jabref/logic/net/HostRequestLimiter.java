@@ -0,0 +1,135 @@
+package org.jabref.logic.net;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Limits the requests sent to a single host, so that bulk operations (e.g., looking up the full texts or DOIs of many
+ * entries) do not get throttled by the web services.
+ * <p>
+ * For each host, the number of concurrent requests and the number of requests per second (token bucket) are limited.
+ * Additionally, a host can be paused, e.g., after it answered with "429 Too Many Requests".
+ * <p>
+ * The concurrency limit should not exceed the number of connections the JDK keeps alive per host (system property
+ * <code>http.maxConnections</code>, 5 by default). Then, each request can reuse a pooled connection instead of doing a
+ * new TLS handshake.
+ */
+public class HostRequestLimiter {
+
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 5;
+
+    private final Map<String, HostLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a limiter with the limits documented by the web services JabRef uses most.
+     */
+    public static HostRequestLimiter createDefault() {
+        HostRequestLimiter limiter = new HostRequestLimiter();
+        // https://github.com/CrossRef/rest-api-doc#rate-limits
+        limiter.setLimit("api.crossref.org", 5, 50);
+        // https://arxiv.org/help/api/tou: "no more than one request every three seconds" and "a single connection"
+        limiter.setLimit("export.arxiv.org", 1, 1.0 / 3);
+        limiter.setLimit("arxiv.org", 1, 4);
+        return limiter;
+    }
+
+    /**
+     * @param requestsPerSecond the number of requests per second, may be {@link Double#POSITIVE_INFINITY}
+     */
+    public void setLimit(String host, int maximumConcurrentRequests, double requestsPerSecond) {
+        limits.put(normalize(host), new HostLimit(maximumConcurrentRequests, requestsPerSecond));
+    }
+
+    /**
+     * Waits until a request to the given host is allowed.
+     *
+     * @return the permit, which has to be closed as soon as the response (or at least its header) was received
+     * @throws InterruptedIOException if the thread was interrupted while waiting
+     */
+    public Permit acquire(String host) throws InterruptedIOException {
+        HostLimit limit = getLimit(host);
+        try {
+            limit.waitWhilePaused();
+            limit.concurrentRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request to " + host);
+        }
+        limit.rate.acquire();
+        return new Permit(limit);
+    }
+
+    /**
+     * Stops all requests to the given host for the given time. Requests that are already running are not affected.
+     */
+    public void pause(String host, Duration duration) {
+        getLimit(host).pause(duration);
+    }
+
+    private HostLimit getLimit(String host) {
+        return limits.computeIfAbsent(normalize(host), unused -> new HostLimit(DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, Double.POSITIVE_INFINITY));
+    }
+
+    private static String normalize(String host) {
+        return Objects.requireNonNull(host).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Allows one request to a host. The next request may start as soon as this permit is closed.
+     */
+    public static class Permit implements AutoCloseable {
+        private final HostLimit limit;
+        private boolean closed;
+
+        private Permit(HostLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                limit.concurrentRequests.release();
+            }
+        }
+    }
+
+    private static class HostLimit {
+        private final Semaphore concurrentRequests;
+        private final RateLimiter rate;
+        private long pausedUntil = System.nanoTime();
+
+        HostLimit(int maximumConcurrentRequests, double requestsPerSecond) {
+            this.concurrentRequests = new Semaphore(maximumConcurrentRequests, true);
+            this.rate = RateLimiter.create(requestsPerSecond);
+        }
+
+        synchronized void pause(Duration duration) {
+            long until = System.nanoTime() + duration.toNanos();
+            if ((until - pausedUntil) > 0) {
+                pausedUntil = until;
+            }
+        }
+
+        void waitWhilePaused() throws InterruptedException {
+            long remaining;
+            synchronized (this) {
+                remaining = pausedUntil - System.nanoTime();
+            }
+            while (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+                synchronized (this) {
+                    remaining = pausedUntil - System.nanoTime();
+                }
+            }
+        }
+    }
+}
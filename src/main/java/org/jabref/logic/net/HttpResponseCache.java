@@ -0,0 +1,565 @@
+package org.jabref.logic.net;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size bounded on-disk cache of HTTP responses used by {@link URLDownload}.
+ * <p>
+ * Only responses to GET requests are cached. They are identified by the URL and the request headers selecting a
+ * representation (see {@link #KEYED_REQUEST_HEADERS}). Responses varying on other request headers (<code>Vary</code>)
+ * are not stored, as well as unsuccessful responses. The freshness of a response is determined by its
+ * <code>Cache-Control</code> (<code>max-age</code>, <code>no-cache</code>, <code>no-store</code>) and
+ * <code>Expires</code> headers. Responses without explicit freshness information are only considered fresh for a
+ * heuristic duration if they carry a <code>Last-Modified</code> header (see RFC 7234, section 4.2.2). Stale responses
+ * carrying an <code>ETag</code> or a <code>Last-Modified</code> header are revalidated by a conditional request.
+ * <p>
+ * If the cached responses exceed the maximum size, the least recently used responses are removed. The time of the last
+ * use is stored as modification time of the files, so that the order survives restarts.
+ */
+public class HttpResponseCache {
+
+    public static final Duration DEFAULT_HEURISTIC_FRESHNESS = Duration.ofDays(1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 50L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String FILE_EXTENSION = ".response";
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * The request headers which are part of the key, because servers commonly choose the representation by them
+     */
+    private static final List<String> KEYED_REQUEST_HEADERS = List.of("accept", "accept-encoding", "accept-language", "authorization");
+
+    private final Path directory;
+    private final long maximumSize;
+    private final long maximumResponseSize;
+    private final Duration heuristicFreshness;
+    private final Clock clock;
+
+    /**
+     * The sizes of the cached responses in the order of their last use (least recently used first)
+     */
+    private final LinkedHashMap<String, Long> responseSizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param directory   the directory to store the responses in. It is created if it does not exist.
+     * @param maximumSize the maximum size of all stored responses in bytes. A single response may use at most a tenth of
+     *                    it.
+     */
+    public HttpResponseCache(Path directory, long maximumSize) {
+        this(directory, maximumSize, DEFAULT_HEURISTIC_FRESHNESS, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, long maximumSize, Duration heuristicFreshness, Clock clock) {
+        this.directory = Objects.requireNonNull(directory);
+        this.maximumSize = maximumSize;
+        this.maximumResponseSize = maximumSize / 10;
+        this.heuristicFreshness = Objects.requireNonNull(heuristicFreshness);
+        this.clock = Objects.requireNonNull(clock);
+
+        loadIndex();
+    }
+
+    /**
+     * Returns the key identifying the response to the given GET request.
+     *
+     * @param requestHeaders the headers sent with the request. Only the headers selecting a representation are used.
+     */
+    public static String getKey(URL url, Map<String, String> requestHeaders) {
+        Map<String, String> normalizedHeaders = new HashMap<>();
+        requestHeaders.forEach((name, value) -> normalizedHeaders.put(name.toLowerCase(Locale.ROOT), value));
+
+        StringBuilder request = new StringBuilder("GET ").append(url.toExternalForm());
+        for (String header : KEYED_REQUEST_HEADERS) {
+            request.append('\n').append(header).append(": ").append(normalizedHeaders.getOrDefault(header, ""));
+        }
+        return Hashing.sha256()
+                      .hashString(request, StandardCharsets.UTF_8)
+                      .toString();
+    }
+
+    /**
+     * Returns the cached response with the given key (fresh or not).
+     */
+    public synchronized Optional<CachedResponse> get(String key) {
+        Path file = getFile(key);
+        if (!responseSizes.containsKey(key) || !Files.exists(file)) {
+            removeFromIndex(key);
+            return Optional.empty();
+        }
+
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+            CachedResponse response = CachedResponse.read(input);
+            Files.setLastModifiedTime(file, FileTime.from(clock.instant()));
+            return Optional.of(response);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read cached response {}", file, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the response read from the given stream if it is cacheable. The stream is read at most up to the
+     * maximum size of a single response.
+     *
+     * @param headers the headers of the response as returned by {@link java.net.URLConnection#getHeaderFields()}
+     * @param body    the body of the response
+     * @return a stream of the complete body. If the body was not read completely, the returned stream continues to read
+     * from the given stream, so the caller has to close it.
+     * @throws IOException if the body could not be read. Failures to write the cache are only logged.
+     */
+    public InputStream store(String key, URL url, Map<String, List<String>> headers, InputStream body) throws IOException {
+        Map<String, String> normalizedHeaders = normalize(headers);
+        CacheControl cacheControl = CacheControl.parse(normalizedHeaders.get("cache-control"));
+        if (cacheControl.noStore || !isKeyedVariant(normalizedHeaders.get("vary"))) {
+            return body;
+        }
+        Instant now = clock.instant();
+        Instant freshUntil = getFreshUntil(now, cacheControl, normalizedHeaders);
+        if (!freshUntil.isAfter(now) && !normalizedHeaders.containsKey("etag") && !normalizedHeaders.containsKey("last-modified")) {
+            // Could neither be used nor revalidated
+            return body;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        boolean complete = copyAtMost(body, buffer, maximumResponseSize);
+        if (!complete) {
+            // Too large to be cached, e.g., a PDF
+            return new SequenceInputStream(new ByteArrayInputStream(buffer.toByteArray()), body);
+        }
+        body.close();
+
+        byte[] content = buffer.toByteArray();
+        CachedResponse response = new CachedResponse(url.toExternalForm(),
+                freshUntil,
+                normalizedHeaders.getOrDefault("etag", ""),
+                normalizedHeaders.getOrDefault("last-modified", ""),
+                normalizedHeaders.getOrDefault("content-type", ""),
+                content);
+        try {
+            write(key, response);
+        } catch (IOException e) {
+            // Caching is best-effort, the download itself succeeded
+            LOGGER.warn("Could not cache response of {}", url, e);
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Updates the freshness of the cached response after the server confirmed it (status 304).
+     *
+     * @param headers the headers of the 304 response
+     */
+    public void refresh(String key, CachedResponse response, Map<String, List<String>> headers) {
+        Map<String, String> normalizedHeaders = normalize(headers);
+        // The server may send updated validators
+        normalizedHeaders.putIfAbsent("etag", response.getETag());
+        normalizedHeaders.putIfAbsent("last-modified", response.getLastModified());
+
+        CachedResponse refreshed = new CachedResponse(response.getUrl(),
+                getFreshUntil(clock.instant(), CacheControl.parse(normalizedHeaders.get("cache-control")), normalizedHeaders),
+                normalizedHeaders.get("etag"),
+                normalizedHeaders.get("last-modified"),
+                response.getContentType(),
+                response.getBody());
+        try {
+            write(key, refreshed);
+        } catch (IOException e) {
+            LOGGER.debug("Could not refresh cached response for {}", response.getUrl(), e);
+        }
+    }
+
+    public synchronized void clear() {
+        for (String key : List.copyOf(responseSizes.keySet())) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of requests answered by a fresh cached response without contacting the server.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of requests answered by a cached response after the server confirmed that it is still valid.
+     */
+    public long getRevalidationCount() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Returns the number of requests which had to download the response.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of requests whose response body was taken from the cache (including revalidated responses).
+     */
+    public double getHitRatio() {
+        long served = getHitCount() + getRevalidationCount();
+        long total = served + getMissCount();
+        return (total == 0) ? 0 : ((double) served / total);
+    }
+
+    public synchronized long getSize() {
+        return currentSize;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordRevalidation() {
+        revalidations.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    boolean isFresh(CachedResponse response) {
+        return clock.instant().isBefore(response.getFreshUntil());
+    }
+
+    private Instant getFreshUntil(Instant now, CacheControl cacheControl, Map<String, String> headers) {
+        if (cacheControl.noCache) {
+            return now;
+        }
+        if (cacheControl.maxAge.isPresent()) {
+            return now.plus(cacheControl.maxAge.get());
+        }
+        Optional<Instant> expires = parseDate(headers.get("expires"));
+        if (expires.isPresent()) {
+            return expires.get();
+        }
+        Optional<Instant> lastModified = parseDate(headers.get("last-modified"));
+        if (lastModified.isPresent() && lastModified.get().isBefore(now)) {
+            // The common heuristic: a tenth of the time since the last modification
+            Duration sinceModification = Duration.between(lastModified.get(), now).dividedBy(10);
+            return now.plus((sinceModification.compareTo(heuristicFreshness) < 0) ? sinceModification : heuristicFreshness);
+        }
+        // No information about the freshness: revalidate or download again on the next request
+        return now;
+    }
+
+    /**
+     * Checks whether the response varies only on request headers which are part of the key
+     */
+    private static boolean isKeyedVariant(String vary) {
+        if (vary == null) {
+            return true;
+        }
+        return Stream.of(vary.split(","))
+                     .map(header -> header.trim().toLowerCase(Locale.ROOT))
+                     .filter(header -> !header.isEmpty())
+                     .allMatch(KEYED_REQUEST_HEADERS::contains);
+    }
+
+    private synchronized void write(String key, CachedResponse response) throws IOException {
+        Files.createDirectories(directory);
+        Path file = getFile(key);
+        Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                response.write(output);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteFile(temporaryFile);
+            throw e;
+        }
+
+        removeFromIndex(key);
+        long size = Files.size(file);
+        responseSizes.put(key, size);
+        currentSize += size;
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = responseSizes.entrySet().iterator();
+        while ((currentSize > maximumSize) && iterator.hasNext()) {
+            Map.Entry<String, Long> leastRecentlyUsed = iterator.next();
+            iterator.remove();
+            currentSize -= leastRecentlyUsed.getValue();
+            deleteFile(getFile(leastRecentlyUsed.getKey()));
+        }
+    }
+
+    private void remove(String key) {
+        removeFromIndex(key);
+        deleteFile(getFile(key));
+    }
+
+    private void removeFromIndex(String key) {
+        Long size = responseSizes.remove(key);
+        if (size != null) {
+            currentSize -= size;
+        }
+    }
+
+    private void loadIndex() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> responses = files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                                        .sorted(Comparator.comparing(HttpResponseCache::getLastModifiedTime))
+                                        .collect(Collectors.toList());
+            for (Path file : responses) {
+                String fileName = file.getFileName().toString();
+                long size = Files.size(file);
+                responseSizes.put(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()), size);
+                currentSize += size;
+            }
+            evict();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the cached responses in {}", directory, e);
+        }
+    }
+
+    private Path getFile(String key) {
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete cached response {}", file, e);
+        }
+    }
+
+    /**
+     * Copies the input to the output as long as it does not exceed the limit.
+     *
+     * @return true if the whole input was copied
+     */
+    private static boolean copyAtMost(InputStream input, OutputStream output, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long copied = 0;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+            copied += read;
+            if (copied > limit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> normalize(Map<String, List<String>> headers) {
+        Map<String, String> normalized = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            // The status line is stored with a null key
+            if ((header.getKey() != null) && !header.getValue().isEmpty()) {
+                normalized.put(header.getKey().toLowerCase(Locale.ROOT), String.join(", ", header.getValue()));
+            }
+        }
+        return normalized;
+    }
+
+    private static Optional<Instant> parseDate(String date) {
+        if ((date == null) || date.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeParseException e) {
+            // e.g., "Expires: 0", which means "already expired"
+            return Optional.of(Instant.EPOCH);
+        }
+    }
+
+    /**
+     * The directives of a <code>Cache-Control</code> header relevant for a private cache.
+     */
+    private static class CacheControl {
+        private boolean noStore;
+        private boolean noCache;
+        private Optional<Duration> maxAge = Optional.empty();
+
+        static CacheControl parse(String header) {
+            CacheControl cacheControl = new CacheControl();
+            if (header == null) {
+                return cacheControl;
+            }
+            for (String directive : header.toLowerCase(Locale.ROOT).split(",")) {
+                String trimmed = directive.trim();
+                if ("no-store".equals(trimmed)) {
+                    cacheControl.noStore = true;
+                } else if ("no-cache".equals(trimmed)) {
+                    cacheControl.noCache = true;
+                } else if (trimmed.startsWith("max-age=")) {
+                    try {
+                        cacheControl.maxAge = Optional.of(Duration.ofSeconds(Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", ""))));
+                    } catch (NumberFormatException e) {
+                        cacheControl.noCache = true;
+                    }
+                }
+            }
+            return cacheControl;
+        }
+    }
+
+    /**
+     * A response read from the cache.
+     */
+    public static class CachedResponse {
+        private final String url;
+        private final Instant freshUntil;
+        private final String eTag;
+        private final String lastModified;
+        private final String contentType;
+        private final byte[] body;
+
+        CachedResponse(String url, Instant freshUntil, String eTag, String lastModified, String contentType, byte[] body) {
+            this.url = url;
+            this.freshUntil = freshUntil;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public Instant getFreshUntil() {
+            return freshUntil;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Returns the headers of a conditional request asking the server whether this response is still valid.
+         */
+        public Map<String, String> getValidationHeaders() {
+            Map<String, String> headers = new HashMap<>();
+            if (!eTag.isEmpty()) {
+                headers.put("If-None-Match", eTag);
+            }
+            if (!lastModified.isEmpty()) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return Collections.unmodifiableMap(headers);
+        }
+
+        private void write(DataOutputStream output) throws IOException {
+            output.writeInt(FORMAT_VERSION);
+            writeString(output, url);
+            output.writeLong(freshUntil.toEpochMilli());
+            writeString(output, eTag);
+            writeString(output, lastModified);
+            writeString(output, contentType);
+            output.writeInt(body.length);
+            output.write(body);
+        }
+
+        private static CachedResponse read(DataInputStream input) throws IOException {
+            if (input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported format of cached response");
+            }
+            String url = readString(input);
+            Instant freshUntil = Instant.ofEpochMilli(input.readLong());
+            String eTag = readString(input);
+            String lastModified = readString(input);
+            String contentType = readString(input);
+            byte[] body = new byte[input.readInt()];
+            input.readFully(body);
+            return new CachedResponse(url, freshUntil, eTag, lastModified, contentType, body);
+        }
+
+        /**
+         * Writes the string as length-prefixed UTF-8, as {@link DataOutputStream#writeUTF(String)} is limited to 65535
+         * bytes (and URLs may be longer)
+         */
+        private static void writeString(DataOutputStream output, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        private static String readString(DataInputStream input) throws IOException {
+            int length = input.readInt();
+            if (length < 0) {
+                throw new IOException("Corrupt cached response");
+            }
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
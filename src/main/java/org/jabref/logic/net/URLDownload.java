@@ -7,6 +7,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -27,11 +28,17 @@ import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -58,7 +65,13 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  *
- * Each call to a public method creates a new HTTP connection. Nothing is cached.
+ * Each call to a public method creates a new HTTP connection. If a response cache is set (see
+ * {@link #setResponseCache(Optional)}), the responses of {@link #asString()}, {@link #asInputStream()} and
+ * {@link #toFile(Path)} to GET requests are taken from the cache as long as they are fresh. Requests with post data
+ * always go to the server.
+ * <p>
+ * The requests to each host are limited by a {@link HostRequestLimiter}. Requests answered with "429 Too Many
+ * Requests" or "503 Service Unavailable" are retried a few times with backoff.
  */
 public class URLDownload {
 
@@ -66,6 +79,14 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
 
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int MAXIMUM_RETRIES = 3;
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAXIMUM_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private static volatile Optional<HttpResponseCache> responseCache = Optional.empty();
+    private static volatile HostRequestLimiter requestLimiter = HostRequestLimiter.createDefault();
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -132,6 +153,28 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Sets the cache used by all downloads. An empty cache disables caching.
+     */
+    public static void setResponseCache(Optional<HttpResponseCache> cache) {
+        responseCache = Objects.requireNonNull(cache);
+    }
+
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the limiter of the requests to each host used by all downloads.
+     */
+    public static void setRequestLimiter(HostRequestLimiter limiter) {
+        requestLimiter = Objects.requireNonNull(limiter);
+    }
+
+    public static HostRequestLimiter getRequestLimiter() {
+        return requestLimiter;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -219,7 +262,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream());
+        try (InputStream input = this.openResponse().getInputStream();
              Writer output = new StringWriter()) {
             copy(input, output, encoding);
             return output.toString();
@@ -257,7 +300,7 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        try (InputStream input = this.openResponse().getInputStream()) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -269,14 +312,13 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws IOException {
-        HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
+        Response response = this.openResponse();
 
-        if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
-            LOGGER.error("Response message {} returned for url {}", urlConnection.getResponseMessage(), urlConnection.getURL());
+        if ((response.status == HttpURLConnection.HTTP_NOT_FOUND) || (response.status == HttpURLConnection.HTTP_BAD_REQUEST)) {
+            LOGGER.error("Response code {} returned for url {}", response.status, source);
             return new ProgressInputStream(new ByteArrayInputStream(new byte[0]), 0);
         }
-        long fileSize = urlConnection.getContentLengthLong();
-        return new ProgressInputStream(new BufferedInputStream(urlConnection.getInputStream()), fileSize);
+        return new ProgressInputStream(response.getInputStream(), response.length);
     }
 
     /**
@@ -317,12 +359,96 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Opens the response to the request, using the response cache if possible.
+     */
+    private Response openResponse() throws IOException {
+        Optional<HttpResponseCache> cache = responseCache;
+        String protocol = source.getProtocol();
+        // Responses to POST requests are not cached, as the request may change the state of the server
+        if (cache.isEmpty() || !postData.isEmpty() || !("http".equals(protocol) || "https".equals(protocol))) {
+            return new Response(this.openConnection());
+        }
+
+        String key = HttpResponseCache.getKey(source, parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.get().get(key);
+        if (cachedResponse.isPresent() && cache.get().isFresh(cachedResponse.get())) {
+            cache.get().recordHit();
+            return new Response(cachedResponse.get().getBody());
+        }
+
+        URLConnection connection = this.openConnection(cachedResponse.map(HttpResponseCache.CachedResponse::getValidationHeaders)
+                                                                     .orElse(Collections.emptyMap()));
+        int status = (connection instanceof HttpURLConnection) ? ((HttpURLConnection) connection).getResponseCode() : HttpURLConnection.HTTP_OK;
+        if ((status == HttpURLConnection.HTTP_NOT_MODIFIED) && cachedResponse.isPresent()) {
+            cache.get().recordRevalidation();
+            cache.get().refresh(key, cachedResponse.get(), connection.getHeaderFields());
+            return new Response(cachedResponse.get().getBody());
+        }
+
+        cache.get().recordMiss();
+        if (status != HttpURLConnection.HTTP_OK) {
+            return new Response(connection);
+        }
+        InputStream body = cache.get().store(key, source, connection.getHeaderFields(), new BufferedInputStream(connection.getInputStream()));
+        return new Response(status, body, connection.getContentLengthLong());
+    }
+
     private URLConnection openConnection() throws IOException {
+        return openConnection(Collections.emptyMap());
+    }
+
+    /**
+     * Opens the connection, limited by the {@link HostRequestLimiter}. If the server is overloaded (status 429 or 503),
+     * the request is retried after the time the server asked for or with exponential backoff.
+     *
+     * @param additionalHeaders headers sent in addition to the headers of this download, e.g., for a conditional request
+     */
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            URLConnection connection;
+            try (HostRequestLimiter.Permit permit = requestLimiter.acquire(source.getHost())) {
+                connection = this.connect(additionalHeaders);
+            }
+            if (!(connection instanceof HttpURLConnection)) {
+                return connection;
+            }
+
+            HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            int status = httpConnection.getResponseCode();
+            if ((status == HTTP_TOO_MANY_REQUESTS) || (status == HttpURLConnection.HTTP_UNAVAILABLE)) {
+                Duration delay = getRetryDelay(httpConnection).orElse(INITIAL_RETRY_DELAY.multipliedBy(1L << attempt));
+                if ((attempt >= MAXIMUM_RETRIES) || (delay.compareTo(MAXIMUM_RETRY_DELAY) > 0)) {
+                    return connection;
+                }
+                LOGGER.debug("{} answered with status {}, retrying in {} seconds", source.getHost(), status, delay.toSeconds());
+                discardErrorStream(httpConnection);
+                requestLimiter.pause(source.getHost(), delay);
+                continue;
+            }
+
+            // normally, 3xx is redirect
+            if ((status == HttpURLConnection.HTTP_MOVED_TEMP)
+                    || (status == HttpURLConnection.HTTP_MOVED_PERM)
+                    || (status == HttpURLConnection.HTTP_SEE_OTHER)) {
+                // get redirect url from "location" header field
+                String newUrl = connection.getHeaderField("location");
+                // open the new connnection again
+                connection = new URLDownload(newUrl).openConnection();
+            }
+            return connection;
+        }
+    }
+
+    private URLConnection connect(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
         connection.setConnectTimeout((int) connectTimeout.toMillis());
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        for (Entry<String, String> entry : additionalHeaders.entrySet()) {
+            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        }
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
@@ -330,27 +456,50 @@ public class URLDownload {
             }
         }
 
-        if (connection instanceof HttpURLConnection) {
-            // normally, 3xx is redirect
-            int status = ((HttpURLConnection) connection).getResponseCode();
-            if (status != HttpURLConnection.HTTP_OK) {
-                if ((status == HttpURLConnection.HTTP_MOVED_TEMP)
-                        || (status == HttpURLConnection.HTTP_MOVED_PERM)
-                        || (status == HttpURLConnection.HTTP_SEE_OTHER)) {
-                    // get redirect url from "location" header field
-                    String newUrl = connection.getHeaderField("location");
-                    // open the new connnection again
-                    connection = new URLDownload(newUrl).openConnection();
-                }
-            }
-        }
-
         // this does network i/o: GET + read returned headers
         connection.connect();
+        if (connection instanceof HttpURLConnection) {
+            ((HttpURLConnection) connection).getResponseCode();
+        }
 
         return connection;
     }
 
+    /**
+     * Reads the "Retry-After" header, which is either a number of seconds or a date.
+     */
+    private static Optional<Duration> getRetryDelay(HttpURLConnection connection) {
+        String retryAfter = connection.getHeaderField("Retry-After");
+        if (retryAfter == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                Instant retryTime = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration delay = Duration.between(Instant.now(), retryTime);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ex) {
+                LOGGER.debug("Could not parse Retry-After header {}", retryAfter, ex);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of an error response, so that the connection can be reused for the next request
+     */
+    private static void discardErrorStream(HttpURLConnection connection) {
+        try (InputStream errorStream = connection.getErrorStream()) {
+            if (errorStream != null) {
+                errorStream.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not read error response", e);
+        }
+    }
+
     public void setConnectTimeout(Duration connectTimeout) {
         if (connectTimeout != null) {
             this.connectTimeout = connectTimeout;
@@ -360,4 +509,43 @@ public class URLDownload {
     public Duration getConnectTimeout() {
         return connectTimeout;
     }
+
+    /**
+     * The body of a response, either read from a connection or from the response cache.
+     */
+    private static class Response {
+        private final int status;
+        private final long length;
+        private final URLConnection connection;
+        private final InputStream input;
+
+        Response(URLConnection connection) throws IOException {
+            this.status = (connection instanceof HttpURLConnection) ? ((HttpURLConnection) connection).getResponseCode() : HttpURLConnection.HTTP_OK;
+            this.length = connection.getContentLengthLong();
+            this.connection = connection;
+            this.input = null;
+        }
+
+        Response(byte[] cachedBody) {
+            this(HttpURLConnection.HTTP_OK, new ByteArrayInputStream(cachedBody), cachedBody.length);
+        }
+
+        Response(int status, InputStream input, long length) {
+            this.status = status;
+            this.length = length;
+            this.connection = null;
+            this.input = input;
+        }
+
+        /**
+         * Returns the body. For unsuccessful responses of a connection, the exception of
+         * {@link URLConnection#getInputStream()} is thrown.
+         */
+        InputStream getInputStream() throws IOException {
+            if (input != null) {
+                return input;
+            }
+            return new BufferedInputStream(connection.getInputStream());
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.pdf.FileAnnotation;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.common.PDMetadata;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * The artifacts parsed from a single version of a PDF file: the XMP packet, the document information, the annotations
+ * and the extracted text of the requested pages.
+ * <p>
+ * The artifacts are detached from the underlying {@link PDDocument}, which is only opened while parsing. All artifacts
+ * except the page texts are parsed together the first time any of them is requested. Page texts are extracted on
+ * demand, since extracting the text of a large document is expensive.
+ * <p>
+ * Instances are obtained from the {@link PdfDocumentCache}.
+ */
+public class CachedPdfDocument {
+
+    private final Path path;
+    private final Runnable onGrow;
+
+    private boolean parsed;
+    private boolean encrypted;
+    private int numberOfPages;
+    private Optional<String> xmpPacket = Optional.empty();
+    private PDDocumentInformation documentInformation = new PDDocumentInformation();
+    private List<FileAnnotation> annotations = Collections.emptyList();
+    private final Map<Integer, String> pageTexts = new HashMap<>();
+    private volatile int estimatedSize;
+
+    /**
+     * @param onGrow called whenever artifacts were added, so that the cache can update the weight of this document
+     */
+    CachedPdfDocument(Path path, Runnable onGrow) {
+        this.path = Objects.requireNonNull(path);
+        this.onGrow = Objects.requireNonNull(onGrow);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public synchronized boolean isEncrypted() throws IOException {
+        ensureParsed(Optional.empty());
+        return encrypted;
+    }
+
+    public synchronized int getNumberOfPages() throws IOException {
+        ensureParsed(Optional.empty());
+        return numberOfPages;
+    }
+
+    /**
+     * Returns the raw XMP packet of the document catalog (if any).
+     */
+    public synchronized Optional<String> getXmpPacket() throws IOException {
+        ensureParsed(Optional.empty());
+        return xmpPacket;
+    }
+
+    /**
+     * Returns a detached copy of the document information holding all its string values. Must not be modified.
+     */
+    public synchronized PDDocumentInformation getDocumentInformation() throws IOException {
+        ensureParsed(Optional.empty());
+        return documentInformation;
+    }
+
+    /**
+     * Returns the supported annotations of all pages (see {@link PdfAnnotationImporter}).
+     */
+    public synchronized List<FileAnnotation> getAnnotations() throws IOException {
+        ensureParsed(Optional.empty());
+        return annotations;
+    }
+
+    /**
+     * Returns the text of the given page with the text sorted by position and paragraphs separated by new lines.
+     *
+     * @param pageNumber the page number starting at 1
+     * @return the text of the page or an empty string if the document has less pages
+     */
+    public synchronized String getPageText(int pageNumber) throws IOException {
+        ensureParsed(Optional.of(pageNumber));
+        return pageTexts.getOrDefault(pageNumber, "");
+    }
+
+    /**
+     * Returns a rough estimate of the memory consumed by the artifacts in bytes.
+     */
+    int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    private void ensureParsed(Optional<Integer> pageNumber) throws IOException {
+        boolean pageMissing = pageNumber.isPresent() && (pageNumber.get() <= numberOfPages) && !pageTexts.containsKey(pageNumber.get());
+        if (parsed && !pageMissing) {
+            return;
+        }
+
+        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(path)) {
+            if (!parsed) {
+                encrypted = document.isEncrypted();
+                numberOfPages = document.getNumberOfPages();
+                xmpPacket = readXmpPacket(document);
+                documentInformation = copyDocumentInformation(document.getDocumentInformation());
+                annotations = Collections.unmodifiableList(new PdfAnnotationImporter().importAnnotations(document));
+                parsed = true;
+            }
+            if (pageNumber.isPresent() && (pageNumber.get() >= 1) && (pageNumber.get() <= numberOfPages)) {
+                pageTexts.put(pageNumber.get(), extractPageText(document, pageNumber.get()));
+            }
+        }
+        estimatedSize = estimateSize();
+        onGrow.run();
+    }
+
+    private int estimateSize() {
+        long characters = xmpPacket.map(String::length).orElse(0);
+        for (String text : pageTexts.values()) {
+            characters += text.length();
+        }
+        for (FileAnnotation annotation : annotations) {
+            characters += Objects.toString(annotation.getContent(), "").length() + Objects.toString(annotation.getAuthor(), "").length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, 1024 + (2 * characters));
+    }
+
+    private static Optional<String> readXmpPacket(PDDocument document) {
+        PDMetadata metadata = document.getDocumentCatalog().getMetadata();
+        if (metadata == null) {
+            return Optional.empty();
+        }
+        return Optional.of(metadata.getCOSObject().toTextString());
+    }
+
+    private static PDDocumentInformation copyDocumentInformation(PDDocumentInformation information) {
+        PDDocumentInformation copy = new PDDocumentInformation();
+        COSDictionary dictionary = information.getCOSObject();
+        for (Map.Entry<COSName, COSBase> item : dictionary.entrySet()) {
+            String value = dictionary.getString(item.getKey());
+            if (value != null) {
+                copy.getCOSObject().setItem(item.getKey(), new COSString(value));
+            }
+        }
+        return copy;
+    }
+
+    private static String extractPageText(PDDocument document, int pageNumber) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setStartPage(pageNumber);
+        stripper.setEndPage(pageNumber);
+        stripper.setSortByPosition(true);
+        stripper.setParagraphEnd(System.lineSeparator());
+        StringWriter writer = new StringWriter();
+        stripper.writeText(document, writer);
+        return writer.toString();
+    }
+}
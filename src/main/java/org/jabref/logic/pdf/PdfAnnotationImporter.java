@@ -41,28 +41,40 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             return Collections.emptyList();
         }
 
+        try {
+            // The document is shared with other components reading the same file, e.g., the XMP reader
+            return new LinkedList<>(PdfDocumentCache.get(path).getAnnotations());
+        } catch (IOException e) {
+            LOGGER.error(String.format("Failed to read file '%s'.", path), e);
+            return new LinkedList<>();
+        }
+    }
+
+    /**
+     * Imports the comments from an already loaded pdf document
+     *
+     * @param document the loaded pdf
+     * @return a list with the all the annotations found in the document
+     */
+    public List<FileAnnotation> importAnnotations(PDDocument document) throws IOException {
         List<FileAnnotation> annotationsList = new LinkedList<>();
-        try (PDDocument document = PDDocument.load(path.toFile())) {
-            PDPageTree pdfPages = document.getDocumentCatalog().getPages();
-            for (int pageIndex = 0; pageIndex < pdfPages.getCount(); pageIndex++) {
-                PDPage page = pdfPages.get(pageIndex);
-                for (PDAnnotation annotation : page.getAnnotations()) {
-                    if (!isSupportedAnnotationType(annotation)) {
-                        continue;
-                    }
+        PDPageTree pdfPages = document.getDocumentCatalog().getPages();
+        for (int pageIndex = 0; pageIndex < pdfPages.getCount(); pageIndex++) {
+            PDPage page = pdfPages.get(pageIndex);
+            for (PDAnnotation annotation : page.getAnnotations()) {
+                if (!isSupportedAnnotationType(annotation)) {
+                    continue;
+                }
 
-                    if (FileAnnotationType.isMarkedFileAnnotationType(annotation.getSubtype())) {
-                        annotationsList.add(createMarkedAnnotations(pageIndex, page, annotation));
-                    } else {
-                        FileAnnotation fileAnnotation = new FileAnnotation(annotation, pageIndex + 1);
-                        if ((fileAnnotation.getContent() != null) && !fileAnnotation.getContent().isEmpty()) {
-                            annotationsList.add(fileAnnotation);
-                        }
+                if (FileAnnotationType.isMarkedFileAnnotationType(annotation.getSubtype())) {
+                    annotationsList.add(createMarkedAnnotations(pageIndex, page, annotation));
+                } else {
+                    FileAnnotation fileAnnotation = new FileAnnotation(annotation, pageIndex + 1);
+                    if ((fileAnnotation.getContent() != null) && !fileAnnotation.getContent().isEmpty()) {
+                        annotationsList.add(fileAnnotation);
                     }
                 }
             }
-        } catch (IOException e) {
-            LOGGER.error(String.format("Failed to read file '%s'.", path), e);
         }
         return annotationsList;
     }
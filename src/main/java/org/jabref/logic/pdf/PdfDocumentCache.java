@@ -0,0 +1,112 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the artifacts parsed from PDF files (see {@link CachedPdfDocument}), so that a PDF is not parsed again by every
+ * component reading it (e.g., the XMP reader, the annotation importer and the content importer).
+ * <p>
+ * The documents are identified by their path, size and modification time. Thus, a modified file is parsed again. The
+ * cache is bounded by the estimated memory consumption of the parsed artifacts. The memory used while parsing is bounded
+ * by the memory settings of {@link org.jabref.logic.xmp.XmpUtilReader#loadWithAutomaticDecryption(Path)}.
+ */
+public class PdfDocumentCache {
+
+    /**
+     * Maximum estimated memory of all cached artifacts in bytes
+     */
+    private static final long MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    private static final Cache<DocumentKey, CachedPdfDocument> DOCUMENTS = CacheBuilder.newBuilder()
+                                                                                       .maximumWeight(MAXIMUM_WEIGHT)
+                                                                                       .weigher((DocumentKey key, CachedPdfDocument document) -> document.getEstimatedSize())
+                                                                                       .build();
+
+    private PdfDocumentCache() {
+    }
+
+    /**
+     * Returns the cached artifacts of the current version of the given file. The artifacts are parsed lazily on first
+     * access.
+     *
+     * @throws IOException if the attributes of the file cannot be read
+     */
+    public static CachedPdfDocument get(Path path) throws IOException {
+        Objects.requireNonNull(path);
+        Path normalizedPath = path.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(normalizedPath, BasicFileAttributes.class);
+        DocumentKey key = new DocumentKey(normalizedPath, attributes.size(), attributes.lastModifiedTime().toMillis());
+
+        CachedPdfDocument document = DOCUMENTS.getIfPresent(key);
+        if (document != null) {
+            return document;
+        }
+
+        // older versions of the file are outdated
+        invalidate(normalizedPath);
+        try {
+            return DOCUMENTS.get(key, () -> new CachedPdfDocument(normalizedPath, () -> reweigh(key)));
+        } catch (ExecutionException e) {
+            throw new IOException("Could not read " + path, e.getCause());
+        }
+    }
+
+    /**
+     * Removes all cached artifacts of the given file, e.g., after the file was written.
+     */
+    public static void invalidate(Path path) {
+        Path normalizedPath = path.toAbsolutePath().normalize();
+        DOCUMENTS.asMap().keySet().removeIf(key -> key.path.equals(normalizedPath));
+    }
+
+    public static void clear() {
+        DOCUMENTS.invalidateAll();
+    }
+
+    /**
+     * Re-inserts the document, so that the cache accounts for the artifacts parsed since its insertion.
+     */
+    private static void reweigh(DocumentKey key) {
+        CachedPdfDocument document = DOCUMENTS.getIfPresent(key);
+        if (document != null) {
+            DOCUMENTS.asMap().replace(key, document, document);
+        }
+    }
+
+    private static class DocumentKey {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        DocumentKey(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            DocumentKey other = (DocumentKey) o;
+            return (size == other.size) && (lastModified == other.lastModified) && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified);
+        }
+    }
+}
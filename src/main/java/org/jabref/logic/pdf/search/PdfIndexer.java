@@ -0,0 +1,336 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.util.DelayTaskThrottler;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.FullTextSearcher;
+import org.jabref.preferences.FilePreferences;
+
+import com.google.common.eventbus.Subscribe;
+import com.google.common.hash.Hashing;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains a full-text index of the PDF files linked from the entries of one library.
+ * <p>
+ * The index is stored on disk (one directory per library), so that it survives restarts. It is updated incrementally
+ * in the background: a file is only (re-)indexed if it is not yet part of the index or if its modification time
+ * changed. Files which are no longer linked are removed from the index. Changes of the file field of the entries
+ * trigger a new synchronization.
+ * <p>
+ * The documents of the index are identified by the link of the file (as stored in the file field), so that searches
+ * can be matched against the entries without accessing the file system (see {@link PdfSearcher}).
+ */
+public class PdfIndexer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfIndexer.class);
+
+    /**
+     * Number of indexed files after which the changes are made visible to searches
+     */
+    private static final int REFRESH_INTERVAL = 100;
+
+    private static final Set<PdfIndexer> RUNNING_INSTANCES = new HashSet<>();
+
+    private final BibDatabaseContext databaseContext;
+    private final FilePreferences filePreferences;
+    private final Directory indexDirectory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final PdfSearcher searcher;
+    private final DelayTaskThrottler throttler;
+
+    private volatile boolean shutdownRequested;
+    private boolean closed;
+
+    PdfIndexer(BibDatabaseContext databaseContext, Directory indexDirectory, FilePreferences filePreferences) throws IOException {
+        this.databaseContext = Objects.requireNonNull(databaseContext);
+        this.filePreferences = Objects.requireNonNull(filePreferences);
+        this.indexDirectory = Objects.requireNonNull(indexDirectory);
+
+        IndexWriterConfig config = new IndexWriterConfig(new StandardAnalyzer())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.indexWriter = new IndexWriter(indexDirectory, config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        this.searcher = new PdfSearcher(searcherManager);
+        this.throttler = new DelayTaskThrottler(2000);
+    }
+
+    /**
+     * Starts indexing the PDF files linked from the given library in the background. As long as the library is not
+     * saved, there is no place to store the index and thus nothing is indexed.
+     *
+     * @param indexBaseDirectory the directory holding the indexes of all libraries
+     */
+    public static Optional<PdfIndexer> start(BibDatabaseContext databaseContext, Path indexBaseDirectory, FilePreferences filePreferences) {
+        Optional<Path> databasePath = databaseContext.getDatabasePath();
+        if (databasePath.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path indexPath = getIndexPath(indexBaseDirectory, databasePath.get());
+        try {
+            Files.createDirectories(indexPath);
+            PdfIndexer indexer = new PdfIndexer(databaseContext, FSDirectory.open(indexPath), filePreferences);
+            databaseContext.getDatabase().registerListener(indexer);
+            indexer.scheduleSynchronization();
+            synchronized (RUNNING_INSTANCES) {
+                RUNNING_INSTANCES.add(indexer);
+            }
+            return Optional.of(indexer);
+        } catch (IOException e) {
+            // e.g., the index is locked by another instance of JabRef
+            LOGGER.error("Could not open full-text index at {}", indexPath, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the running indexer of the given library (if any).
+     */
+    public static Optional<PdfIndexer> getIndexer(BibDatabaseContext databaseContext) {
+        synchronized (RUNNING_INSTANCES) {
+            return RUNNING_INSTANCES.stream()
+                                    .filter(instance -> instance.databaseContext == databaseContext)
+                                    .findFirst();
+        }
+    }
+
+    /**
+     * Stops indexing the given library and closes its index.
+     */
+    public static void shutdown(BibDatabaseContext databaseContext) {
+        List<PdfIndexer> indexers = new ArrayList<>();
+        synchronized (RUNNING_INSTANCES) {
+            RUNNING_INSTANCES.removeIf(instance -> (instance.databaseContext == databaseContext) && indexers.add(instance));
+        }
+        indexers.forEach(PdfIndexer::shutdown);
+    }
+
+    /**
+     * The index of a library is stored in a sub directory of the base directory named after the hash of the path of
+     * the library.
+     */
+    static Path getIndexPath(Path indexBaseDirectory, Path databasePath) {
+        String hash = Hashing.sha256()
+                             .hashString(databasePath.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8)
+                             .toString();
+        return indexBaseDirectory.resolve(hash);
+    }
+
+    public PdfSearcher getSearcher() {
+        return searcher;
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (event.getField() == StandardField.FILE) {
+            scheduleSynchronization();
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (event.getFieldChanges().stream().anyMatch(change -> change.getField() == StandardField.FILE)) {
+            scheduleSynchronization();
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        if (event.getBibEntries().stream().anyMatch(entry -> entry.hasField(StandardField.FILE))) {
+            scheduleSynchronization();
+        }
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        if (event.getBibEntries().stream().anyMatch(entry -> entry.hasField(StandardField.FILE))) {
+            scheduleSynchronization();
+        }
+    }
+
+    private void scheduleSynchronization() {
+        throttler.schedule(() -> {
+            try {
+                synchronizeIndex();
+            } catch (IOException e) {
+                LOGGER.error("Could not update full-text index", e);
+            } catch (AlreadyClosedException e) {
+                // The library was closed while the index was written
+                LOGGER.debug("Full-text index closed during update", e);
+            }
+        });
+    }
+
+    /**
+     * Brings the index up to date with the files linked from the library: new and modified PDF files are indexed,
+     * files which are no longer linked (or no longer exist) are removed from the index.
+     * <p>
+     * Runs mutually exclusive with {@link #close()}, so that the index is not closed while it is written.
+     */
+    synchronized void synchronizeIndex() throws IOException {
+        if (closed) {
+            return;
+        }
+        Map<String, Long> indexedFiles = getIndexedFiles();
+        Set<String> visitedLinks = new HashSet<>();
+        Set<String> existingLinks = new HashSet<>();
+        int indexedSinceRefresh = 0;
+
+        for (BibEntry entry : new ArrayList<>(databaseContext.getEntries())) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                if (shutdownRequested) {
+                    return;
+                }
+                String link = linkedFile.getLink();
+                if (linkedFile.isOnlineLink() || !visitedLinks.add(link)) {
+                    continue;
+                }
+                Optional<Path> file = linkedFile.findIn(databaseContext, filePreferences).filter(FileUtil::isPDFFile);
+                if (file.isEmpty()) {
+                    continue;
+                }
+                existingLinks.add(link);
+
+                long modified = Files.getLastModifiedTime(file.get()).toMillis();
+                if (!Objects.equals(indexedFiles.get(link), modified)) {
+                    indexFile(link, file.get(), modified);
+                    indexedSinceRefresh++;
+                    if (indexedSinceRefresh >= REFRESH_INTERVAL) {
+                        searcherManager.maybeRefresh();
+                        indexedSinceRefresh = 0;
+                    }
+                }
+            }
+        }
+
+        for (String link : indexedFiles.keySet()) {
+            if (!existingLinks.contains(link)) {
+                indexWriter.deleteDocuments(new Term(PdfSearcher.LINK_FIELD, link));
+            }
+        }
+
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private void indexFile(String link, Path file, long modified) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(PdfSearcher.LINK_FIELD, link, Field.Store.YES));
+        document.add(new StoredField(PdfSearcher.MODIFIED_FIELD, modified));
+        // A file without extractable text is indexed nevertheless, so that it is not processed again on every update
+        extractText(file).ifPresent(text -> document.add(new TextField(FullTextSearcher.CONTENT_FIELD, text, Field.Store.NO)));
+        indexWriter.updateDocument(new Term(PdfSearcher.LINK_FIELD, link), document);
+    }
+
+    private Optional<String> extractText(Path file) {
+        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(file)) {
+            return Optional.of(new PDFTextStripper().getText(document));
+        } catch (IOException e) {
+            LOGGER.info("Could not extract text from {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the links of all files in the index together with their modification time at indexing.
+     */
+    private Map<String, Long> getIndexedFiles() throws IOException {
+        Map<String, Long> indexedFiles = new HashMap<>();
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try {
+            Set<String> fieldsToLoad = Set.of(PdfSearcher.LINK_FIELD, PdfSearcher.MODIFIED_FIELD);
+            for (LeafReaderContext leaf : indexSearcher.getIndexReader().leaves()) {
+                LeafReader reader = leaf.reader();
+                Bits liveDocs = reader.getLiveDocs();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    if ((liveDocs != null) && !liveDocs.get(doc)) {
+                        continue;
+                    }
+                    Document document = reader.document(doc, fieldsToLoad);
+                    IndexableField modified = document.getField(PdfSearcher.MODIFIED_FIELD);
+                    indexedFiles.put(document.get(PdfSearcher.LINK_FIELD), modified.numericValue().longValue());
+                }
+            }
+        } finally {
+            searcherManager.release(indexSearcher);
+        }
+        return indexedFiles;
+    }
+
+    private void shutdown() {
+        // Makes a running synchronization stop after the current file
+        shutdownRequested = true;
+        databaseContext.getDatabase().unregisterListener(this);
+        throttler.shutdown();
+        close();
+    }
+
+    /**
+     * Closes the index. Waits for a running synchronization to stop, so that it does not write to the closed index.
+     */
+    void close() {
+        shutdownRequested = true;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeIndex();
+        }
+    }
+
+    private void closeIndex() {
+        try {
+            searcherManager.close();
+            indexWriter.close();
+            indexDirectory.close();
+        } catch (IOException e) {
+            LOGGER.error("Could not close full-text index", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.search.rules.FullTextSearcher;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches the full-text index maintained by the {@link PdfIndexer}.
+ * <p>
+ * The result of the last query is cached as long as the index does not change, since the search rules evaluate the
+ * query once for every entry of the library.
+ */
+public class PdfSearcher implements FullTextSearcher {
+
+    static final String LINK_FIELD = "link";
+    static final String MODIFIED_FIELD = "modified";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfSearcher.class);
+
+    private final SearcherManager searcherManager;
+
+    private String lastQuery;
+    private boolean lastExact;
+    private IndexReader lastReader;
+    private Set<String> lastResult = Collections.emptySet();
+
+    PdfSearcher(SearcherManager searcherManager) {
+        this.searcherManager = Objects.requireNonNull(searcherManager);
+    }
+
+    @Override
+    public synchronized Set<String> findLinkedFiles(String query, boolean exact) {
+        try {
+            IndexSearcher indexSearcher = searcherManager.acquire();
+            try {
+                if ((indexSearcher.getIndexReader() == lastReader) && (exact == lastExact) && query.equals(lastQuery)) {
+                    return lastResult;
+                }
+                lastResult = Collections.unmodifiableSet(search(indexSearcher, parseQuery(query, exact)));
+                lastQuery = query;
+                lastExact = exact;
+                lastReader = indexSearcher.getIndexReader();
+                return lastResult;
+            } finally {
+                searcherManager.release(indexSearcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not search full-text index", e);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Parses the query using the Lucene query syntax (e.g., <code>neural AND network*</code>). If the query is not
+     * valid, all special characters are taken literally.
+     */
+    private Query parseQuery(String query, boolean exact) {
+        QueryParser parser = new QueryParser(CONTENT_FIELD, new StandardAnalyzer());
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            if (exact) {
+                return parser.parse('"' + QueryParser.escape(query) + '"');
+            }
+            return parser.parse(query);
+        } catch (ParseException e) {
+            LOGGER.debug("Invalid full-text query {}", query, e);
+            try {
+                return parser.parse(QueryParser.escape(query));
+            } catch (ParseException escapedException) {
+                throw new IllegalArgumentException("Could not parse full-text query " + query, escapedException);
+            }
+        }
+    }
+
+    private Set<String> search(IndexSearcher indexSearcher, Query query) throws IOException {
+        Set<String> links = new HashSet<>();
+        Set<String> fieldsToLoad = Set.of(LINK_FIELD);
+        indexSearcher.search(query, new SimpleCollector() {
+            private LeafReader reader;
+
+            @Override
+            protected void doSetNextReader(LeafReaderContext context) {
+                reader = context.reader();
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                links.add(reader.document(doc, fieldsToLoad).get(LINK_FIELD));
+            }
+
+            @Override
+            public ScoreMode scoreMode() {
+                return ScoreMode.COMPLETE_NO_SCORES;
+            }
+        });
+        return links;
+    }
+}
@@ -0,0 +1,159 @@
+package org.jabref.logic.preview;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Caches the previews rendered by all kinds of {@link PreviewLayout}s, shared by all previews of the application.
+ * <p>
+ * The previews are cached per database and entry, both of which are only weakly referenced, so that the previews of
+ * closed libraries and deleted entries are freed. At most {@value #CACHE_SIZE} entries of each database are cached.
+ * <p>
+ * A cached preview is only used as long as the state it was rendered from did not change: the entry (see
+ * {@link BibEntry#getModificationCount()}), the entry referenced by crossref, and the strings of the database. Thus, a
+ * changed entry is rendered again without the need to listen to its changes. A layout which is changed itself has to
+ * {@link #invalidate(PreviewLayout) invalidate} its previews.
+ */
+public class PreviewCache {
+
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * The previews by database, entry, and layout. All keys are compared by identity, as their contents change.
+     */
+    private static final Cache<BibDatabase, Cache<BibEntry, Map<PreviewLayout, RenderedPreview>>> PREVIEWS = CacheBuilder.newBuilder()
+                                                                                                                           .weakKeys()
+                                                                                                                           .build();
+
+    private PreviewCache() {
+    }
+
+    /**
+     * Returns the preview of the entry, rendering it if it is not cached. The previews of a layout are rendered one
+     * after another, because the layouts are not meant to be used concurrently.
+     */
+    public static String getPreview(PreviewLayout layout, BibEntry entry, BibDatabase database) {
+        Objects.requireNonNull(layout);
+        Objects.requireNonNull(entry);
+        if (database == null) {
+            synchronized (layout) {
+                return layout.generatePreview(entry, null);
+            }
+        }
+
+        Map<PreviewLayout, RenderedPreview> previews = getPreviews(database).asMap()
+                                                                            .computeIfAbsent(entry, key -> new MapMaker().weakKeys().makeMap());
+        RenderedFrom renderedFrom = new RenderedFrom(entry, database);
+        Optional<String> preview = getPreview(previews, layout, renderedFrom);
+        if (preview.isPresent()) {
+            return preview.get();
+        }
+        synchronized (layout) {
+            // The preview may have been rendered while waiting for the layout
+            preview = getPreview(previews, layout, renderedFrom);
+            if (preview.isPresent()) {
+                return preview.get();
+            }
+            String rendered = layout.generatePreview(entry, database);
+            previews.put(layout, new RenderedPreview(renderedFrom, rendered));
+            return rendered;
+        }
+    }
+
+    /**
+     * Returns the cached preview of the entry, if the current version of the entry was rendered before
+     */
+    public static Optional<String> getCachedPreview(PreviewLayout layout, BibEntry entry, BibDatabase database) {
+        if (database == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getPreviews(database).getIfPresent(entry))
+                       .flatMap(previews -> getPreview(previews, layout, new RenderedFrom(entry, database)));
+    }
+
+    /**
+     * Removes all previews rendered by the given layout. Has to be called by a layout after it was changed, while
+     * holding its own lock (the lock {@link #getPreview} holds while rendering).
+     */
+    public static void invalidate(PreviewLayout layout) {
+        for (Cache<BibEntry, Map<PreviewLayout, RenderedPreview>> previewsOfDatabase : PREVIEWS.asMap().values()) {
+            previewsOfDatabase.asMap().values().forEach(previews -> previews.remove(layout));
+        }
+    }
+
+    private static Cache<BibEntry, Map<PreviewLayout, RenderedPreview>> getPreviews(BibDatabase database) {
+        return PREVIEWS.asMap().computeIfAbsent(database, key -> CacheBuilder.newBuilder()
+                                                                             .weakKeys()
+                                                                             .maximumSize(CACHE_SIZE)
+                                                                             .build());
+    }
+
+    private static Optional<String> getPreview(Map<PreviewLayout, RenderedPreview> previews, PreviewLayout layout, RenderedFrom renderedFrom) {
+        return Optional.ofNullable(previews.get(layout))
+                       .filter(preview -> preview.renderedFrom.equals(renderedFrom))
+                       .map(preview -> preview.preview);
+    }
+
+    private static class RenderedPreview {
+        private final RenderedFrom renderedFrom;
+        private final String preview;
+
+        RenderedPreview(RenderedFrom renderedFrom, String preview) {
+            this.renderedFrom = renderedFrom;
+            this.preview = preview;
+        }
+    }
+
+    /**
+     * The state a preview is rendered from. It must not reference entries or the database, as the previews are cached
+     * as long as these are in use.
+     */
+    private static class RenderedFrom {
+        private final long modificationCount;
+        private final String crossrefParentId;
+        private final long crossrefParentModificationCount;
+        private final int stringsHash;
+
+        RenderedFrom(BibEntry entry, BibDatabase database) {
+            this.modificationCount = entry.getModificationCount();
+            Optional<BibEntry> crossrefParent = database.getReferencedEntry(entry);
+            this.crossrefParentId = crossrefParent.map(BibEntry::getId).orElse("");
+            this.crossrefParentModificationCount = crossrefParent.map(BibEntry::getModificationCount).orElse(0L);
+            int hash = 0;
+            for (BibtexString string : database.getStringValues()) {
+                // Independent of the order of the strings
+                hash += Objects.hash(string.getName(), string.getContent());
+            }
+            this.stringsHash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RenderedFrom)) {
+                return false;
+            }
+            RenderedFrom other = (RenderedFrom) o;
+            return (modificationCount == other.modificationCount)
+                    && crossrefParentId.equals(other.crossrefParentId)
+                    && (crossrefParentModificationCount == other.crossrefParentModificationCount)
+                    && (stringsHash == other.stringsHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modificationCount, crossrefParentId, crossrefParentModificationCount, stringsHash);
+        }
+    }
+}
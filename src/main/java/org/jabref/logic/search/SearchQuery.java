@@ -12,6 +12,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.FullTextSearcher;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
 import org.jabref.model.search.rules.SearchRule;
 import org.jabref.model.search.rules.SearchRules;
@@ -61,10 +62,17 @@ public class SearchQuery implements SearchMatcher {
     private final SearchRule rule;
 
     public SearchQuery(String query, boolean caseSensitive, boolean regularExpression) {
+        this(query, caseSensitive, regularExpression, Optional.empty());
+    }
+
+    /**
+     * @param fullTextSearcher searches the content of the linked files if the query contains <code>content=...</code>
+     */
+    public SearchQuery(String query, boolean caseSensitive, boolean regularExpression, Optional<FullTextSearcher> fullTextSearcher) {
         this.query = Objects.requireNonNull(query);
         this.caseSensitive = caseSensitive;
         this.regularExpression = regularExpression;
-        this.rule = SearchRules.getSearchRuleByQuery(query, caseSensitive, regularExpression);
+        this.rule = SearchRules.getSearchRuleByQuery(query, caseSensitive, regularExpression, fullTextSearcher);
     }
 
     @Override
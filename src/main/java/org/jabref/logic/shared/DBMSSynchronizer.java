@@ -22,6 +22,7 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
@@ -108,6 +109,34 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Listening method. Updates all entries changed by a batch of changes on the shared database.
+     *
+     * @param event {@link EntriesChangedEvent} object
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        Set<String> localEntryIds = bibDatabase.getEntriesSnapshot().stream()
+                                               .map(BibEntry::getId)
+                                               .collect(Collectors.toSet());
+        List<BibEntry> changedEntries = event.getBibEntries().stream()
+                                             .filter(entry -> localEntryIds.contains(entry.getId()))
+                                             .collect(Collectors.toList());
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+
+        if (isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
+            synchronizeLocalMetaData();
+            pullWithLastEntry();
+            changedEntries.forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        } else {
+            // Set new BibEntry that has been changed last
+            lastEntryChanged = Optional.of(changedEntries.get(changedEntries.size() - 1));
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      *
@@ -300,7 +329,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
+        for (BibEntry bibEntry : bibDatabase.getEntriesSnapshot()) {
             try {
                 // synchronize only if changes were present
                 if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
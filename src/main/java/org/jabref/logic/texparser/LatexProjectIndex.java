@@ -0,0 +1,465 @@
+package org.jabref.logic.texparser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.auxparser.AuxParser;
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the citations in the LaTeX files of a project directory, shared by the LaTeX citations tab and the
+ * {@link org.jabref.model.groups.TexGroup}s of the project.
+ * <p>
+ * The index holds the citations of all TEX files in the directory (and its subdirectories) as well as of the files
+ * included by them. The files are parsed in parallel. When the index is queried after a file was changed, only the
+ * changed files are parsed again. Changes are detected by the {@link FileUpdateMonitor}; if it is not active, the
+ * modification time and size of the files are compared on each query. A file with a new modification time, but the same
+ * content (e.g., after a checkout) is not parsed again either.
+ * <p>
+ * The keys cited in AUX files are indexed on request only, as the AUX file of a group may be located anywhere.
+ * <p>
+ * If a storage directory is set, the index is stored there, so that the files need not be parsed again after a
+ * restart.
+ */
+public class LatexProjectIndex implements FileUpdateListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexProjectIndex.class);
+
+    private static final String TEX_EXT = ".tex";
+    private static final String INDEX_EXT = ".idx";
+
+    private static final int MAGIC = 0x4A524C58;
+    private static final byte VERSION = 1;
+    private static final byte TEX_FILE = 1;
+    private static final byte AUX_FILE = 2;
+
+    private static final Map<Path, LatexProjectIndex> INDEXES = new ConcurrentHashMap<>();
+    private static volatile Path storageDirectory;
+
+    private final Path directory;
+    private final FileUpdateMonitor fileMonitor;
+    private final Optional<Path> indexFile;
+
+    private final Map<Path, IndexedFile> texFiles = new HashMap<>();
+    private final Map<Path, IndexedFile> auxFiles = new HashMap<>();
+    private final SetMultimap<String, Citation> citations = HashMultimap.create();
+    private final Set<Path> monitoredPaths = new HashSet<>();
+
+    /**
+     * Set if a file may have changed since the TEX files were indexed the last time
+     */
+    private volatile boolean stale = true;
+
+    LatexProjectIndex(Path directory, FileUpdateMonitor fileMonitor, Optional<Path> indexFile) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.fileMonitor = Objects.requireNonNull(fileMonitor);
+        this.indexFile = indexFile;
+        indexFile.filter(Files::exists).ifPresent(this::load);
+    }
+
+    /**
+     * Returns the index of the given project directory
+     */
+    public static LatexProjectIndex forDirectory(Path directory, FileUpdateMonitor fileMonitor) {
+        return INDEXES.computeIfAbsent(directory.toAbsolutePath().normalize(), normalizedDirectory ->
+                new LatexProjectIndex(normalizedDirectory, fileMonitor, Optional.ofNullable(storageDirectory)
+                                                                                .map(storage -> storage.resolve(getIndexFileName(normalizedDirectory)))));
+    }
+
+    /**
+     * Sets the directory the indexes created afterwards are stored in
+     */
+    public static void setStorageDirectory(Path directory) {
+        storageDirectory = directory;
+    }
+
+    private static String getIndexFileName(Path directory) {
+        return Hashing.sha256().hashString(directory.toString(), StandardCharsets.UTF_8).toString() + INDEX_EXT;
+    }
+
+    /**
+     * Returns the citations of the given key in the TEX files of the project.
+     *
+     * @throws IOException if the project directory does not exist
+     */
+    public synchronized Collection<Citation> getCitations(String key) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException(String.format("Current search directory does not exist: %s", directory));
+        }
+
+        if (stale || !fileMonitor.isActive()) {
+            stale = false;
+            updateTexFiles();
+        }
+        return List.copyOf(citations.get(key));
+    }
+
+    /**
+     * Returns the keys cited in the given AUX file.
+     *
+     * @param auxParser the parser used if the file has not been indexed yet or has changed
+     */
+    public synchronized Set<String> getCitedKeys(Path auxFile, AuxParser auxParser) {
+        Path file = auxFile.toAbsolutePath().normalize();
+        Optional<BasicFileAttributes> attributes = readAttributes(file);
+        if (attributes.isEmpty()) {
+            // Let the parser report the missing file
+            if (auxFiles.remove(file) != null) {
+                store();
+            }
+            return auxParser.parse(file).getUniqueKeys();
+        }
+
+        IndexedFile indexed = auxFiles.get(file);
+        if ((indexed != null) && indexed.hasAttributes(attributes.get())) {
+            return indexed.keys;
+        }
+
+        Optional<String> hash = hash(file);
+        IndexedFile updated;
+        if ((indexed != null) && hash.isPresent() && indexed.hash.equals(hash.get())) {
+            updated = indexed.withAttributes(attributes.get());
+        } else {
+            updated = new IndexedFile(attributes.get(), hash.orElse(""), ImmutableSetMultimap.of(),
+                    Set.copyOf(auxParser.parse(file).getUniqueKeys()), List.of());
+        }
+        auxFiles.put(file, updated);
+        store();
+        return updated.keys;
+    }
+
+    @Override
+    public void fileUpdated() {
+        stale = true;
+    }
+
+    private void updateTexFiles() {
+        boolean modified = false;
+        Set<Path> indexedFiles = new HashSet<>();
+        Deque<Path> pendingFiles = new ArrayDeque<>(findTexFiles());
+        while (!pendingFiles.isEmpty()) {
+            List<Path> batch = new ArrayList<>(pendingFiles);
+            pendingFiles.clear();
+            batch.removeIf(file -> !indexedFiles.add(file));
+
+            // The files are only read here, the index itself is updated afterwards
+            Map<Path, Optional<IndexedFile>> updatedFiles = batch.parallelStream().collect(Collectors.toMap(file -> file, this::indexTexFile));
+            for (Map.Entry<Path, Optional<IndexedFile>> update : updatedFiles.entrySet()) {
+                Path file = update.getKey();
+                IndexedFile indexed = texFiles.get(file);
+                Optional<IndexedFile> updated = update.getValue();
+                if (updated.isEmpty()) {
+                    indexedFiles.remove(file);
+                    continue;
+                }
+                if (updated.get() != indexed) {
+                    replaceCitations(indexed, updated.get());
+                    texFiles.put(file, updated.get());
+                    modified = true;
+                }
+                for (Path includedFile : updated.get().includedFiles) {
+                    if (!indexedFiles.contains(includedFile)) {
+                        // Files outside of the project directory are not found by the directory monitors
+                        if (!includedFile.startsWith(directory)) {
+                            monitorFile(includedFile);
+                        }
+                        pendingFiles.add(includedFile);
+                    }
+                }
+            }
+        }
+
+        List<Path> removedFiles = texFiles.keySet().stream().filter(file -> !indexedFiles.contains(file)).collect(Collectors.toList());
+        for (Path file : removedFiles) {
+            replaceCitations(texFiles.remove(file), null);
+            modified = true;
+        }
+
+        if (modified) {
+            store();
+        }
+    }
+
+    /**
+     * Returns the indexed file itself if it is unchanged, or an empty optional if it does not exist anymore.
+     */
+    private Optional<IndexedFile> indexTexFile(Path file) {
+        Optional<BasicFileAttributes> attributes = readAttributes(file);
+        if (attributes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IndexedFile indexed = texFiles.get(file);
+        if ((indexed != null) && indexed.hasAttributes(attributes.get())) {
+            return Optional.of(indexed);
+        }
+
+        Optional<String> hash = hash(file);
+        if ((indexed != null) && hash.isPresent() && indexed.hash.equals(hash.get())) {
+            return Optional.of(indexed.withAttributes(attributes.get()));
+        }
+
+        LatexParserResult result = new DefaultLatexParser().parseWithoutNestedFiles(file);
+        List<Path> includedFiles = result.getNestedFiles().stream()
+                                         .map(includedFile -> includedFile.toAbsolutePath().normalize())
+                                         .collect(Collectors.toList());
+        ImmutableSetMultimap<String, Citation> fileCitations = ImmutableSetMultimap.copyOf(result.getCitations());
+        return Optional.of(new IndexedFile(attributes.get(), hash.orElse(""), fileCitations, fileCitations.keySet(), includedFiles));
+    }
+
+    private void replaceCitations(IndexedFile oldFile, IndexedFile newFile) {
+        if (oldFile != null) {
+            oldFile.citations.forEach(citations::remove);
+        }
+        if (newFile != null) {
+            citations.putAll(newFile.citations);
+        }
+    }
+
+    private List<Path> findTexFiles() {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    monitorDirectory(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && file.toString().endsWith(TEX_EXT)) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.error(String.format("%s while searching files: %s", e.getClass().getName(), e.getMessage()));
+        }
+        return files;
+    }
+
+    private void monitorDirectory(Path dir) {
+        if (monitoredPaths.add(dir)) {
+            try {
+                fileMonitor.addListenerForDirectory(dir, this);
+            } catch (IOException e) {
+                LOGGER.debug("Could not monitor directory {}", dir, e);
+            }
+        }
+    }
+
+    private void monitorFile(Path file) {
+        if (monitoredPaths.add(file)) {
+            try {
+                fileMonitor.addListenerForFile(file, this);
+            } catch (IOException e) {
+                LOGGER.debug("Could not monitor file {}", file, e);
+            }
+        }
+    }
+
+    private static Optional<BasicFileAttributes> readAttributes(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? Optional.of(attributes) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> hash(Path file) {
+        try {
+            return Optional.of(MoreFiles.asByteSource(file).hash(Hashing.murmur3_128()).toString());
+        } catch (IOException e) {
+            LOGGER.debug("Could not hash file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private void load(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if ((in.readInt() != MAGIC) || (in.readByte() != VERSION)) {
+                LOGGER.info("Ignoring LaTeX index {} of an older version", file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte type = in.readByte();
+                Path path = Path.of(in.readUTF());
+                IndexedFile indexed = IndexedFile.read(in, path);
+                if (type == TEX_FILE) {
+                    texFiles.put(path, indexed);
+                    citations.putAll(indexed.citations);
+                } else {
+                    auxFiles.put(path, indexed);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read LaTeX index {}", file, e);
+            texFiles.clear();
+            auxFiles.clear();
+            citations.clear();
+        }
+    }
+
+    private void store() {
+        if (indexFile.isEmpty()) {
+            return;
+        }
+
+        Path file = indexFile.get();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeInt(texFiles.size() + auxFiles.size());
+                for (Map.Entry<Path, IndexedFile> entry : texFiles.entrySet()) {
+                    out.writeByte(TEX_FILE);
+                    out.writeUTF(entry.getKey().toString());
+                    entry.getValue().write(out);
+                }
+                for (Map.Entry<Path, IndexedFile> entry : auxFiles.entrySet()) {
+                    out.writeByte(AUX_FILE);
+                    out.writeUTF(entry.getKey().toString());
+                    entry.getValue().write(out);
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store LaTeX index {}", file, e);
+        }
+    }
+
+    /**
+     * The indexed content of a single TEX or AUX file
+     */
+    private static class IndexedFile {
+
+        private final long lastModified;
+        private final long size;
+        private final String hash;
+        private final ImmutableSetMultimap<String, Citation> citations;
+        private final Set<String> keys;
+        private final List<Path> includedFiles;
+
+        private IndexedFile(long lastModified, long size, String hash, ImmutableSetMultimap<String, Citation> citations, Set<String> keys, List<Path> includedFiles) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.hash = hash;
+            this.citations = citations;
+            this.keys = keys;
+            this.includedFiles = includedFiles;
+        }
+
+        private IndexedFile(BasicFileAttributes attributes, String hash, ImmutableSetMultimap<String, Citation> citations, Set<String> keys, List<Path> includedFiles) {
+            this(attributes.lastModifiedTime().toMillis(), attributes.size(), hash, citations, keys, includedFiles);
+        }
+
+        private boolean hasAttributes(BasicFileAttributes attributes) {
+            return (lastModified == attributes.lastModifiedTime().toMillis()) && (size == attributes.size());
+        }
+
+        private IndexedFile withAttributes(BasicFileAttributes attributes) {
+            return new IndexedFile(attributes, hash, citations, keys, includedFiles);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(lastModified);
+            out.writeLong(size);
+            out.writeUTF(hash);
+            out.writeInt(keys.size());
+            for (String key : keys) {
+                out.writeUTF(key);
+                Set<Citation> keyCitations = citations.get(key);
+                out.writeInt(keyCitations.size());
+                for (Citation citation : keyCitations) {
+                    out.writeInt(citation.getLine());
+                    out.writeInt(citation.getColStart());
+                    out.writeInt(citation.getColEnd());
+                    // Lines may exceed the length supported by writeUTF
+                    byte[] lineText = citation.getLineText().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(lineText.length);
+                    out.write(lineText);
+                }
+            }
+            out.writeInt(includedFiles.size());
+            for (Path includedFile : includedFiles) {
+                out.writeUTF(includedFile.toString());
+            }
+        }
+
+        private static IndexedFile read(DataInputStream in, Path path) throws IOException {
+            long lastModified = in.readLong();
+            long size = in.readLong();
+            String hash = in.readUTF();
+            ImmutableSetMultimap.Builder<String, Citation> citations = ImmutableSetMultimap.builder();
+            Set<String> keys = new HashSet<>();
+            int keyCount = in.readInt();
+            for (int i = 0; i < keyCount; i++) {
+                String key = in.readUTF();
+                keys.add(key);
+                int citationCount = in.readInt();
+                for (int j = 0; j < citationCount; j++) {
+                    int line = in.readInt();
+                    int colStart = in.readInt();
+                    int colEnd = in.readInt();
+                    byte[] lineText = new byte[in.readInt()];
+                    in.readFully(lineText);
+                    citations.put(key, new Citation(path, line, colStart, colEnd, new String(lineText, StandardCharsets.UTF_8)));
+                }
+            }
+            List<Path> includedFiles = new ArrayList<>();
+            int includedCount = in.readInt();
+            for (int i = 0; i < includedCount; i++) {
+                includedFiles.add(Path.of(in.readUTF()));
+            }
+            return new IndexedFile(lastModified, size, hash, citations.build(), Set.copyOf(keys), List.copyOf(includedFiles));
+        }
+    }
+}
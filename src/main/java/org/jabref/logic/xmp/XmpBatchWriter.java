@@ -0,0 +1,179 @@
+package org.jabref.logic.xmp;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the XMP metadata of many entries to their linked PDF files on a bounded pool of worker threads.
+ * <p>
+ * Files whose metadata is unchanged are not written (see {@link XmpUtilWriter#writeXmpIfChanged}). A file linked
+ * from several entries is written by one worker only, in the order of the entries, so that the last entry wins.
+ */
+public class XmpBatchWriter {
+
+    /**
+     * Loading a PDF may take up to 16 MiB of heap, so only a few files are written at the same time
+     */
+    public static final int DEFAULT_MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XmpBatchWriter.class);
+
+    public enum Outcome {
+        WRITTEN,
+        UNCHANGED,
+        MISSING,
+        FAILED
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after each file, never concurrently
+         *
+         * @param processedFiles the number of files processed so far, including this one
+         * @param filesPerSecond the number of files processed per second since the batch was started
+         */
+        void fileProcessed(FileResult result, int processedFiles, int totalFiles, double filesPerSecond);
+    }
+
+    public static class FileResult {
+        private final BibEntry entry;
+        private final Path file;
+        private final Outcome outcome;
+        private final Optional<Exception> error;
+
+        FileResult(BibEntry entry, Path file, Outcome outcome, Optional<Exception> error) {
+            this.entry = entry;
+            this.file = file;
+            this.outcome = outcome;
+            this.error = error;
+        }
+
+        public BibEntry getEntry() {
+            return entry;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public Optional<Exception> getError() {
+            return error;
+        }
+    }
+
+    private final XmpPreferences xmpPreferences;
+    private final int maxThreads;
+
+    public XmpBatchWriter(XmpPreferences xmpPreferences) {
+        this(xmpPreferences, DEFAULT_MAX_THREADS);
+    }
+
+    public XmpBatchWriter(XmpPreferences xmpPreferences, int maxThreads) {
+        this.xmpPreferences = xmpPreferences;
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Writes the metadata of each entry to its files. Returns once all files are processed or the batch is cancelled.
+     *
+     * @param filesOfEntry resolves the PDF files of an entry
+     * @param database     maybenull the database used to resolve strings
+     * @param isCancelled  checked before each file, files not processed yet are left untouched once it returns true
+     */
+    public void write(List<BibEntry> entries, Function<BibEntry, List<Path>> filesOfEntry, BibDatabase database,
+                      BooleanSupplier isCancelled, ProgressListener listener) {
+        Map<Path, List<BibEntry>> entriesOfFiles = new LinkedHashMap<>();
+        int totalFiles = 0;
+        for (BibEntry entry : entries) {
+            for (Path file : filesOfEntry.apply(entry)) {
+                entriesOfFiles.computeIfAbsent(file.toAbsolutePath().normalize(), key -> new ArrayList<>()).add(entry);
+                totalFiles++;
+            }
+        }
+        if (entriesOfFiles.isEmpty()) {
+            return;
+        }
+
+        Progress progress = new Progress(totalFiles, listener);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(entriesOfFiles.size(), maxThreads), runnable -> {
+            Thread thread = new Thread(runnable, "JabRef XMP writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = entriesOfFiles.entrySet().stream()
+                                                    .map(entriesOfFile -> executor.submit(() -> {
+                                                        for (BibEntry entry : entriesOfFile.getValue()) {
+                                                            if (isCancelled.getAsBoolean()) {
+                                                                return;
+                                                            }
+                                                            progress.report(writeFile(entriesOfFile.getKey(), entry, database));
+                                                        }
+                                                    }))
+                                                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Writing XMP metadata failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FileResult writeFile(Path file, BibEntry entry, BibDatabase database) {
+        if (!Files.exists(file)) {
+            return new FileResult(entry, file, Outcome.MISSING, Optional.empty());
+        }
+        try {
+            boolean written = XmpUtilWriter.writeXmpIfChanged(file, List.of(entry), database, xmpPreferences);
+            return new FileResult(entry, file, written ? Outcome.WRITTEN : Outcome.UNCHANGED, Optional.empty());
+        } catch (Exception e) {
+            LOGGER.debug("Could not write XMP metadata to {}", file, e);
+            return new FileResult(entry, file, Outcome.FAILED, Optional.of(e));
+        }
+    }
+
+    private static class Progress {
+        private final int totalFiles;
+        private final ProgressListener listener;
+        private final long startTime = System.nanoTime();
+        private int processedFiles;
+
+        Progress(int totalFiles, ProgressListener listener) {
+            this.totalFiles = totalFiles;
+            this.listener = listener;
+        }
+
+        synchronized void report(FileResult result) {
+            processedFiles++;
+            double seconds = Math.max(System.nanoTime() - startTime, 1) / 1_000_000_000.0;
+            listener.fileProcessed(result, processedFiles, totalFiles, processedFiles / seconds);
+        }
+    }
+}
@@ -8,13 +8,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.logic.pdf.CachedPdfDocument;
+import org.jabref.logic.pdf.PdfDocumentCache;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
-import org.apache.pdfbox.pdmodel.common.PDMetadata;
 import org.apache.xmpbox.XMPMetadata;
 import org.apache.xmpbox.schema.DublinCoreSchema;
 
@@ -23,6 +24,9 @@ public class XmpUtilReader {
     private static final String START_TAG = "<rdf:Description";
     private static final String END_TAG = "</rdf:Description>";
 
+    // Heap memory used for buffering a single PDF while parsing
+    private static final long MAXIMUM_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+
     private XmpUtilReader() {
         // See: https://pdfbox.apache.org/2.0/getting-started.html
         System.setProperty("sun.java2d.cmm", "sun.java2d.cmm.kcms.KcmsServiceProvider"); // To get higher rendering speed on java 8 oder 9 for images
@@ -35,9 +39,7 @@ public class XmpUtilReader {
      * @return The XMPMetadata object found in the file
      */
     public static List<XMPMetadata> readRawXmp(Path path) throws IOException {
-        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(path)) {
-            return XmpUtilReader.getXmpMetadata(document);
-        }
+        return XmpUtilReader.getXmpMetadata(PdfDocumentCache.get(path).getXmpPacket());
     }
 
     /**
@@ -66,31 +68,31 @@ public class XmpUtilReader {
 
         List<BibEntry> result = new LinkedList<>();
 
-        try (PDDocument document = loadWithAutomaticDecryption(path)) {
-            List<XMPMetadata> xmpMetaList = XmpUtilReader.getXmpMetadata(document);
+        // The parsed document is shared with other components reading the same file, e.g., the annotation importer
+        CachedPdfDocument document = PdfDocumentCache.get(path);
+        List<XMPMetadata> xmpMetaList = XmpUtilReader.getXmpMetadata(document.getXmpPacket());
 
-            if (!xmpMetaList.isEmpty()) {
-                // Only support Dublin Core since JabRef 4.2
-                for (XMPMetadata xmpMeta : xmpMetaList) {
-                    DublinCoreSchema dcSchema = xmpMeta.getDublinCoreSchema();
+        if (!xmpMetaList.isEmpty()) {
+            // Only support Dublin Core since JabRef 4.2
+            for (XMPMetadata xmpMeta : xmpMetaList) {
+                DublinCoreSchema dcSchema = xmpMeta.getDublinCoreSchema();
 
-                    if (dcSchema != null) {
-                        DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
-                        Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
+                if (dcSchema != null) {
+                    DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
+                    Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
 
-                        if (entry.isPresent()) {
-                            result.add(entry.get());
-                        }
+                    if (entry.isPresent()) {
+                        result.add(entry.get());
                     }
                 }
             }
-            if (result.isEmpty()) {
-                // If we did not find any XMP metadata, search for non XMP metadata
-                PDDocumentInformation documentInformation = document.getDocumentInformation();
-                DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
-                Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
-                entry.ifPresent(result::add);
-            }
+        }
+        if (result.isEmpty()) {
+            // If we did not find any XMP metadata, search for non XMP metadata
+            PDDocumentInformation documentInformation = document.getDocumentInformation();
+            DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
+            Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
+            entry.ifPresent(result::add);
         }
 
         result.forEach(entry -> entry.addFile(new LinkedFile("", path.toAbsolutePath(), "PDF")));
@@ -106,16 +108,14 @@ public class XmpUtilReader {
      *
      * @return empty List if no metadata has been found, or cannot properly find start or end tag in metadata
      */
-    private static List<XMPMetadata> getXmpMetadata(PDDocument document) throws IOException {
-        PDDocumentCatalog catalog = document.getDocumentCatalog();
-        PDMetadata metaRaw = catalog.getMetadata();
+    private static List<XMPMetadata> getXmpMetadata(Optional<String> xmpPacket) throws IOException {
         List<XMPMetadata> metaList = new ArrayList<>();
 
-        if (metaRaw == null) {
+        if (xmpPacket.isEmpty()) {
             return metaList;
         }
 
-        String xmp = metaRaw.getCOSObject().toTextString();
+        String xmp = xmpPacket.get();
 
         int startDescriptionSection = xmp.indexOf(START_TAG);
         int endDescriptionSection = xmp.lastIndexOf(END_TAG) + END_TAG.length();
@@ -141,6 +141,8 @@ public class XmpUtilReader {
 
     /**
      * Loads the specified file with the basic pdfbox functionality and uses an empty string as default password.
+     * At most {@link #MAXIMUM_MAIN_MEMORY_BYTES} of the heap are used for buffering, the remainder is buffered in a
+     * temporary file.
      *
      * @param path The path to load.
      * @throws IOException from the underlying @link PDDocument#load(File)
@@ -148,7 +150,7 @@ public class XmpUtilReader {
     public static PDDocument loadWithAutomaticDecryption(Path path) throws IOException {
         // try to load the document
         // also uses an empty string as default password
-        PDDocument doc = PDDocument.load(path.toFile());
+        PDDocument doc = PDDocument.load(path.toFile(), "", MemoryUsageSetting.setupMixed(MAXIMUM_MAIN_MEMORY_BYTES));
         return doc;
     }
 }
@@ -3,18 +3,25 @@ package org.jabref.logic.xmp;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.xml.transform.TransformerException;
 
+import org.jabref.logic.pdf.PdfDocumentCache;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
@@ -304,6 +311,24 @@ public class XmpUtilWriter {
     public static void writeXmp(Path path,
                                 List<BibEntry> bibtexEntries, BibDatabase database,
                                 XmpPreferences xmpPreferences) throws IOException, TransformerException {
+        writeXmpIfChanged(path, bibtexEntries, database, xmpPreferences);
+    }
+
+    /**
+     * Writes the given entries to the XMP-stream and the document information of the given PDF-file, unless the file
+     * already contains exactly this metadata.
+     *
+     * The changes are appended to the file as an incremental update, so that the unchanged content of the file is not
+     * rewritten. If the file does not allow an incremental update, it is saved as a whole. In both cases, the file is
+     * written in place, so that its permissions and links to it are kept.
+     *
+     * @return true if the file was written, false if its metadata was unchanged
+     * @throws TransformerException If the entry was malformed or unsupported.
+     * @throws IOException          If the file could not be written to or could not be found.
+     */
+    public static boolean writeXmpIfChanged(Path path,
+                                            List<BibEntry> bibtexEntries, BibDatabase database,
+                                            XmpPreferences xmpPreferences) throws IOException, TransformerException {
 
         List<BibEntry> resolvedEntries;
         if (database == null) {
@@ -312,26 +337,118 @@ public class XmpUtilWriter {
             resolvedEntries = database.resolveForStrings(bibtexEntries, false);
         }
 
-        try (PDDocument document = PDDocument.load(path.toFile())) {
+        // The document is saved to a temporary file first, as it is read from the original one while saving
+        Path temporaryFile;
+        long unchangedLength;
+        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(path)) {
 
             if (document.isEncrypted()) {
                 throw new EncryptedPdfsNotSupportedException();
             }
 
+            byte[] oldMetadata = getMetadata(document);
+            Map<String, String> oldInformation = getDocumentInformation(document);
+
             // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
             if (resolvedEntries.size() > 0) {
                 XmpUtilWriter.writeDocumentInformation(document, resolvedEntries.get(0), null, xmpPreferences);
                 XmpUtilWriter.writeDublinCore(document, resolvedEntries, null, xmpPreferences);
             }
 
+            if (Arrays.equals(oldMetadata, getMetadata(document)) && oldInformation.equals(getDocumentInformation(document))) {
+                return false;
+            }
+
             // Save
+            long originalLength = Files.size(path);
+            temporaryFile = Files.createTempFile(".xmp-", ".pdf");
             try {
-                document.save(path.toFile());
+                boolean incremental = save(document, temporaryFile);
+                // An incremental update starts with the unchanged original file
+                unchangedLength = (incremental && (Files.size(temporaryFile) >= originalLength)) ? originalLength : 0;
             } catch (IOException e) {
+                Files.deleteIfExists(temporaryFile);
                 LOGGER.debug("Could not write XMP metadata", e);
                 throw new TransformerException("Could not write XMP metadata: " + e.getLocalizedMessage(), e);
             }
         }
+
+        try {
+            writeInPlace(temporaryFile, path, unchangedLength);
+        } catch (IOException e) {
+            LOGGER.debug("Could not write XMP metadata", e);
+            throw new TransformerException("Could not write XMP metadata: " + e.getLocalizedMessage(), e);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+            PdfDocumentCache.invalidate(path);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the document was saved as an incremental update
+     */
+    private static boolean save(PDDocument document, Path file) throws IOException {
+        PDDocumentCatalog catalog = document.getDocumentCatalog();
+        catalog.getCOSObject().setNeedToBeUpdated(true);
+        catalog.getMetadata().getCOSObject().setNeedToBeUpdated(true);
+        document.getDocumentInformation().getCOSObject().setNeedToBeUpdated(true);
+
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            document.saveIncremental(outputStream);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // E.g., damaged cross-reference tables that were repaired while loading the document
+            LOGGER.debug("Could not save {} incrementally, saving it as a whole", file, e);
+        }
+        document.save(file.toFile());
+        return false;
+    }
+
+    /**
+     * Writes the saved document into the original file. The original file is not replaced, so that its permissions,
+     * hard links and symbolic links pointing to it are kept.
+     *
+     * @param unchangedLength the length of the beginning of the saved document which equals the original file. For an
+     *                        incremental update, only the appended update is written. If writing the update fails, the
+     *                        original file is restored by cutting off the partly written update.
+     */
+    private static void writeInPlace(Path savedFile, Path path, long unchangedLength) throws IOException {
+        try (FileChannel source = FileChannel.open(savedFile, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long length = source.size();
+            try {
+                target.position(unchangedLength);
+                long position = unchangedLength;
+                while (position < length) {
+                    position += source.transferTo(position, length - position, target);
+                }
+                target.truncate(length);
+                target.force(true);
+            } catch (IOException e) {
+                if (unchangedLength > 0) {
+                    target.truncate(unchangedLength);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static byte[] getMetadata(PDDocument document) throws IOException {
+        PDMetadata metadata = document.getDocumentCatalog().getMetadata();
+        if (metadata == null) {
+            return new byte[0];
+        }
+        return metadata.toByteArray();
+    }
+
+    private static Map<String, String> getDocumentInformation(PDDocument document) {
+        PDDocumentInformation information = document.getDocumentInformation();
+        Map<String, String> values = new HashMap<>();
+        for (String key : information.getMetadataKeys()) {
+            values.put(key, String.valueOf(information.getPropertyStringValue(key)));
+        }
+        return values;
     }
 
     private static BibEntry getDefaultOrDatabaseEntry(BibEntry defaultEntry, BibDatabase database) {
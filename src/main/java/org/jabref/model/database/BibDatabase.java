@@ -2,16 +2,21 @@ package org.jabref.model.database;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,7 +26,9 @@ import java.util.stream.Collectors;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -41,6 +48,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A bibliography database. This is the "bib" file (or the library stored in a shared SQL database)
+ * <p>
+ * Changes of the entries are serialized on this database. Besides the observable list of entries for the user interface,
+ * an immutable snapshot of the entries is kept, which is replaced on each change. Background tasks (e.g., saving,
+ * searching, or checking the library) read the snapshot without locking and thus do neither block each other nor the
+ * changes, while iterating a consistent state of the library.
  */
 public class BibDatabase {
 
@@ -51,10 +63,20 @@ public class BibDatabase {
      * State attributes
      */
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+
+    /**
+     * The entries as of the last change. Only replaced while holding the lock of this database.
+     */
+    private volatile EntriesSnapshot entriesSnapshot = EntriesSnapshot.EMPTY;
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     private final EventBus eventBus = new EventBus();
 
+    /**
+     * The batches opened by the current thread, the innermost one first
+     */
+    private final ThreadLocal<Deque<ChangeBatch>> openBatches = new ThreadLocal<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -90,21 +112,21 @@ public class BibDatabase {
      * Returns the number of entries.
      */
     public int getEntryCount() {
-        return entries.size();
+        return entriesSnapshot.size();
     }
 
     /**
      * Checks if the database contains entries.
      */
     public boolean hasEntries() {
-        return !entries.isEmpty();
+        return !entriesSnapshot.isEmpty();
     }
 
     /**
      * Returns the list of entries sorted by the given comparator.
      */
-    public synchronized List<BibEntry> getEntriesSorted(Comparator<BibEntry> comparator) {
-        List<BibEntry> entriesSorted = new ArrayList<>(entries);
+    public List<BibEntry> getEntriesSorted(Comparator<BibEntry> comparator) {
+        List<BibEntry> entriesSorted = new ArrayList<>(entriesSnapshot);
         entriesSorted.sort(comparator);
 
         return entriesSorted;
@@ -114,13 +136,25 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return entries.stream().anyMatch(entry -> entry.getId().equals(id));
+        return entriesSnapshot.stream().anyMatch(entry -> entry.getId().equals(id));
     }
 
+    /**
+     * Returns the live list of entries, which is meant to be observed by the user interface. It is changed while it is
+     * read by other threads, so background tasks should use {@link #getEntriesSnapshot()} instead.
+     */
     public ObservableList<BibEntry> getEntries() {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    /**
+     * Returns the entries as of the last insertion or removal of entries. The returned list is immutable and does not
+     * change with the database, so it can be iterated without locking while the database is changed.
+     */
+    public List<BibEntry> getEntriesSnapshot() {
+        return entriesSnapshot;
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -129,7 +163,7 @@ public class BibDatabase {
      */
     public Set<Field> getAllVisibleFields() {
         Set<Field> allFields = new TreeSet<>(Comparator.comparing(Field::getName));
-        for (BibEntry e : getEntries()) {
+        for (BibEntry e : entriesSnapshot) {
             allFields.addAll(e.getFields());
         }
         return allFields.stream().filter(field -> !FieldFactory.isInternalField(field))
@@ -139,8 +173,8 @@ public class BibDatabase {
     /**
      * Returns the entry with the given citation key.
      */
-    public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
+    public Optional<BibEntry> getEntryByCitationKey(String key) {
+        for (BibEntry entry : entriesSnapshot) {
             if (key.equals(entry.getCitationKey().orElse(null))) {
                 return Optional.of(entry);
             }
@@ -154,10 +188,10 @@ public class BibDatabase {
      *
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
+    public List<BibEntry> getEntriesByCitationKey(String key) {
         List<BibEntry> result = new ArrayList<>();
 
-        for (BibEntry entry : entries) {
+        for (BibEntry entry : entriesSnapshot) {
             entry.getCitationKey().ifPresent(entryKey -> {
                 if (key.equals(entryKey)) {
                     result.add(entry);
@@ -205,6 +239,7 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.get(0), eventSource));
         }
         entries.addAll(newEntries);
+        entriesSnapshot = entriesSnapshot.append(newEntries);
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -234,13 +269,18 @@ public class BibDatabase {
      */
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
-
-        List<String> ids = new ArrayList<>();
-        for (BibEntry entry : toBeDeleted) {
-            ids.add(entry.getId());
+        if (toBeDeleted.isEmpty()) {
+            return;
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
-        if (anyRemoved) {
+
+        Set<String> ids = toBeDeleted.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        List<BibEntry> remainingEntries = entriesSnapshot.stream()
+                                                         .filter(entry -> !ids.contains(entry.getId()))
+                                                         .collect(Collectors.toList());
+        if (remainingEntries.size() < entriesSnapshot.size()) {
+            // One change of the observable list in linear time (removeAll removes the entries one by one, each shifting all entries behind it)
+            entries.setAll(remainingEntries);
+            entriesSnapshot = EntriesSnapshot.of(remainingEntries);
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -549,6 +589,7 @@ public class BibDatabase {
      *
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link EntriesChangedEvent} (at the end of a batch, see {@link #runInBatch(Runnable)})
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -571,9 +612,66 @@ public class BibDatabase {
         }
     }
 
+    /**
+     * Runs the given changes of entries as one batch with the event source {@link EntriesEventSource#LOCAL}.
+     *
+     * @see #runInBatch(Runnable, EntriesEventSource)
+     */
+    public List<FieldChange> runInBatch(Runnable changes) {
+        return runInBatch(changes, EntriesEventSource.LOCAL);
+    }
+
+    /**
+     * Runs the given changes of entries as one batch. While the batch runs, no {@link FieldChangedEvent} of the given
+     * event source is posted for the changes made by the current thread. Instead, one {@link EntriesChangedEvent}
+     * holding the coalesced changes is posted when the batch is finished. Thus, bulk operations (e.g., cleaning up
+     * thousands of entries) do not notify all listeners for every single field.
+     * <p>
+     * Batches can be nested. The changes of a nested batch are posted together with the changes of the outermost batch
+     * of the same event source. Added and removed entries are still posted immediately.
+     *
+     * @param changes     the changes to apply
+     * @param eventSource the source of the changes
+     * @return the coalesced changes made by the batch, e.g., to record them as one undoable edit
+     */
+    public List<FieldChange> runInBatch(Runnable changes, EntriesEventSource eventSource) {
+        Objects.requireNonNull(changes);
+        Objects.requireNonNull(eventSource);
+
+        Deque<ChangeBatch> batches = openBatches.get();
+        if (batches == null) {
+            batches = new ArrayDeque<>();
+            openBatches.set(batches);
+        }
+        ChangeBatch batch = new ChangeBatch(eventSource);
+        batches.push(batch);
+        try {
+            changes.run();
+        } finally {
+            batches.pop();
+            ChangeBatch outerBatch = batches.peek();
+            if (batches.isEmpty()) {
+                openBatches.remove();
+            }
+
+            if ((outerBatch != null) && (outerBatch.eventSource == eventSource)) {
+                outerBatch.addAll(batch);
+            } else if (batch.hasChanges()) {
+                eventBus.post(new EntriesChangedEvent(batch.getEntries(), batch.getFieldChanges(), eventSource));
+            }
+        }
+        return batch.getFieldChanges();
+    }
+
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+        Deque<ChangeBatch> batches = openBatches.get();
+        ChangeBatch batch = (batches == null) ? null : batches.peek();
+        if ((batch != null) && (batch.eventSource == event.getEntriesEventSource())) {
+            batch.add(new FieldChange(event.getBibEntry(), event.getField(), event.getOldValue(), event.getNewValue()));
+        } else {
+            eventBus.post(event);
+        }
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
@@ -610,10 +708,10 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return entriesSnapshot.stream()
+                              .flatMap(entry -> entry.getCitationKey().stream())
+                              .filter(key::equals)
+                              .count();
     }
 
     /**
@@ -622,4 +720,99 @@ public class BibDatabase {
     public boolean isDuplicateCitationKeyExisting(String key) {
         return getNumberOfCitationKeyOccurrences(key) > 1;
     }
+
+    /**
+     * An immutable list of entries which can be appended to in amortized constant time per entry, so that inserting
+     * entries one by one (e.g., while loading a library) does not copy all entries each time.
+     * <p>
+     * Snapshots share their array with the snapshots they were appended to. Appending writes behind the last element
+     * only and is done on the newest snapshot only (while holding the lock of the database), so the elements visible to
+     * a snapshot never change.
+     */
+    private static class EntriesSnapshot extends AbstractList<BibEntry> implements RandomAccess {
+        static final EntriesSnapshot EMPTY = new EntriesSnapshot(new BibEntry[0], 0);
+
+        private final BibEntry[] elements;
+        private final int size;
+
+        private EntriesSnapshot(BibEntry[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        static EntriesSnapshot of(List<BibEntry> entries) {
+            return new EntriesSnapshot(entries.toArray(new BibEntry[0]), entries.size());
+        }
+
+        /**
+         * Returns a snapshot with the given entries added at the end. Must only be called on the newest snapshot.
+         */
+        EntriesSnapshot append(List<BibEntry> newEntries) {
+            int newSize = size + newEntries.size();
+            BibEntry[] target = elements;
+            if (newSize > elements.length) {
+                target = Arrays.copyOf(elements, Math.max(newSize, elements.length + (elements.length >> 1)));
+            }
+            for (int i = 0; i < newEntries.size(); i++) {
+                target[size + i] = newEntries.get(i);
+            }
+            return new EntriesSnapshot(target, newSize);
+        }
+
+        @Override
+        public BibEntry get(int index) {
+            Objects.checkIndex(index, size);
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Collects the changes of a batch. Consecutive changes of the same field of an entry are merged into one change.
+     */
+    private static class ChangeBatch {
+        private final EntriesEventSource eventSource;
+
+        /**
+         * The changes indexed by the id of the entry (the entries themselves are compared by their content)
+         */
+        private final Map<String, Map<Field, FieldChange>> changes = new LinkedHashMap<>();
+
+        ChangeBatch(EntriesEventSource eventSource) {
+            this.eventSource = eventSource;
+        }
+
+        void add(FieldChange change) {
+            changes.computeIfAbsent(change.getEntry().getId(), id -> new LinkedHashMap<>())
+                   .merge(change.getField(), change, (earlier, later) ->
+                           new FieldChange(later.getEntry(), later.getField(), earlier.getOldValue(), later.getNewValue()));
+        }
+
+        void addAll(ChangeBatch other) {
+            other.getFieldChanges().forEach(this::add);
+        }
+
+        boolean hasChanges() {
+            return !getFieldChanges().isEmpty();
+        }
+
+        List<FieldChange> getFieldChanges() {
+            return changes.values().stream()
+                          .flatMap(fieldChanges -> fieldChanges.values().stream())
+                          .filter(change -> !Objects.equals(change.getOldValue(), change.getNewValue()))
+                          .collect(Collectors.toList());
+        }
+
+        List<BibEntry> getEntries() {
+            Map<String, BibEntry> entries = new LinkedHashMap<>();
+            for (FieldChange change : getFieldChanges()) {
+                entries.putIfAbsent(change.getEntry().getId(), change.getEntry());
+            }
+            return new ArrayList<>(entries.values());
+        }
+    }
 }
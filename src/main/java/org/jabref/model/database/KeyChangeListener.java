@@ -2,9 +2,14 @@ package org.jabref.model.database;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -26,50 +31,77 @@ public class KeyChangeListener {
     @Subscribe
     public void listen(FieldChangedEvent event) {
         if (event.getField().equals(InternalField.KEY_FIELD)) {
-            String newKey = event.getNewValue();
-            String oldKey = event.getOldValue();
-            updateEntryLinks(newKey, oldKey);
+            updateEntryLinks(Collections.singletonMap(event.getOldValue(), event.getNewValue()));
         }
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        Map<String, String> newKeys = new HashMap<>();
+        for (FieldChange change : event.getFieldChanges()) {
+            if (change.getField().equals(InternalField.KEY_FIELD) && (change.getOldValue() != null)) {
+                newKeys.put(change.getOldValue(), change.getNewValue());
+            }
+        }
+        updateEntryLinks(newKeys);
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
-        List<BibEntry> entries = event.getBibEntries();
-        for (BibEntry entry : entries) {
-            Optional<String> citeKey = entry.getCitationKey();
-            citeKey.ifPresent(oldkey -> updateEntryLinks(null, oldkey));
+        // Removed keys are mapped to null
+        Map<String, String> newKeys = new HashMap<>();
+        for (BibEntry entry : event.getBibEntries()) {
+            entry.getCitationKey().ifPresent(oldKey -> newKeys.put(oldKey, null));
         }
+        updateEntryLinks(newKeys);
     }
 
-    private void updateEntryLinks(String newKey, String oldKey) {
-        for (BibEntry entry : database.getEntries()) {
-            for (Field field : FieldFactory.getKeyFields()) {
+    /**
+     * Replaces the links to the old keys by links to the new keys in one pass over all entries.
+     *
+     * @param newKeys maps the old keys to the new keys. If a new key is null, the links to the old key are removed.
+     */
+    private void updateEntryLinks(Map<String, String> newKeys) {
+        if (newKeys.isEmpty()) {
+            return;
+        }
+        Set<Field> keyFields = FieldFactory.getKeyFields();
+        for (BibEntry entry : database.getEntriesSnapshot()) {
+            for (Field field : keyFields) {
                 entry.getField(field).ifPresent(fieldContent -> {
                     if (field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                        replaceSingleKeyInField(newKey, oldKey, entry, field, fieldContent);
+                        replaceSingleKeyInField(newKeys, entry, field, fieldContent);
                     } else { // MULTIPLE_ENTRY_LINK
-                        replaceKeyInMultiplesKeyField(newKey, oldKey, entry, field, fieldContent);
+                        replaceKeyInMultiplesKeyField(newKeys, entry, field, fieldContent);
                     }
                 });
             }
         }
     }
 
-    private void replaceKeyInMultiplesKeyField(String newKey, String oldKey, BibEntry entry, Field field, String fieldContent) {
+    private void replaceKeyInMultiplesKeyField(Map<String, String> newKeys, BibEntry entry, Field field, String fieldContent) {
         List<String> keys = new ArrayList<>(Arrays.asList(fieldContent.split(",")));
-        int index = keys.indexOf(oldKey);
-        if (index != -1) {
-            if (newKey == null) {
-                keys.remove(index);
-            } else {
-                keys.set(index, newKey);
+        boolean changed = false;
+        for (int index = keys.size() - 1; index >= 0; index--) {
+            String oldKey = keys.get(index);
+            if (newKeys.containsKey(oldKey)) {
+                String newKey = newKeys.get(oldKey);
+                if (newKey == null) {
+                    keys.remove(index);
+                } else {
+                    keys.set(index, newKey);
+                }
+                changed = true;
             }
+        }
+        if (changed) {
             entry.setField(field, String.join(",", keys));
         }
     }
 
-    private void replaceSingleKeyInField(String newKey, String oldKey, BibEntry entry, Field field, String fieldContent) {
-        if (fieldContent.equals(oldKey)) {
+    private void replaceSingleKeyInField(Map<String, String> newKeys, BibEntry entry, Field field, String fieldContent) {
+        if (newKeys.containsKey(fieldContent)) {
+            String newKey = newKeys.get(fieldContent);
             if (newKey == null) {
                 entry.clearField(field);
             } else {
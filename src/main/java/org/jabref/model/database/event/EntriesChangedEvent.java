@@ -0,0 +1,36 @@
+package org.jabref.model.database.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+
+/**
+ * <code>EntriesChangedEvent</code> is fired once at the end of a batch of changes (see
+ * {@link org.jabref.model.database.BibDatabase#runInBatch(Runnable)}) instead of one
+ * {@link org.jabref.model.entry.event.FieldChangedEvent} per changed field.
+ * <p>
+ * The changes are coalesced: there is at most one change per entry and field holding the value before the batch and the
+ * value after the batch. Fields whose value did not change in total are not contained.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChange> fieldChanges;
+
+    /**
+     * @param bibEntries   the changed entries
+     * @param fieldChanges the coalesced changes of the batch
+     * @param location     Location affected by this event
+     */
+    public EntriesChangedEvent(List<BibEntry> bibEntries, List<FieldChange> fieldChanges, EntriesEventSource location) {
+        super(bibEntries, location);
+        this.fieldChanges = Collections.unmodifiableList(fieldChanges);
+    }
+
+    public List<FieldChange> getFieldChanges() {
+        return fieldChanges;
+    }
+}
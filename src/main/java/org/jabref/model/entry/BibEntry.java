@@ -38,6 +38,7 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.model.strings.StringDeduplicator;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
@@ -100,6 +101,11 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    /**
+     * Counts the changes of this entry. Allows to detect whether data derived from the entry (e.g., a rendered preview) is outdated.
+     */
+    private volatile long modificationCount;
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -326,7 +332,7 @@ public class BibEntry implements Cloneable {
 
         eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
-        changed = true;
+        markChanged();
     }
 
     /**
@@ -388,8 +394,8 @@ public class BibEntry implements Cloneable {
             return Optional.empty();
         }
 
-        changed = true;
         this.type.setValue(newType);
+        markChanged();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
         eventBus.post(new FieldChangedEvent(change, eventSource));
@@ -557,10 +563,9 @@ public class BibEntry implements Cloneable {
             return Optional.empty();
         }
 
-        changed = true;
-
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        fields.put(field, StringDeduplicator.deduplicate(value));
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
@@ -603,10 +608,9 @@ public class BibEntry implements Cloneable {
             return Optional.empty();
         }
 
-        changed = true;
-
         invalidateFieldCache(field);
         fields.remove(field);
+        markChanged();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
         eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
@@ -711,6 +715,20 @@ public class BibEntry implements Cloneable {
         this.changed = changed;
     }
 
+    /**
+     * Returns the number of changes of the type, the id, or a field of this entry since it was created. Unlike
+     * {@link #hasChanged()}, the count is never reset. The count is increased after the change, so a reader seeing the
+     * new count also sees the changed content.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    private void markChanged() {
+        changed = true;
+        modificationCount++;
+    }
+
     public Optional<FieldChange> putKeywords(List<String> keywords, Character delimiter) {
         Objects.requireNonNull(delimiter);
         return putKeywords(new KeywordList(keywords), delimiter);
@@ -912,7 +930,7 @@ public class BibEntry implements Cloneable {
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
+                String latexFreeValue = StringDeduplicator.deduplicate(LatexToUnicodeAdapter.format(fieldValue.get()));
                 latexFreeFields.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
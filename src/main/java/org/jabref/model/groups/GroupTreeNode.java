@@ -232,7 +232,7 @@ public class GroupTreeNode extends TreeNode<GroupTreeNode> {
      * @return matched entries
      */
     public List<BibEntry> findMatches(BibDatabase database) {
-        return findMatches(database.getEntries());
+        return findMatches(database.getEntriesSnapshot());
     }
 
     /**
@@ -10,7 +10,7 @@ import java.util.Set;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.auxparser.AuxParser;
-import org.jabref.logic.auxparser.AuxParserResult;
+import org.jabref.logic.texparser.LatexProjectIndex;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.FileHelper;
@@ -20,7 +20,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@AllowedToUseLogic("because it needs access to aux parser")
+@AllowedToUseLogic("because it needs access to aux parser and the LaTeX project index")
 public class TexGroup extends AbstractGroup implements FileUpdateListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TexGroup.class);
@@ -62,8 +62,9 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     @Override
     public boolean contains(BibEntry entry) {
         if (keysUsedInAux == null) {
-            AuxParserResult auxResult = auxParser.parse(filePath);
-            keysUsedInAux = auxResult.getUniqueKeys();
+            // The index keeps the keys of unchanged AUX files across restarts
+            Path projectDirectory = getFileDirectoriesAsPaths().stream().findFirst().orElse(filePath.toAbsolutePath().getParent());
+            keysUsedInAux = LatexProjectIndex.forDirectory(projectDirectory, fileMonitor).getCitedKeys(filePath, auxParser);
         }
 
         return entry.getCitationKey().map(keysUsedInAux::contains).orElse(false);
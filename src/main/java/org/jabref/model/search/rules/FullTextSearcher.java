@@ -0,0 +1,24 @@
+package org.jabref.model.search.rules;
+
+import java.util.Set;
+
+/**
+ * Searches the content of the files linked to the entries (e.g., using a full-text index).
+ * <p>
+ * It is used by the {@link GrammarBasedSearchRule} to evaluate the pseudo field {@value #CONTENT_FIELD}, e.g.,
+ * <code>content=neural</code>.
+ */
+@FunctionalInterface
+public interface FullTextSearcher {
+
+    String CONTENT_FIELD = "content";
+
+    /**
+     * Returns the links (as stored in the file field of the entries) of all linked files whose content matches the
+     * given query.
+     *
+     * @param query the full-text query, e.g., a word or a phrase
+     * @param exact whether the query has to match as a phrase
+     */
+    Set<String> findLinkedFiles(String query, boolean exact);
+}
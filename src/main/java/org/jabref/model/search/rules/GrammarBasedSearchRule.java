@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.search.SearchBaseVisitor;
@@ -38,6 +39,7 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     private final boolean caseSensitiveSearch;
     private final boolean regExpSearch;
+    private final Optional<FullTextSearcher> fullTextSearcher;
 
     private ParseTree tree;
     private String query;
@@ -55,8 +57,17 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     public GrammarBasedSearchRule(boolean caseSensitiveSearch, boolean regExpSearch) throws RecognitionException {
+        this(caseSensitiveSearch, regExpSearch, Optional.empty());
+    }
+
+    /**
+     * @param fullTextSearcher used to evaluate <code>content=...</code> comparisons against the linked files. If not
+     *                         present, the content is treated as an ordinary field.
+     */
+    public GrammarBasedSearchRule(boolean caseSensitiveSearch, boolean regExpSearch, Optional<FullTextSearcher> fullTextSearcher) throws RecognitionException {
         this.caseSensitiveSearch = caseSensitiveSearch;
         this.regExpSearch = regExpSearch;
+        this.fullTextSearcher = Objects.requireNonNull(fullTextSearcher);
     }
 
     public static boolean isValid(boolean caseSensitive, boolean regExp, String query) {
@@ -98,7 +109,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, fullTextSearcher, bibEntry).visit(tree);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -135,9 +146,17 @@ public class GrammarBasedSearchRule implements SearchRule {
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
+        private final String value;
+        private final Optional<FullTextSearcher> fullTextSearcher;
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
+            this(field, value, operator, caseSensitive, regex, Optional.empty());
+        }
+
+        public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex, Optional<FullTextSearcher> fullTextSearcher) {
             this.operator = operator;
+            this.value = value;
+            this.fullTextSearcher = fullTextSearcher;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
@@ -150,6 +169,11 @@ public class GrammarBasedSearchRule implements SearchRule {
                 return matchFieldValue(entry.getType().getName());
             }
 
+            // special case for searching the content of the linked files: content=word
+            if (fullTextSearcher.isPresent() && fieldPattern.matcher(FullTextSearcher.CONTENT_FIELD).matches()) {
+                return matchLinkedFileContent(entry, fullTextSearcher.get());
+            }
+
             // special case for searching a single keyword
             if (fieldPattern.matcher("anykeyword").matches()) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
@@ -177,6 +201,15 @@ public class GrammarBasedSearchRule implements SearchRule {
             return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
+        private boolean matchLinkedFileContent(BibEntry entry, FullTextSearcher searcher) {
+            Set<String> matchingLinks = searcher.findLinkedFiles(value, operator == ComparisonOperator.EXACT);
+            boolean anyFileMatches = entry.getFiles().stream().map(LinkedFile::getLink).anyMatch(matchingLinks::contains);
+            if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return !anyFileMatches;
+            }
+            return anyFileMatches;
+        }
+
         private Predicate<Field> matchFieldKey() {
             return field -> fieldPattern.matcher(field.getName()).matches();
         }
@@ -202,17 +235,23 @@ public class GrammarBasedSearchRule implements SearchRule {
 
         private final boolean caseSensitive;
         private final boolean regex;
+        private final Optional<FullTextSearcher> fullTextSearcher;
 
         private final BibEntry entry;
 
         public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+            this(caseSensitive, regex, Optional.empty(), bibEntry);
+        }
+
+        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, Optional<FullTextSearcher> fullTextSearcher, BibEntry bibEntry) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
+            this.fullTextSearcher = fullTextSearcher;
             this.entry = bibEntry;
         }
 
         public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
+            return new Comparator(field, value, operator, caseSensitive, regex, fullTextSearcher).compare(entry);
         }
 
         @Override
@@ -1,5 +1,6 @@
 package org.jabref.model.search.rules;
 
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 public class SearchRules {
@@ -13,13 +14,21 @@ public class SearchRules {
      * Returns the appropriate search rule that fits best to the given parameter.
      */
     public static SearchRule getSearchRuleByQuery(String query, boolean caseSensitive, boolean regex) {
+        return getSearchRuleByQuery(query, caseSensitive, regex, Optional.empty());
+    }
+
+    /**
+     * Returns the appropriate search rule that fits best to the given parameter. Advanced search queries may search the
+     * content of the linked files using the given full-text searcher.
+     */
+    public static SearchRule getSearchRuleByQuery(String query, boolean caseSensitive, boolean regex, Optional<FullTextSearcher> fullTextSearcher) {
         if (isSimpleQuery(query)) {
             return new ContainBasedSearchRule(caseSensitive);
         }
 
         // this searches specified fields if specified,
         // and all fields otherwise
-        SearchRule searchExpression = new GrammarBasedSearchRule(caseSensitive, regex);
+        SearchRule searchExpression = new GrammarBasedSearchRule(caseSensitive, regex, fullTextSearcher);
         if (searchExpression.validateSearchStrings(query)) {
             return searchExpression;
         } else {
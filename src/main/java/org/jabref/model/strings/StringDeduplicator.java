@@ -0,0 +1,77 @@
+package org.jabref.model.strings;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Deduplicates field values, so that equal values of different entries (e.g., journal names, publishers, years or
+ * keywords) share one String instance. This is an alternative to {@link String#intern()}, which uses the string table
+ * of the JVM.
+ * <p>
+ * The canonical instances are only weakly referenced. Thus, they are freed as soon as no entry uses them anymore, e.g.,
+ * after the library was closed. The deduplicator is thread safe and does not lock the whole table, so that entries can
+ * be parsed in parallel.
+ * <p>
+ * Long values (e.g., abstracts) are rarely shared and are not deduplicated.
+ */
+public class StringDeduplicator {
+
+    /**
+     * Values longer than this are stored as they are
+     */
+    public static final int MAX_LENGTH = 128;
+
+    /**
+     * Approximate memory used by a String object and its array apart from its characters
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private static final LongAdder DEDUPLICATED_VALUES = new LongAdder();
+    private static final LongAdder SAVED_BYTES = new LongAdder();
+
+    private StringDeduplicator() {
+    }
+
+    /**
+     * Returns the canonical instance of the given value.
+     */
+    public static String deduplicate(String value) {
+        Objects.requireNonNull(value);
+        if (value.length() > MAX_LENGTH) {
+            return value;
+        }
+
+        String canonical = INTERNER.intern(value);
+        if (canonical != value) {
+            DEDUPLICATED_VALUES.increment();
+            // Most field values are stored using one byte per character
+            SAVED_BYTES.add(STRING_OVERHEAD + value.length());
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of values which were replaced by an already existing instance.
+     */
+    public static long getDeduplicatedValues() {
+        return DEDUPLICATED_VALUES.sum();
+    }
+
+    /**
+     * Returns an estimate of the memory in bytes saved by the deduplication. Memory is only saved as long as the
+     * deduplicated values are in use.
+     */
+    public static long getEstimatedSavedBytes() {
+        return SAVED_BYTES.sum();
+    }
+
+    public static void resetStatistics() {
+        DEDUPLICATED_VALUES.reset();
+        SAVED_BYTES.reset();
+    }
+}
@@ -398,6 +398,7 @@ public class JabRefPreferences implements PreferencesService {
     // string to be formatted and possible formatter arguments.
     public List<Path> fileDirForDatabase;
     private final Preferences prefs;
+    private final PreferencesSnapshotCache snapshots = new PreferencesSnapshotCache();
 
     /**
      * Cache variables
@@ -810,26 +811,32 @@ public class JabRefPreferences implements PreferencesService {
      * @return true if the key is set, false otherwise.
      */
     public boolean hasKey(String key) {
+        snapshots.keyRead(key);
         return prefs.get(key, null) != null;
     }
 
     public String get(String key) {
+        snapshots.keyRead(key);
         return prefs.get(key, (String) defaults.get(key));
     }
 
     public Optional<String> getAsOptional(String key) {
+        snapshots.keyRead(key);
         return Optional.ofNullable(prefs.get(key, (String) defaults.get(key)));
     }
 
     public String get(String key, String def) {
+        snapshots.keyRead(key);
         return prefs.get(key, def);
     }
 
     public boolean getBoolean(String key) {
+        snapshots.keyRead(key);
         return prefs.getBoolean(key, getBooleanDefault(key));
     }
 
     public boolean getBoolean(String key, boolean def) {
+        snapshots.keyRead(key);
         return prefs.getBoolean(key, def);
     }
 
@@ -838,10 +845,12 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     public int getInt(String key) {
+        snapshots.keyRead(key);
         return prefs.getInt(key, getIntDefault(key));
     }
 
     public double getDouble(String key) {
+        snapshots.keyRead(key);
         return prefs.getDouble(key, getDoubleDefault(key));
     }
 
@@ -855,26 +864,32 @@ public class JabRefPreferences implements PreferencesService {
 
     public void put(String key, String value) {
         prefs.put(key, value);
+        snapshots.keyWritten(key);
     }
 
     public void putBoolean(String key, boolean value) {
         prefs.putBoolean(key, value);
+        snapshots.keyWritten(key);
     }
 
     public void putInt(String key, int value) {
         prefs.putInt(key, value);
+        snapshots.keyWritten(key);
     }
 
     public void putInt(String key, Number value) {
         prefs.putInt(key, value.intValue());
+        snapshots.keyWritten(key);
     }
 
     public void putDouble(String key, double value) {
         prefs.putDouble(key, value);
+        snapshots.keyWritten(key);
     }
 
     public void remove(String key) {
         prefs.remove(key);
+        snapshots.keyWritten(key);
     }
 
     /**
@@ -923,11 +938,13 @@ public class JabRefPreferences implements PreferencesService {
         clearCitationKeyPatterns();
         this.previewPreferences = null;
         prefs.clear();
+        snapshots.invalidateAll();
         new SharedDatabasePreferences().clear();
     }
 
     public void clear(String key) {
         prefs.remove(key);
+        snapshots.keyWritten(key);
     }
 
     /**
@@ -1038,6 +1055,7 @@ public class JabRefPreferences implements PreferencesService {
     public void importPreferences(Path file) throws JabRefException {
         try (InputStream is = Files.newInputStream(file)) {
             Preferences.importPreferences(is);
+            snapshots.invalidateAll();
         } catch (InvalidPreferencesFormatException | IOException ex) {
             throw new JabRefException("Could not import preferences", Localization.lang("Could not import preferences"),
                     ex);
@@ -1668,6 +1686,8 @@ public class JabRefPreferences implements PreferencesService {
         } catch (BackingStoreException ex) {
             LOGGER.info("BackingStoreException in JabRefPreferences.getKeyPattern", ex);
         }
+        // The citation key patterns are not stored using put
+        snapshots.invalidateAll();
     }
 
     /**
@@ -1711,25 +1731,27 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public CitationKeyPatternPreferences getCitationKeyPatternPreferences() {
-        CitationKeyPatternPreferences.KeySuffix keySuffix =
-                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B;
-
-        if (getBoolean(KEY_GEN_ALWAYS_ADD_LETTER)) {
-            keySuffix = CitationKeyPatternPreferences.KeySuffix.ALWAYS;
-        } else if (getBoolean(KEY_GEN_FIRST_LETTER_A)) {
-            keySuffix = CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
-        }
-
-        return new CitationKeyPatternPreferences(
-                getBoolean(AVOID_OVERWRITING_KEY),
-                getBoolean(WARN_BEFORE_OVERWRITING_KEY),
-                getBoolean(GENERATE_KEYS_BEFORE_SAVING),
-                keySuffix,
-                get(KEY_PATTERN_REGEX),
-                get(KEY_PATTERN_REPLACEMENT),
-                get(UNWANTED_CITATION_KEY_CHARACTERS),
-                getGlobalCitationKeyPattern(),
-                getKeywordDelimiter());
+        return snapshots.get("CitationKeyPatternPreferences", () -> {
+            CitationKeyPatternPreferences.KeySuffix keySuffix =
+                    CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B;
+
+            if (getBoolean(KEY_GEN_ALWAYS_ADD_LETTER)) {
+                keySuffix = CitationKeyPatternPreferences.KeySuffix.ALWAYS;
+            } else if (getBoolean(KEY_GEN_FIRST_LETTER_A)) {
+                keySuffix = CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
+            }
+
+            return new CitationKeyPatternPreferences(
+                    getBoolean(AVOID_OVERWRITING_KEY),
+                    getBoolean(WARN_BEFORE_OVERWRITING_KEY),
+                    getBoolean(GENERATE_KEYS_BEFORE_SAVING),
+                    keySuffix,
+                    get(KEY_PATTERN_REGEX),
+                    get(KEY_PATTERN_REPLACEMENT),
+                    get(UNWANTED_CITATION_KEY_CHARACTERS),
+                    getGlobalCitationKeyPattern(),
+                    getKeywordDelimiter());
+        });
     }
 
     @Override
@@ -2024,37 +2046,39 @@ public class JabRefPreferences implements PreferencesService {
     // ToDo: Can this be disbanded?
     @Override
     public ImportFormatPreferences getImportFormatPreferences() {
-        return new ImportFormatPreferences(
+        return snapshots.get("ImportFormatPreferences", () -> new ImportFormatPreferences(
                 getCustomImportFormats(),
                 getDefaultEncoding(),
                 getKeywordDelimiter(),
                 getCitationKeyPatternPreferences(),
                 getFieldContentParserPreferences(),
                 getXmpPreferences(),
-                getSpecialFieldsPreferences().isKeywordSyncEnabled());
+                getSpecialFieldsPreferences().isKeywordSyncEnabled()));
     }
 
     @Override
     public SavePreferences getSavePreferencesForExport() {
-        Boolean saveInOriginalOrder = this.getBoolean(EXPORT_IN_ORIGINAL_ORDER);
-        SaveOrderConfig saveOrder = null;
-        if (!saveInOriginalOrder) {
-            if (this.getBoolean(EXPORT_IN_SPECIFIED_ORDER)) {
-                saveOrder = this.loadExportSaveOrder();
-            } else {
-                saveOrder = this.loadTableSaveOrder();
+        return snapshots.get("SavePreferencesForExport", () -> {
+            Boolean saveInOriginalOrder = this.getBoolean(EXPORT_IN_ORIGINAL_ORDER);
+            SaveOrderConfig saveOrder = null;
+            if (!saveInOriginalOrder) {
+                if (this.getBoolean(EXPORT_IN_SPECIFIED_ORDER)) {
+                    saveOrder = this.loadExportSaveOrder();
+                } else {
+                    saveOrder = this.loadTableSaveOrder();
+                }
             }
-        }
 
-        return getSavePreferences()
-                .withSaveInOriginalOrder(saveInOriginalOrder)
-                .withSaveOrder(saveOrder)
-                .withTakeMetadataSaveOrderInAccount(false);
+            return getSavePreferences()
+                    .withSaveInOriginalOrder(saveInOriginalOrder)
+                    .withSaveOrder(saveOrder)
+                    .withTakeMetadataSaveOrderInAccount(false);
+        });
     }
 
     @Override
     public SavePreferences getSavePreferences() {
-        return new SavePreferences(
+        return snapshots.get("SavePreferences", () -> new SavePreferences(
                 false,
                 null,
                 this.getDefaultEncoding(),
@@ -2062,7 +2086,7 @@ public class JabRefPreferences implements PreferencesService {
                 true,
                 this.getBoolean(REFORMAT_FILE_ON_SAVE_AND_EXPORT),
                 this.getFieldWriterPreferences(),
-                getCitationKeyPatternPreferences());
+                getCitationKeyPatternPreferences()));
     }
 
     @Override
@@ -2091,16 +2115,16 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public FieldContentFormatterPreferences getFieldContentParserPreferences() {
-        return new FieldContentFormatterPreferences(
-                getStringList(NON_WRAPPABLE_FIELDS).stream().map(FieldFactory::parseField).collect(Collectors.toList()));
+        return snapshots.get("FieldContentFormatterPreferences", () -> new FieldContentFormatterPreferences(
+                getStringList(NON_WRAPPABLE_FIELDS).stream().map(FieldFactory::parseField).collect(Collectors.toList())));
     }
 
     @Override
     public FieldWriterPreferences getFieldWriterPreferences() {
-        return new FieldWriterPreferences(
+        return snapshots.get("FieldWriterPreferences", () -> new FieldWriterPreferences(
                 getBoolean(RESOLVE_STRINGS_ALL_FIELDS),
                 getStringList(DO_NOT_RESOLVE_STRINGS_FOR).stream().map(FieldFactory::parseField).collect(Collectors.toList()),
-                getFieldContentParserPreferences());
+                getFieldContentParserPreferences()));
     }
 
     @Override
@@ -2131,7 +2155,7 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public FilePreferences getFilePreferences() {
-        return new FilePreferences(
+        return snapshots.get("FilePreferences", () -> new FilePreferences(
                 getUser(),
                 get(MAIN_FILE_DIRECTORY),
                 getBoolean(STORE_RELATIVE_TO_BIB),
@@ -2139,7 +2163,7 @@ public class JabRefPreferences implements PreferencesService {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(RUN_AUTOMATIC_FILE_SEARCH),
-                getBoolean(ALLOW_FILE_AUTO_OPEN_BROWSE));
+                getBoolean(ALLOW_FILE_AUTO_OPEN_BROWSE)));
     }
 
     @Override
@@ -2271,6 +2295,7 @@ public class JabRefPreferences implements PreferencesService {
         }
 
         this.customImporters = importers;
+        snapshots.invalidateAll();
     }
 
     private void purgeCustomImportFormats() {
@@ -2498,7 +2523,7 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public void clearEditedFiles() {
-        prefs.remove(LAST_EDITED);
+        remove(LAST_EDITED);
     }
 
     //*************************************************************************************************************
@@ -2534,10 +2559,10 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public XmpPreferences getXmpPreferences() {
-        return new XmpPreferences(
+        return snapshots.get("XmpPreferences", () -> new XmpPreferences(
                 getBoolean(USE_XMP_PRIVACY_FILTER),
                 getStringList(XMP_PRIVACY_FILTERS).stream().map(FieldFactory::parseField).collect(Collectors.toSet()),
-                getKeywordDelimiter());
+                getKeywordDelimiter()));
     }
 
     @Override
@@ -2548,9 +2573,9 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public NameFormatterPreferences getNameFormatterPreferences() {
-        return new NameFormatterPreferences(
+        return snapshots.get("NameFormatterPreferences", () -> new NameFormatterPreferences(
                 getStringList(NAME_FORMATER_KEY),
-                getStringList(NAME_FORMATTER_VALUE));
+                getStringList(NAME_FORMATTER_VALUE)));
     }
 
     @Override
@@ -0,0 +1,113 @@
+package org.jabref.preferences;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caches the preference objects (e.g., {@link org.jabref.logic.importer.ImportFormatPreferences}) which are assembled
+ * from many keys of the preference store. Building them reads the backing store key by key, which is too slow for the
+ * places calling the getters for every entry or every autosave.
+ * <p>
+ * While a snapshot is built, all keys read from the store are recorded. A snapshot is dropped as soon as one of these
+ * keys is written; writes to other keys do not affect it. Snapshots built inside another snapshot (e.g., the
+ * {@link org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences} inside the import preferences) pass their
+ * keys on to the outer snapshot.
+ * <p>
+ * The cached objects have to be immutable, as they are handed out to all callers.
+ */
+class PreferencesSnapshotCache {
+
+    private final Map<String, Snapshot> snapshots = new HashMap<>();
+    private final ThreadLocal<Deque<Set<String>>> recordedKeys = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Incremented on each write, so that a snapshot built concurrently to a write is not cached
+     */
+    private long version;
+
+    /**
+     * Returns the snapshot with the given name. If there is none, it is built and cached.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(String name, Supplier<T> builder) {
+        Snapshot snapshot;
+        long versionBeforeBuild;
+        synchronized (this) {
+            snapshot = snapshots.get(name);
+            versionBeforeBuild = version;
+        }
+        if (snapshot != null) {
+            recordAll(snapshot.keys);
+            return (T) snapshot.value;
+        }
+
+        Deque<Set<String>> recordings = recordedKeys.get();
+        Set<String> keys = new HashSet<>();
+        recordings.push(keys);
+        T value;
+        try {
+            value = builder.get();
+        } finally {
+            recordings.pop();
+            if (recordings.isEmpty()) {
+                recordedKeys.remove();
+            }
+        }
+        recordAll(keys);
+
+        synchronized (this) {
+            if (version == versionBeforeBuild) {
+                snapshots.put(name, new Snapshot(value, keys));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Has to be called for each key read from the preference store
+     */
+    void keyRead(String key) {
+        Deque<Set<String>> recordings = recordedKeys.get();
+        if (!recordings.isEmpty()) {
+            recordings.peek().add(key);
+        }
+    }
+
+    /**
+     * Has to be called after a key was written to or removed from the preference store
+     */
+    synchronized void keyWritten(String key) {
+        version++;
+        snapshots.values().removeIf(snapshot -> snapshot.keys.contains(key));
+    }
+
+    /**
+     * Drops all snapshots, e.g., after preferences were imported or state outside the recorded keys changed
+     */
+    synchronized void invalidateAll() {
+        version++;
+        snapshots.clear();
+    }
+
+    private void recordAll(Set<String> keys) {
+        Deque<Set<String>> recordings = recordedKeys.get();
+        if (!recordings.isEmpty()) {
+            recordings.peek().addAll(keys);
+        }
+    }
+
+    private static class Snapshot {
+        private final Object value;
+        private final Set<String> keys;
+
+        Snapshot(Object value, Set<String> keys) {
+            this.value = value;
+            this.keys = keys;
+        }
+    }
+}
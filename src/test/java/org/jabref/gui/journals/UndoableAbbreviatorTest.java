@@ -0,0 +1,51 @@
+package org.jabref.gui.journals;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.swing.undo.CompoundEdit;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UndoableAbbreviatorTest {
+
+    private UndoableAbbreviator abbreviator;
+
+    @BeforeEach
+    void setUp() {
+        JournalAbbreviationRepository repository = JournalAbbreviationLoader.loadBuiltInRepository();
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+        abbreviator = new UndoableAbbreviator(repository, AbbreviationType.DEFAULT);
+    }
+
+    @Test
+    void abbreviateAllEntries() {
+        BibEntry first = new BibEntry().withField(StandardField.JOURNAL, "Long Name");
+        BibEntry second = new BibEntry().withField(StandardField.JOURNAL, "long name")
+                                        .withField(StandardField.JOURNALTITLE, "Long Name");
+        BibEntry unknown = new BibEntry().withField(StandardField.JOURNAL, "Unknown Journal");
+        BibDatabase database = new BibDatabase(List.of(first, second, unknown));
+        CompoundEdit edit = new CompoundEdit();
+
+        int changedFields = abbreviator.abbreviate(database, database.getEntries(), edit);
+        edit.end();
+
+        assertEquals(3, changedFields);
+        assertEquals(Optional.of("L. N."), first.getField(StandardField.JOURNAL));
+        assertEquals(Optional.of("L. N."), second.getField(StandardField.JOURNALTITLE));
+        assertEquals(Optional.of("Unknown Journal"), unknown.getField(StandardField.JOURNAL));
+
+        edit.undo();
+        assertEquals(Optional.of("long name"), second.getField(StandardField.JOURNAL));
+    }
+}
@@ -0,0 +1,148 @@
+package org.jabref.gui.undo;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountingUndoManagerTest {
+
+    private static final String LONG_VALUE = "a".repeat(1000);
+
+    private CountingUndoManager undoManager;
+    private BibDatabase database;
+    private List<BibEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        undoManager = new CountingUndoManager(30 * 1024);
+        entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new BibEntry().withField(StandardField.ABSTRACT, LONG_VALUE + i));
+        }
+        database = new BibDatabase(entries);
+    }
+
+    @Test
+    void longOldValueIsStoredAsDifference() {
+        String oldValue = LONG_VALUE + " old ending";
+        String newValue = LONG_VALUE + " new ending";
+        UndoableFieldChange diffed = new UndoableFieldChange(entries.get(0), StandardField.ABSTRACT, oldValue, newValue);
+        UndoableFieldChange complete = new UndoableFieldChange(entries.get(0), StandardField.ABSTRACT, oldValue, "new");
+
+        assertEquals(oldValue, diffed.getOldValue());
+        assertTrue(diffed.getMemoryFootprint() < complete.getMemoryFootprint());
+    }
+
+    @Test
+    void oldEditsAreSpilledAndLoadedOnUndo() {
+        undoManager.markUnchanged();
+        undoManager.addEdit(changeAllAbstracts("first"));
+        undoManager.addEdit(changeAllAbstracts("second"));
+
+        assertTrue(undoManager.getSpilledSize() > 0);
+        assertTrue(undoManager.getMemoryFootprint() <= undoManager.getMemoryBudget());
+
+        undoManager.undo();
+        undoManager.undo();
+
+        assertEquals(Optional.of(LONG_VALUE + 3), entries.get(3).getField(StandardField.ABSTRACT));
+        assertEquals(0, undoManager.getSpilledSize());
+        assertFalse(undoManager.hasChanged());
+
+        undoManager.redo();
+        assertEquals(Optional.of("first" + LONG_VALUE + 3), entries.get(3).getField(StandardField.ABSTRACT));
+        assertTrue(undoManager.hasChanged());
+    }
+
+    @Test
+    void removedEntriesAreRestoredFromStore() {
+        List<BibEntry> removed = new ArrayList<>(entries);
+        NamedCompound removal = new NamedCompound("remove");
+        database.removeEntries(removed);
+        removal.addEdit(new UndoableRemoveEntries(database, removed));
+        removal.end();
+        undoManager.addEdit(removal);
+        undoManager.addEdit(new UndoableInsertEntries(database, new BibEntry().withField(StandardField.ABSTRACT, LONG_VALUE)));
+        undoManager.setMemoryBudget(1024);
+
+        assertTrue(undoManager.getSpilledSize() > 0);
+
+        undoManager.undo();
+        undoManager.undo();
+
+        assertEquals(20, database.getEntryCount());
+        assertEquals(Optional.of(LONG_VALUE + 7), database.getEntries().get(7).getField(StandardField.ABSTRACT));
+    }
+
+    @Test
+    void discardedEditsAreDeletedFromStore() {
+        undoManager.addEdit(changeAllAbstracts("first"));
+        undoManager.addEdit(changeAllAbstracts("second"));
+        assertTrue(undoManager.getSpilledSize() > 0);
+
+        undoManager.discardAllEdits();
+
+        assertEquals(0, undoManager.getSpilledSize());
+    }
+
+    @Test
+    void shutdownDeletesStoredEdits() {
+        undoManager.addEdit(changeAllAbstracts("first"));
+        undoManager.addEdit(changeAllAbstracts("second"));
+        assertTrue(undoManager.getSpilledSize() > 0);
+
+        undoManager.shutdown();
+
+        assertEquals(0, undoManager.getSpilledSize());
+        assertFalse(undoManager.canUndo());
+    }
+
+    @Test
+    void storeDoesNotKeepLibraryOfDiscardedEdits() {
+        WeakReference<BibDatabase> otherDatabase = spillRemovalFromOtherDatabase();
+
+        undoManager.discardAllEdits();
+        for (int i = 0; (i < 10) && (otherDatabase.get() != null); i++) {
+            System.gc();
+        }
+
+        assertNull(otherDatabase.get());
+    }
+
+    private WeakReference<BibDatabase> spillRemovalFromOtherDatabase() {
+        BibEntry entry = new BibEntry().withField(StandardField.ABSTRACT, LONG_VALUE);
+        BibDatabase otherDatabase = new BibDatabase(List.of(entry));
+        otherDatabase.removeEntry(entry);
+        undoManager.addEdit(new UndoableRemoveEntries(otherDatabase, List.of(entry)));
+        undoManager.addEdit(changeAllAbstracts("first"));
+        undoManager.setMemoryBudget(1024);
+        assertTrue(undoManager.getSpilledSize() > 0);
+        return new WeakReference<>(otherDatabase);
+    }
+
+    private NamedCompound changeAllAbstracts(String prefix) {
+        NamedCompound compound = new NamedCompound(prefix);
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            String oldValue = entry.getField(StandardField.ABSTRACT).orElse(null);
+            String newValue = prefix + LONG_VALUE + i;
+            entry.setField(StandardField.ABSTRACT, newValue);
+            compound.addEdit(new UndoableFieldChange(entry, StandardField.ABSTRACT, oldValue, newValue));
+        }
+        compound.end();
+        return compound;
+    }
+}
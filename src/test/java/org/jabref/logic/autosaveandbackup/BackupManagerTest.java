@@ -1,15 +1,45 @@
 package org.jabref.logic.autosaveandbackup;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.bibtex.FieldContentFormatterPreferences;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrderConfig;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class BackupManagerTest {
 
+    private static final String LIBRARY = "@Article{first,\n  title = {Old title},\n}\n\n@Book{second,\n  title = {Second},\n}\n";
+
     @Test
     public void autosaveFileNameIsCorrectlyGeneratedWithinTmpDirectory() {
         Path bibPath = Path.of("tmp", "test.bib");
@@ -34,4 +64,134 @@ public class BackupManagerTest {
         Path originalFile = Path.of(BackupManagerTest.class.getResource("changes.bib").toURI());
         assertTrue(BackupManager.backupFileDiffers(originalFile));
     }
+
+    @Test
+    public void journaledChangesAreRestored(@TempDir Path tempDir) throws Exception {
+        Path library = tempDir.resolve("library.bib");
+        Files.writeString(library, LIBRARY);
+        PreferencesService preferences = createPreferences();
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BibDatabaseContext context = new BibDatabaseContext(parse(library, preferences), new MetaData(), library);
+        BibDatabase database = context.getDatabase();
+
+        BackupManager backupManager = BackupManager.start(context, entryTypesManager, preferences);
+        try {
+            database.getEntryByCitationKey("first").get().setField(StandardField.TITLE, "Intermediate title");
+            database.getEntryByCitationKey("first").get().setField(StandardField.TITLE, "New title");
+            database.removeEntry(database.getEntryByCitationKey("second").get());
+            database.insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("third").withField(StandardField.NOTE, "Added"));
+            backupManager.flush();
+
+            assertFalse(Files.exists(BackupManager.getBackupPath(library)));
+            assertTrue(BackupManager.backupFileDiffers(library));
+
+            assertEquals(List.of(), BackupManager.restoreBackup(library, preferences, entryTypesManager));
+            assertEquals(new HashSet<>(database.getEntries()), new HashSet<>(parse(library, preferences).getEntries()));
+        } finally {
+            BackupManager.shutdown(context);
+        }
+        assertFalse(Files.exists(BackupManager.getJournalPath(library)));
+    }
+
+    @Test
+    public void changesOfEntriesNotFoundAreReported(@TempDir Path tempDir) throws Exception {
+        Path library = tempDir.resolve("library.bib");
+        Files.writeString(library, LIBRARY);
+        PreferencesService preferences = createPreferences();
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BibDatabaseContext context = new BibDatabaseContext(parse(library, preferences), new MetaData(), library);
+
+        BackupManager backupManager = BackupManager.start(context, entryTypesManager, preferences);
+        try {
+            context.getDatabase().getEntryByCitationKey("first").get().setField(StandardField.TITLE, "New title");
+            context.getDatabase().getEntryByCitationKey("second").get().setField(StandardField.YEAR, "2021");
+            backupManager.flush();
+            // Another program changes the first entry
+            Files.writeString(library, LIBRARY.replace("Old title", "Changed elsewhere"));
+
+            List<String> unrestoredChanges = BackupManager.restoreBackup(library, preferences, entryTypesManager);
+
+            assertEquals(List.of("Set 'title' to 'New title'"), unrestoredChanges);
+            assertEquals(Optional.of("2021"), parse(library, preferences).getEntryByCitationKey("second").get().getField(StandardField.YEAR));
+        } finally {
+            BackupManager.shutdown(context);
+        }
+    }
+
+    @Test
+    public void savedLibraryDoesNotDifferFromBackup(@TempDir Path tempDir) throws Exception {
+        Path library = tempDir.resolve("library.bib");
+        Files.writeString(library, LIBRARY);
+        PreferencesService preferences = createPreferences();
+        BibDatabaseContext context = new BibDatabaseContext(parse(library, preferences), new MetaData(), library);
+
+        BackupManager backupManager = BackupManager.start(context, new BibEntryTypesManager(), preferences);
+        try {
+            context.getDatabase().getEntryByCitationKey("first").get().setField(StandardField.TITLE, "New title");
+            context.getDatabase().insertEntry(new BibEntry(StandardEntryType.Misc).withCitationKey("third"));
+            backupManager.flush();
+            assertTrue(BackupManager.backupFileDiffers(library));
+
+            // The journal is replaced right away, without waiting for the next backup
+            BackupManager.notifySaved(context);
+            assertFalse(BackupManager.backupFileDiffers(library));
+        } finally {
+            BackupManager.shutdown(context);
+        }
+    }
+
+    @Test
+    public void changedPreambleLeadsToCheckpoint(@TempDir Path tempDir) throws Exception {
+        Path library = tempDir.resolve("library.bib");
+        Files.writeString(library, LIBRARY);
+        PreferencesService preferences = createPreferences();
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BibDatabaseContext context = new BibDatabaseContext(parse(library, preferences), new MetaData(), library);
+        BibDatabase database = context.getDatabase();
+
+        BackupManager backupManager = BackupManager.start(context, entryTypesManager, preferences);
+        try {
+            database.setPreamble("Preamble");
+            database.getEntryByCitationKey("first").get().setField(StandardField.TITLE, "New title");
+            backupManager.flush();
+            assertTrue(Files.exists(BackupManager.getBackupPath(library)));
+
+            database.getEntryByCitationKey("second").get().setField(StandardField.YEAR, "2021");
+            backupManager.flush();
+
+            BackupManager.restoreBackup(library, preferences, entryTypesManager);
+            BibDatabase restored = parse(library, preferences);
+            assertEquals(Optional.of("Preamble"), restored.getPreamble());
+            assertEquals(Set.copyOf(database.getEntries()), Set.copyOf(restored.getEntries()));
+        } finally {
+            BackupManager.shutdown(context);
+        }
+    }
+
+    private static BibDatabase parse(Path library, PreferencesService preferences) throws IOException {
+        return new BibtexParser(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                .parse(Files.newBufferedReader(library, StandardCharsets.UTF_8))
+                .getDatabase();
+    }
+
+    private static PreferencesService createPreferences() {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getFieldContentFormatterPreferences()).thenReturn(new FieldContentFormatterPreferences());
+        when(importFormatPreferences.isKeywordSyncEnabled()).thenReturn(false);
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+
+        SavePreferences savePreferences = mock(SavePreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(savePreferences.getSaveOrder()).thenReturn(new SaveOrderConfig());
+        when(savePreferences.takeMetadataSaveOrderInAccount()).thenReturn(true);
+        when(savePreferences.withEncoding(any())).thenReturn(savePreferences);
+        when(savePreferences.withMakeBackup(anyBoolean())).thenReturn(savePreferences);
+        when(savePreferences.withSaveInOriginalOrder(anyBoolean())).thenReturn(savePreferences);
+
+        PreferencesService preferences = mock(PreferencesService.class);
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferences.getSavePreferences()).thenReturn(savePreferences);
+        when(preferences.getDefaultEncoding()).thenReturn(StandardCharsets.UTF_8);
+        return preferences;
+    }
 }
@@ -173,4 +173,30 @@ public class FieldComparatorTest {
 
         assertEquals(1, comparator.compare(bigger, smaller));
     }
+
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.AUTHOR);
+        BibEntry first = new BibEntry();
+        first.setField(StandardField.AUTHOR, "Alpha, Anna");
+        BibEntry second = new BibEntry();
+        second.setField(StandardField.AUTHOR, "Beta, Bert");
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setField(StandardField.AUTHOR, "Gamma, Gerd");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareUsesChangedEntryType() throws Exception {
+        FieldComparator comparator = new FieldComparator(InternalField.TYPE_HEADER);
+        BibEntry article = new BibEntry(StandardEntryType.Article);
+        BibEntry book = new BibEntry(StandardEntryType.Book);
+        assertEquals(-1, comparator.compare(article, book));
+
+        article.setType(StandardEntryType.Unpublished);
+
+        assertEquals(1, comparator.compare(article, book));
+    }
 }
@@ -0,0 +1,53 @@
+package org.jabref.logic.citationstyle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CSLEnginePoolTest {
+
+    @Test
+    void sameStyleAndFormatReuseEngine() {
+        CSLEnginePool pool = new CSLEnginePool(2);
+
+        assertSame(pool.getEngine("style", CitationStyleOutputFormat.HTML), pool.getEngine("style", CitationStyleOutputFormat.HTML));
+    }
+
+    @Test
+    void differentStylesUseDifferentEngines() {
+        CSLEnginePool pool = new CSLEnginePool(2);
+
+        assertNotSame(pool.getEngine("style", CitationStyleOutputFormat.HTML), pool.getEngine("other style", CitationStyleOutputFormat.HTML));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void differentFormatsUseDifferentEngines() {
+        CSLEnginePool pool = new CSLEnginePool(2);
+
+        assertNotSame(pool.getEngine("style", CitationStyleOutputFormat.HTML), pool.getEngine("style", CitationStyleOutputFormat.TEXT));
+    }
+
+    @Test
+    void leastRecentlyUsedEngineIsEvicted() {
+        CSLEnginePool pool = new CSLEnginePool(2);
+        CSLAdapter first = pool.getEngine("first", CitationStyleOutputFormat.HTML);
+        CSLAdapter second = pool.getEngine("second", CitationStyleOutputFormat.HTML);
+
+        // use the first engine again, so that the second one becomes the least recently used one
+        pool.getEngine("first", CitationStyleOutputFormat.HTML);
+        pool.getEngine("third", CitationStyleOutputFormat.HTML);
+
+        assertEquals(2, pool.size());
+        assertSame(first, pool.getEngine("first", CitationStyleOutputFormat.HTML));
+        assertNotSame(second, pool.getEngine("second", CitationStyleOutputFormat.HTML));
+    }
+
+    @Test
+    void poolMustHoldAtLeastOneEngine() {
+        assertThrows(IllegalArgumentException.class, () -> new CSLEnginePool(0));
+    }
+}
@@ -149,4 +149,41 @@ class MoveFilesCleanupTest {
         List<FieldChange> changes = cleanup.cleanup(entry);
         assertEquals(Collections.emptyList(), changes);
     }
+
+    @Test
+    void movesOnlyFirstOfFilesWithSameTarget() throws IOException {
+        Path otherFolder = fileBefore.getParent().resolveSibling("other");
+        Files.createDirectory(otherFolder);
+        Path otherFileBefore = Files.createFile(otherFolder.resolve("test.pdf"));
+        BibEntry otherEntry = new BibEntry();
+        otherEntry.setField(StandardField.FILE, FileFieldWriter.getStringRepresentation(new LinkedFile("", otherFileBefore.toAbsolutePath(), "")));
+
+        when(filePreferences.getFileDirectoryPattern()).thenReturn("");
+        List<FieldChange> changes = cleanup.cleanup(List.of(entry, otherEntry));
+
+        assertEquals(1, changes.size());
+        assertFalse(Files.exists(fileBefore));
+        assertTrue(Files.exists(otherFileBefore));
+        assertTrue(Files.exists(defaultFileFolder.resolve("test.pdf")));
+    }
+
+    @Test
+    void movesNoFileIfOneMoveFails() throws IOException {
+        Path otherFileBefore = Files.createFile(fileBefore.resolveSibling("other.pdf"));
+        BibEntry otherEntry = new BibEntry();
+        otherEntry.setCitationKey("Blocked");
+        otherEntry.setField(StandardField.FILE, FileFieldWriter.getStringRepresentation(new LinkedFile("", otherFileBefore.toAbsolutePath(), "")));
+        // The directory of the other entry cannot be created
+        Files.createFile(defaultFileFolder.resolve("Blocked"));
+
+        when(filePreferences.getFileDirectoryPattern()).thenReturn("[citationkey]");
+        List<FieldChange> changes = cleanup.cleanup(List.of(entry, otherEntry));
+
+        assertEquals(Collections.emptyList(), changes);
+        assertTrue(Files.exists(fileBefore));
+        assertTrue(Files.exists(otherFileBefore));
+        assertFalse(Files.exists(defaultFileFolder.resolve("Toot").resolve("test.pdf")));
+        assertEquals(Optional.of(FileFieldWriter.getStringRepresentation(new LinkedFile("", fileBefore.toAbsolutePath(), ""))),
+                entry.getField(StandardField.FILE));
+    }
 }
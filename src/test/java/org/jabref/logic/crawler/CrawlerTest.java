@@ -21,9 +21,12 @@ import org.eclipse.jgit.api.Git;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 
 import static org.jabref.logic.citationkeypattern.CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,6 +73,19 @@ class CrawlerTest {
         assertTrue(Files.exists(Path.of(tempRepositoryDirectory.toString(), "studyResult.bib")));
     }
 
+    @Test
+    void performCrawlUpdatesLocalRepositoryBeforeFetching() throws Exception {
+        StudyRepository studyRepository = mock(StudyRepository.class);
+        StudyFetcher studyFetcher = mock(StudyFetcher.class);
+
+        new Crawler(studyRepository, studyFetcher).performCrawl();
+
+        InOrder inOrder = inOrder(studyRepository, studyFetcher);
+        inOrder.verify(studyRepository).startCrawl();
+        inOrder.verify(studyFetcher).crawl(any(), any());
+        inOrder.verify(studyRepository).finishCrawl();
+    }
+
     private Path getPathToStudyDefinitionFile() {
         return tempRepositoryDirectory.resolve("study.yml");
     }
@@ -0,0 +1,129 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.study.QueryResult;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyFetcherTest {
+
+    private static final List<String> QUERIES = List.of("Quantum", "Cloud Computing", "Software Engineering", "Testing", "Refactoring", "Compilers");
+
+    @Test
+    void crawlPassesResultOfEachSearch() throws Exception {
+        SearchBasedFetcher arXiv = stubFetcher("ArXiv");
+        SearchBasedFetcher springer = stubFetcher("Springer");
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(arXiv, springer), QUERIES);
+        Set<String> results = ConcurrentHashMap.newKeySet();
+
+        studyFetcher.crawl((query, fetcher) -> false, (query, result) -> results.add(query + "/" + result.getFetcherName()));
+
+        assertEquals(QUERIES.size() * 2, results.size());
+        assertTrue(results.contains("Quantum/Springer"));
+    }
+
+    @Test
+    void crawlSkipsCompletedSearches() throws Exception {
+        SearchBasedFetcher arXiv = stubFetcher("ArXiv");
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(arXiv), List.of("Quantum"));
+
+        studyFetcher.crawl((query, fetcher) -> true, (query, result) -> {
+            throw new IllegalStateException("No search expected");
+        });
+
+        verify(arXiv, never()).performSearch(anyString());
+    }
+
+    @Test
+    void crawlLimitsConcurrentSearchesPerFetcher() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximumRunning = new AtomicInteger();
+        SearchBasedFetcher arXiv = mock(SearchBasedFetcher.class);
+        when(arXiv.getName()).thenReturn("ArXiv");
+        when(arXiv.performSearch(anyString())).thenAnswer(invocation -> {
+            maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return List.of();
+        });
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(arXiv), QUERIES);
+
+        studyFetcher.crawl((query, fetcher) -> false, (query, result) -> {
+        });
+
+        assertTrue(maximumRunning.get() <= 2);
+    }
+
+    @Test
+    void failingFetcherDoesNotStopOtherFetchers() throws Exception {
+        SearchBasedFetcher failing = mock(SearchBasedFetcher.class);
+        when(failing.getName()).thenReturn("IEEEXplore");
+        when(failing.performSearch(anyString())).thenThrow(new FetcherException("Service unavailable"));
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(failing, stubFetcher("Springer")), List.of("Quantum"));
+
+        List<QueryResult> results = studyFetcher.crawl();
+
+        assertEquals(1, results.size());
+        assertEquals(1, results.get(0).getResultsPerFetcher().size());
+        assertEquals("Springer", results.get(0).getResultsPerFetcher().get(0).getFetcherName());
+    }
+
+    @Test
+    void failingPersistenceStopsCrawl() throws Exception {
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(stubFetcher("ArXiv")), QUERIES);
+
+        assertThrows(IOException.class, () -> studyFetcher.crawl((query, fetcher) -> false, (query, result) -> {
+            throw new IOException("Disk full");
+        }));
+    }
+
+    @Test
+    void hangingFetcherDoesNotBlockOtherFetchers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SearchBasedFetcher hanging = mock(SearchBasedFetcher.class);
+        when(hanging.getName()).thenReturn("IEEEXplore");
+        when(hanging.performSearch(anyString())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(hanging, stubFetcher("Springer")), QUERIES, Duration.ofMillis(100));
+        Set<String> results = ConcurrentHashMap.newKeySet();
+
+        try {
+            studyFetcher.crawl((query, fetcher) -> false, (query, result) -> results.add(query + "/" + result.getFetcherName()));
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals(QUERIES.size(), results.size());
+        assertTrue(results.stream().allMatch(result -> result.endsWith("/Springer")));
+    }
+
+    private static SearchBasedFetcher stubFetcher(String name) throws FetcherException {
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn(name);
+        when(fetcher.performSearch(anyString())).thenAnswer(invocation ->
+                List.of(new BibEntry().withField(StandardField.TITLE, name + ": " + invocation.getArgument(0))));
+        return fetcher;
+    }
+}
@@ -38,9 +38,12 @@ import org.mockito.Answers;
 
 import static org.jabref.logic.citationkeypattern.CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class StudyRepositoryTest {
@@ -171,6 +174,30 @@ class StudyRepositoryTest {
         assertEquals(new HashSet<>(getNonDuplicateBibEntryResult().getEntries()), new HashSet<>(getTestStudyRepository().getStudyResultEntries().getEntries()));
     }
 
+    @Test
+    void persistedSearchesAreRememberedUntilCrawlIsFinished() throws Exception {
+        studyRepository.persistFetchResult("Quantum", new FetchResult("ArXiv", new BibDatabase(stripCitationKeys(getArXivQuantumMockResults()))));
+
+        // A repository opened after an interruption knows the searches already done
+        StudyRepository resumedRepository = getTestStudyRepository();
+        assertTrue(resumedRepository.isSearched("Quantum", "ArXiv"));
+        assertFalse(resumedRepository.isSearched("Quantum", "Springer"));
+        assertEquals(getArXivQuantumMockResults(), resumedRepository.getFetcherResultEntries("Quantum", "ArXiv").getEntries());
+
+        resumedRepository.finishCrawl();
+
+        assertFalse(getTestStudyRepository().isSearched("Quantum", "ArXiv"));
+    }
+
+    @Test
+    void startCrawlUpdatesLocalRepository() throws Exception {
+        clearInvocations(gitHandler);
+
+        studyRepository.startCrawl();
+
+        verify(gitHandler).updateLocalRepository();
+    }
+
     private StudyRepository getTestStudyRepository() throws Exception {
         setUpTestStudyDefinitionFile();
         studyRepository = new StudyRepository(tempRepositoryDirectory, gitHandler, importFormatPreferences, new DummyFileUpdateMonitor(), savePreferences, timestampPreferences, entryTypesManager);
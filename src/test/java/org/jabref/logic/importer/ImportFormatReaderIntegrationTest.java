@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.stream.Stream;
 
 import org.jabref.logic.preferences.TimestampPreferences;
@@ -13,6 +14,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
@@ -58,6 +61,21 @@ class ImportFormatReaderIntegrationTest {
         assertEquals(count, reader.importUnknownFormat(data).parserResult.getDatabase().getEntries().size());
     }
 
+    @Test
+    void importUnknownFormatOfFileLargerThanDetectionSample(@TempDir Path tempDir) throws Exception {
+        Path source = Path.of(ImportFormatReaderIntegrationTest.class.getResource("fileformat/RisImporterTest1.ris").toURI());
+        String entry = Files.readString(source, StandardCharsets.UTF_8);
+        // more than the 1 MiB sample used to detect the format
+        int count = ((2 * 1024 * 1024) / entry.length()) + 1;
+        Path file = tempDir.resolve("large.ris");
+        Files.writeString(file, String.join("\n", Collections.nCopies(count, entry)), StandardCharsets.UTF_8);
+
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, timestampPreferences, new DummyFileUpdateMonitor());
+
+        assertEquals("RIS", unknownFormat.format);
+        assertEquals(count, unknownFormat.parserResult.getDatabase().getEntryCount());
+    }
+
     private static Stream<Object[]> importFormats() {
         Collection<Object[]> result = new ArrayList<>();
         result.add(new Object[]{"fileformat/RisImporterTest1.ris", "ris", 1});
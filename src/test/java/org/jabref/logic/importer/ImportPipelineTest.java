@@ -0,0 +1,67 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportPipelineTest {
+
+    private final ImportPipeline pipeline = new ImportPipeline(4);
+
+    @Test
+    void importFilesMergesInOrderOfFiles() throws Exception {
+        List<Integer> files = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        List<Integer> merged = new ArrayList<>();
+
+        pipeline.importFiles(files, file -> {
+            // Later files are parsed faster
+            Thread.sleep(50 - file);
+            return file * 2;
+        }, parsedFile -> merged.add(parsedFile.getResult().orElseThrow()), () -> false);
+
+        assertEquals(files.stream().map(file -> file * 2).collect(Collectors.toList()), merged);
+    }
+
+    @Test
+    void importFilesPassesErrorOfFileAndContinues() throws Exception {
+        List<String> merged = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        pipeline.importFiles(List.of("a", "broken", "c"), file -> {
+            if ("broken".equals(file)) {
+                throw new ImportException("Cannot parse " + file);
+            }
+            return file;
+        }, parsedFile -> {
+            parsedFile.getResult().ifPresent(merged::add);
+            parsedFile.getError().ifPresent(error -> failed.add(parsedFile.getFile()));
+        }, () -> false);
+
+        assertEquals(List.of("a", "c"), merged);
+        assertEquals(List.of("broken"), failed);
+    }
+
+    @Test
+    void importFilesStopsWhenCancelled() throws Exception {
+        List<Integer> merged = new ArrayList<>();
+
+        pipeline.importFiles(List.of(1, 2, 3, 4), file -> file, parsedFile -> merged.add(parsedFile.getIndex()), () -> merged.size() >= 2);
+
+        assertEquals(List.of(0, 1), merged);
+    }
+
+    @Test
+    void importFilesWithoutFilesDoesNotMerge() throws Exception {
+        List<Object> merged = new ArrayList<>();
+
+        pipeline.importFiles(List.of(), file -> file, merged::add, () -> false);
+
+        assertTrue(merged.isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package org.jabref.logic.importer.fetcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.apache.lucene.queryparser.flexible.standard.parser.StandardSyntaxParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.jabref.logic.importer.fetcher.transformators.AbstractQueryTransformer.NO_EXPLICIT_FIELD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the scheduling of the requests of {@link CompositeSearchBasedFetcher} with stubbed fetchers, so that no web
+ * request is made.
+ */
+class CompositeSearchBasedFetcherCancellationTest {
+
+    @Test
+    void performSearchStopsAfterMaximumNumberOfResults() throws Exception {
+        SearchBasedFetcher fastFetcher = answeringFetcher("Fast", Duration.ZERO, 3);
+        SearchBasedFetcher slowFetcher = answeringFetcher("Slow", Duration.ofMinutes(1), 3);
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(fastFetcher, slowFetcher), 2);
+
+        CompletableFuture<List<BibEntry>> search = compositeFetcher.performSearchAsync(new StandardSyntaxParser().parse("quantum", NO_EXPLICIT_FIELD), (fetcher, entries) -> {
+        });
+
+        Assertions.assertEquals(2, search.get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void performSearchPublishesResultsPerFetcher() throws Exception {
+        SearchBasedFetcher firstFetcher = answeringFetcher("First", Duration.ZERO, 1);
+        SearchBasedFetcher secondFetcher = answeringFetcher("Second", Duration.ZERO, 2);
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(firstFetcher, secondFetcher), Integer.MAX_VALUE);
+        Map<String, Integer> published = new ConcurrentHashMap<>();
+
+        List<BibEntry> result = compositeFetcher.performSearchAsync(new StandardSyntaxParser().parse("quantum", NO_EXPLICIT_FIELD),
+                (fetcher, entries) -> published.put(fetcher.getName(), entries.size()))
+                                                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(Map.of("First", 1, "Second", 2), published);
+    }
+
+    @Test
+    void performSearchSkipsFetcherExceedingTimeout() throws Exception {
+        SearchBasedFetcher fastFetcher = answeringFetcher("Fast", Duration.ZERO, 1);
+        SearchBasedFetcher slowFetcher = answeringFetcher("Slow", Duration.ofMinutes(1), 1);
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(fastFetcher, slowFetcher), Integer.MAX_VALUE, Duration.ofMillis(200));
+
+        List<BibEntry> result = compositeFetcher.performSearch("quantum");
+
+        Assertions.assertEquals(1, result.size());
+    }
+
+    private static SearchBasedFetcher answeringFetcher(String name, Duration delay, int numberOfEntries) throws FetcherException {
+        SearchBasedFetcher fetcher = mock(SearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn(name);
+        when(fetcher.performSearch(any(QueryNode.class))).thenAnswer(invocation -> {
+            Thread.sleep(delay.toMillis());
+            List<BibEntry> entries = new ArrayList<>();
+            for (int i = 0; i < numberOfEntries; i++) {
+                entries.add(new BibEntry().withField(StandardField.TITLE, name + " " + i));
+            }
+            return entries;
+        });
+        return fetcher;
+    }
+}
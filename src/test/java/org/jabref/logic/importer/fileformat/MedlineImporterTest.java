@@ -1,6 +1,15 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  */
 public class MedlineImporterTest {
 
+    private static final int NUMBER_OF_GENERATED_ARTICLES = 20_000;
+
     private MedlineImporter importer;
 
     @BeforeEach
@@ -41,4 +52,29 @@ public class MedlineImporterTest {
     public void testGetDescription() {
         assertEquals("Importer for the Medline format.", importer.getDescription());
     }
+
+    @Test
+    void importLargeArticleSetReadsAllArticlesInOrder() throws IOException {
+        ParserResult result = importer.importDatabase(new BufferedReader(new StringReader(generateArticleSet(NUMBER_OF_GENERATED_ARTICLES))));
+
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(NUMBER_OF_GENERATED_ARTICLES, entries.size());
+        assertEquals(Optional.of("0"), entries.get(0).getField(StandardField.PMID));
+        assertEquals(Optional.of("Article 0"), entries.get(0).getField(StandardField.TITLE));
+        assertEquals(Optional.of(Integer.toString(NUMBER_OF_GENERATED_ARTICLES - 1)), entries.get(NUMBER_OF_GENERATED_ARTICLES - 1).getField(StandardField.PMID));
+    }
+
+    private static String generateArticleSet(int numberOfArticles) {
+        StringBuilder articleSet = new StringBuilder("<PubmedArticleSet>");
+        for (int i = 0; i < numberOfArticles; i++) {
+            articleSet.append("<PubmedArticle><MedlineCitation Status=\"MEDLINE\" Owner=\"NLM\">")
+                      .append("<PMID Version=\"1\">").append(i).append("</PMID>")
+                      .append("<Article PubModel=\"Print\"><Journal><JournalIssue CitedMedium=\"Print\"><PubDate><Year>2020</Year></PubDate></JournalIssue>")
+                      .append("<Title>Synthetic journal</Title></Journal>")
+                      .append("<ArticleTitle>Article ").append(i).append("</ArticleTitle></Article>")
+                      .append("<MedlineJournalInfo><NlmUniqueID>1</NlmUniqueID></MedlineJournalInfo>")
+                      .append("</MedlineCitation></PubmedArticle>");
+        }
+        return articleSet.append("</PubmedArticleSet>").toString();
+    }
 }
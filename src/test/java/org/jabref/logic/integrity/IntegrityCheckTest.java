@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
@@ -118,6 +120,61 @@ class IntegrityCheckTest {
         assertCorrect(databaseContext);
     }
 
+    @Test
+    void checkNoticesLinkedFileDeletedAfterPreviousCheck(@TempDir Path testFolder) throws IOException {
+        Path bibFile = testFolder.resolve("lit.bib");
+        Files.createFile(bibFile);
+        Path pdfFile = testFolder.resolve("file.pdf");
+        Files.createFile(pdfFile);
+        BibDatabaseContext databaseContext = createContext(StandardField.FILE, ":file.pdf:PDF");
+        databaseContext.setDatabasePath(bibFile);
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(filePreferences.shouldStoreFilesRelativeToBib()).thenReturn(true);
+        IntegrityCheck integrityCheck = new IntegrityCheck(databaseContext,
+                filePreferences,
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+        assertEquals(Collections.emptyList(), integrityCheck.check());
+
+        Files.delete(pdfFile);
+
+        assertNotEquals(Collections.emptyList(), integrityCheck.check());
+        integrityCheck.close();
+    }
+
+    @Test
+    void checkReportsProgressOfAllEntries() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("first"));
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("second"));
+        IntegrityCheck integrityCheck = new IntegrityCheck(new BibDatabaseContext(database),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+        Set<Integer> checkedEntries = ConcurrentHashMap.newKeySet();
+
+        integrityCheck.check(() -> false, (checked, total) -> {
+            assertEquals(2, total);
+            checkedEntries.add(checked);
+        });
+
+        assertEquals(Set.of(1, 2), checkedEntries);
+        integrityCheck.close();
+    }
+
+    @Test
+    void cancelledCheckSkipsRemainingEntries() {
+        BibDatabaseContext context = createContext(StandardField.TITLE, "some title}", StandardEntryType.Article);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+
+        assertEquals(Collections.emptyList(), integrityCheck.check(() -> true, (checked, total) -> {
+        }));
+        integrityCheck.close();
+    }
+
     @Test
     void testEntryIsUnchangedAfterChecks() {
         BibEntry entry = new BibEntry();
@@ -145,6 +202,69 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkRechecksEntryAfterModification() {
+        BibDatabaseContext context = createContext(StandardField.TITLE, "sometitle", StandardEntryType.Article);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+        BibEntry entry = context.getDatabase().getEntries().get(0);
+        assertEquals(Collections.emptyList(), integrityCheck.check());
+
+        entry.setField(StandardField.TITLE, "some title}");
+        assertNotEquals(Collections.emptyList(), integrityCheck.check());
+
+        entry.setField(StandardField.TITLE, "sometitle");
+        assertEquals(Collections.emptyList(), integrityCheck.check());
+        integrityCheck.close();
+    }
+
+    @Test
+    void checkReportsDuplicateCitationKeysOfAllEntries() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("key"));
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("key"));
+        database.insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("other"));
+
+        List<IntegrityMessage> messages = new IntegrityCheck(new BibDatabaseContext(database),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false)
+                .check();
+
+        assertEquals(2, messages.stream().filter(message -> "Duplicate citation key".equals(message.getMessage())).count());
+    }
+
+    @Test
+    void checkReportsKeyDeviationAfterRemovalOfOtherEntry() {
+        BibDatabase database = new BibDatabase();
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Smith")
+                .withField(StandardField.YEAR, "2020")
+                .withCitationKey("Smith2020");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Smith")
+                .withField(StandardField.YEAR, "2020")
+                .withCitationKey("Smith2020b");
+        database.insertEntry(first);
+        database.insertEntry(second);
+        IntegrityCheck integrityCheck = new IntegrityCheck(new BibDatabaseContext(database),
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(), false);
+        assertEquals(0, countKeyDeviations(integrityCheck.check()));
+
+        database.removeEntry(first);
+
+        assertEquals(1, countKeyDeviations(integrityCheck.check()));
+        integrityCheck.close();
+    }
+
+    private long countKeyDeviations(List<IntegrityMessage> messages) {
+        return messages.stream().filter(message -> "Citation key deviates from generated key".equals(message.getMessage())).count();
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry();
         entry.setField(field, value);
@@ -134,4 +134,45 @@ class JournalAbbreviationRepositoryTest {
     void getFromAbbreviatedName() {
         assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("Am. J. Public Health").get());
     }
+
+    @Test
+    void getFromFullNameIgnoresCase() {
+        assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("american journal of public health").get());
+        assertTrue(repository.isKnownName("AMERICAN JOURNAL OF PUBLIC HEALTH"));
+    }
+
+    @Test
+    void getFromAbbreviatedNameIgnoresCase() {
+        assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("am. j. public health").get());
+        assertTrue(repository.isAbbreviatedName("am. j. public health"));
+    }
+
+    @Test
+    void customAbbreviationIgnoresCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("long name").orElse("WRONG"));
+        assertTrue(repository.isKnownName("l. n."));
+        assertTrue(repository.isAbbreviatedName("ln"));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
+    @Test
+    void manyCustomAbbreviationsAreFound() {
+        for (int i = 0; i < 10_000; i++) {
+            repository.addCustomAbbreviation(new Abbreviation("Journal Number " + i, "J. Num. " + i));
+        }
+
+        assertEquals("J. Num. 9876", repository.getDefaultAbbreviation("Journal Number 9876").orElse("WRONG"));
+        assertEquals("Journal Number 42", repository.get("j. num. 42").map(Abbreviation::getName).orElse("WRONG"));
+    }
+
+    @Test
+    void replacedCustomAbbreviationIsNotFoundAnymore() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "LA. N."));
+
+        assertFalse(repository.isKnownName("L. N."));
+        assertTrue(repository.isKnownName("LA. N."));
+    }
 }
@@ -0,0 +1,65 @@
+package org.jabref.logic.layout;
+
+import java.io.IOException;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class LayoutCacheTest {
+
+    private LayoutFormatterPreferences layoutFormatterPreferences;
+
+    @BeforeEach
+    void setUp() {
+        layoutFormatterPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    }
+
+    @Test
+    void sameTextAndPreferencesReturnSameLayout() throws IOException {
+        Layout first = LayoutCache.getLayout("\\begin{author}\\author\\end{author}", layoutFormatterPreferences);
+        Layout second = LayoutCache.getLayout("\\begin{author}\\author\\end{author}", layoutFormatterPreferences);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void differentPreferencesReturnDifferentLayouts() throws IOException {
+        LayoutFormatterPreferences otherPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+        Layout first = LayoutCache.getLayout("\\author", layoutFormatterPreferences);
+        Layout second = LayoutCache.getLayout("\\author", otherPreferences);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void cachedLayoutIsReusedForSeveralEntries() throws IOException {
+        Layout layout = LayoutCache.getLayout("\\begin{title|year}\\title \\year\\end{title|year}", layoutFormatterPreferences);
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "Title");
+        BibEntry second = new BibEntry().withField(StandardField.YEAR, "2021");
+        BibEntry third = new BibEntry().withField(StandardField.AUTHOR, "Author");
+
+        assertEquals("Title ", layout.doLayout(first, null));
+        assertEquals(" 2021", layout.doLayout(second, null));
+        assertEquals("", layout.doLayout(third, null));
+    }
+
+    @Test
+    void negatedAndConditionsAreEvaluatedForEachEntry() throws IOException {
+        Layout layout = LayoutCache.getLayout("\\begin{title&!year}\\title\\end{title&!year}", layoutFormatterPreferences);
+        BibEntry withoutYear = new BibEntry().withField(StandardField.TITLE, "Title");
+        BibEntry withYear = new BibEntry().withField(StandardField.TITLE, "Title").withField(StandardField.YEAR, "2021");
+
+        assertEquals("Title", layout.doLayout(withoutYear, null));
+        assertEquals("", layout.doLayout(withYear, null));
+    }
+}
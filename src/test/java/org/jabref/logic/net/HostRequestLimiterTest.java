@@ -0,0 +1,78 @@
+package org.jabref.logic.net;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HostRequestLimiterTest {
+
+    private HostRequestLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new HostRequestLimiter();
+    }
+
+    @Test
+    void concurrentRequestsAreLimited() throws Exception {
+        limiter.setLimit("api.crossref.org", 1, Double.POSITIVE_INFINITY);
+        HostRequestLimiter.Permit permit = limiter.acquire("api.crossref.org");
+
+        CompletableFuture<HostRequestLimiter.Permit> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire("api.crossref.org");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+
+        permit.close();
+        second.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void hostsAreLimitedIndependently() throws Exception {
+        limiter.setLimit("export.arxiv.org", 1, Double.POSITIVE_INFINITY);
+        try (HostRequestLimiter.Permit permit = limiter.acquire("export.arxiv.org")) {
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+                try {
+                    limiter.acquire("api.crossref.org").close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            other.get(5, TimeUnit.SECONDS);
+            assertFalse(other.isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    void requestRateIsLimited() throws Exception {
+        limiter.setLimit("api.crossref.org", 5, 10);
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire("API.crossref.org").close();
+        }
+
+        // The first request is allowed immediately, the others have to wait 100 ms each
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 250);
+    }
+
+    @Test
+    void pausedHostIsNotRequested() throws Exception {
+        limiter.pause("api.crossref.org", Duration.ofMillis(300));
+        long start = System.nanoTime();
+        limiter.acquire("api.crossref.org").close();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 250);
+    }
+}
@@ -0,0 +1,278 @@
+package org.jabref.logic.net;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private StubServer server;
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp(@TempDir Path cacheDirectory) throws IOException {
+        server = new StubServer();
+        cache = new HttpResponseCache(cacheDirectory, 1024 * 1024, Duration.ofHours(1), Clock.fixed(Instant.parse("2021-03-01T10:00:00Z"), ZoneOffset.UTC));
+        URLDownload.setResponseCache(Optional.of(cache));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        URLDownload.setResponseCache(Optional.empty());
+        server.close();
+    }
+
+    @Test
+    void freshResponseIsTakenFromCache() throws IOException {
+        server.respond("/doi", "Cache-Control: max-age=600", "first");
+
+        assertEquals("first\n", new URLDownload(server.url("/doi")).asString());
+        server.respond("/doi", "Cache-Control: max-age=600", "second");
+        assertEquals("first\n", new URLDownload(server.url("/doi")).asString());
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    void responsesWithLastModifiedAreCachedHeuristically() throws IOException {
+        server.respond("/isbn", "Last-Modified: Mon, 01 Feb 2021 10:00:00 GMT", "content");
+
+        new URLDownload(server.url("/isbn")).asString();
+        new URLDownload(server.url("/isbn")).asInputStream().close();
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void responsesWithoutCacheHeadersAreNotFresh() throws IOException {
+        server.respond("/api", "", "first");
+        new URLDownload(server.url("/api")).asString();
+        server.respond("/api", "", "second");
+
+        assertEquals("second\n", new URLDownload(server.url("/api")).asString());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws IOException {
+        server.respond("/private", "Cache-Control: no-store", "first");
+        new URLDownload(server.url("/private")).asString();
+        server.respond("/private", "Cache-Control: no-store", "second");
+
+        assertEquals("second\n", new URLDownload(server.url("/private")).asString());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws IOException {
+        server.respond("/entry", "Cache-Control: no-cache\r\nETag: \"v1\"", "content");
+
+        new URLDownload(server.url("/entry")).asString();
+        assertEquals("content\n", new URLDownload(server.url("/entry")).asString());
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals("\"v1\"", server.getLastHeaders().get("if-none-match"));
+        assertEquals(1, cache.getRevalidationCount());
+    }
+
+    @Test
+    void postRequestsAreNotCached() throws IOException {
+        server.respond("/search", "Cache-Control: max-age=600", "result");
+
+        for (int i = 0; i < 2; i++) {
+            URLDownload download = new URLDownload(server.url("/search"));
+            download.setPostData("query=a");
+            download.asString();
+        }
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void acceptHeaderIsPartOfKey() throws IOException {
+        server.respond("/works", "Cache-Control: max-age=600\r\nVary: Accept", "representation");
+
+        URLDownload json = new URLDownload(server.url("/works"));
+        json.addHeader("Accept", "application/json");
+        json.asString();
+        URLDownload bibtex = new URLDownload(server.url("/works"));
+        bibtex.addHeader("Accept", "application/x-bibtex");
+        bibtex.asString();
+        URLDownload jsonAgain = new URLDownload(server.url("/works"));
+        jsonAgain.addHeader("Accept", "application/json");
+        jsonAgain.asString();
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void responseVaryingOnOtherHeaderIsNotCached() throws IOException {
+        server.respond("/cookie", "Cache-Control: max-age=600\r\nVary: Cookie", "content");
+
+        new URLDownload(server.url("/cookie")).asString();
+        new URLDownload(server.url("/cookie")).asString();
+
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvicted(@TempDir Path cacheDirectory) throws IOException {
+        HttpResponseCache smallCache = new HttpResponseCache(cacheDirectory, 2000);
+        URLDownload.setResponseCache(Optional.of(smallCache));
+        String body = "x".repeat(150);
+        for (int i = 0; i < 20; i++) {
+            server.respond("/page" + i, "Cache-Control: max-age=600", body);
+            new URLDownload(server.url("/page" + i)).asString();
+        }
+
+        assertTrue(smallCache.getSize() <= 2000);
+        new URLDownload(server.url("/page19")).asString();
+        assertEquals(1, smallCache.getHitCount());
+        new URLDownload(server.url("/page0")).asString();
+        assertEquals(1, smallCache.getHitCount());
+    }
+
+    @Test
+    void downloadSucceedsIfCacheCannotBeWritten(@TempDir Path directory) throws IOException {
+        Path notADirectory = Files.createFile(directory.resolve("cache"));
+        URLDownload.setResponseCache(Optional.of(new HttpResponseCache(notADirectory, 1024 * 1024)));
+        server.respond("/doi", "Cache-Control: max-age=600", "content");
+
+        assertEquals("content\n", new URLDownload(server.url("/doi")).asString());
+    }
+
+    @Test
+    void responseWithLongUrlIsCached() throws IOException {
+        String path = "/search?q=" + "x".repeat(70_000);
+        server.respond(path, "Cache-Control: max-age=600", "content");
+
+        new URLDownload(server.url(path)).asString();
+        assertEquals("content\n", new URLDownload(server.url(path)).asString());
+
+        assertEquals(1, server.getRequestCount());
+    }
+
+    /**
+     * A minimal HTTP server answering every request of a path with a configured response. Answers conditional requests
+     * carrying the configured ETag with 304.
+     */
+    private static class StubServer implements AutoCloseable {
+        private final ServerSocket socket;
+        private final Map<String, String> headersByPath = new HashMap<>();
+        private final Map<String, String> bodiesByPath = new HashMap<>();
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private volatile Map<String, String> lastHeaders = new HashMap<>();
+
+        StubServer() throws IOException {
+            socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this::serve, "stub-http-server");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        synchronized void respond(String path, String headers, String body) {
+            headersByPath.put(path, headers);
+            bodiesByPath.put(path, body);
+        }
+
+        URL url(String path) throws IOException {
+            return new URL("http", socket.getInetAddress().getHostAddress(), socket.getLocalPort(), path);
+        }
+
+        int getRequestCount() {
+            return requestCount.get();
+        }
+
+        Map<String, String> getLastHeaders() {
+            return lastHeaders;
+        }
+
+        private void serve() {
+            while (!socket.isClosed()) {
+                try (Socket connection = socket.accept()) {
+                    handle(connection);
+                } catch (IOException e) {
+                    // the server was closed
+                }
+            }
+        }
+
+        private void handle(Socket connection) throws IOException {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.ISO_8859_1));
+            String path = reader.readLine().split(" ")[1];
+            Map<String, String> headers = new HashMap<>();
+            String line;
+            while (((line = reader.readLine()) != null) && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+            int contentLength = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+            for (int i = 0; i < contentLength; i++) {
+                reader.read();
+            }
+            requestCount.incrementAndGet();
+            lastHeaders = headers;
+
+            String responseHeaders;
+            String body;
+            synchronized (this) {
+                responseHeaders = headersByPath.getOrDefault(path, "");
+                body = bodiesByPath.getOrDefault(path, "");
+            }
+            String status = "200 OK";
+            if (headers.containsKey("if-none-match") && responseHeaders.contains("ETag: " + headers.get("if-none-match"))) {
+                status = "304 Not Modified";
+                body = "";
+            }
+
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            StringBuilder response = new StringBuilder("HTTP/1.1 ").append(status).append("\r\n")
+                                                                      .append("Connection: close\r\n")
+                                                                      .append("Content-Length: ").append(content.length).append("\r\n");
+            if (!responseHeaders.isEmpty()) {
+                response.append(responseHeaders).append("\r\n");
+            }
+            response.append("\r\n");
+
+            OutputStream output = connection.getOutputStream();
+            output.write(response.toString().getBytes(StandardCharsets.ISO_8859_1));
+            output.write(content);
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfDocumentCacheTest {
+
+    private static final Path MINIMAL = Path.of("src/test/resources/pdfs/minimal.pdf");
+    private static final Path THESIS_EXAMPLE = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+
+    @AfterEach
+    void tearDown() {
+        PdfDocumentCache.clear();
+    }
+
+    @Test
+    void sameFileReturnsSameDocument() throws Exception {
+        assertSame(PdfDocumentCache.get(MINIMAL), PdfDocumentCache.get(MINIMAL.toAbsolutePath()));
+    }
+
+    @Test
+    void documentProvidesAllArtifacts() throws Exception {
+        CachedPdfDocument document = PdfDocumentCache.get(THESIS_EXAMPLE);
+
+        assertEquals(2, document.getAnnotations().size());
+        assertTrue(document.getPageText(1).contains("University of Kent"));
+        assertEquals("", document.getPageText(document.getNumberOfPages() + 1));
+    }
+
+    @Test
+    void modifiedFileIsParsedAgain(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("document.pdf");
+        Files.copy(MINIMAL, file);
+        CachedPdfDocument original = PdfDocumentCache.get(file);
+        assertTrue(original.getPageText(1).contains("Hello World"));
+
+        Files.copy(THESIS_EXAMPLE, file, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+        CachedPdfDocument modified = PdfDocumentCache.get(file);
+
+        assertNotSame(original, modified);
+        assertEquals(2, modified.getAnnotations().size());
+    }
+
+    @Test
+    void invalidateRemovesDocument() throws Exception {
+        CachedPdfDocument document = PdfDocumentCache.get(MINIMAL);
+        PdfDocumentCache.invalidate(MINIMAL);
+
+        assertNotSame(document, PdfDocumentCache.get(MINIMAL));
+    }
+}
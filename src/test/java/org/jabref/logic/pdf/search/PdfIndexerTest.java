@@ -0,0 +1,112 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.preferences.FilePreferences;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+
+class PdfIndexerTest {
+
+    private BibDatabase database;
+    private PdfIndexer indexer;
+    private Path minimalPdf;
+    private Path thesisPdf;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        minimalPdf = tempDir.resolve("minimal.pdf");
+        thesisPdf = tempDir.resolve("thesis-example.pdf");
+        Files.copy(Path.of(PdfIndexerTest.class.getResource("/pdfs/minimal.pdf").toURI()), minimalPdf);
+        Files.copy(Path.of(PdfIndexerTest.class.getResource("/pdfs/thesis-example.pdf").toURI()), thesisPdf);
+
+        database = new BibDatabase();
+        database.insertEntry(entryLinking(minimalPdf));
+        database.insertEntry(entryLinking(thesisPdf));
+        indexer = new PdfIndexer(new BibDatabaseContext(database), new ByteBuffersDirectory(), mock(FilePreferences.class, Answers.RETURNS_DEEP_STUBS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.close();
+    }
+
+    private static BibEntry entryLinking(Path file) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setFiles(Collections.singletonList(new LinkedFile("", file.toString(), "PDF")));
+        return entry;
+    }
+
+    @Test
+    void findsLinkedFileByContent() throws Exception {
+        indexer.synchronizeIndex();
+
+        assertEquals(Set.of(minimalPdf.toString()), indexer.getSearcher().findLinkedFiles("hello", false));
+        assertEquals(Set.of(thesisPdf.toString()), indexer.getSearcher().findLinkedFiles("University of Kent", true));
+        assertEquals(Collections.emptySet(), indexer.getSearcher().findLinkedFiles("larviculture", false));
+    }
+
+    @Test
+    void removesFilesWhichAreNoLongerLinked() throws Exception {
+        indexer.synchronizeIndex();
+        database.removeEntry(database.getEntries().get(0));
+        indexer.synchronizeIndex();
+
+        assertEquals(Collections.emptySet(), indexer.getSearcher().findLinkedFiles("hello", false));
+    }
+
+    @Test
+    void reindexesModifiedFiles() throws Exception {
+        indexer.synchronizeIndex();
+        Files.copy(thesisPdf, minimalPdf, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(minimalPdf, FileTime.fromMillis(Files.getLastModifiedTime(minimalPdf).toMillis() + 10_000));
+        indexer.synchronizeIndex();
+
+        assertEquals(Collections.emptySet(), indexer.getSearcher().findLinkedFiles("hello", false));
+        assertEquals(Set.of(minimalPdf.toString(), thesisPdf.toString()), indexer.getSearcher().findLinkedFiles("Kent", false));
+    }
+
+    @Test
+    void closeWaitsForRunningSynchronization() throws Exception {
+        CompletableFuture<Void> synchronization = CompletableFuture.runAsync(() -> {
+            try {
+                indexer.synchronizeIndex();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        indexer.close();
+        // Fails if the synchronization wrote to the closed index
+        synchronization.get();
+
+        indexer.synchronizeIndex();
+    }
+
+    @Test
+    void indexPathDependsOnLibrary(@TempDir Path baseDirectory) {
+        assertNotEquals(PdfIndexer.getIndexPath(baseDirectory, Path.of("a.bib")), PdfIndexer.getIndexPath(baseDirectory, Path.of("b.bib")));
+        assertEquals(baseDirectory, PdfIndexer.getIndexPath(baseDirectory, Path.of("a.bib")).getParent());
+    }
+}
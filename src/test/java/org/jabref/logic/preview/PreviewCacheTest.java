@@ -0,0 +1,155 @@
+package org.jabref.logic.preview;
+
+import java.lang.ref.WeakReference;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.TextBasedPreviewLayout;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class PreviewCacheTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private CountingLayout layout;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        layout = new CountingLayout();
+        entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "First title");
+    }
+
+    @Test
+    void getPreviewRendersEntryOnlyOnce() {
+        assertEquals("First title", PreviewCache.getPreview(layout, entry, database));
+        assertEquals("First title", PreviewCache.getPreview(layout, entry, database));
+        assertEquals(1, layout.renderedPreviews);
+    }
+
+    @Test
+    void getPreviewRendersChangedEntryAgain() {
+        PreviewCache.getPreview(layout, entry, database);
+
+        entry.setField(StandardField.TITLE, "Second title");
+
+        assertEquals("Second title", PreviewCache.getPreview(layout, entry, database));
+        assertEquals(2, layout.renderedPreviews);
+    }
+
+    @Test
+    void getPreviewRendersEntryForEachLayout() {
+        CountingLayout otherLayout = new CountingLayout();
+        PreviewCache.getPreview(layout, entry, database);
+
+        PreviewCache.getPreview(otherLayout, entry, database);
+
+        assertEquals(1, layout.renderedPreviews);
+        assertEquals(1, otherLayout.renderedPreviews);
+    }
+
+    @Test
+    void getCachedPreviewIsEmptyForChangedEntry() {
+        PreviewCache.getPreview(layout, entry, database);
+
+        entry.setField(StandardField.TITLE, "Second title");
+
+        assertTrue(PreviewCache.getCachedPreview(layout, entry, database).isEmpty());
+    }
+
+    @Test
+    void getPreviewRendersEntryAgainAfterInvalidation() {
+        PreviewCache.getPreview(layout, entry, database);
+
+        PreviewCache.invalidate(layout);
+
+        assertEquals("First title", PreviewCache.getPreview(layout, entry, database));
+        assertEquals(2, layout.renderedPreviews);
+    }
+
+    @Test
+    void getPreviewUsesChangedLayoutText() {
+        TextBasedPreviewLayout textLayout = new TextBasedPreviewLayout("Title: \\title", mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS));
+        assertEquals("Title: First title", PreviewCache.getPreview(textLayout, entry, database));
+
+        textLayout.setText("Changed: \\title");
+
+        assertEquals("Changed: First title", PreviewCache.getPreview(textLayout, entry, database));
+    }
+
+    @Test
+    void getPreviewRendersEntryAgainAfterCrossrefParentChanged() {
+        BibEntry parent = new BibEntry().withCitationKey("parent").withField(StandardField.BOOKTITLE, "Proceedings");
+        database.insertEntry(parent);
+        entry.setField(StandardField.CROSSREF, "parent");
+        database.insertEntry(entry);
+        PreviewCache.getPreview(layout, entry, database);
+
+        parent.setField(StandardField.BOOKTITLE, "Changed proceedings");
+        PreviewCache.getPreview(layout, entry, database);
+
+        assertEquals(2, layout.renderedPreviews);
+    }
+
+    @Test
+    void getPreviewRendersEntryAgainAfterStringChanged() {
+        BibtexString string = new BibtexString("conf", "Conference");
+        database.addString(string);
+        PreviewCache.getPreview(layout, entry, database);
+
+        string.setContent("Changed conference");
+        PreviewCache.getPreview(layout, entry, database);
+
+        assertEquals(2, layout.renderedPreviews);
+    }
+
+    @Test
+    void cacheDoesNotKeepDatabase() {
+        WeakReference<BibDatabase> otherDatabase = renderPreviewOfOtherDatabase();
+
+        for (int i = 0; (i < 10) && (otherDatabase.get() != null); i++) {
+            System.gc();
+        }
+
+        assertNull(otherDatabase.get());
+    }
+
+    private WeakReference<BibDatabase> renderPreviewOfOtherDatabase() {
+        BibEntry otherEntry = new BibEntry().withField(StandardField.TITLE, "Other title");
+        BibDatabase otherDatabase = new BibDatabase();
+        otherDatabase.insertEntry(otherEntry);
+        PreviewCache.getPreview(layout, otherEntry, otherDatabase);
+        return new WeakReference<>(otherDatabase);
+    }
+
+    private static class CountingLayout implements PreviewLayout {
+        private int renderedPreviews;
+
+        @Override
+        public String generatePreview(BibEntry entry, BibDatabase database) {
+            renderedPreviews++;
+            return entry.getField(StandardField.TITLE).orElse("");
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "Counting";
+        }
+
+        @Override
+        public String getName() {
+            return "Counting";
+        }
+    }
+}
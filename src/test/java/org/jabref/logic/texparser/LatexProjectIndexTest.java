@@ -0,0 +1,90 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatexProjectIndexTest {
+
+    private Path project;
+    private Path indexFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        project = Files.createDirectory(tempDir.resolve("project"));
+        indexFile = tempDir.resolve("index.idx");
+        Files.createDirectory(project.resolve("chapters"));
+        Files.writeString(project.resolve("main.tex"), "\\cite{Darwin1888}\n\\input{chapters/intro}\n");
+        Files.writeString(project.resolve("chapters").resolve("intro.tex"), "% \\cite{Newton1999}\nSee \\cite{Einstein1920}.\n");
+    }
+
+    private LatexProjectIndex createIndex() {
+        return new LatexProjectIndex(project, new DummyFileUpdateMonitor(), Optional.of(indexFile));
+    }
+
+    private static List<Integer> lines(Collection<Citation> citations) {
+        return citations.stream().map(Citation::getLine).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void findsCitationsInAllFiles() throws Exception {
+        LatexProjectIndex index = createIndex();
+
+        assertEquals(List.of(1), lines(index.getCitations("Darwin1888")));
+        assertEquals(List.of(2), lines(index.getCitations("Einstein1920")));
+        assertEquals(List.of(), lines(index.getCitations("Newton1999")));
+    }
+
+    @Test
+    void picksUpChangedFiles() throws Exception {
+        LatexProjectIndex index = createIndex();
+        index.getCitations("Darwin1888");
+
+        Path intro = project.resolve("chapters").resolve("intro.tex");
+        Files.writeString(intro, "\\cite{Newton1999}\n\n\\cite{Newton1999}\n");
+        Files.setLastModifiedTime(intro, FileTime.fromMillis(Files.getLastModifiedTime(intro).toMillis() + 2000));
+
+        assertEquals(List.of(1, 3), lines(index.getCitations("Newton1999")));
+        assertEquals(List.of(), lines(index.getCitations("Einstein1920")));
+    }
+
+    @Test
+    void forgetsDeletedFiles() throws Exception {
+        LatexProjectIndex index = createIndex();
+        index.getCitations("Darwin1888");
+
+        Files.delete(project.resolve("main.tex"));
+
+        assertEquals(List.of(), lines(index.getCitations("Darwin1888")));
+    }
+
+    @Test
+    void storedIndexIsRestored() throws Exception {
+        Collection<Citation> citations = createIndex().getCitations("Einstein1920");
+
+        assertEquals(List.copyOf(citations), List.copyOf(createIndex().getCitations("Einstein1920")));
+        assertEquals("See \\cite{Einstein1920}.", citations.iterator().next().getContext());
+    }
+
+    @Test
+    void missingDirectoryThrowsException() throws Exception {
+        LatexProjectIndex index = new LatexProjectIndex(project.resolve("missing"), new DummyFileUpdateMonitor(), Optional.empty());
+
+        assertThrows(IOException.class, () -> index.getCitations("Darwin1888"));
+    }
+}
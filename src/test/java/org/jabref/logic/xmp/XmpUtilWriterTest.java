@@ -1,9 +1,14 @@
 package org.jabref.logic.xmp;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.xml.transform.TransformerException;
 
@@ -16,9 +21,14 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -123,6 +133,46 @@ class XmpUtilWriterTest {
         assertEquals(3, entryList.size());
     }
 
+    @Test
+    void writeXmpIfChangedSkipsUnchangedMetadata(@TempDir Path tempDir) throws IOException, TransformerException {
+        Path pdfFile = this.createDefaultFile("JabRef_writeUnchanged.pdf", tempDir);
+
+        assertTrue(XmpUtilWriter.writeXmpIfChanged(pdfFile, List.of(vapnik2000), null, xmpPreferences));
+        byte[] written = Files.readAllBytes(pdfFile);
+
+        assertFalse(XmpUtilWriter.writeXmpIfChanged(pdfFile, List.of(vapnik2000), null, xmpPreferences));
+        assertArrayEquals(written, Files.readAllBytes(pdfFile));
+    }
+
+    @Test
+    void writeXmpIfChangedWritesChangedMetadata(@TempDir Path tempDir) throws IOException, TransformerException {
+        Path pdfFile = this.createDefaultFile("JabRef_writeChanged.pdf", tempDir);
+        XmpUtilWriter.writeXmpIfChanged(pdfFile, List.of(vapnik2000), null, xmpPreferences);
+
+        vapnik2000.setField(StandardField.TITLE, "The Nature of Statistical Learning Theory, Second Edition");
+
+        assertTrue(XmpUtilWriter.writeXmpIfChanged(pdfFile, List.of(vapnik2000), null, xmpPreferences));
+        List<BibEntry> entriesWritten = XmpUtilReader.readXmp(pdfFile, xmpPreferences);
+        assertEquals(Optional.of("The Nature of Statistical Learning Theory, Second Edition"), entriesWritten.get(0).getField(StandardField.TITLE));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void writeXmpIfChangedKeepsPermissionsAndLinks(@TempDir Path tempDir) throws IOException, TransformerException {
+        Path pdfFile = this.createDefaultFile("JabRef_writeLinked.pdf", tempDir);
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(pdfFile, permissions);
+        Path hardLink = Files.createLink(tempDir.resolve("hardLink.pdf"), pdfFile);
+        Path symbolicLink = Files.createSymbolicLink(tempDir.resolve("symbolicLink.pdf"), pdfFile);
+
+        assertTrue(XmpUtilWriter.writeXmpIfChanged(symbolicLink, List.of(vapnik2000), null, xmpPreferences));
+
+        assertTrue(Files.isSymbolicLink(symbolicLink));
+        assertEquals(permissions, Files.getPosixFilePermissions(pdfFile));
+        assertArrayEquals(Files.readAllBytes(pdfFile), Files.readAllBytes(hardLink));
+        assertEquals(Optional.of("The Nature of Statistical Learning Theory"), XmpUtilReader.readXmp(pdfFile, xmpPreferences).get(0).getField(StandardField.TITLE));
+    }
+
     private Path createDefaultFile(String fileName, Path tempDir) throws IOException {
         // create a default PDF
         Path pdfFile = tempDir.resolve(fileName);
@@ -10,6 +10,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
@@ -72,6 +75,54 @@ class BibDatabaseTest {
         assertFalse(database.containsEntryWithId(entry.getId()));
     }
 
+    @Test
+    void entriesSnapshotIsNotChangedByLaterInsertion() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntry(entry1);
+
+        List<BibEntry> snapshot = database.getEntriesSnapshot();
+        database.insertEntry(entry2);
+
+        assertEquals(List.of(entry1), snapshot);
+        assertEquals(List.of(entry1, entry2), database.getEntriesSnapshot());
+    }
+
+    @Test
+    void entriesSnapshotIsNotChangedByLaterRemoval() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+
+        List<BibEntry> snapshot = database.getEntriesSnapshot();
+        database.removeEntry(entry1);
+
+        assertEquals(List.of(entry1, entry2), snapshot);
+        assertEquals(List.of(entry2), database.getEntriesSnapshot());
+    }
+
+    @Test
+    void entriesSnapshotIsNotChangedByInsertionAfterRemoval() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        BibEntry entry3 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+
+        List<BibEntry> snapshot = database.getEntriesSnapshot();
+        database.removeEntry(entry2);
+        database.insertEntry(entry3);
+
+        assertEquals(List.of(entry1, entry2), snapshot);
+        assertEquals(List.of(entry1, entry3), database.getEntriesSnapshot());
+    }
+
+    @Test
+    void entriesSnapshotCannotBeModified() {
+        database.insertEntry(new BibEntry());
+
+        assertThrows(UnsupportedOperationException.class, () -> database.getEntriesSnapshot().add(new BibEntry()));
+    }
+
     @Test
     void removeSomeEntriesRemovesThoseEntriesFromEntriesList() {
         BibEntry entry1 = new BibEntry();
@@ -233,6 +284,35 @@ class BibDatabaseTest {
         assertEquals(expectedEntries, actualEntry);
     }
 
+    @Test
+    void removeEntriesKeepsEntriesWithEqualContent() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "title");
+        BibEntry duplicate = new BibEntry().withField(StandardField.TITLE, "title");
+        database.insertEntries(entry, duplicate);
+
+        database.removeEntries(List.of(duplicate));
+
+        assertEquals(List.of(entry), database.getEntries());
+        assertEquals(entry.getId(), database.getEntries().get(0).getId());
+    }
+
+    @Test
+    void removeEntriesFiresOneListChange() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(new BibEntry().withCitationKey("key" + i));
+        }
+        database.insertEntries(entries);
+        List<ListChangeListener.Change<? extends BibEntry>> changes = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) changes::add);
+
+        database.removeEntries(List.of(entries.get(1), entries.get(2), entries.get(7)));
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(entries.get(0), entries.get(3), entries.get(4), entries.get(5), entries.get(6), entries.get(8), entries.get(9)),
+                database.getEntries());
+    }
+
     @Test
     void changingEntryPostsChangeEntryEvent() {
         BibEntry entry = new BibEntry();
@@ -245,6 +325,74 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void changesInBatchPostOneCoalescedEvent() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "old");
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        List<FieldChange> changes = database.runInBatch(() -> {
+            first.setField(StandardField.TITLE, "intermediate");
+            first.setField(StandardField.TITLE, "new");
+            second.setField(StandardField.YEAR, "2021");
+            // changed back within the batch
+            second.setField(StandardField.NOTE, "note");
+            second.clearField(StandardField.NOTE);
+        });
+
+        List<FieldChange> expected = List.of(
+                new FieldChange(first, StandardField.TITLE, "old", "new"),
+                new FieldChange(second, StandardField.YEAR, null, "2021"));
+        assertEquals(expected, changes);
+        assertEquals(expected, tel.getBatchChanges());
+        assertEquals(1, tel.getNumberOfBatches());
+        assertNull(tel.getChangedEntry());
+    }
+
+    @Test
+    void nestedBatchIsPostedWithOuterBatch() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        database.runInBatch(() -> {
+            database.runInBatch(() -> entry.setField(StandardField.YEAR, "2020"));
+            assertEquals(0, tel.getNumberOfBatches());
+            entry.setField(StandardField.YEAR, "2021");
+        });
+
+        assertEquals(List.of(new FieldChange(entry, StandardField.YEAR, null, "2021")), tel.getBatchChanges());
+        assertEquals(1, tel.getNumberOfBatches());
+    }
+
+    @Test
+    void changesAfterBatchPostFieldEvents() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        database.runInBatch(() -> entry.setField(StandardField.YEAR, "2021"));
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(entry, tel.getChangedEntry());
+        assertEquals(1, tel.getNumberOfBatches());
+    }
+
+    @Test
+    void changedCitationKeyInBatchUpdatesCrossref() {
+        BibEntry parent = new BibEntry().withCitationKey("parent");
+        BibEntry child = new BibEntry().withField(StandardField.CROSSREF, "parent");
+        database.insertEntries(parent, child);
+
+        database.runInBatch(() -> parent.setCitationKey("renamed"));
+
+        assertEquals(Optional.of("renamed"), child.getField(StandardField.CROSSREF));
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -90,4 +90,13 @@ public class KeyChangeListenerTest {
         db.removeEntries(entries);
         assertEquals(Optional.empty(), entry2.getField(StandardField.RELATED));
     }
+
+    @Test
+    public void testKeysSwappedInBatch() {
+        db.runInBatch(() -> {
+            entry1.setCitationKey("Entry3");
+            entry3.setCitationKey("Entry1");
+        });
+        assertEquals(Optional.of("Entry3,Entry1"), entry2.getField(StandardField.RELATED));
+    }
 }
@@ -2,7 +2,9 @@ package org.jabref.model.event;
 
 import java.util.List;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -15,6 +17,8 @@ public class TestEventListener {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private List<FieldChange> batchChanges;
+    private int numberOfBatches;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -32,6 +36,12 @@ public class TestEventListener {
         this.changedEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        this.batchChanges = event.getFieldChanges();
+        this.numberOfBatches++;
+    }
+
     public List<BibEntry> getAddedEntries() {
         return addedEntries;
     }
@@ -47,4 +57,12 @@ public class TestEventListener {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public List<FieldChange> getBatchChanges() {
+        return batchChanges;
+    }
+
+    public int getNumberOfBatches() {
+        return numberOfBatches;
+    }
 }
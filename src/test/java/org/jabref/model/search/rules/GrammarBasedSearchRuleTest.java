@@ -1,5 +1,8 @@
 package org.jabref.model.search.rules;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -32,6 +35,29 @@ public class GrammarBasedSearchRuleTest {
         assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
     }
 
+    @Test
+    void applyRuleMatchesContentOfLinkedFile() {
+        FullTextSearcher searcher = (query, exact) -> "larvae".equals(query) ? Set.of("larviculture.pdf") : Set.of();
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false, Optional.of(searcher));
+        BibEntry entry = makeBibtexEntry().withField(StandardField.FILE, ":larviculture.pdf:PDF");
+
+        assertTrue(searchRule.validateSearchStrings("content=larvae"));
+        assertTrue(searchRule.applyRule("content=larvae", entry));
+        assertTrue(searchRule.validateSearchStrings("content=fish and author=Shields"));
+        assertFalse(searchRule.applyRule("content=fish and author=Shields", entry));
+        assertTrue(searchRule.validateSearchStrings("content!=larvae"));
+        assertFalse(searchRule.applyRule("content!=larvae", entry));
+    }
+
+    @Test
+    void applyRuleTreatsContentAsFieldWithoutFullTextSearcher() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+        BibEntry entry = makeBibtexEntry().withField(StandardField.FILE, ":larviculture.pdf:PDF");
+
+        assertTrue(searchRule.validateSearchStrings("content=larvae"));
+        assertFalse(searchRule.applyRule("content=larvae", entry));
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")
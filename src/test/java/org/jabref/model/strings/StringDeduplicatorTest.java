@@ -0,0 +1,53 @@
+package org.jabref.model.strings;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringDeduplicatorTest {
+
+    @Test
+    void equalValuesShareOneInstance() {
+        String first = new String("Journal of Deduplication");
+        String second = new String("Journal of Deduplication");
+
+        assertSame(StringDeduplicator.deduplicate(first), StringDeduplicator.deduplicate(second));
+    }
+
+    @Test
+    void longValuesAreNotDeduplicated() {
+        String value = "a".repeat(StringDeduplicator.MAX_LENGTH + 1);
+        String copy = new String(value);
+
+        assertSame(copy, StringDeduplicator.deduplicate(copy));
+        assertNotSame(StringDeduplicator.deduplicate(value), StringDeduplicator.deduplicate(copy));
+    }
+
+    @Test
+    void deduplicationIsCounted() {
+        String value = "Statistics Publisher " + System.nanoTime();
+        StringDeduplicator.deduplicate(value);
+        long deduplicatedBefore = StringDeduplicator.getDeduplicatedValues();
+        long savedBytesBefore = StringDeduplicator.getEstimatedSavedBytes();
+
+        StringDeduplicator.deduplicate(new String(value));
+
+        assertTrue(StringDeduplicator.getDeduplicatedValues() > deduplicatedBefore);
+        assertTrue(StringDeduplicator.getEstimatedSavedBytes() >= (savedBytesBefore + value.length()));
+    }
+
+    @Test
+    void entriesShareFieldValues() {
+        BibEntry first = new BibEntry().withField(StandardField.PUBLISHER, new String("Shared Publisher"));
+        BibEntry second = new BibEntry().withField(StandardField.PUBLISHER, new String("Shared Publisher"));
+
+        assertEquals(first.getField(StandardField.PUBLISHER), second.getField(StandardField.PUBLISHER));
+        assertSame(first.getField(StandardField.PUBLISHER).get(), second.getField(StandardField.PUBLISHER).get());
+    }
+}
@@ -0,0 +1,97 @@
+package org.jabref.preferences;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PreferencesSnapshotCacheTest {
+
+    private final Map<String, String> store = new HashMap<>();
+    private final AtomicInteger builds = new AtomicInteger();
+    private PreferencesSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PreferencesSnapshotCache();
+        store.put("encoding", "UTF-8");
+        store.put("keywordSeparator", ",");
+        store.put("owner", "Alice");
+    }
+
+    @Test
+    void snapshotIsBuiltOnce() {
+        String first = getImportSnapshot();
+        String second = getImportSnapshot();
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void writingReadKeyRebuildsSnapshot() {
+        getImportSnapshot();
+        write("encoding", "ISO-8859-1");
+
+        assertEquals("ISO-8859-1;,", getImportSnapshot());
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void writingOtherKeyKeepsSnapshot() {
+        getImportSnapshot();
+        write("owner", "Bob");
+
+        getImportSnapshot();
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void writingKeyOfNestedSnapshotRebuildsOuterSnapshot() {
+        // Build the inner snapshot first, so that the outer snapshot gets its keys from the cached inner one
+        getKeywordSnapshot();
+        getImportSnapshotWithNestedKeywordSnapshot();
+        write("keywordSeparator", ";");
+
+        assertEquals("UTF-8;;", getImportSnapshotWithNestedKeywordSnapshot());
+    }
+
+    @Test
+    void invalidateAllRebuildsSnapshot() {
+        getImportSnapshot();
+        cache.invalidateAll();
+
+        getImportSnapshot();
+        assertEquals(2, builds.get());
+    }
+
+    private String getImportSnapshot() {
+        return cache.get("import", () -> {
+            builds.incrementAndGet();
+            return read("encoding") + ";" + read("keywordSeparator");
+        });
+    }
+
+    private String getKeywordSnapshot() {
+        return cache.get("keyword", () -> read("keywordSeparator"));
+    }
+
+    private String getImportSnapshotWithNestedKeywordSnapshot() {
+        return cache.get("importWithKeyword", () -> read("encoding") + ";" + getKeywordSnapshot());
+    }
+
+    private String read(String key) {
+        cache.keyRead(key);
+        return store.get(key);
+    }
+
+    private void write(String key, String value) {
+        store.put(key, value);
+        cache.keyWritten(key);
+    }
+}